@@ -80,6 +80,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.zip.GZIPInputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -93,6 +94,12 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+/**
+ * Measures the throughput of {@link BlockStreamManagerImpl} managing rounds of sample block items. Besides rounds
+ * per second, the {@link ItemCounter} reports block items per second; and the {@code gc} profiler enabled in
+ * {@link #main(String...)} reports allocation per round, which divided by the number of items per round gives
+ * the allocation per item.
+ */
 @State(Scope.Benchmark)
 @Fork(value = 1)
 @Warmup(iterations = 1)
@@ -107,7 +114,8 @@ public class BlockStreamManagerBenchmark {
     private static final SemanticVersion VERSION = new SemanticVersion(0, 56, 0, "", "");
 
     public static void main(String... args) throws Exception {
-        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.blocks.BlockStreamManagerBenchmark.manageRound"});
+        org.openjdk.jmh.Main.main(
+                new String[] {"com.hedera.node.app.blocks.BlockStreamManagerBenchmark.manageRound", "-prof", "gc"});
     }
 
     private final Round round = new FakeRound();
@@ -168,12 +176,27 @@ public class BlockStreamManagerBenchmark {
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.SECONDS)
-    public void manageRound() {
+    public void manageRound(@NonNull final ItemCounter counter) {
         subject.startRound(round, state);
         roundItems.forEach(subject::writeItem);
         subject.notify(new StateHashedNotification(roundNum, FAKE_STATE_HASH));
         subject.endRound(state, roundNum);
         roundNum++;
+        counter.items += roundItems.size();
+    }
+
+    /**
+     * Counts the block items written per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ItemCounter {
+        public long items;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            items = 0;
+        }
     }
 
     private <T> void addServiceSingleton(
@@ -46,6 +46,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
@@ -54,44 +55,55 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+/**
+ * Measures the throughput of {@link ConcurrentStreamingTreeHasher} in leaves per second; with the {@code gc}
+ * profiler enabled in {@link #main(String...)}, {@code gc.alloc.rate.norm} is the allocation per leaf.
+ */
 @State(Scope.Benchmark)
 @Fork(value = 1)
 @Warmup(iterations = 1)
 @Measurement(iterations = 3)
 public class HashingBenchmark {
+    private static final int NUM_LEAF_HASHES = 10_000;
     private static final int MAX_STATE_CHANGES = 128;
     private static final SplittableRandom RANDOM = new SplittableRandom(1_234_567L);
 
     public static void main(String... args) throws Exception {
-        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.blocks.HashingBenchmark.hashItemTree"});
+        org.openjdk.jmh.Main.main(
+                new String[] {"com.hedera.node.app.blocks.HashingBenchmark.hashItemTree", "-prof", "gc"});
     }
 
-    @Param({"10000"})
-    private int numLeafHashes;
+    @Param({"8", "64"})
+    private int hashCombineBatchSize;
 
-    private List<byte[]> leafHashes;
+    private ByteBuffer leafHashes;
     private Bytes expectedAnswer;
 
     @Setup(Level.Trial)
     public void setup() throws IOException {
         final var digest = sha384DigestOrThrow();
-        leafHashes = new ArrayList<>(numLeafHashes);
-        for (int i = 0; i < numLeafHashes; i++) {
+        final List<byte[]> hashes = new ArrayList<>(NUM_LEAF_HASHES);
+        leafHashes = ByteBuffer.allocate(NUM_LEAF_HASHES * StreamingTreeHasher.HASH_LENGTH);
+        for (int i = 0; i < NUM_LEAF_HASHES; i++) {
             final var item = randomBlockItem();
             final var hash = digest.digest(BlockItem.PROTOBUF.toBytes(item).toByteArray());
-            leafHashes.add(hash);
+            hashes.add(hash);
+            leafHashes.put(hash);
         }
-        expectedAnswer = NaiveStreamingTreeHasher.computeRootHash(leafHashes);
+        leafHashes.flip();
+        expectedAnswer = NaiveStreamingTreeHasher.computeRootHash(hashes);
     }
 
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(NUM_LEAF_HASHES)
     public void hashItemTree(@NonNull final Blackhole blackhole) {
         //                final var subject = new NaiveStreamingTreeHasher();
-        final var subject = new ConcurrentStreamingTreeHasher(ForkJoinPool.commonPool());
-        for (final var hash : leafHashes) {
-            subject.addLeaf(ByteBuffer.wrap(hash));
+        final var subject = new ConcurrentStreamingTreeHasher(ForkJoinPool.commonPool(), hashCombineBatchSize);
+        final var leaves = leafHashes.duplicate();
+        while (leaves.hasRemaining()) {
+            subject.addLeaf(leaves);
         }
         final var rootHash = subject.rootHash().join();
         if (!rootHash.equals(expectedAnswer)) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.stack;
+
+import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
+import com.hedera.node.app.blocks.impl.KVStateChangeListener;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.config.types.StreamMode;
+import com.swirlds.state.spi.WritableKVState;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares wrapped and journaled savepoints on a user transaction that makes many nested dispatches, like a
+ * contract call whose child calls each dispatch to native services.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SavepointStackBenchmark {
+    private static final String SERVICE_NAME = "BenchmarkService";
+    private static final String STATE_KEY = "BALANCES";
+    private static final int NUM_KEYS = 10_000;
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(
+                new String[] {"com.hedera.node.app.workflows.handle.stack.SavepointStackBenchmark.nestedDispatches"});
+    }
+
+    @Param({"false", "true"})
+    private boolean journaled;
+
+    @Param({"4", "16"})
+    private int depth;
+
+    @Param({"20"})
+    private int numDispatches;
+
+    @Param({"4"})
+    private int writesPerSavepoint;
+
+    @Param({"10"})
+    private int rollbackPercent;
+
+    private SavepointStackImpl stack;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Map<Long, Long> balances = new HashMap<>();
+        for (long i = 0; i < NUM_KEYS; i++) {
+            balances.put(i, 1_000_000L);
+        }
+        final var state = new FakeState().addService(SERVICE_NAME, Map.of(STATE_KEY, balances));
+        stack = SavepointStackImpl.newRootStack(
+                state, 3, 50, new BoundaryStateChangeListener(), new KVStateChangeListener(), StreamMode.RECORDS);
+        if (journaled) {
+            stack.journalSavepoints();
+        }
+        random = new SplittableRandom(1_234_567L);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void nestedDispatches(@NonNull final Blackhole blackhole) {
+        final WritableKVState<Long, Long> balances = stack.getWritableStates(SERVICE_NAME).get(STATE_KEY);
+        for (int i = 0; i < numDispatches; i++) {
+            for (int d = 0; d < depth; d++) {
+                stack.createSavepoint();
+                for (int w = 0; w < writesPerSavepoint; w++) {
+                    final long key = random.nextInt(NUM_KEYS);
+                    balances.put(key, balances.get(key) + 1);
+                }
+            }
+            for (int d = 0; d < depth; d++) {
+                if (random.nextInt(100) < rollbackPercent) {
+                    stack.rollback();
+                } else {
+                    stack.commit();
+                }
+            }
+        }
+        blackhole.consume(balances.modifiedKeys().size());
+        stack.rollbackFullStack();
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.standalone;
+
+import static com.hedera.node.app.workflows.standalone.SyntheticGenesisState.genesisState;
+import static com.hedera.node.app.workflows.standalone.TransactionExecutors.TRANSACTION_EXECUTORS;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.ResponseCodeEnum;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.state.SingleTransactionRecord;
+import com.hedera.node.app.state.recordcache.LegacyListRecordSource;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.state.State;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
+
+/**
+ * Replays a recorded or generated sequence of transactions through the same components as a standalone
+ * {@link TransactionExecutor}, on a synthetic genesis state, and reports the achieved TPS, the bytes allocated
+ * per transaction, and the time spent creating the dispatch, handling it, and building its records for each
+ * {@link HederaFunctionality}.
+ * <p>
+ * Arguments are {@code key=value} pairs:
+ * <ul>
+ *     <li>{@code count} - the number of generated transactions to measure (default 100,000)</li>
+ *     <li>{@code mix} - the {@link SyntheticWorkload} mix to generate (default {@value #DEFAULT_MIX})</li>
+ *     <li>{@code accounts} - the number of accounts in the generated workload (default 1,000)</li>
+ *     <li>{@code seed} - the seed of the generated workload</li>
+ *     <li>{@code in} - a file recorded with {@code out} to replay instead of generating a workload</li>
+ *     <li>{@code out} - a file to record the setup and measured transactions to</li>
+ * </ul>
+ * A recorded file is an {@code int} count of setup transactions followed by every transaction body as an
+ * {@code int} length and its protobuf bytes.
+ */
+public class StandaloneTransactionReplay {
+    private static final String DEFAULT_MIX = "crypto=40,hts=30,contract=10,hcs=20";
+    private static final TransactionExecutors.TracerBinding NO_TRACERS = new TransactionExecutors.TracerBinding() {
+        @Override
+        public void runWhere(@NonNull final List<OperationTracer> tracers, @NonNull final Runnable runnable) {
+            runnable.run();
+        }
+
+        @Override
+        public List<OperationTracer> get() {
+            return List.of();
+        }
+    };
+
+    private final State state = genesisState(Map.of());
+    private final ExecutorComponent component =
+            TRANSACTION_EXECUTORS.newExecutorComponent(state, Map.of(), NO_TRACERS);
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<HederaFunctionality, PhaseStats> stats = new EnumMap<>(HederaFunctionality.class);
+
+    private boolean measuring;
+
+    public static void main(@NonNull final String[] args) throws IOException, ParseException {
+        final Map<String, String> options = new HashMap<>();
+        for (final var arg : args) {
+            final int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected key=value, got '" + arg + "'");
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        final var replay = new StandaloneTransactionReplay();
+        final Recording recording;
+        if (options.containsKey("in")) {
+            recording = Recording.readFrom(Path.of(options.get("in")));
+            recording.setup().forEach(replay::executeNext);
+        } else {
+            final var workload = new SyntheticWorkload(
+                    options.getOrDefault("mix", DEFAULT_MIX),
+                    Integer.parseInt(options.getOrDefault("accounts", "1000")),
+                    Long.parseLong(options.getOrDefault("seed", "1234567")));
+            workload.setUp(replay::execute);
+            final int count = Integer.parseInt(options.getOrDefault("count", "100000"));
+            final List<TransactionBody> measured = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                measured.add(workload.next());
+            }
+            recording = new Recording(workload.setupTransactions(), measured);
+        }
+        if (options.containsKey("out")) {
+            recording.writeTo(Path.of(options.get("out")));
+        }
+        replay.measure(recording.measured());
+    }
+
+    private void measure(@NonNull final List<TransactionBody> bodies) {
+        measuring = true;
+        final long startAllocated = threadMXBean.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        bodies.forEach(this::executeNext);
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - startAllocated;
+        measuring = false;
+        System.out.printf(
+                "Replayed %,d transactions in %,.3f s (%,.1f TPS), %,d bytes allocated per transaction%n",
+                bodies.size(),
+                elapsed / 1e9,
+                bodies.size() * 1e9 / elapsed,
+                bodies.isEmpty() ? 0 : allocated / bodies.size());
+        System.out.printf(
+                "%-30s %10s %14s %14s %14s %14s  %s%n",
+                "Functionality",
+                "Count",
+                "Dispatch (us)",
+                "Handle (us)",
+                "Records (us)",
+                "Bytes/txn",
+                "Statuses");
+        stats.forEach((functionality, phaseStats) -> System.out.printf(
+                "%-30s %,10d %,14.2f %,14.2f %,14.2f %,14d  %s%n",
+                functionality,
+                phaseStats.count,
+                phaseStats.dispatchNanos / 1e3 / phaseStats.count,
+                phaseStats.handleNanos / 1e3 / phaseStats.count,
+                phaseStats.recordNanos / 1e3 / phaseStats.count,
+                phaseStats.allocatedBytes / phaseStats.count,
+                phaseStats.statuses));
+    }
+
+    private void executeNext(@NonNull final TransactionBody body) {
+        execute(body, SyntheticWorkload.consensusTimeFor(body));
+    }
+
+    /**
+     * Executes a transaction exactly as a {@link TransactionExecutor} created by {@link TransactionExecutors}
+     * would, but timing each phase separately.
+     */
+    private List<SingleTransactionRecord> execute(
+            @NonNull final TransactionBody body,
+            @NonNull final Instant consensusNow,
+            @NonNull final OperationTracer... ignored) {
+        final long startAllocated = threadMXBean.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        final var dispatch = component.standaloneDispatchFactory().newDispatch(state, body, consensusNow);
+        final long dispatched = System.nanoTime();
+        component.dispatchProcessor().processDispatch(dispatch);
+        final long handled = System.nanoTime();
+        final var recordSource = dispatch.stack()
+                .buildHandleOutput(consensusNow, component.exchangeRateManager().exchangeRates())
+                .recordSourceOrThrow();
+        final var records = ((LegacyListRecordSource) recordSource).precomputedRecords();
+        final long recorded = System.nanoTime();
+        if (measuring) {
+            stats.computeIfAbsent(dispatch.txnInfo().functionality(), ignore -> new PhaseStats())
+                    .add(
+                            dispatched - start,
+                            handled - dispatched,
+                            recorded - handled,
+                            threadMXBean.getCurrentThreadAllocatedBytes() - startAllocated,
+                            records.getFirst().transactionRecord().receiptOrThrow().status());
+        }
+        return records;
+    }
+
+    /**
+     * The setup transactions and measured transactions of a replay.
+     */
+    private record Recording(@NonNull List<TransactionBody> setup, @NonNull List<TransactionBody> measured) {
+        static Recording readFrom(@NonNull final Path path) throws IOException, ParseException {
+            final List<TransactionBody> bodies = new ArrayList<>();
+            try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                final int numSetup = in.readInt();
+                while (in.available() > 0) {
+                    final var bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    bodies.add(TransactionBody.PROTOBUF.parse(Bytes.wrap(bytes)));
+                }
+                return new Recording(bodies.subList(0, numSetup), bodies.subList(numSetup, bodies.size()));
+            }
+        }
+
+        void writeTo(@NonNull final Path path) throws IOException {
+            try (final var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+                out.writeInt(setup.size());
+                for (final var bodies : List.of(setup, measured)) {
+                    for (final var body : bodies) {
+                        final var bytes = TransactionBody.PROTOBUF.toBytes(body).toByteArray();
+                        out.writeInt(bytes.length);
+                        out.write(bytes);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class PhaseStats {
+        private final Map<ResponseCodeEnum, Integer> statuses = new TreeMap<>();
+        private long count;
+        private long dispatchNanos;
+        private long handleNanos;
+        private long recordNanos;
+        private long allocatedBytes;
+
+        void add(
+                final long dispatchNanos,
+                final long handleNanos,
+                final long recordNanos,
+                final long allocatedBytes,
+                @Nullable final ResponseCodeEnum status) {
+            this.count++;
+            this.dispatchNanos += dispatchNanos;
+            this.handleNanos += handleNanos;
+            this.recordNanos += recordNanos;
+            this.allocatedBytes += allocatedBytes;
+            statuses.merge(requireNonNull(status), 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.standalone;
+
+import static com.hedera.node.app.spi.AppContext.Gossip.UNAVAILABLE_GOSSIP;
+import static com.hedera.node.app.util.FileUtilities.createFileID;
+import static com.hedera.node.app.workflows.standalone.TransactionExecutors.DEFAULT_NODE_INFO;
+
+import com.hedera.hapi.node.base.FileID;
+import com.hedera.hapi.node.base.Key;
+import com.hedera.hapi.node.base.KeyList;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.roster.Roster;
+import com.hedera.hapi.node.state.roster.RosterEntry;
+import com.hedera.hapi.node.transaction.ThrottleDefinitions;
+import com.hedera.node.app.config.BootstrapConfigProviderImpl;
+import com.hedera.node.app.config.ConfigProviderImpl;
+import com.hedera.node.app.fees.FeeService;
+import com.hedera.node.app.fixtures.state.FakeServiceMigrator;
+import com.hedera.node.app.fixtures.state.FakeServicesRegistry;
+import com.hedera.node.app.fixtures.state.FakeStartupNetworks;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.ids.EntityIdService;
+import com.hedera.node.app.info.NodeInfoImpl;
+import com.hedera.node.app.records.BlockRecordService;
+import com.hedera.node.app.service.addressbook.impl.AddressBookServiceImpl;
+import com.hedera.node.app.service.consensus.impl.ConsensusServiceImpl;
+import com.hedera.node.app.service.contract.impl.ContractServiceImpl;
+import com.hedera.node.app.service.file.FileService;
+import com.hedera.node.app.service.file.impl.FileServiceImpl;
+import com.hedera.node.app.service.file.impl.schemas.V0490FileSchema;
+import com.hedera.node.app.service.networkadmin.impl.FreezeServiceImpl;
+import com.hedera.node.app.service.networkadmin.impl.NetworkServiceImpl;
+import com.hedera.node.app.service.schedule.impl.ScheduleServiceImpl;
+import com.hedera.node.app.service.token.impl.TokenServiceImpl;
+import com.hedera.node.app.service.util.impl.UtilServiceImpl;
+import com.hedera.node.app.services.AppContextImpl;
+import com.hedera.node.app.spi.AppContext;
+import com.hedera.node.app.spi.signatures.SignatureVerifier;
+import com.hedera.node.app.state.recordcache.RecordCacheService;
+import com.hedera.node.app.throttle.AppThrottleFactory;
+import com.hedera.node.app.throttle.CongestionThrottleService;
+import com.hedera.node.app.throttle.ThrottleAccumulator;
+import com.hedera.node.app.version.ServicesSoftwareVersion;
+import com.hedera.node.config.data.FilesConfig;
+import com.hedera.node.config.data.VersionConfig;
+import com.hedera.node.internal.network.Network;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.internal.CryptoUtils;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.platform.crypto.CryptoStatic;
+import com.swirlds.state.State;
+import com.swirlds.state.lifecycle.info.NetworkInfo;
+import com.swirlds.state.lifecycle.info.NodeInfo;
+import com.swirlds.state.spi.CommittableWritableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.security.KeyPairGenerator;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds an in-memory {@link State} with all genesis accounts and system files, suitable for driving a
+ * {@link TransactionExecutor} in benchmarks without a network or a saved state on disk.
+ */
+public final class SyntheticGenesisState {
+    private SyntheticGenesisState() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns a new genesis state migrated with the given property overrides.
+     *
+     * @param overrides the property overrides to use during migration
+     * @return the genesis state
+     */
+    public static State genesisState(@NonNull final Map<String, String> overrides) {
+        final var state = new FakeState();
+        final var config = new ConfigProviderImpl(false, null, overrides).getConfiguration();
+        final var nodeInfo = new NodeInfoImpl(
+                DEFAULT_NODE_INFO.nodeId(),
+                DEFAULT_NODE_INFO.accountId(),
+                DEFAULT_NODE_INFO.stake(),
+                List.of(),
+                selfSignedCertBytes());
+        final var networkInfo = singleNodeNetworkInfo(nodeInfo);
+        final var appContext = new AppContextImpl(
+                InstantSource.system(),
+                unusedSignatureVerifier(),
+                UNAVAILABLE_GOSSIP,
+                () -> config,
+                () -> nodeInfo,
+                new AppThrottleFactory(
+                        () -> config, () -> state, () -> ThrottleDefinitions.DEFAULT, ThrottleAccumulator::new));
+        final var servicesRegistry = new FakeServicesRegistry();
+        List.of(
+                        new EntityIdService(),
+                        new ConsensusServiceImpl(),
+                        new ContractServiceImpl(appContext),
+                        new FileServiceImpl(),
+                        new FreezeServiceImpl(),
+                        new ScheduleServiceImpl(),
+                        new TokenServiceImpl(),
+                        new UtilServiceImpl(),
+                        new RecordCacheService(),
+                        new BlockRecordService(),
+                        new FeeService(),
+                        new CongestionThrottleService(),
+                        new NetworkServiceImpl(),
+                        new AddressBookServiceImpl())
+                .forEach(servicesRegistry::register);
+        final var bootstrapConfig = new BootstrapConfigProviderImpl().getConfiguration();
+        new FakeServiceMigrator()
+                .doMigrations(
+                        state,
+                        servicesRegistry,
+                        null,
+                        new ServicesSoftwareVersion(
+                                bootstrapConfig.getConfigData(VersionConfig.class).servicesVersion()),
+                        new ConfigProviderImpl().getConfiguration(),
+                        config,
+                        networkInfo,
+                        new NoOpMetrics(),
+                        new FakeStartupNetworks(Network.DEFAULT));
+        final var writableStates = state.getWritableStates(FileService.NAME);
+        final var files = writableStates.<FileID, File>get(V0490FileSchema.BLOBS_KEY);
+        genesisContentProviders(networkInfo, config).forEach((fileNum, provider) -> {
+            final var fileId = createFileID(fileNum, config);
+            files.put(
+                    fileId,
+                    File.newBuilder()
+                            .fileId(fileId)
+                            .keys(KeyList.DEFAULT)
+                            .contents(provider.apply(config))
+                            .build());
+        });
+        ((CommittableWritableStates) writableStates).commit();
+        return state;
+    }
+
+    private static Map<Long, Function<Configuration, Bytes>> genesisContentProviders(
+            @NonNull final NetworkInfo networkInfo, @NonNull final Configuration config) {
+        final var genesisSchema = new V0490FileSchema();
+        final var filesConfig = config.getConfigData(FilesConfig.class);
+        return Map.of(
+                filesConfig.addressBook(), ignore -> genesisSchema.genesisAddressBook(networkInfo),
+                filesConfig.nodeDetails(), ignore -> genesisSchema.genesisNodeDetails(networkInfo),
+                filesConfig.feeSchedules(), genesisSchema::genesisFeeSchedules,
+                filesConfig.exchangeRates(), genesisSchema::genesisExchangeRates,
+                filesConfig.networkProperties(), genesisSchema::genesisNetworkProperties,
+                filesConfig.hapiPermissions(), genesisSchema::genesisHapiPermissions,
+                filesConfig.throttleDefinitions(), genesisSchema::genesisThrottleDefinitions);
+    }
+
+    private static NetworkInfo singleNodeNetworkInfo(@NonNull final NodeInfo nodeInfo) {
+        final var roster = Roster.newBuilder()
+                .rosterEntries(RosterEntry.newBuilder()
+                        .nodeId(nodeInfo.nodeId())
+                        .weight(nodeInfo.stake())
+                        .gossipCaCertificate(nodeInfo.sigCertBytes())
+                        .build())
+                .build();
+        return new NetworkInfo() {
+            @NonNull
+            @Override
+            public Bytes ledgerId() {
+                throw new UnsupportedOperationException("Not implemented");
+            }
+
+            @NonNull
+            @Override
+            public NodeInfo selfNodeInfo() {
+                return nodeInfo;
+            }
+
+            @NonNull
+            @Override
+            public List<NodeInfo> addressBook() {
+                return List.of(nodeInfo);
+            }
+
+            @Override
+            public NodeInfo nodeInfo(final long nodeId) {
+                return nodeId == nodeInfo.nodeId() ? nodeInfo : null;
+            }
+
+            @Override
+            public boolean containsNode(final long nodeId) {
+                return nodeId == nodeInfo.nodeId();
+            }
+
+            @Override
+            public void updateFrom(final State state) {
+                throw new UnsupportedOperationException("Not implemented");
+            }
+
+            @Override
+            public Roster roster() {
+                return roster;
+            }
+        };
+    }
+
+    private static Bytes selfSignedCertBytes() {
+        try {
+            final var secureRandom = CryptoUtils.getDetRandom();
+            final var rsaKeyGen = KeyPairGenerator.getInstance("RSA");
+            rsaKeyGen.initialize(3072, secureRandom);
+            final var keyPair = rsaKeyGen.generateKeyPair();
+            final var name = "CN=Benchmark";
+            return Bytes.wrap(CryptoStatic.generateCertificate(name, keyPair, name, keyPair, secureRandom)
+                    .getEncoded());
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to generate node certificate", e);
+        }
+    }
+
+    private static SignatureVerifier unusedSignatureVerifier() {
+        return new SignatureVerifier() {
+            @Override
+            public boolean verifySignature(
+                    @NonNull final Key key,
+                    @NonNull final Bytes bytes,
+                    @NonNull final MessageType messageType,
+                    @NonNull final SignatureMap signatureMap,
+                    @Nullable final Function<Key, SimpleKeyStatus> simpleKeyVerifier) {
+                throw new UnsupportedOperationException("Not implemented");
+            }
+
+            @Override
+            public KeyCounts countSimpleKeys(@NonNull final Key key) {
+                throw new UnsupportedOperationException("Not implemented");
+            }
+        };
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.standalone;
+
+import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
+import static com.hedera.node.app.service.token.impl.handlers.BaseCryptoHandler.asAccount;
+import static com.hedera.node.app.workflows.standalone.TransactionExecutors.DEFAULT_NODE_INFO;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountAmount;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.base.Duration;
+import com.hedera.hapi.node.base.Key;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.base.TokenSupplyType;
+import com.hedera.hapi.node.base.TokenTransferList;
+import com.hedera.hapi.node.base.TokenType;
+import com.hedera.hapi.node.base.TopicID;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.base.TransferList;
+import com.hedera.hapi.node.consensus.ConsensusCreateTopicTransactionBody;
+import com.hedera.hapi.node.consensus.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hapi.node.contract.ContractCallTransactionBody;
+import com.hedera.hapi.node.contract.ContractCreateTransactionBody;
+import com.hedera.hapi.node.token.CryptoCreateTransactionBody;
+import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.token.TokenAssociateTransactionBody;
+import com.hedera.hapi.node.token.TokenCreateTransactionBody;
+import com.hedera.hapi.node.transaction.CustomFee;
+import com.hedera.hapi.node.transaction.FixedFee;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.hapi.node.transaction.TransactionReceipt;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a reproducible mix of crypto transfers, HTS transfers with a custom fee, contract calls, and HCS
+ * submits against entities it creates in a setup phase.
+ * <p>
+ * Every generated transaction is paid by the treasury and has a unique valid start one millisecond after the
+ * previous one; the consensus time to execute it at is always {@link #consensusTimeFor(TransactionBody)}, so a
+ * recorded sequence of bodies can be replayed without any other metadata.
+ */
+public class SyntheticWorkload {
+    /**
+     * The kinds of transaction in a workload mix.
+     */
+    public enum Kind {
+        CRYPTO,
+        HTS,
+        CONTRACT,
+        HCS
+    }
+
+    private static final AccountID TREASURY_ID = asAccount(2L);
+    private static final Instant FIRST_VALID_START = Instant.ofEpochSecond(1_700_000_000L);
+    private static final long CONSENSUS_DELAY_SECS = 1L;
+    private static final Duration VALID_DURATION = new Duration(120L);
+    private static final Duration AUTO_RENEW_PERIOD = new Duration(7_776_000L);
+    private static final long INITIAL_HBAR_BALANCE = 1_000L * 100_000_000L;
+    private static final long INITIAL_TOKEN_BALANCE = 1_000_000L;
+    private static final long CUSTOM_FEE_TINYBARS = 1L;
+    private static final long CREATE_GAS = 200_000L;
+    private static final long CALL_GAS = 100_000L;
+    private static final int CALL_DATA_SIZE = 32;
+    private static final int MESSAGE_SIZE = 100;
+    /**
+     * Initcode that deploys a runtime of {@code PUSH1 0 CALLDATALOAD PUSH1 0 SSTORE STOP}, so every call writes
+     * the first word of its calldata to slot zero.
+     */
+    private static final Bytes STORE_CALLDATA_INITCODE = Bytes.fromHex("6007600c60003960076000f360003560005500");
+
+    private final int numAccounts;
+    private final SplittableRandom random;
+    private final Map<Kind, Integer> weights;
+    private final int totalWeight;
+    private final List<TransactionBody> setupTransactions = new ArrayList<>();
+    private final List<AccountID> accounts = new ArrayList<>();
+
+    private long nextTxnNo;
+    private TokenID tokenId;
+    private TopicID topicId;
+    private ContractID contractId;
+
+    /**
+     * Creates a workload with the given mix of transactions.
+     *
+     * @param mix the mix, as comma-separated {@code kind=weight} pairs like {@code crypto=40,hts=30,hcs=30}
+     * @param numAccounts the number of accounts to transfer between
+     * @param seed the seed for the random choices of the workload
+     */
+    public SyntheticWorkload(@NonNull final String mix, final int numAccounts, final long seed) {
+        if (numAccounts < 2) {
+            throw new IllegalArgumentException("At least two accounts are needed, not " + numAccounts);
+        }
+        this.numAccounts = numAccounts;
+        this.random = new SplittableRandom(seed);
+        this.weights = parseMix(mix);
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns the consensus time at which the given body should be executed.
+     *
+     * @param body a body generated by a workload
+     * @return its consensus time
+     */
+    public static Instant consensusTimeFor(@NonNull final TransactionBody body) {
+        final var validStart = body.transactionIDOrThrow().transactionValidStartOrThrow();
+        return Instant.ofEpochSecond(validStart.seconds() + CONSENSUS_DELAY_SECS, validStart.nanos());
+    }
+
+    /**
+     * Creates the accounts, token, topic, and contract the workload uses by executing setup transactions
+     * with the given executor.
+     *
+     * @param executor the executor to create the entities with
+     * @throws IllegalStateException if any setup transaction does not succeed
+     */
+    public void setUp(@NonNull final TransactionExecutor executor) {
+        requireNonNull(executor);
+        final var feeCollectorId = execute(executor, cryptoCreate()).accountIDOrThrow();
+        for (int i = 0; i < numAccounts; i++) {
+            accounts.add(execute(executor, cryptoCreate()).accountIDOrThrow());
+        }
+        tokenId = execute(
+                        executor,
+                        newBodyBuilder()
+                                .tokenCreation(TokenCreateTransactionBody.newBuilder()
+                                        .name("Benchmark")
+                                        .symbol("BENCH")
+                                        .treasury(TREASURY_ID)
+                                        .initialSupply(numAccounts * INITIAL_TOKEN_BALANCE)
+                                        .tokenType(TokenType.FUNGIBLE_COMMON)
+                                        .supplyType(TokenSupplyType.INFINITE)
+                                        .customFees(CustomFee.newBuilder()
+                                                .fixedFee(FixedFee.newBuilder()
+                                                        .amount(CUSTOM_FEE_TINYBARS)
+                                                        .build())
+                                                .feeCollectorAccountId(feeCollectorId)
+                                                .build())
+                                        .autoRenewAccount(TREASURY_ID)
+                                        .autoRenewPeriod(AUTO_RENEW_PERIOD)
+                                        .build())
+                                .build())
+                .tokenIDOrThrow();
+        for (final var account : accounts) {
+            execute(
+                    executor,
+                    newBodyBuilder()
+                            .tokenAssociate(TokenAssociateTransactionBody.newBuilder()
+                                    .account(account)
+                                    .tokens(tokenId)
+                                    .build())
+                            .build());
+            execute(executor, tokenTransfer(TREASURY_ID, account, INITIAL_TOKEN_BALANCE));
+        }
+        topicId = execute(
+                        executor,
+                        newBodyBuilder()
+                                .consensusCreateTopic(ConsensusCreateTopicTransactionBody.newBuilder()
+                                        .memo("Benchmark")
+                                        .autoRenewPeriod(AUTO_RENEW_PERIOD)
+                                        .build())
+                                .build())
+                .topicIDOrThrow();
+        contractId = execute(
+                        executor,
+                        newBodyBuilder()
+                                .contractCreateInstance(ContractCreateTransactionBody.newBuilder()
+                                        .initcode(STORE_CALLDATA_INITCODE)
+                                        .gas(CREATE_GAS)
+                                        .autoRenewPeriod(AUTO_RENEW_PERIOD)
+                                        .build())
+                                .build())
+                .contractIDOrThrow();
+    }
+
+    /**
+     * Returns the transactions executed by {@link #setUp(TransactionExecutor)}, in order.
+     *
+     * @return the setup transactions
+     */
+    public List<TransactionBody> setupTransactions() {
+        return setupTransactions;
+    }
+
+    /**
+     * Returns the next transaction in the workload.
+     *
+     * @return the next transaction
+     * @throws IllegalStateException if the workload has not been set up
+     */
+    public TransactionBody next() {
+        if (contractId == null) {
+            throw new IllegalStateException("Workload has not been set up");
+        }
+        return switch (nextKind()) {
+            case CRYPTO -> {
+                final int sender = random.nextInt(numAccounts);
+                yield newBodyBuilder()
+                        .cryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                                .transfers(TransferList.newBuilder()
+                                        .accountAmounts(debitsAndCredits(
+                                                accounts.get(sender), accounts.get(receiverFor(sender)), 1L))
+                                        .build())
+                                .build())
+                        .build();
+            }
+            case HTS -> {
+                final int sender = random.nextInt(numAccounts);
+                yield tokenTransfer(accounts.get(sender), accounts.get(receiverFor(sender)), 1L);
+            }
+            case CONTRACT -> newBodyBuilder()
+                    .contractCall(ContractCallTransactionBody.newBuilder()
+                            .contractID(contractId)
+                            .gas(CALL_GAS)
+                            .functionParameters(randomBytes(CALL_DATA_SIZE))
+                            .build())
+                    .build();
+            case HCS -> newBodyBuilder()
+                    .consensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+                            .topicID(topicId)
+                            .message(randomBytes(MESSAGE_SIZE))
+                            .build())
+                    .build();
+        };
+    }
+
+    private TransactionReceipt execute(
+            @NonNull final TransactionExecutor executor, @NonNull final TransactionBody body) {
+        setupTransactions.add(body);
+        final var receipt = executor.execute(body, consensusTimeFor(body))
+                .getFirst()
+                .transactionRecord()
+                .receiptOrThrow();
+        if (receipt.status() != SUCCESS) {
+            throw new IllegalStateException("Setup transaction failed with " + receipt.status() + ": " + body);
+        }
+        return receipt;
+    }
+
+    private TransactionBody cryptoCreate() {
+        final var ed25519 = new byte[32];
+        random.nextBytes(ed25519);
+        return newBodyBuilder()
+                .cryptoCreateAccount(CryptoCreateTransactionBody.newBuilder()
+                        .key(Key.newBuilder().ed25519(Bytes.wrap(ed25519)).build())
+                        .initialBalance(INITIAL_HBAR_BALANCE)
+                        .autoRenewPeriod(AUTO_RENEW_PERIOD)
+                        .build())
+                .build();
+    }
+
+    private TransactionBody tokenTransfer(
+            @NonNull final AccountID sender, @NonNull final AccountID receiver, final long amount) {
+        return newBodyBuilder()
+                .cryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                        .tokenTransfers(TokenTransferList.newBuilder()
+                                .token(tokenId)
+                                .transfers(debitsAndCredits(sender, receiver, amount))
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private TransactionBody.Builder newBodyBuilder() {
+        final var validStart = FIRST_VALID_START.plusMillis(nextTxnNo++);
+        return TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder()
+                        .accountID(TREASURY_ID)
+                        .transactionValidStart(new Timestamp(validStart.getEpochSecond(), validStart.getNano()))
+                        .build())
+                .nodeAccountID(DEFAULT_NODE_INFO.accountId())
+                .transactionValidDuration(VALID_DURATION);
+    }
+
+    private static List<AccountAmount> debitsAndCredits(
+            @NonNull final AccountID sender, @NonNull final AccountID receiver, final long amount) {
+        return List.of(
+                AccountAmount.newBuilder().accountID(sender).amount(-amount).build(),
+                AccountAmount.newBuilder().accountID(receiver).amount(amount).build());
+    }
+
+    private Kind nextKind() {
+        int choice = random.nextInt(totalWeight);
+        for (final var entry : weights.entrySet()) {
+            choice -= entry.getValue();
+            if (choice < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Weights do not sum to " + totalWeight);
+    }
+
+    private int receiverFor(final int sender) {
+        return (sender + 1 + random.nextInt(numAccounts - 1)) % numAccounts;
+    }
+
+    private Bytes randomBytes(final int n) {
+        final var bytes = new byte[n];
+        random.nextBytes(bytes);
+        return Bytes.wrap(bytes);
+    }
+
+    private static Map<Kind, Integer> parseMix(@NonNull final String mix) {
+        final Map<Kind, Integer> weights = new EnumMap<>(Kind.class);
+        for (final var part : mix.split(",")) {
+            final var kindAndWeight = part.trim().split("=");
+            if (kindAndWeight.length != 2) {
+                throw new IllegalArgumentException("Malformed mix entry '" + part + "' in '" + mix + "'");
+            }
+            final int weight = Integer.parseInt(kindAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in '" + mix + "'");
+            }
+            weights.merge(Kind.valueOf(kindAndWeight[0].trim().toUpperCase()), weight, Integer::sum);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix '" + mix + "' has no positive weights");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.standalone;
+
+import static com.hedera.node.app.workflows.standalone.SyntheticGenesisState.genesisState;
+import static com.hedera.node.app.workflows.standalone.TransactionExecutors.TRANSACTION_EXECUTORS;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of a standalone {@link TransactionExecutor} on a synthetic genesis state for each kind
+ * of transaction in a {@link SyntheticWorkload}, and for a representative mix of them. Run with {@code -prof gc}
+ * to also report the bytes allocated per transaction.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class TransactionExecutorBenchmark {
+    private static final int NUM_ACCOUNTS = 1_000;
+    private static final long SEED = 1_234_567L;
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {
+            "com.hedera.node.app.workflows.standalone.TransactionExecutorBenchmark.execute", "-prof", "gc"
+        });
+    }
+
+    @Param({"crypto=1", "hts=1", "contract=1", "hcs=1", "crypto=40,hts=30,contract=10,hcs=20"})
+    private String mix;
+
+    private TransactionExecutor executor;
+    private SyntheticWorkload workload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var state = genesisState(Map.of());
+        executor = TRANSACTION_EXECUTORS.newExecutor(state, Map.of(), null);
+        workload = new SyntheticWorkload(mix, NUM_ACCOUNTS, SEED);
+        workload.setUp(executor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void execute(@NonNull final Blackhole blackhole) {
+        final var body = workload.next();
+        blackhole.consume(executor.execute(body, SyntheticWorkload.consensusTimeFor(body)));
+    }
+}
@@ -810,6 +810,9 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener, A
 
             logger.debug("Shutting down the block manager");
             daggerApp.blockRecordManager().close();
+
+            logger.debug("Shutting down the executors");
+            daggerApp.executorRegistry().close();
         }
 
         platform = null;
@@ -861,8 +864,15 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener, A
      * called.
      */
     public void onHandleConsensusRound(@NonNull final Round round, @NonNull final State state) {
-        daggerApp.workingStateAccessor().setState(state);
-        daggerApp.handleWorkflow().handleRound(state, round);
+        // Queries must not cache anything computed from the working state while it changes
+        final var queryResponseCache = daggerApp.queryResponseCache();
+        queryResponseCache.beginRound();
+        try {
+            daggerApp.workingStateAccessor().setState(state);
+            daggerApp.handleWorkflow().handleRound(state, round);
+        } finally {
+            queryResponseCache.endRound();
+        }
     }
 
     /**
@@ -26,6 +26,8 @@ import com.hedera.node.app.blocks.InitialStateHash;
 import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
 import com.hedera.node.app.blocks.impl.KVStateChangeListener;
 import com.hedera.node.app.components.IngestInjectionComponent;
+import com.hedera.node.app.concurrent.ExecutorRegistry;
+import com.hedera.node.app.concurrent.ExecutorsInjectionModule;
 import com.hedera.node.app.config.BootstrapConfigProviderImpl;
 import com.hedera.node.app.config.ConfigProviderImpl;
 import com.hedera.node.app.fees.ExchangeRateManager;
@@ -57,6 +59,7 @@ import com.hedera.node.app.workflows.handle.HandleWorkflow;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
 import com.hedera.node.app.workflows.ingest.SubmissionManager;
 import com.hedera.node.app.workflows.prehandle.PreHandleWorkflow;
+import com.hedera.node.app.workflows.query.QueryResponseCache;
 import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.node.app.workflows.query.annotations.OperatorQueries;
 import com.hedera.node.app.workflows.query.annotations.UserQueries;
@@ -97,7 +100,8 @@ import javax.inject.Singleton;
             BlockStreamModule.class,
             PlatformModule.class,
             ThrottleServiceModule.class,
-            FacilityInitModule.class
+            FacilityInitModule.class,
+            ExecutorsInjectionModule.class
         })
 public interface HederaInjectionComponent {
     InitTrigger initTrigger();
@@ -148,6 +152,10 @@ public interface HederaInjectionComponent {
 
     SubmissionManager submissionManager();
 
+    QueryResponseCache queryResponseCache();
+
+    ExecutorRegistry executorRegistry();
+
     @Component.Builder
     interface Builder {
         @BindsInstance
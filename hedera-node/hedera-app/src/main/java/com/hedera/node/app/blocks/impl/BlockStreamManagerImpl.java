@@ -26,7 +26,6 @@ import static com.hedera.node.app.blocks.BlockStreamManager.PendingWork.POST_UPG
 import static com.hedera.node.app.blocks.impl.BlockImplUtils.appendHash;
 import static com.hedera.node.app.blocks.impl.BlockImplUtils.combine;
 import static com.hedera.node.app.blocks.schemas.V0560BlockStreamSchema.BLOCK_STREAM_INFO_KEY;
-import static com.hedera.node.app.hapi.utils.CommonUtils.sha384DigestOrThrow;
 import static com.hedera.node.app.records.BlockRecordService.EPOCH;
 import static com.hedera.node.app.records.impl.BlockRecordInfoUtils.HASH_SIZE;
 import static com.hedera.pbj.runtime.ProtoConstants.WIRE_TYPE_DELIMITED;
@@ -81,16 +80,17 @@ import java.security.DigestException;
 import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -98,6 +98,11 @@ import org.apache.logging.log4j.Logger;
 @Singleton
 public class BlockStreamManagerImpl implements BlockStreamManager {
     private static final Logger log = LogManager.getLogger(BlockStreamManagerImpl.class);
+    /**
+     * The maximum number of serialization buffers to keep for reuse; more than this are only needed
+     * if many batches are in flight at once, and are left to the garbage collector.
+     */
+    private static final int MAX_POOLED_SERIALIZATION_BUFFERS = 8;
 
     private final int roundsPerBlock;
     private final BlockStreamWriterMode streamWriterType;
@@ -164,11 +169,15 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
      * Futures that resolve when the end-of-round state hash is available for a given round number.
      */
     private final Map<Long, CompletableFuture<Bytes>> endRoundStateHashes = new ConcurrentHashMap<>();
+    /**
+     * Buffers already consumed by the block item writer and hashers, available for serializing the next batch.
+     */
+    private final Queue<ByteBuffer> serializationBuffers = new ArrayBlockingQueue<>(MAX_POOLED_SERIALIZATION_BUFFERS);
 
     @Inject
     public BlockStreamManagerImpl(
             @NonNull final Supplier<BlockItemWriter> writerSupplier,
-            @NonNull final ExecutorService executor,
+            @NonNull @Named("BlockHashing") final ExecutorService executor,
             @NonNull final ConfigProvider configProvider,
             @NonNull final TssBaseService tssBaseService,
             @NonNull final BoundaryStateChangeListener boundaryStateChangeListener,
@@ -472,7 +481,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
     }
 
     private void schedulePendingWork() {
-        final var scheduledWork = new ScheduledWork(pendingItems);
+        final var scheduledWork = new ScheduledWork(pendingItems, serializationBuffers);
         final var pendingOutput = CompletableFuture.supplyAsync(scheduledWork::computeOutput, executor);
         writeFuture = writeFuture.thenCombine(pendingOutput, this::combineOutput);
         pendingItems = new ArrayList<>();
@@ -508,18 +517,27 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
      *          </ul>
      *     </li>
      * </ol>
+     * The serialized items and all their hashes are written to a single buffer taken from a pool, laid out as
+     * {@code [items][input hashes][output hashes][result hashes]}; the buffer is returned to the pool once the
+     * writer and hashers have consumed the {@link Output}.
      */
     private static class ScheduledWork {
+        private static final ThreadLocal<MessageDigest> DIGESTS =
+                ThreadLocal.withInitial(CommonUtils::sha384DigestOrThrow);
+
         private final List<BlockItem> items;
+        private final Queue<ByteBuffer> buffers;
 
         public record Output(
                 @NonNull BufferedData data,
                 @NonNull ByteBuffer inputHashes,
                 @NonNull ByteBuffer outputHashes,
-                @NonNull ByteBuffer resultHashes) {}
+                @NonNull ByteBuffer resultHashes,
+                @NonNull ByteBuffer buffer) {}
 
-        public ScheduledWork(@NonNull final List<BlockItem> items) {
+        public ScheduledWork(@NonNull final List<BlockItem> items, @NonNull final Queue<ByteBuffer> buffers) {
             this.items = requireNonNull(items);
+            this.buffers = requireNonNull(buffers);
         }
 
         /**
@@ -552,14 +570,17 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                     }
                 }
             }
-            final var inputHashes = new byte[numInputs * HASH_SIZE];
-            final var outputHashes = new byte[numOutputs * HASH_SIZE];
-            final var resultHashes = ByteBuffer.allocate(numResults * HASH_SIZE);
-            final var serializedItems = ByteBuffer.allocate(size);
+            final var inputOffset = size;
+            final var outputOffset = inputOffset + numInputs * HASH_SIZE;
+            final var resultOffset = outputOffset + numOutputs * HASH_SIZE;
+            final var buffer = acquireBuffer(resultOffset + numResults * HASH_SIZE);
+            final var array = buffer.array();
+            final var serializedItems = ByteBuffer.wrap(array, 0, size);
             final var data = BufferedData.wrap(serializedItems);
-            final var digest = sha384DigestOrThrow();
+            final var digest = DIGESTS.get();
             var j = 0;
             var k = 0;
+            var r = 0;
             for (var i = 0; i < n; i++) {
                 final var item = items.get(i);
                 writeTag(data, BlockSchema.ITEMS, WIRE_TYPE_DELIMITED);
@@ -570,14 +591,20 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                 final var kind = item.item().kind();
                 switch (kind) {
                     case EVENT_HEADER, EVENT_TRANSACTION, TRANSACTION_RESULT, TRANSACTION_OUTPUT, STATE_CHANGES -> {
-                        digest.update(serializedItems.array(), pre, post - pre);
+                        digest.update(array, pre, post - pre);
                         switch (kind) {
-                            case EVENT_HEADER, EVENT_TRANSACTION -> finish(digest, inputHashes, j++ * HASH_SIZE);
+                            case EVENT_HEADER, EVENT_TRANSACTION -> finish(
+                                    digest, array, inputOffset + j++ * HASH_SIZE);
                             case TRANSACTION_RESULT, TRANSACTION_OUTPUT, STATE_CHANGES -> finish(
-                                    digest, outputHashes, k++ * HASH_SIZE);
+                                    digest, array, outputOffset + k++ * HASH_SIZE);
                         }
                         if (kind == TRANSACTION_RESULT) {
-                            resultHashes.put(Arrays.copyOfRange(outputHashes, (k - 1) * HASH_SIZE, k * HASH_SIZE));
+                            System.arraycopy(
+                                    array,
+                                    outputOffset + (k - 1) * HASH_SIZE,
+                                    array,
+                                    resultOffset + r++ * HASH_SIZE,
+                                    HASH_SIZE);
                         }
                     }
                     default -> {
@@ -586,7 +613,17 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                 }
             }
             data.flip();
-            return new Output(data, ByteBuffer.wrap(inputHashes), ByteBuffer.wrap(outputHashes), resultHashes.flip());
+            return new Output(
+                    data,
+                    ByteBuffer.wrap(array, inputOffset, numInputs * HASH_SIZE),
+                    ByteBuffer.wrap(array, outputOffset, numOutputs * HASH_SIZE),
+                    ByteBuffer.wrap(array, resultOffset, numResults * HASH_SIZE),
+                    buffer);
+        }
+
+        private ByteBuffer acquireBuffer(final int capacity) {
+            final var pooled = buffers.poll();
+            return (pooled == null || pooled.capacity() < capacity) ? ByteBuffer.allocate(capacity) : pooled;
         }
 
         private void finish(@NonNull final MessageDigest digest, final byte[] hashes, final int offset) {
@@ -617,6 +654,8 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
         while (output.resultHashes().hasRemaining()) {
             runningHashManager.nextResultHash(output.resultHashes());
         }
+        // The writer and hashers copy what they need, so the buffer can be reused
+        serializationBuffers.offer(output.buffer());
         return null;
     }
 
@@ -24,8 +24,10 @@ import com.hedera.node.app.hapi.utils.CommonUtils;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.ByteBuffer;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -46,7 +48,7 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
     /**
      * The base {@link HashCombiner} that combines the hashes of the leaves of the tree, at height zero.
      */
-    private final HashCombiner combiner = new HashCombiner(0);
+    private final HashCombiner combiner;
     /**
      * The {@link ExecutorService} used to parallelize the hashing and combining of the leaves of the tree.
      */
@@ -83,6 +85,7 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
             throw new IllegalArgumentException("Hash combine batch size must be an even number");
         }
         this.hashCombineBatchSize = hashCombineBatchSize;
+        this.combiner = new HashCombiner(0);
     }
 
     @Override
@@ -95,9 +98,7 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
             throw new IllegalArgumentException("Buffer has less than " + HASH_LENGTH + " bytes remaining");
         }
         numLeaves++;
-        final var bytes = new byte[HASH_LENGTH];
-        hash.get(bytes);
-        combiner.combine(bytes);
+        combiner.combine(hash);
     }
 
     @Override
@@ -142,6 +143,11 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
         return Bytes.wrap(hash);
     }
 
+    /**
+     * Combines the hashes at one height of the tree. Pending hashes are kept back-to-back in a flat array, and
+     * batches small enough to combine on the calling thread are combined in place; so that in the common case,
+     * adding a leaf does not allocate.
+     */
     private class HashCombiner {
         private static final ThreadLocal<MessageDigest> DIGESTS =
                 ThreadLocal.withInitial(CommonUtils::sha384DigestOrThrow);
@@ -160,7 +166,12 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
         private final int height;
 
         private HashCombiner delegate;
-        private List<byte[]> pendingHashes = new ArrayList<>();
+        /**
+         * The pending hashes at this height, each occupying {@link #HASH_LENGTH} bytes.
+         */
+        private byte[] pendingHashes = new byte[hashCombineBatchSize * HASH_LENGTH];
+
+        private int numPending;
         private CompletableFuture<Void> combination = CompletableFuture.completedFuture(null);
 
         private HashCombiner(final int height) {
@@ -170,19 +181,26 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
             this.height = height;
         }
 
-        public void combine(@NonNull final byte[] hash) {
-            pendingHashes.add(hash);
-            if (pendingHashes.size() == hashCombineBatchSize) {
+        public void combine(@NonNull final ByteBuffer hash) {
+            hash.get(pendingHashes, numPending++ * HASH_LENGTH, HASH_LENGTH);
+            if (numPending == hashCombineBatchSize) {
+                schedulePendingWork();
+            }
+        }
+
+        public void combine(@NonNull final byte[] hashes, final int offset) {
+            System.arraycopy(hashes, offset, pendingHashes, numPending++ * HASH_LENGTH, HASH_LENGTH);
+            if (numPending == hashCombineBatchSize) {
                 schedulePendingWork();
             }
         }
 
         public CompletableFuture<Bytes> finalCombination() {
             if (height == rootHeight) {
-                final var rootHash = pendingHashes.isEmpty() ? EMPTY_HASHES[0] : pendingHashes.getFirst();
+                final var rootHash = numPending == 0 ? EMPTY_HASHES[0] : Arrays.copyOf(pendingHashes, HASH_LENGTH);
                 return CompletableFuture.completedFuture(Bytes.wrap(rootHash));
             } else {
-                if (!pendingHashes.isEmpty()) {
+                if (numPending > 0) {
                     schedulePendingWork();
                 }
                 return combination.thenCompose(ignore -> delegate.finalCombination());
@@ -191,11 +209,16 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
 
         public void flushAvailable(@NonNull final List<Bytes> rightmostHashes, final int stopHeight) {
             if (height < stopHeight) {
-                final var newPendingHash = pendingHashes.size() % 2 == 0 ? null : pendingHashes.removeLast();
+                byte[] newPendingHash = null;
+                if (numPending % 2 == 1) {
+                    numPending--;
+                    final var offset = numPending * HASH_LENGTH;
+                    newPendingHash = Arrays.copyOfRange(pendingHashes, offset, offset + HASH_LENGTH);
+                }
                 schedulePendingWork();
                 combination.join();
                 if (newPendingHash != null) {
-                    pendingHashes.add(newPendingHash);
+                    System.arraycopy(newPendingHash, 0, pendingHashes, numPending++ * HASH_LENGTH, HASH_LENGTH);
                     rightmostHashes.add(Bytes.wrap(newPendingHash));
                 } else {
                     rightmostHashes.add(Bytes.EMPTY);
@@ -208,31 +231,61 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
             if (delegate == null) {
                 delegate = new HashCombiner(height + 1);
             }
-            final CompletableFuture<List<byte[]>> pendingCombination;
-            if (pendingHashes.size() < MIN_TO_SCHEDULE) {
-                pendingCombination = CompletableFuture.completedFuture(combine(pendingHashes));
+            final var hashes = pendingHashes;
+            final var n = numPending;
+            numPending = 0;
+            if (n < MIN_TO_SCHEDULE) {
+                final var numCombined = combineInPlace(hashes, n);
+                if (combination.isDone() && !combination.isCompletedExceptionally()) {
+                    // Nothing is in flight, so the delegate can take the combined hashes right away
+                    // and the pending array can be reused for the next batch
+                    passToDelegate(hashes, numCombined);
+                    return;
+                }
+                combination = combination.thenRun(() -> passToDelegate(hashes, numCombined));
             } else {
-                final var hashes = pendingHashes;
-                pendingCombination = CompletableFuture.supplyAsync(() -> combine(hashes), executorService);
+                final var pendingCombination =
+                        CompletableFuture.supplyAsync(() -> combineInPlace(hashes, n), executorService);
+                combination = combination.thenCombine(pendingCombination, (ignore, numCombined) -> {
+                    passToDelegate(hashes, numCombined);
+                    return null;
+                });
+            }
+            pendingHashes = new byte[hashCombineBatchSize * HASH_LENGTH];
+        }
+
+        private void passToDelegate(@NonNull final byte[] hashes, final int n) {
+            for (int i = 0; i < n; i++) {
+                delegate.combine(hashes, i * HASH_LENGTH);
             }
-            combination = combination.thenCombine(pendingCombination, (ignore, combined) -> {
-                combined.forEach(delegate::combine);
-                return null;
-            });
-            pendingHashes = new ArrayList<>();
         }
 
-        private List<byte[]> combine(@NonNull final List<byte[]> hashes) {
-            final List<byte[]> result = new ArrayList<>();
+        /**
+         * Combines the given number of hashes pairwise, in place; the {@code i}-th combined hash overwrites
+         * the {@code i}-th hash in the array, which is safe because both its children are read before it is
+         * written.
+         *
+         * @param hashes the hashes to combine
+         * @param n the number of hashes to combine
+         * @return the number of combined hashes
+         */
+        private int combineInPlace(@NonNull final byte[] hashes, final int n) {
             final var digest = DIGESTS.get();
-            for (int i = 0, m = hashes.size(); i < m; i += 2) {
-                final var left = hashes.get(i);
-                final var right = i + 1 < m ? hashes.get(i + 1) : EMPTY_HASHES[height];
-                digest.update(left);
-                digest.update(right);
-                result.add(digest.digest());
+            int numCombined = 0;
+            for (int i = 0; i < n; i += 2) {
+                digest.update(hashes, i * HASH_LENGTH, HASH_LENGTH);
+                if (i + 1 < n) {
+                    digest.update(hashes, (i + 1) * HASH_LENGTH, HASH_LENGTH);
+                } else {
+                    digest.update(EMPTY_HASHES[height]);
+                }
+                try {
+                    digest.digest(hashes, numCombined++ * HASH_LENGTH, HASH_LENGTH);
+                } catch (DigestException e) {
+                    throw new IllegalStateException(e);
+                }
             }
-            return result;
+            return numCombined;
         }
     }
 
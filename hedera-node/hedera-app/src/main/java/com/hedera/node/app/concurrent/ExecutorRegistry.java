@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.node.config.data.ExecutorsConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Owns the dedicated executor of each {@link Workload}. Executors are created on first use, sized according to
+ * {@link ExecutorsConfig}, and shared by everything that runs that kind of work.
+ *
+ * <p>CPU-bound workloads (pre-handle and block hashing) always run on a {@link ForkJoinPool}, so that parallel streams
+ * started by their tasks stay in the same pool. Workloads that mostly block on I/O (cache warmup and the record stream)
+ * can optionally run on virtual threads.
+ */
+@Singleton
+public class ExecutorRegistry implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(ExecutorRegistry.class);
+
+    private final ConfigProvider configProvider;
+    private final Metrics metrics;
+    private final Map<Workload, ExecutorService> executors = new EnumMap<>(Workload.class);
+    private boolean closed;
+
+    /**
+     * Create a new {@link ExecutorRegistry}.
+     *
+     * @param configProvider the configuration provider used to size the executors
+     * @param metrics the metrics-API used to report the utilization of each executor
+     */
+    @Inject
+    public ExecutorRegistry(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        this.configProvider = requireNonNull(configProvider);
+        this.metrics = requireNonNull(metrics);
+    }
+
+    /**
+     * Get the executor of the given workload, creating it if necessary.
+     *
+     * @param workload the workload
+     * @return the executor dedicated to the workload
+     * @throws IllegalStateException if the registry has been closed
+     */
+    @NonNull
+    public synchronized ExecutorService executor(@NonNull final Workload workload) {
+        requireNonNull(workload);
+        if (closed) {
+            throw new IllegalStateException("Executor registry has been closed");
+        }
+        return executors.computeIfAbsent(workload, this::newExecutor);
+    }
+
+    /**
+     * Shut down all executors created by this registry. Tasks that are already running are allowed to complete.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        executors.values().forEach(ExecutorService::shutdown);
+        executors.clear();
+    }
+
+    @NonNull
+    private ExecutorService newExecutor(@NonNull final Workload workload) {
+        final var config = configProvider.getConfiguration();
+        final var executorsConfig = config.getConfigData(ExecutorsConfig.class);
+        final ExecutorService executor =
+                switch (workload) {
+                    case PRE_HANDLE -> newForkJoinPool(workload, executorsConfig.preHandleThreads());
+                    case BLOCK_HASHING -> newForkJoinPool(workload, executorsConfig.blockHashingThreads());
+                    case CACHE_WARMUP -> executorsConfig.cacheWarmupVirtualThreads()
+                            ? newVirtualThreadExecutor(workload)
+                            : newForkJoinPool(workload, config.getConfigData(CacheConfig.class).warmThreads());
+                    case RECORD_STREAM -> executorsConfig.recordStreamVirtualThreads()
+                            ? newVirtualThreadExecutor(workload)
+                            : newFixedThreadPool(workload, executorsConfig.recordStreamThreads());
+                    case QUERIES -> newFixedThreadPool(workload, executorsConfig.queryThreads());
+                };
+        if (!executorsConfig.metricsEnabled()) {
+            return executor;
+        }
+        final var halfLife = config.getConfigData(StatsConfig.class).runningAvgHalfLifeSecs();
+        return new MeteredExecutorService(executor, workload.metricPrefix(), metrics, halfLife);
+    }
+
+    @NonNull
+    private static ExecutorService newForkJoinPool(@NonNull final Workload workload, final int threads) {
+        final int parallelism = threadsOrDefault(threads);
+        logger.info("Creating {} executor with {} threads", workload, parallelism);
+        final ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            final var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(workload.threadNamePrefix() + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(parallelism, threadFactory, Thread.getDefaultUncaughtExceptionHandler(), false);
+    }
+
+    @NonNull
+    private static ExecutorService newFixedThreadPool(@NonNull final Workload workload, final int threads) {
+        final int poolSize = threadsOrDefault(threads);
+        logger.info("Creating {} executor with {} threads", workload, poolSize);
+        return Executors.newFixedThreadPool(
+                poolSize, Thread.ofPlatform().name(workload.threadNamePrefix(), 0).daemon(true).factory());
+    }
+
+    @NonNull
+    private static ExecutorService newVirtualThreadExecutor(@NonNull final Workload workload) {
+        logger.info("Creating {} executor with virtual threads", workload);
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(workload.threadNamePrefix(), 0).factory());
+    }
+
+    private static int threadsOrDefault(final int threads) {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
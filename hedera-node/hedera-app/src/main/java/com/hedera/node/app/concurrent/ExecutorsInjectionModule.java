@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.concurrent;
+
+import static com.hedera.node.app.concurrent.Workload.BLOCK_HASHING;
+import static com.hedera.node.app.concurrent.Workload.CACHE_WARMUP;
+import static com.hedera.node.app.concurrent.Workload.PRE_HANDLE;
+import static com.hedera.node.app.concurrent.Workload.RECORD_STREAM;
+
+import dagger.Module;
+import dagger.Provides;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import javax.inject.Named;
+
+/**
+ * Provides the dedicated executor of each {@link Workload} under a name, so that components can be constructed with a
+ * plain {@link Executor} or {@link ExecutorService}.
+ */
+@Module
+public interface ExecutorsInjectionModule {
+    @Provides
+    @Named("PreHandle")
+    static ExecutorService providePreHandleExecutor(@NonNull final ExecutorRegistry executorRegistry) {
+        return executorRegistry.executor(PRE_HANDLE);
+    }
+
+    @Provides
+    @Named("CacheWarmer")
+    static Executor provideCacheWarmerExecutor(@NonNull final ExecutorRegistry executorRegistry) {
+        return executorRegistry.executor(CACHE_WARMUP);
+    }
+
+    @Provides
+    @Named("BlockHashing")
+    static ExecutorService provideBlockHashingExecutor(@NonNull final ExecutorRegistry executorRegistry) {
+        return executorRegistry.executor(BLOCK_HASHING);
+    }
+
+    @Provides
+    @Named("RecordStream")
+    static ExecutorService provideRecordStreamExecutor(@NonNull final ExecutorRegistry executorRegistry) {
+        return executorRegistry.executor(RECORD_STREAM);
+    }
+}
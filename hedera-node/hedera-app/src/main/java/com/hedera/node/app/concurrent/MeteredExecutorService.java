@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link ExecutorService} that reports the queue depth, the number of active threads and the average task latency
+ * (the time from submission to completion) of the executor it wraps.
+ *
+ * <p>For a {@link ForkJoinPool} the queue depth and active thread count are read from the pool itself, so they also
+ * include subtasks forked by the submitted tasks (for example, by a parallel stream). For any other executor they are
+ * counted by this wrapper.
+ */
+public final class MeteredExecutorService extends AbstractExecutorService {
+    private static final String CATEGORY = "app";
+
+    private final ExecutorService delegate;
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final RunningAverageMetric taskLatency;
+
+    /**
+     * Create a new {@link MeteredExecutorService} and register its metrics.
+     *
+     * @param delegate the executor that runs the tasks
+     * @param name the prefix of the metric names, e.g. {@code preHandle}
+     * @param metrics the metrics-API used to report the executor's metrics
+     * @param halfLife the half-life of the task latency running average, in seconds
+     */
+    public MeteredExecutorService(
+            @NonNull final ExecutorService delegate,
+            @NonNull final String name,
+            @NonNull final Metrics metrics,
+            final double halfLife) {
+        this.delegate = requireNonNull(delegate);
+        requireNonNull(name);
+        requireNonNull(metrics);
+
+        final var queueDepthConfig = new FunctionGauge.Config<>(
+                        CATEGORY, name + "ExecutorQueueDepth", Long.class, this::queueDepth)
+                .withDescription("number of tasks waiting to run on the " + name + " executor")
+                .withFormat("%,d");
+        metrics.getOrCreate(queueDepthConfig);
+
+        final var activeThreadsConfig = new FunctionGauge.Config<>(
+                        CATEGORY, name + "ExecutorActiveThreads", Integer.class, this::activeThreads)
+                .withDescription("number of threads running tasks on the " + name + " executor")
+                .withFormat("%,d");
+        metrics.getOrCreate(activeThreadsConfig);
+
+        taskLatency = metrics.getOrCreate(new RunningAverageMetric.Config(CATEGORY, name + "ExecutorTaskLatency")
+                .withDescription("average time from submission to completion of a task on the " + name + " executor")
+                .withUnit("ms")
+                .withHalfLife(halfLife));
+    }
+
+    /**
+     * The number of tasks that have been submitted but have not started running yet.
+     *
+     * @return the queue depth
+     */
+    public long queueDepth() {
+        if (delegate instanceof ForkJoinPool pool) {
+            return pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount();
+        }
+        return queuedTasks.get();
+    }
+
+    /**
+     * The number of threads that are currently running tasks.
+     *
+     * @return the number of active threads
+     */
+    public int activeThreads() {
+        if (delegate instanceof ForkJoinPool pool) {
+            return pool.getActiveThreadCount();
+        }
+        return activeTasks.get();
+    }
+
+    @Override
+    public void execute(@NonNull final Runnable command) {
+        requireNonNull(command);
+        final long submittedAt = System.nanoTime();
+        queuedTasks.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queuedTasks.decrementAndGet();
+                activeTasks.incrementAndGet();
+                try {
+                    command.run();
+                } finally {
+                    activeTasks.decrementAndGet();
+                    taskLatency.update((System.nanoTime() - submittedAt) / 1_000_000.0);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            queuedTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @NonNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, @NonNull final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.concurrent;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * The kinds of background work that the node runs on dedicated executors from the {@link ExecutorRegistry}. Each
+ * workload gets its own pool so that a burst of one kind of work (for example, block hashing) cannot starve another
+ * (for example, pre-handle signature verification).
+ */
+public enum Workload {
+    /** Parsing, validating and verifying the signatures of transactions in pre-consensus events. */
+    PRE_HANDLE("preHandle"),
+    /** Warming the state cache for transactions that are about to be handled. */
+    CACHE_WARMUP("cacheWarmup"),
+    /** Serializing and hashing block items. */
+    BLOCK_HASHING("blockHashing"),
+    /** Writing record stream files. */
+    RECORD_STREAM("recordStream"),
+    /** Answering queries received over gRPC. */
+    QUERIES("queries");
+
+    private final String metricPrefix;
+
+    Workload(@NonNull final String metricPrefix) {
+        this.metricPrefix = metricPrefix;
+    }
+
+    /**
+     * The prefix used for the names of this workload's metrics, e.g. {@code preHandleExecutorActiveThreads}.
+     *
+     * @return the metric prefix
+     */
+    @NonNull
+    public String metricPrefix() {
+        return metricPrefix;
+    }
+
+    /**
+     * The prefix used for the names of this workload's threads, e.g. {@code pre-handle-3}.
+     *
+     * @return the thread name prefix
+     */
+    @NonNull
+    public String threadNamePrefix() {
+        return name().toLowerCase().replace('_', '-') + "-";
+    }
+}
@@ -50,6 +50,7 @@ import com.hedera.node.config.data.ConsensusConfig;
 import com.hedera.node.config.data.ContractsConfig;
 import com.hedera.node.config.data.CryptoCreateWithAliasConfig;
 import com.hedera.node.config.data.EntitiesConfig;
+import com.hedera.node.config.data.ExecutorsConfig;
 import com.hedera.node.config.data.ExpiryConfig;
 import com.hedera.node.config.data.FeesConfig;
 import com.hedera.node.config.data.FilesConfig;
@@ -110,6 +111,7 @@ public class ServicesConfigExtension implements ConfigurationExtension {
                 ContractsConfig.class,
                 CryptoCreateWithAliasConfig.class,
                 EntitiesConfig.class,
+                ExecutorsConfig.class,
                 ExpiryConfig.class,
                 FeesConfig.class,
                 FilesConfig.class,
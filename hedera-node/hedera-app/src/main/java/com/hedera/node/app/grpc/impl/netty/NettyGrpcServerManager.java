@@ -21,6 +21,8 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.Transaction;
 import com.hedera.hapi.node.transaction.Query;
+import com.hedera.node.app.concurrent.ExecutorRegistry;
+import com.hedera.node.app.concurrent.Workload;
 import com.hedera.node.app.grpc.GrpcServerManager;
 import com.hedera.node.app.services.ServicesRegistry;
 import com.hedera.node.app.spi.RpcService;
@@ -29,6 +31,7 @@ import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.node.app.workflows.query.annotations.OperatorQueries;
 import com.hedera.node.app.workflows.query.annotations.UserQueries;
 import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.ExecutorsConfig;
 import com.hedera.node.config.data.GrpcConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.NettyConfig;
@@ -38,7 +41,10 @@ import com.hedera.pbj.runtime.RpcServiceDefinition;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import io.grpc.Metadata;
 import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallExecutorSupplier;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.ServiceDescriptor;
 import io.grpc.netty.GrpcSslContexts;
@@ -51,8 +57,10 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -97,6 +105,17 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
      */
     private Set<ServerServiceDefinition> nodeOperatorServices = Collections.emptySet();
 
+    /**
+     * The full names of all query methods, used to route query calls to the {@link #queryExecutor}
+     */
+    private final Set<String> queryMethodNames = new HashSet<>();
+
+    /**
+     * The executor that queries are answered on, or null if they are answered directly on the gRPC threads
+     */
+    @Nullable
+    private final Executor queryExecutor;
+
     /**
      * The configuration provider, so we can figure out ports and other information.
      */
@@ -125,7 +144,6 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
      * @param operatorQueryWorkflow The implementation of the {@link QueryWorkflow} to use for node operator query rpc methods
      * @param metrics Used to get/create metrics for each transaction and query method.
      */
-    @Inject
     public NettyGrpcServerManager(
             @NonNull final ConfigProvider configProvider,
             @NonNull final ServicesRegistry servicesRegistry,
@@ -133,6 +151,31 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
             @NonNull @UserQueries final QueryWorkflow userQueryWorkflow,
             @NonNull @OperatorQueries final QueryWorkflow operatorQueryWorkflow,
             @NonNull final Metrics metrics) {
+        this(configProvider, servicesRegistry, ingestWorkflow, userQueryWorkflow, operatorQueryWorkflow, metrics, null);
+    }
+
+    /**
+     * Create a new instance that answers queries on the {@link Workload#QUERIES} executor, if
+     * {@link ExecutorsConfig#queriesIsolated()} is set.
+     *
+     * @param configProvider The config provider, so we can figure out ports and other information.
+     * @param servicesRegistry The set of all services registered with the system
+     * @param ingestWorkflow The implementation of the {@link IngestWorkflow} to use for transaction rpc methods
+     * @param userQueryWorkflow The implementation of the {@link QueryWorkflow} to use for user query rpc methods
+     * @param operatorQueryWorkflow The implementation of the {@link QueryWorkflow} to use for node operator query
+     * rpc methods
+     * @param metrics Used to get/create metrics for each transaction and query method.
+     * @param executorRegistry The registry of dedicated executors, or null to answer queries on the gRPC threads
+     */
+    @Inject
+    public NettyGrpcServerManager(
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final ServicesRegistry servicesRegistry,
+            @NonNull final IngestWorkflow ingestWorkflow,
+            @NonNull @UserQueries final QueryWorkflow userQueryWorkflow,
+            @NonNull @OperatorQueries final QueryWorkflow operatorQueryWorkflow,
+            @NonNull final Metrics metrics,
+            @Nullable final ExecutorRegistry executorRegistry) {
         this.configProvider = requireNonNull(configProvider);
         requireNonNull(ingestWorkflow);
         requireNonNull(userQueryWorkflow);
@@ -153,6 +196,13 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
         services =
                 buildServiceDefinitions(rpcServiceDefinitions, m -> true, ingestWorkflow, userQueryWorkflow, metrics);
 
+        if (executorRegistry != null
+                && configProvider.getConfiguration().getConfigData(ExecutorsConfig.class).queriesIsolated()) {
+            queryExecutor = executorRegistry.executor(Workload.QUERIES);
+        } else {
+            queryExecutor = null;
+        }
+
         final var grpcConfig = configProvider.getConfiguration().getConfigData(GrpcConfig.class);
         if (grpcConfig.nodeOperatorPortEnabled()) {
             // Convert the various RPC service definitions into query endpoints permitting unpaid queries for node
@@ -386,7 +436,22 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
                     .maxConcurrentCallsPerConnection(config.prodMaxConcurrentCalls())
                     .flowControlWindow(config.prodFlowControlWindow());
         }
-        return builder.directExecutor();
+        builder.directExecutor();
+        if (queryExecutor != null) {
+            // Transactions are still submitted directly on the gRPC threads, but queries (which may have to read
+            // from disk) are moved to their own pool so that a burst of queries cannot delay transaction ingestion
+            builder.callExecutor(new ServerCallExecutorSupplier() {
+                @Nullable
+                @Override
+                public <ReqT, RespT> Executor getExecutor(
+                        @NonNull final ServerCall<ReqT, RespT> call, @NonNull final Metadata metadata) {
+                    return queryMethodNames.contains(call.getMethodDescriptor().getFullMethodName())
+                            ? queryExecutor
+                            : null;
+                }
+            });
+        }
+        return builder;
     }
 
     /**
@@ -431,6 +496,7 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
                             builder.transaction(m.path());
                         } else {
                             builder.query(m.path());
+                            queryMethodNames.add(d.basePath() + "/" + m.path());
                         }
                     });
                     return builder.build(metrics);
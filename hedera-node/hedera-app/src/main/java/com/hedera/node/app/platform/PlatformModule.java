@@ -16,7 +16,6 @@
 
 package com.hedera.node.app.platform;
 
-import com.hedera.node.app.annotations.CommonExecutor;
 import com.hedera.node.app.state.listeners.ReconnectListener;
 import com.hedera.node.app.state.listeners.WriteStateToDiskListener;
 import com.swirlds.common.stream.Signer;
@@ -28,8 +27,6 @@ import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.charset.Charset;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import javax.inject.Singleton;
@@ -42,13 +39,6 @@ public interface PlatformModule {
         return platform::sign;
     }
 
-    @Provides
-    @Singleton
-    @CommonExecutor
-    static ExecutorService provideCommonExecutor() {
-        return ForkJoinPool.commonPool();
-    }
-
     @Provides
     @Singleton
     static Supplier<Charset> provideNativeCharset() {
@@ -23,7 +23,6 @@ import com.hedera.hapi.node.base.SemanticVersion;
 import com.hedera.hapi.node.state.blockrecords.RunningHashes;
 import com.hedera.hapi.streams.HashAlgorithm;
 import com.hedera.hapi.streams.HashObject;
-import com.hedera.node.app.annotations.CommonExecutor;
 import com.hedera.node.app.records.impl.BlockRecordStreamProducer;
 import com.hedera.node.app.state.SingleTransactionRecord;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -36,6 +35,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -92,7 +92,7 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
     public StreamFileProducerConcurrent(
             @NonNull final BlockRecordFormat format,
             @NonNull final BlockRecordWriterFactory writerFactory,
-            @CommonExecutor @NonNull final ExecutorService executorService,
+            @NonNull @Named("RecordStream") final ExecutorService executorService,
             @NonNull final SemanticVersion hapiVersion) {
         this.writerFactory = requireNonNull(writerFactory);
         this.format = requireNonNull(format);
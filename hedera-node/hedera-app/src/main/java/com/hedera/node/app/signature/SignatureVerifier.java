@@ -44,6 +44,21 @@ public interface SignatureVerifier {
         return verify(signedBytes, sigPairs, RAW);
     }
 
+    /**
+     * Like {@link #verify(Bytes, Set)}, but also remembers the signatures found valid, so that verifying the same
+     * signatures on the same bytes again later can skip the cryptography. Used at ingest, since every transaction
+     * submitted to this node is verified again in pre-handle once it reaches consensus.
+     *
+     * @param signedBytes The signed bytes to verify
+     * @param sigPairs The matching set of signatures to be verified
+     * @return A {@link Set} of {@link Future}s, one per {@link ExpandedSignaturePair}.
+     */
+    @NonNull
+    default Map<Key, SignatureVerificationFuture> verifyAndRemember(
+            @NonNull final Bytes signedBytes, @NonNull final Set<ExpandedSignaturePair> sigPairs) {
+        return verify(signedBytes, sigPairs);
+    }
+
     /**
      * Asynchronously verifies that the given {@code sigPairs} match the given {@code signedBytes}.
      *
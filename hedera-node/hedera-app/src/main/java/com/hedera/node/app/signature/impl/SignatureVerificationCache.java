@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.signature.impl;
+
+import static com.hedera.node.app.hapi.utils.CommonUtils.sha384DigestOrThrow;
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.node.config.data.HederaConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.security.MessageDigest;
+import java.time.Duration;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A bounded, concurrent cache of signatures that were found valid when a transaction submitted to this node was
+ * checked at ingest. When the same transaction comes back through consensus, pre-handle finds its signatures here
+ * and does not verify them again.
+ *
+ * <p>Entries are keyed by the SHA-384 digest of the signature type, the signed message, the public key, and the
+ * signature, so a hit means exactly this signature on exactly these bytes already verified. Only valid signatures are
+ * remembered. An entry expires {@link HederaConfig#transactionMaxValidDuration()} seconds after it was added, since
+ * no transaction can reach consensus later than that after it was submitted. Setting
+ * {@link CacheConfig#signaturesMaxEntries()} to zero disables the cache.
+ */
+@Singleton
+public class SignatureVerificationCache {
+    private static final Counter.Config HITS_CONFIG = new Counter.Config("app", "sigVerificationCacheHits")
+            .withDescription("number of signature verifications skipped because the signature was cached");
+    private static final Counter.Config MISSES_CONFIG = new Counter.Config("app", "sigVerificationCacheMisses")
+            .withDescription("number of signature verifications that were not found in the cache");
+
+    @Nullable
+    private final Cache<Bytes, Boolean> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics to report the hit rate to
+     * @param configProvider the configuration provider
+     */
+    @Inject
+    public SignatureVerificationCache(@NonNull final Metrics metrics, @NonNull final ConfigProvider configProvider) {
+        requireNonNull(metrics);
+        final var config = requireNonNull(configProvider).getConfiguration();
+        final var maxEntries = config.getConfigData(CacheConfig.class).signaturesMaxEntries();
+        final var ttl = Duration.ofSeconds(config.getConfigData(HederaConfig.class).transactionMaxValidDuration());
+        this.cache = maxEntries > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxEntries)
+                        .expireAfterWrite(ttl)
+                        .build()
+                : null;
+        this.hits = metrics.getOrCreate(HITS_CONFIG);
+        this.misses = metrics.getOrCreate(MISSES_CONFIG);
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        "app", "sigVerificationCacheHitRate", Double.class, this::hitPercentage)
+                .withDescription("percentage of signature verifications answered from the cache")
+                .withFormat("%,13.2f"));
+    }
+
+    /**
+     * Whether the cache is enabled. If not, there is no need to compute keys for it.
+     *
+     * @return whether the cache is enabled
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Returns whether the signature with the given key was already found valid, counting the lookup as a hit or miss.
+     *
+     * @param key the key computed with {@link #keyFor(MessageDigest, SignatureType, byte[], Bytes, Bytes)}
+     * @return true if the signature is known to be valid
+     */
+    public boolean isKnownValid(@NonNull final Bytes key) {
+        requireNonNull(key);
+        if (cache == null) {
+            return false;
+        }
+        if (cache.getIfPresent(key) != null) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Remembers that the signature with the given key is valid.
+     *
+     * @param key the key computed with {@link #keyFor(MessageDigest, SignatureType, byte[], Bytes, Bytes)}
+     */
+    public void rememberValid(@NonNull final Bytes key) {
+        requireNonNull(key);
+        if (cache != null) {
+            cache.put(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Computes the cache key of a signature.
+     *
+     * @param digest a SHA-384 digest to use, which is reset before being returned
+     * @param signatureType the type of the signature
+     * @param messageHash the SHA-384 hash of the message the signature is verified against
+     * @param publicKey the public key
+     * @param signature the signature
+     * @return the cache key
+     */
+    @NonNull
+    public static Bytes keyFor(
+            @NonNull final MessageDigest digest,
+            @NonNull final SignatureType signatureType,
+            @NonNull final byte[] messageHash,
+            @NonNull final Bytes publicKey,
+            @NonNull final Bytes signature) {
+        digest.reset();
+        digest.update((byte) signatureType.ordinal());
+        digest.update(messageHash);
+        publicKey.writeTo(digest);
+        signature.writeTo(digest);
+        return Bytes.wrap(digest.digest());
+    }
+
+    /**
+     * Computes the SHA-384 hash of a message, as needed by
+     * {@link #keyFor(MessageDigest, SignatureType, byte[], Bytes, Bytes)}.
+     *
+     * @param message the array holding the message
+     * @param offset the offset of the message in the array
+     * @param length the length of the message
+     * @return the hash of the message
+     */
+    @NonNull
+    public static byte[] messageHashOf(@NonNull final byte[] message, final int offset, final int length) {
+        final var digest = sha384DigestOrThrow();
+        digest.update(message, offset, length);
+        return digest.digest();
+    }
+
+    private double hitPercentage() {
+        final long hitCount = hits.get();
+        final long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : 100.0 * hitCount / total;
+    }
+}
@@ -18,8 +18,12 @@ package com.hedera.node.app.signature.impl;
 
 import static com.hedera.hapi.node.base.SignaturePair.SignatureOneOfType.ECDSA_SECP256K1;
 import static com.hedera.hapi.node.base.SignaturePair.SignatureOneOfType.ED25519;
+import static com.hedera.node.app.hapi.utils.CommonUtils.sha384DigestOrThrow;
 import static com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType.KECCAK_256_HASH;
+import static com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType.RAW;
+import static com.swirlds.common.crypto.VerificationStatus.VALID;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import com.hedera.hapi.node.base.Key;
 import com.hedera.node.app.hapi.utils.MiscCryptoUtils;
@@ -32,6 +36,7 @@ import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -48,10 +53,22 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
     /** The {@link Cryptography} engine to use for signature verification. */
     private final Cryptography cryptoEngine;
 
-    /** Create a new instance with the given {@link Cryptography} engine. */
-    @Inject
+    /** The cache of signatures already found valid, or null if none is used. */
+    @Nullable
+    private final SignatureVerificationCache cache;
+
+    /** Create a new instance with the given {@link Cryptography} engine, without a verification cache. */
     public SignatureVerifierImpl(@NonNull final Cryptography cryptoEngine) {
         this.cryptoEngine = requireNonNull(cryptoEngine);
+        this.cache = null;
+    }
+
+    /** Create a new instance with the given {@link Cryptography} engine and verification cache. */
+    @Inject
+    public SignatureVerifierImpl(
+            @NonNull final Cryptography cryptoEngine, @NonNull final SignatureVerificationCache cache) {
+        this.cryptoEngine = requireNonNull(cryptoEngine);
+        this.cache = requireNonNull(cache);
     }
 
     @NonNull
@@ -60,6 +77,21 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             @NonNull final Bytes signedBytes,
             @NonNull final Set<ExpandedSignaturePair> sigs,
             @NonNull final MessageType messageType) {
+        return verify(signedBytes, sigs, messageType, false);
+    }
+
+    @NonNull
+    @Override
+    public Map<Key, SignatureVerificationFuture> verifyAndRemember(
+            @NonNull final Bytes signedBytes, @NonNull final Set<ExpandedSignaturePair> sigs) {
+        return verify(signedBytes, sigs, RAW, true);
+    }
+
+    private Map<Key, SignatureVerificationFuture> verify(
+            @NonNull final Bytes signedBytes,
+            @NonNull final Set<ExpandedSignaturePair> sigs,
+            @NonNull final MessageType messageType,
+            final boolean rememberValid) {
         requireNonNull(signedBytes);
         requireNonNull(sigs);
         requireNonNull(messageType);
@@ -84,6 +116,7 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
 
         // Gather each TransactionSignature to send to the platform and the resulting SignatureVerificationFutures
         final var futures = HashMap.<Key, SignatureVerificationFuture>newHashMap(sigs.size());
+        final var digest = cache != null && cache.isEnabled() ? sha384DigestOrThrow() : null;
         for (ExpandedSignaturePair sigPair : sigs) {
             final var kind = sigPair.sigPair().signature().kind();
             final var preparer =
@@ -100,7 +133,25 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             preparer.addSignature(sigPair.signature());
             preparer.addKey(sigPair.keyBytes());
             final TransactionSignature txSig = preparer.prepareTransactionSignature();
-            cryptoEngine.verifySync(txSig);
+            if (digest == null) {
+                cryptoEngine.verifySync(txSig);
+            } else {
+                final var cacheKey = SignatureVerificationCache.keyFor(
+                        digest,
+                        preparer.signatureType,
+                        preparer.messageHash(),
+                        sigPair.keyBytes(),
+                        sigPair.signature());
+                if (requireNonNull(cache).isKnownValid(cacheKey)) {
+                    txSig.setSignatureStatus(VALID);
+                    txSig.setFuture(completedFuture(null));
+                } else {
+                    cryptoEngine.verifySync(txSig);
+                    if (rememberValid && txSig.getSignatureStatus() == VALID) {
+                        cache.rememberValid(cacheKey);
+                    }
+                }
+            }
             final SignatureVerificationFuture future =
                     new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
             futures.put(sigPair.key(), future);
@@ -146,6 +197,7 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
         private int keyOffset;
         private int signatureLength;
         private int keyLength;
+        private byte[] messageHash;
 
         Preparer(@NonNull final Bytes signedBytes, @NonNull final SignatureType signatureType) {
             this.signatureType = requireNonNull(signatureType);
@@ -166,6 +218,15 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             add(key);
         }
 
+        @NonNull
+        byte[] messageHash() {
+            // The message is the same for every signature of a transaction, so only hash it once
+            if (messageHash == null) {
+                messageHash = SignatureVerificationCache.messageHashOf(content, 0, signedBytesLength);
+            }
+            return messageHash;
+        }
+
         @NonNull
         TransactionSignature prepareTransactionSignature() {
             return new TransactionSignature(
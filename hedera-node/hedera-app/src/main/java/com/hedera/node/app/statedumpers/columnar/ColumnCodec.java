@@ -0,0 +1,297 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes and decodes column chunks of columnar state export files. See {@link ColumnEncoding} for the supported
+ * encodings.
+ */
+final class ColumnCodec {
+
+    /**
+     * A chunk is dictionary encoded only if it has at most this many distinct values per row.
+     */
+    private static final double MAX_DICTIONARY_RATIO = 0.5;
+
+    /**
+     * An encoded column chunk.
+     *
+     * @param encoding the encoding used
+     * @param data     the encoded values
+     */
+    record EncodedChunk(@NonNull ColumnEncoding encoding, @NonNull byte[] data) {}
+
+    private ColumnCodec() {}
+
+    /**
+     * Encode a chunk of column values.
+     *
+     * @param type   the column type
+     * @param values the values, {@link Long} for {@link ColumnType#LONG} columns, {@link String} or {@code byte[]}
+     *               otherwise
+     * @param count  the number of values to encode
+     * @return the encoded chunk
+     */
+    @NonNull
+    static EncodedChunk encode(@NonNull final ColumnType type, @NonNull final Object[] values, final int count) {
+        requireNonNull(type);
+        requireNonNull(values);
+        if (type == ColumnType.LONG) {
+            final long[] longs = new long[count];
+            for (int i = 0; i < count; i++) {
+                longs[i] = (Long) values[i];
+            }
+            return encodeLongs(longs);
+        }
+        final byte[][] binaries = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            binaries[i] = type == ColumnType.STRING ? toUtf8((String) values[i]) : (byte[]) values[i];
+        }
+        return encodeBinaries(binaries);
+    }
+
+    /**
+     * Decode a chunk of column values.
+     *
+     * @param type     the column type
+     * @param encoding the chunk encoding
+     * @param data     the encoded values
+     * @param count    the number of values in the chunk
+     * @return the values, {@code long[]} for {@link ColumnType#LONG} columns, {@code String[]} for
+     * {@link ColumnType#STRING} columns, and {@code byte[][]} for {@link ColumnType#BYTES} columns
+     */
+    @NonNull
+    static Object decode(
+            @NonNull final ColumnType type,
+            @NonNull final ColumnEncoding encoding,
+            @NonNull final ByteBuffer data,
+            final int count) {
+        requireNonNull(type);
+        requireNonNull(encoding);
+        requireNonNull(data);
+        if (type == ColumnType.LONG) {
+            return decodeLongs(encoding, data, count);
+        }
+        final byte[][] binaries = decodeBinaries(encoding, data, count);
+        if (type == ColumnType.BYTES) {
+            return binaries;
+        }
+        final String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            strings[i] = binaries[i] == null ? null : new String(binaries[i], StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    @NonNull
+    private static EncodedChunk encodeLongs(@NonNull final long[] values) {
+        int runs = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                runs++;
+            }
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (runs <= values.length / 2) {
+            writeRuns(out, values);
+            return new EncodedChunk(ColumnEncoding.RUN_LENGTH, out.toByteArray());
+        }
+        for (final long value : values) {
+            writeZigZag(out, value);
+        }
+        return new EncodedChunk(ColumnEncoding.PLAIN, out.toByteArray());
+    }
+
+    @NonNull
+    private static long[] decodeLongs(
+            @NonNull final ColumnEncoding encoding, @NonNull final ByteBuffer in, final int count) {
+        return switch (encoding) {
+            case PLAIN -> {
+                final long[] values = new long[count];
+                for (int i = 0; i < count; i++) {
+                    values[i] = readZigZag(in);
+                }
+                yield values;
+            }
+            case RUN_LENGTH -> readRuns(in, count);
+            case DICTIONARY -> throw new IllegalArgumentException("Long columns are never dictionary encoded");
+        };
+    }
+
+    @NonNull
+    private static EncodedChunk encodeBinaries(@NonNull final byte[][] values) {
+        final Map<ByteBuffer, Integer> dictionary = new HashMap<>();
+        final List<byte[]> entries = new ArrayList<>();
+        final long[] indices = new long[values.length];
+        final int maxDictionarySize = (int) (values.length * MAX_DICTIONARY_RATIO);
+        boolean useDictionary = true;
+        for (int i = 0; i < values.length; i++) {
+            final byte[] value = values[i];
+            // nulls are index 0, so they don't need a dictionary entry
+            if (value == null) {
+                continue;
+            }
+            final Integer index = dictionary.computeIfAbsent(ByteBuffer.wrap(value), k -> {
+                entries.add(value);
+                return entries.size();
+            });
+            if (entries.size() > maxDictionarySize) {
+                useDictionary = false;
+                break;
+            }
+            indices[i] = index;
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (useDictionary) {
+            writeVarLong(out, entries.size());
+            for (final byte[] entry : entries) {
+                writeBinary(out, entry);
+            }
+            writeRuns(out, indices);
+            return new EncodedChunk(ColumnEncoding.DICTIONARY, out.toByteArray());
+        }
+        for (final byte[] value : values) {
+            writeBinary(out, value);
+        }
+        return new EncodedChunk(ColumnEncoding.PLAIN, out.toByteArray());
+    }
+
+    @NonNull
+    private static byte[][] decodeBinaries(
+            @NonNull final ColumnEncoding encoding, @NonNull final ByteBuffer in, final int count) {
+        final byte[][] values = new byte[count][];
+        switch (encoding) {
+            case PLAIN -> {
+                for (int i = 0; i < count; i++) {
+                    values[i] = readBinary(in);
+                }
+            }
+            case DICTIONARY -> {
+                final int dictionarySize = (int) readVarLong(in);
+                final byte[][] entries = new byte[dictionarySize + 1][];
+                for (int i = 1; i <= dictionarySize; i++) {
+                    entries[i] = readBinary(in);
+                }
+                final long[] indices = readRuns(in, count);
+                for (int i = 0; i < count; i++) {
+                    values[i] = entries[(int) indices[i]];
+                }
+            }
+            case RUN_LENGTH -> throw new IllegalArgumentException("Binary columns are never run length encoded");
+        }
+        return values;
+    }
+
+    private static void writeRuns(@NonNull final ByteArrayOutputStream out, @NonNull final long[] values) {
+        int i = 0;
+        while (i < values.length) {
+            final long value = values[i];
+            int runLength = 1;
+            while (i + runLength < values.length && values[i + runLength] == value) {
+                runLength++;
+            }
+            writeZigZag(out, value);
+            writeVarLong(out, runLength);
+            i += runLength;
+        }
+    }
+
+    @NonNull
+    private static long[] readRuns(@NonNull final ByteBuffer in, final int count) {
+        final long[] values = new long[count];
+        int i = 0;
+        while (i < count) {
+            final long value = readZigZag(in);
+            final int runLength = (int) readVarLong(in);
+            if (runLength <= 0 || i + runLength > count) {
+                throw new IllegalStateException("Invalid run length " + runLength);
+            }
+            for (int j = 0; j < runLength; j++) {
+                values[i++] = value;
+            }
+        }
+        return values;
+    }
+
+    private static void writeBinary(@NonNull final ByteArrayOutputStream out, @Nullable final byte[] value) {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        writeVarLong(out, value.length + 1L);
+        out.writeBytes(value);
+    }
+
+    @Nullable
+    private static byte[] readBinary(@NonNull final ByteBuffer in) {
+        final long length = readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        final byte[] value = new byte[(int) (length - 1)];
+        in.get(value);
+        return value;
+    }
+
+    @Nullable
+    private static byte[] toUtf8(@Nullable final String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeZigZag(@NonNull final ByteArrayOutputStream out, final long value) {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static long readZigZag(@NonNull final ByteBuffer in) {
+        final long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(@NonNull final ByteArrayOutputStream out, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long readVarLong(@NonNull final ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+}
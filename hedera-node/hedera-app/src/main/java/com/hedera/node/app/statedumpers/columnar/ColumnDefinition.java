@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A column of a columnar state export file, and how to extract its value from a row.
+ *
+ * @param name      the column name
+ * @param type      the column type
+ * @param extractor extracts a {@link Long}, a {@link String} or a {@code byte[]} from a row, depending on the type
+ * @param <T>       the type of rows
+ */
+public record ColumnDefinition<T>(
+        @NonNull String name, @NonNull ColumnType type, @NonNull Function<T, Object> extractor) {
+
+    public ColumnDefinition {
+        requireNonNull(name);
+        requireNonNull(type);
+        requireNonNull(extractor);
+    }
+
+    /**
+     * Create a {@link ColumnType#LONG} column.
+     *
+     * @param name      the column name
+     * @param extractor extracts the value from a row
+     * @return the column
+     */
+    public static <T> ColumnDefinition<T> ofLong(
+            @NonNull final String name, @NonNull final ToLongFunction<T> extractor) {
+        requireNonNull(extractor);
+        return new ColumnDefinition<>(name, ColumnType.LONG, row -> extractor.applyAsLong(row));
+    }
+
+    /**
+     * Create a {@link ColumnType#LONG} column storing a flag as 0 or 1.
+     *
+     * @param name      the column name
+     * @param extractor extracts the value from a row
+     * @return the column
+     */
+    public static <T> ColumnDefinition<T> ofBoolean(@NonNull final String name, @NonNull final Predicate<T> extractor) {
+        requireNonNull(extractor);
+        return new ColumnDefinition<>(name, ColumnType.LONG, row -> extractor.test(row) ? 1L : 0L);
+    }
+
+    /**
+     * Create a {@link ColumnType#STRING} column.
+     *
+     * @param name      the column name
+     * @param extractor extracts the value from a row, may return null
+     * @return the column
+     */
+    public static <T> ColumnDefinition<T> ofString(
+            @NonNull final String name, @NonNull final Function<T, String> extractor) {
+        requireNonNull(extractor);
+        return new ColumnDefinition<>(name, ColumnType.STRING, extractor::apply);
+    }
+
+    /**
+     * Create a {@link ColumnType#BYTES} column.
+     *
+     * @param name      the column name
+     * @param extractor extracts the value from a row, may return null
+     * @return the column
+     */
+    public static <T> ColumnDefinition<T> ofBytes(
+            @NonNull final String name, @NonNull final Function<T, Bytes> extractor) {
+        requireNonNull(extractor);
+        return new ColumnDefinition<>(name, ColumnType.BYTES, row -> toByteArray(extractor.apply(row)));
+    }
+
+    @Nullable
+    private static byte[] toByteArray(@Nullable final Bytes bytes) {
+        return bytes == null ? null : bytes.toByteArray();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+/**
+ * The encoding of a column chunk in a columnar state export file. The encoding is chosen per chunk, based on the
+ * values in the chunk.
+ */
+public enum ColumnEncoding {
+    /**
+     * Values are stored one after another. Longs are stored as zigzag varints, strings and bytes are stored as
+     * a varint length, plus one, followed by the bytes. A zero length marks a null value.
+     */
+    PLAIN(0),
+    /**
+     * Longs are stored as pairs of zigzag varint value and varint run length. Used for {@link ColumnType#LONG}
+     * columns with long runs of equal values, such as flags and mostly default fields.
+     */
+    RUN_LENGTH(1),
+    /**
+     * Distinct values are stored once in a dictionary, followed by run length encoded dictionary indices. Used
+     * for {@link ColumnType#STRING} and {@link ColumnType#BYTES} columns with few distinct values.
+     */
+    DICTIONARY(2);
+
+    private final int code;
+
+    ColumnEncoding(final int code) {
+        this.code = code;
+    }
+
+    /**
+     * Get the code of this encoding, as stored in file footers.
+     *
+     * @return the code
+     */
+    public int code() {
+        return code;
+    }
+
+    /**
+     * Get the encoding with the given code.
+     *
+     * @param code the code
+     * @return the encoding
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public static ColumnEncoding fromCode(final int code) {
+        for (final ColumnEncoding encoding : values()) {
+            if (encoding.code == code) {
+                return encoding;
+            }
+        }
+        throw new IllegalArgumentException("Unknown column encoding " + code);
+    }
+}
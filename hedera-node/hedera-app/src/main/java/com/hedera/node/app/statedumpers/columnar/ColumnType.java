@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+/**
+ * The type of values stored in a column of a columnar state export file.
+ */
+public enum ColumnType {
+    /**
+     * Signed 64-bit integers. Booleans, enums and entity numbers are stored as longs, too.
+     */
+    LONG(0),
+    /**
+     * UTF-8 strings. May be null.
+     */
+    STRING(1),
+    /**
+     * Raw bytes. May be null.
+     */
+    BYTES(2);
+
+    private final int code;
+
+    ColumnType(final int code) {
+        this.code = code;
+    }
+
+    /**
+     * Get the code of this type, as stored in file footers.
+     *
+     * @return the code
+     */
+    public int code() {
+        return code;
+    }
+
+    /**
+     * Get the type with the given code.
+     *
+     * @param code the code
+     * @return the type
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public static ColumnType fromCode(final int code) {
+        for (final ColumnType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown column type " + code);
+    }
+}
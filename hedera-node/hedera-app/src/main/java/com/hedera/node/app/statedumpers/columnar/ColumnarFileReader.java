@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static com.hedera.node.app.statedumpers.columnar.ColumnarFileWriter.MAGIC;
+import static com.hedera.node.app.statedumpers.columnar.ColumnarFileWriter.VERSION;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.statedumpers.columnar.ColumnarFileWriter.RowGroupMetadata;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads a file written by {@link ColumnarFileWriter}.
+ *
+ * <p>Only the footer is loaded when the file is opened. Column chunks are read on demand, so a query that needs a
+ * few columns reads only those columns, and a scan over all rows keeps only one row group in memory at a time.
+ *
+ * <p>This class is not thread safe.
+ */
+public class ColumnarFileReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final List<String> columnNames;
+    private final List<ColumnType> columnTypes;
+    private final Map<String, Integer> columnIndices;
+    private final List<RowGroupMetadata> rowGroups;
+    private final long rowCount;
+
+    /**
+     * Open a file.
+     *
+     * @param path the file to read
+     * @throws IOException if the file can't be read or isn't a columnar state export file
+     */
+    public ColumnarFileReader(@NonNull final Path path) throws IOException {
+        requireNonNull(path);
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final ByteBuffer header = read(0, 2 * Integer.BYTES);
+            if (header.getInt() != MAGIC) {
+                throw new IOException(path + " is not a columnar state export file");
+            }
+            final int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported columnar state export file version " + version);
+            }
+
+            final long size = channel.size();
+            final ByteBuffer trailer = read(size - 2 * Integer.BYTES, 2 * Integer.BYTES);
+            final int footerLength = trailer.getInt();
+            if (trailer.getInt() != MAGIC) {
+                throw new IOException(path + " is truncated");
+            }
+            final ByteBuffer footerBuffer = read(size - 2 * Integer.BYTES - footerLength, footerLength);
+            final DataInputStream footer = new DataInputStream(new ByteArrayInputStream(
+                    footerBuffer.array(), footerBuffer.arrayOffset(), footerBuffer.remaining()));
+
+            final int columnCount = footer.readInt();
+            final List<String> names = new ArrayList<>(columnCount);
+            final List<ColumnType> types = new ArrayList<>(columnCount);
+            final Map<String, Integer> indices = new HashMap<>();
+            for (int i = 0; i < columnCount; i++) {
+                final String name = footer.readUTF();
+                names.add(name);
+                types.add(ColumnType.fromCode(footer.readByte()));
+                indices.put(name, i);
+            }
+            final int rowGroupCount = footer.readInt();
+            final List<RowGroupMetadata> groups = new ArrayList<>(rowGroupCount);
+            for (int i = 0; i < rowGroupCount; i++) {
+                final int groupRowCount = footer.readInt();
+                final ColumnEncoding[] encodings = new ColumnEncoding[columnCount];
+                final long[] offsets = new long[columnCount];
+                final int[] lengths = new int[columnCount];
+                for (int j = 0; j < columnCount; j++) {
+                    encodings[j] = ColumnEncoding.fromCode(footer.readByte());
+                    offsets[j] = footer.readLong();
+                    lengths[j] = footer.readInt();
+                }
+                groups.add(new RowGroupMetadata(groupRowCount, encodings, offsets, lengths));
+            }
+            rowCount = footer.readLong();
+
+            columnNames = Collections.unmodifiableList(names);
+            columnTypes = Collections.unmodifiableList(types);
+            columnIndices = indices;
+            rowGroups = groups;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the column names, in file order.
+     *
+     * @return the column names
+     */
+    @NonNull
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Get the type of a column.
+     *
+     * @param column the column name
+     * @return the column type
+     * @throws IllegalArgumentException if there is no such column
+     */
+    @NonNull
+    public ColumnType getColumnType(@NonNull final String column) {
+        return columnTypes.get(indexOf(column));
+    }
+
+    /**
+     * Get the total number of rows.
+     *
+     * @return the number of rows
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Get the number of row groups.
+     *
+     * @return the number of row groups
+     */
+    public int getRowGroupCount() {
+        return rowGroups.size();
+    }
+
+    /**
+     * Read the values of one column in one row group.
+     *
+     * @param rowGroup the row group index
+     * @param column   the column name
+     * @return the values, {@code long[]} for {@link ColumnType#LONG} columns, {@code String[]} for
+     * {@link ColumnType#STRING} columns, and {@code byte[][]} for {@link ColumnType#BYTES} columns
+     * @throws IOException if the chunk can't be read
+     */
+    @NonNull
+    public Object readColumn(final int rowGroup, @NonNull final String column) throws IOException {
+        final int index = indexOf(column);
+        final RowGroupMetadata metadata = rowGroups.get(rowGroup);
+        final ByteBuffer data = read(metadata.offsets()[index], metadata.lengths()[index]);
+        return ColumnCodec.decode(columnTypes.get(index), metadata.encodings()[index], data, metadata.rowCount());
+    }
+
+    /**
+     * Visit all rows, reading only the given columns. Each row is passed as an array of values in the order of the
+     * requested columns: {@link Long} for {@link ColumnType#LONG} columns, {@link String} for
+     * {@link ColumnType#STRING} columns, and {@code byte[]} for {@link ColumnType#BYTES} columns. The array is
+     * reused between rows.
+     *
+     * @param columns the columns to read
+     * @param visitor the row visitor
+     * @throws IOException if the file can't be read
+     */
+    public void forEachRow(@NonNull final List<String> columns, @NonNull final Consumer<Object[]> visitor)
+            throws IOException {
+        requireNonNull(columns);
+        requireNonNull(visitor);
+        final Object[] row = new Object[columns.size()];
+        final Object[] chunks = new Object[columns.size()];
+        for (int group = 0; group < rowGroups.size(); group++) {
+            for (int i = 0; i < columns.size(); i++) {
+                chunks[i] = readColumn(group, columns.get(i));
+            }
+            final int groupRowCount = rowGroups.get(group).rowCount();
+            for (int r = 0; r < groupRowCount; r++) {
+                for (int i = 0; i < chunks.length; i++) {
+                    row[i] = Array.get(chunks[i], r);
+                }
+                visitor.accept(row);
+            }
+        }
+    }
+
+    private int indexOf(@NonNull final String column) {
+        final Integer index = columnIndices.get(requireNonNull(column));
+        if (index == null) {
+            throw new IllegalArgumentException("No such column: " + column);
+        }
+        return index;
+    }
+
+    @NonNull
+    private ByteBuffer read(final long offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > channel.size()) {
+            throw new IOException("Invalid chunk at offset " + offset + " with length " + length);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file at " + position);
+            }
+            position += read;
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
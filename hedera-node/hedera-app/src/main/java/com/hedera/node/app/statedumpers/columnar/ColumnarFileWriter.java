@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.statedumpers.columnar.ColumnCodec.EncodedChunk;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Writes rows to a columnar state export file.
+ *
+ * <p>Rows are buffered in row groups. When a row group is full, each of its columns is encoded as a separate chunk,
+ * on the given executor, and the chunks are appended to the file in column order. When the writer is closed, a
+ * footer with the schema and the location of every chunk is written to the end of the file, so a reader can load
+ * any column of any row group without reading the rest of the file.
+ *
+ * <p>File layout:
+ * <pre>
+ * int magic, int version
+ * column chunks
+ * footer:
+ *     int column count, then per column: UTF name, byte type
+ *     int row group count, then per row group: int row count, then per column: byte encoding, long offset, int length
+ *     long total row count
+ * int footer length, int magic
+ * </pre>
+ *
+ * <p>This class is not thread safe.
+ *
+ * @param <T> the type of rows
+ */
+public class ColumnarFileWriter<T> implements AutoCloseable {
+
+    /**
+     * Marks the start and the end of a columnar state export file, "HCOL".
+     */
+    public static final int MAGIC = 0x48434F4C;
+
+    /**
+     * The file format version.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The default number of rows in a row group.
+     */
+    public static final int DEFAULT_ROW_GROUP_SIZE = 64 * 1024;
+
+    private final List<ColumnDefinition<T>> columns;
+    private final int rowGroupSize;
+    private final Executor executor;
+    private final DataOutputStream out;
+
+    /**
+     * Buffered values of the current row group, per column.
+     */
+    private final Object[][] buffer;
+
+    private int bufferedRows;
+    private long position;
+    private long rowCount;
+    private final List<RowGroupMetadata> rowGroups = new ArrayList<>();
+
+    /**
+     * Location of a row group in the file.
+     *
+     * @param rowCount  the number of rows in the group
+     * @param encodings the encoding of each column chunk
+     * @param offsets   the offset of each column chunk in the file
+     * @param lengths   the length of each column chunk
+     */
+    record RowGroupMetadata(
+            int rowCount, @NonNull ColumnEncoding[] encodings, @NonNull long[] offsets, @NonNull int[] lengths) {}
+
+    /**
+     * Create a new writer. An existing file at the path is replaced.
+     *
+     * @param path         the file to write
+     * @param columns      the columns to write
+     * @param rowGroupSize the number of rows in a row group
+     * @param executor     the executor to encode column chunks on
+     * @throws IOException if the file can't be created
+     */
+    public ColumnarFileWriter(
+            @NonNull final Path path,
+            @NonNull final List<ColumnDefinition<T>> columns,
+            final int rowGroupSize,
+            @NonNull final Executor executor)
+            throws IOException {
+        requireNonNull(path);
+        this.columns = List.copyOf(columns);
+        if (this.columns.isEmpty()) {
+            throw new IllegalArgumentException("At least one column is required");
+        }
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("Row group size must be positive");
+        }
+        this.rowGroupSize = rowGroupSize;
+        this.executor = requireNonNull(executor);
+        this.buffer = new Object[this.columns.size()][rowGroupSize];
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        position = 2L * Integer.BYTES;
+    }
+
+    /**
+     * Write a row.
+     *
+     * @param row the row
+     * @throws IOException if the row group can't be written
+     */
+    public void write(@NonNull final T row) throws IOException {
+        requireNonNull(row);
+        for (int i = 0; i < columns.size(); i++) {
+            final ColumnDefinition<T> column = columns.get(i);
+            final Object value = column.extractor().apply(row);
+            if (value == null && column.type() == ColumnType.LONG) {
+                throw new IllegalArgumentException("Column " + column.name() + " can't store null values");
+            }
+            buffer[i][bufferedRows] = value;
+        }
+        bufferedRows++;
+        rowCount++;
+        if (bufferedRows == rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    /**
+     * Get the number of rows written so far.
+     *
+     * @return the number of rows
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Encode the buffered rows, one task per column, and append the chunks to the file.
+     */
+    private void flushRowGroup() throws IOException {
+        if (bufferedRows == 0) {
+            return;
+        }
+        final int count = bufferedRows;
+        final List<CompletableFuture<EncodedChunk>> futures = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            final ColumnType type = columns.get(i).type();
+            final Object[] values = buffer[i];
+            futures.add(CompletableFuture.supplyAsync(() -> ColumnCodec.encode(type, values, count), executor));
+        }
+
+        final ColumnEncoding[] encodings = new ColumnEncoding[columns.size()];
+        final long[] offsets = new long[columns.size()];
+        final int[] lengths = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            final EncodedChunk chunk = futures.get(i).join();
+            encodings[i] = chunk.encoding();
+            offsets[i] = position;
+            lengths[i] = chunk.data().length;
+            out.write(chunk.data());
+            position += chunk.data().length;
+        }
+        rowGroups.add(new RowGroupMetadata(count, encodings, offsets, lengths));
+
+        for (final Object[] values : buffer) {
+            Arrays.fill(values, 0, count, null);
+        }
+        bufferedRows = 0;
+    }
+
+    /**
+     * Write the remaining rows and the footer, and close the file.
+     *
+     * @throws IOException if the file can't be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushRowGroup();
+            final byte[] footer = buildFooter();
+            out.write(footer);
+            out.writeInt(footer.length);
+            out.writeInt(MAGIC);
+        } finally {
+            out.close();
+        }
+    }
+
+    @NonNull
+    private byte[] buildFooter() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream footer = new DataOutputStream(bytes)) {
+            footer.writeInt(columns.size());
+            for (final ColumnDefinition<T> column : columns) {
+                footer.writeUTF(column.name());
+                footer.writeByte(column.type().code());
+            }
+            footer.writeInt(rowGroups.size());
+            for (final RowGroupMetadata rowGroup : rowGroups) {
+                footer.writeInt(rowGroup.rowCount());
+                for (int i = 0; i < columns.size(); i++) {
+                    footer.writeByte(rowGroup.encodings()[i].code());
+                    footer.writeLong(rowGroup.offsets()[i]);
+                    footer.writeInt(rowGroup.lengths()[i]);
+                }
+            }
+            footer.writeLong(rowCount);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import com.hedera.node.app.Hedera;
+import com.hedera.node.app.info.DiskStartupNetworks;
+import com.hedera.node.app.services.OrderedServiceMigrator;
+import com.hedera.node.app.services.ServicesRegistryImpl;
+import com.hedera.node.app.tss.TssBaseServiceImpl;
+import com.hedera.node.app.tss.TssLibraryImpl;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.platform.config.DefaultConfiguration;
+import com.swirlds.platform.state.signed.ReservedSignedState;
+import com.swirlds.platform.state.snapshot.SignedStateFileReader;
+import com.swirlds.platform.util.BootstrapUtils;
+import com.swirlds.state.merkle.MerkleStateRoot;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Exports a saved signed state to columnar files with {@link ColumnarStateExporter}, without starting a node.
+ *
+ * <p>Usage: {@code ColumnarStateExportTool <path to SignedState.swh> <output directory> [thread count]}
+ *
+ * <p>The working directory should contain the node's {@code settings.txt}, if any, so the state is loaded with the
+ * same configuration it was saved with.
+ */
+public final class ColumnarStateExportTool {
+    private static final Logger logger = LogManager.getLogger(ColumnarStateExportTool.class);
+
+    private static final String USAGE =
+            "Usage: ColumnarStateExportTool <SignedState.swh> <output directory> [thread count]";
+
+    /**
+     * The command line arguments of the tool.
+     *
+     * @param statePath       the absolute path of the signed state file
+     * @param outputDirectory the absolute path of the directory to write files to
+     * @param threadCount     the number of threads to encode column chunks on
+     */
+    record Arguments(@NonNull Path statePath, @NonNull Path outputDirectory, int threadCount) {}
+
+    private ColumnarStateExportTool() {}
+
+    public static void main(final String... args) throws Exception {
+        final Arguments arguments;
+        try {
+            arguments = parseArguments(args);
+        } catch (final IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+        final Path statePath = arguments.statePath();
+        final Path outputDirectory = arguments.outputDirectory();
+        final int threadCount = arguments.threadCount();
+
+        BootstrapUtils.setupConstructableRegistry();
+        final Configuration configuration = DefaultConfiguration.buildBasicConfiguration(ConfigurationBuilder.create());
+        BootstrapUtils.setupConstructableRegistryWithConfiguration(configuration);
+        registerServiceConstructables();
+
+        logger.info("Loading state from {}", statePath);
+        try (final ReservedSignedState signedState =
+                SignedStateFileReader.readStateFile(configuration, statePath).reservedSignedState()) {
+            if (!(signedState.get().getState() instanceof MerkleStateRoot<?> state)) {
+                throw new IllegalStateException("Expected a " + MerkleStateRoot.class.getSimpleName());
+            }
+            logger.info("Exporting state of round {} to {}", signedState.get().getRound(), outputDirectory);
+            new ColumnarStateExporter(outputDirectory, threadCount, ColumnarFileWriter.DEFAULT_ROW_GROUP_SIZE)
+                    .export(state);
+        }
+    }
+
+    /**
+     * Parse the command line arguments. The thread count defaults to the number of processors.
+     *
+     * @param args the command line arguments
+     * @return the parsed arguments
+     * @throws IllegalArgumentException if the arguments are invalid
+     */
+    @NonNull
+    static Arguments parseArguments(@NonNull final String... args) {
+        if (args.length < 2 || args.length > 3) {
+            throw new IllegalArgumentException("Expected 2 or 3 arguments, got " + args.length);
+        }
+        final int threadCount;
+        try {
+            threadCount = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Thread count is not a number: " + args[2], e);
+        }
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threadCount);
+        }
+        return new Arguments(Path.of(args[0]).toAbsolutePath(), Path.of(args[1]).toAbsolutePath(), threadCount);
+    }
+
+    /**
+     * Creating {@link Hedera} registers the schemas of all services, which is required to deserialize the state.
+     * Nothing else is started.
+     */
+    private static void registerServiceConstructables() {
+        new Hedera(
+                ConstructableRegistry.getInstance(),
+                ServicesRegistryImpl::new,
+                new OrderedServiceMigrator(),
+                InstantSource.system(),
+                appContext -> new TssBaseServiceImpl(
+                        appContext,
+                        ForkJoinPool.commonPool(),
+                        ForkJoinPool.commonPool(),
+                        new TssLibraryImpl(appContext),
+                        ForkJoinPool.commonPool(),
+                        new NoOpMetrics()),
+                DiskStartupNetworks::new,
+                NodeId.of(0));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.NFTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKENS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKEN_RELS_KEY;
+import static com.hedera.node.app.statedumpers.columnar.ColumnDefinition.ofBoolean;
+import static com.hedera.node.app.statedumpers.columnar.ColumnDefinition.ofBytes;
+import static com.hedera.node.app.statedumpers.columnar.ColumnDefinition.ofLong;
+import static com.hedera.node.app.statedumpers.columnar.ColumnDefinition.ofString;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.state.token.Nft;
+import com.hedera.hapi.node.state.token.Token;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.node.app.service.token.TokenService;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.iterators.MerkleIterator;
+import com.swirlds.state.merkle.MerkleStateRoot;
+import com.swirlds.state.merkle.disk.OnDiskValue;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.internal.merkle.VirtualLeafNode;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Exports the {@link VirtualMap}-backed token service states of a {@link MerkleStateRoot} to columnar files, one
+ * file per state, for analytics. See {@link ColumnarFileWriter} for the file format and {@link ColumnarFileReader}
+ * to query the files.
+ *
+ * <p>Every state is exported on its own thread, streaming the leaves of its virtual map, so only one row group per
+ * state is held in memory. Column chunks are encoded in parallel on a shared pool.
+ */
+public class ColumnarStateExporter {
+    private static final Logger logger = LogManager.getLogger(ColumnarStateExporter.class);
+
+    /**
+     * The extension of exported files.
+     */
+    public static final String FILE_EXTENSION = ".hcol";
+
+    /**
+     * A state to export.
+     *
+     * @param fileName    the name of the exported file, without extension
+     * @param serviceName the service that owns the state
+     * @param stateKey    the state key
+     * @param columns     the columns to export from state values
+     */
+    private record ExportedState<V>(
+            @NonNull String fileName,
+            @NonNull String serviceName,
+            @NonNull String stateKey,
+            @NonNull List<ColumnDefinition<V>> columns) {}
+
+    private static final List<ExportedState<?>> EXPORTED_STATES = List.of(
+            new ExportedState<>("accounts", TokenService.NAME, ACCOUNTS_KEY, accountColumns()),
+            new ExportedState<>("tokens", TokenService.NAME, TOKENS_KEY, tokenColumns()),
+            new ExportedState<>("nfts", TokenService.NAME, NFTS_KEY, nftColumns()),
+            new ExportedState<>("tokenRelations", TokenService.NAME, TOKEN_RELS_KEY, tokenRelationColumns()));
+
+    private final Path outputDirectory;
+    private final int threadCount;
+    private final int rowGroupSize;
+
+    /**
+     * Create a new exporter.
+     *
+     * @param outputDirectory the directory to write files to, created if missing
+     * @param threadCount     the number of threads to encode column chunks on
+     * @param rowGroupSize    the number of rows in a row group
+     */
+    public ColumnarStateExporter(@NonNull final Path outputDirectory, final int threadCount, final int rowGroupSize) {
+        this.outputDirectory = requireNonNull(outputDirectory);
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("Row group size must be positive");
+        }
+        this.threadCount = threadCount;
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    /**
+     * Export all states. States missing from the given state are skipped.
+     *
+     * @param state the state to export
+     * @throws IOException if a file can't be written
+     */
+    public void export(@NonNull final MerkleStateRoot<?> state) throws IOException {
+        requireNonNull(state);
+        Files.createDirectories(outputDirectory);
+        final ExecutorService stateExecutor = Executors.newFixedThreadPool(EXPORTED_STATES.size());
+        final ForkJoinPool encoderPool = new ForkJoinPool(threadCount);
+        try {
+            final List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (final ExportedState<?> exportedState : EXPORTED_STATES) {
+                futures.add(CompletableFuture.runAsync(
+                        () -> exportState(state, exportedState, encoderPool), stateExecutor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        } finally {
+            stateExecutor.shutdownNow();
+            encoderPool.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> void exportState(
+            @NonNull final MerkleStateRoot<?> state,
+            @NonNull final ExportedState<V> exportedState,
+            @NonNull final ForkJoinPool encoderPool) {
+        final int index = state.findNodeIndex(exportedState.serviceName(), exportedState.stateKey());
+        if (index < 0) {
+            logger.warn("State {}.{} not found, skipping", exportedState.serviceName(), exportedState.stateKey());
+            return;
+        }
+        final VirtualMap<?, ?> map = requireNonNull(state.getChild(index));
+        final Path path = outputDirectory.resolve(exportedState.fileName() + FILE_EXTENSION);
+        final long start = System.currentTimeMillis();
+        final long rowCount;
+        try (final ColumnarFileWriter<V> writer =
+                new ColumnarFileWriter<>(path, exportedState.columns(), rowGroupSize, encoderPool)) {
+            // Leaves already hold their values, so there is no need to look every key up in the map
+            final MerkleIterator<MerkleNode> nodes = map.treeIterator();
+            while (nodes.hasNext()) {
+                if (nodes.next() instanceof VirtualLeafNode<?, ?> leaf
+                        && leaf.getValue() instanceof OnDiskValue<?> value) {
+                    writer.write((V) value.getValue());
+                }
+            }
+            rowCount = writer.getRowCount();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info(
+                "Exported {} rows of {}.{} to {} in {} ms",
+                rowCount,
+                exportedState.serviceName(),
+                exportedState.stateKey(),
+                path,
+                System.currentTimeMillis() - start);
+    }
+
+    @NonNull
+    private static List<ColumnDefinition<Account>> accountColumns() {
+        return List.of(
+                ofLong("accountNum", a -> accountNum(a.accountId())),
+                ofBytes("alias", Account::alias),
+                ofLong("expirationSecond", Account::expirationSecond),
+                ofLong("tinybarBalance", Account::tinybarBalance),
+                ofString("memo", Account::memo),
+                ofBoolean("deleted", Account::deleted),
+                ofLong("stakedToMe", Account::stakedToMe),
+                ofLong("stakePeriodStart", Account::stakePeriodStart),
+                ofLong("stakedAccountNum", a -> accountNum(a.stakedAccountId())),
+                ofLong("stakedNodeId", a -> a.stakedNodeIdOrElse(-1L)),
+                ofBoolean("declineReward", Account::declineReward),
+                ofBoolean("receiverSigRequired", Account::receiverSigRequired),
+                ofLong("headTokenNum", a -> tokenNum(a.headTokenId())),
+                ofLong("headNftTokenNum", a -> a.headNftId() == null ? 0L : tokenNum(a.headNftId().tokenId())),
+                ofLong("headNftSerialNumber", Account::headNftSerialNumber),
+                ofLong("numberOwnedNfts", Account::numberOwnedNfts),
+                ofLong("maxAutoAssociations", Account::maxAutoAssociations),
+                ofLong("usedAutoAssociations", Account::usedAutoAssociations),
+                ofLong("numberAssociations", Account::numberAssociations),
+                ofBoolean("smartContract", Account::smartContract),
+                ofLong("numberPositiveBalances", Account::numberPositiveBalances),
+                ofLong("ethereumNonce", Account::ethereumNonce),
+                ofLong("autoRenewAccountNum", a -> accountNum(a.autoRenewAccountId())),
+                ofLong("autoRenewSeconds", Account::autoRenewSeconds),
+                ofLong("contractKvPairsNumber", Account::contractKvPairsNumber),
+                ofLong("numberTreasuryTitles", Account::numberTreasuryTitles),
+                ofBoolean("expiredAndPendingRemoval", Account::expiredAndPendingRemoval),
+                ofLong("numberPendingAirdrops", Account::numberPendingAirdrops));
+    }
+
+    @NonNull
+    private static List<ColumnDefinition<Token>> tokenColumns() {
+        return List.of(
+                ofLong("tokenNum", t -> tokenNum(t.tokenId())),
+                ofString("name", Token::name),
+                ofString("symbol", Token::symbol),
+                ofLong("decimals", Token::decimals),
+                ofLong("totalSupply", Token::totalSupply),
+                ofLong("treasuryAccountNum", t -> accountNum(t.treasuryAccountId())),
+                ofLong("lastUsedSerialNumber", Token::lastUsedSerialNumber),
+                ofBoolean("deleted", Token::deleted),
+                ofString("tokenType", t -> t.tokenType().protoName()),
+                ofString("supplyType", t -> t.supplyType().protoName()),
+                ofLong("autoRenewAccountNum", t -> accountNum(t.autoRenewAccountId())),
+                ofLong("autoRenewSeconds", Token::autoRenewSeconds),
+                ofLong("expirationSecond", Token::expirationSecond),
+                ofString("memo", Token::memo),
+                ofLong("maxSupply", Token::maxSupply),
+                ofBoolean("paused", Token::paused),
+                ofBoolean("accountsFrozenByDefault", Token::accountsFrozenByDefault),
+                ofBoolean("accountsKycGrantedByDefault", Token::accountsKycGrantedByDefault),
+                ofLong("customFeeCount", t -> t.customFees().size()),
+                ofBytes("metadata", Token::metadata));
+    }
+
+    @NonNull
+    private static List<ColumnDefinition<Nft>> nftColumns() {
+        return List.of(
+                ofLong("tokenNum", n -> n.nftId() == null ? 0L : tokenNum(n.nftId().tokenId())),
+                ofLong("serialNumber", n -> n.nftId() == null ? 0L : n.nftId().serialNumber()),
+                ofLong("ownerNum", n -> accountNum(n.ownerId())),
+                ofLong("spenderNum", n -> accountNum(n.spenderId())),
+                ofLong("mintTimeSeconds", n -> n.mintTime() == null ? 0L : n.mintTime().seconds()),
+                ofLong("mintTimeNanos", n -> n.mintTime() == null ? 0L : n.mintTime().nanos()),
+                ofBytes("metadata", Nft::metadata));
+    }
+
+    @NonNull
+    private static List<ColumnDefinition<TokenRelation>> tokenRelationColumns() {
+        return List.of(
+                ofLong("accountNum", r -> accountNum(r.accountId())),
+                ofLong("tokenNum", r -> tokenNum(r.tokenId())),
+                ofLong("balance", TokenRelation::balance),
+                ofBoolean("frozen", TokenRelation::frozen),
+                ofBoolean("kycGranted", TokenRelation::kycGranted),
+                ofBoolean("automaticAssociation", TokenRelation::automaticAssociation));
+    }
+
+    private static long accountNum(@Nullable final AccountID accountId) {
+        return accountId == null ? 0L : accountId.accountNumOrElse(0L);
+    }
+
+    private static long tokenNum(@Nullable final TokenID tokenId) {
+        return tokenId == null ? 0L : tokenId.tokenNum();
+    }
+}
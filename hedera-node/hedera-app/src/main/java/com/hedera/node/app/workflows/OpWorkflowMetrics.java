@@ -25,6 +25,7 @@ import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.RunningAverageMetric.Config;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.IntegerAccumulator;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -83,7 +84,12 @@ public class OpWorkflowMetrics {
                     .withDescription("The average duration of a " + name + " transaction in nanoseconds")
                     .withUnit("ns");
             final var avgMetric = metrics.getOrCreate(avgConfig);
-            transactionDurationMetrics.put(functionality, new TransactionMetric(maxMetric, avgMetric));
+            final var histogramConfig = new Histogram.Config("app", name + "DurationHist")
+                    .withDescription("The distribution of the duration of a " + name + " transaction in nanoseconds")
+                    .withUnit("ns");
+            final var histogramMetric = metrics.getOrCreate(histogramConfig);
+            transactionDurationMetrics.put(
+                    functionality, new TransactionMetric(maxMetric, avgMetric, histogramMetric));
 
             // initialize the transaction throttle metrics
             final var throttledConfig = new Counter.Config("app", name + "ThrottledTxns")
@@ -114,6 +120,7 @@ public class OpWorkflowMetrics {
             // the updates would introduce a severe performance penalty.
             metric.max.update(duration);
             metric.avg.update(duration, 1);
+            metric.histogram.update(duration);
         }
     }
 
@@ -143,5 +150,6 @@ public class OpWorkflowMetrics {
         gasUsedThisConsensusSecond += gasUsed;
     }
 
-    private record TransactionMetric(IntegerAccumulator max, IntegerPairAccumulator<Integer> avg) {}
+    private record TransactionMetric(
+            IntegerAccumulator max, IntegerPairAccumulator<Integer> avg, Histogram histogram) {}
 }
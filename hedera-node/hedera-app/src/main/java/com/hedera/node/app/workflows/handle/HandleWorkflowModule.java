@@ -30,8 +30,6 @@ import com.hedera.node.app.state.WorkingStateAccessor;
 import com.hedera.node.app.tss.TssBaseService;
 import com.hedera.node.app.tss.handlers.TssHandlers;
 import com.hedera.node.app.workflows.dispatcher.TransactionHandlers;
-import com.hedera.node.config.ConfigProvider;
-import com.hedera.node.config.data.CacheConfig;
 import com.swirlds.common.utility.AutoCloseableWrapper;
 import com.swirlds.state.State;
 import dagger.Module;
@@ -72,14 +70,6 @@ public interface HandleWorkflowModule {
         return () -> new AutoCloseableWrapper<>(workingStateAccessor.getState(), NO_OP);
     }
 
-    @Provides
-    @Named("CacheWarmer")
-    static Executor provideCacheWarmerExecutor(@NonNull final ConfigProvider configProvider) {
-        final var config = configProvider.getConfiguration();
-        final int parallelism = config.getConfigData(CacheConfig.class).warmThreads();
-        return new ForkJoinPool(parallelism);
-    }
-
     @Provides
     @Named("FreezeService")
     static Executor provideFreezeServiceExecutor() {
@@ -49,6 +49,7 @@ import com.hedera.node.app.workflows.handle.stack.savepoints.BuilderSinkImpl;
 import com.hedera.node.app.workflows.handle.stack.savepoints.FirstChildSavepoint;
 import com.hedera.node.app.workflows.handle.stack.savepoints.FirstRootSavepoint;
 import com.hedera.node.app.workflows.handle.stack.savepoints.FollowingSavepoint;
+import com.hedera.node.app.workflows.handle.stack.savepoints.JournaledSavepoint;
 import com.hedera.node.config.types.StreamMode;
 import com.swirlds.state.State;
 import com.swirlds.state.spi.ReadableStates;
@@ -91,6 +92,12 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
 
     private final StreamMode streamMode;
 
+    /**
+     * If not null, savepoints created after the first one are journaled instead of wrapping their parent's state
+     */
+    @Nullable
+    private StateJournal journal;
+
     /**
      * Constructs the root {@link SavepointStackImpl} for the given state at the start of handling a user transaction.
      *
@@ -188,13 +195,18 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         this.builderSink = null;
         this.kvStateChangeListener = null;
         this.roundStateChangeListener = null;
+        this.journal = parent.journal == null ? null : new StateJournal();
         setupFirstSavepoint(category);
         baseBuilder = peek().createBuilder(reversingBehavior, category, customizer, streamMode, true);
     }
 
     @Override
     public void createSavepoint() {
-        stack.push(new FollowingSavepoint(new WrappedState(peek().state()), peek()));
+        if (journal != null) {
+            stack.push(new JournaledSavepoint(peek(), journal));
+        } else {
+            stack.push(new FollowingSavepoint(new WrappedState(peek().state()), peek()));
+        }
     }
 
     @Override
@@ -218,6 +230,31 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         return stack.size();
     }
 
+    /**
+     * Makes all savepoints created after the first one in this stack, and in any child stack created from it later,
+     * write through to the state of the first savepoint and undo their changes from a {@link StateJournal} on
+     * rollback. This makes nested savepoints cheap to create and commit, at the cost of a journal entry per write.
+     *
+     * @throws IllegalStateException if savepoints other than the first one have already been created
+     */
+    public void journalSavepoints() {
+        if (stack.size() > 1) {
+            throw new IllegalStateException("Savepoints cannot be journaled after they were created");
+        }
+        journal = new StateJournal();
+    }
+
+    /**
+     * Returns the journal in which modifications of the writable states of this stack must be recorded, if any.
+     * Used only by the {@link WritableStatesStack}, not part of the public API.
+     *
+     * @return the journal, or null if no journaled savepoint is open
+     */
+    @Nullable
+    StateJournal activeJournal() {
+        return journal != null && journal.isOpen() ? journal : null;
+    }
+
     /**
      * Commits all state changes captured in this stack, without capturing the details
      * for the block stream.
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.stack;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.state.spi.WritableKVState;
+import com.swirlds.state.spi.WritableKVStateBase;
+import com.swirlds.state.spi.WritableQueueState;
+import com.swirlds.state.spi.WritableQueueStateBase;
+import com.swirlds.state.spi.WritableSingletonState;
+import com.swirlds.state.spi.WritableSingletonStateBase;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A flat undo log for the writable states of the first savepoint in a {@link SavepointStackImpl}. Instead of
+ * wrapping the state of their parent, journaled savepoints write through to the state of the first savepoint, and
+ * every modification made while at least one journaled savepoint is open first records how to undo itself here.
+ * <p>
+ * A savepoint remembers the size of the journal when it is opened, as its <i>mark</i>. Rolling the savepoint back
+ * undoes the entries above its mark in reverse order, so its cost is proportional to the number of writes being
+ * undone. Committing the savepoint does nothing but close it, since its writes are already in the parent; the entries
+ * are kept in case an enclosing savepoint is rolled back, and dropped once the outermost savepoint is closed.
+ */
+public class StateJournal {
+    private final List<Runnable> undoActions = new ArrayList<>();
+    private int numOpenSavepoints;
+
+    /**
+     * Opens a new savepoint and returns its mark.
+     *
+     * @return the mark of the new savepoint
+     */
+    public int open() {
+        numOpenSavepoints++;
+        return undoActions.size();
+    }
+
+    /**
+     * Whether any savepoint is open, meaning modifications must be journaled.
+     *
+     * @return true if a savepoint is open
+     */
+    public boolean isOpen() {
+        return numOpenSavepoints > 0;
+    }
+
+    /**
+     * Closes the savepoint with the given mark, keeping its modifications.
+     *
+     * @param mark the mark of the savepoint
+     */
+    public void commit(final int mark) {
+        close(mark);
+        if (numOpenSavepoints == 0) {
+            undoActions.clear();
+        }
+    }
+
+    /**
+     * Closes the savepoint with the given mark, undoing all modifications journaled since it was opened.
+     *
+     * @param mark the mark of the savepoint
+     */
+    public void rollback(final int mark) {
+        close(mark);
+        for (int i = undoActions.size() - 1; i >= mark; i--) {
+            undoActions.remove(i).run();
+        }
+    }
+
+    /**
+     * Records how to undo the next modification of the given key in the given state.
+     *
+     * @param state the state about to be modified
+     * @param key the key about to be modified
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public <K, V> void recordKVChange(@NonNull final WritableKVState<K, V> state, @NonNull final K key) {
+        final var base = baseOf(state, WritableKVStateBase.class);
+        @SuppressWarnings("unchecked")
+        final WritableKVStateBase<K, V> kvState = base;
+        final var wasModified = kvState.hasModification(key);
+        final var previousValue = wasModified ? kvState.get(key) : null;
+        undoActions.add(() -> kvState.restoreModification(key, wasModified, previousValue));
+    }
+
+    /**
+     * Records how to undo the next modification of the given singleton state.
+     *
+     * @param state the state about to be modified
+     */
+    public void recordSingletonChange(@NonNull final WritableSingletonState<?> state) {
+        final var singletonState = baseOf(state, WritableSingletonStateBase.class);
+        final var snapshot = singletonState.modificationSnapshot();
+        undoActions.add(() -> singletonState.restoreModification(snapshot));
+    }
+
+    /**
+     * Records how to undo the next modification of the given queue state.
+     *
+     * @param state the state about to be modified
+     */
+    public void recordQueueChange(@NonNull final WritableQueueState<?> state) {
+        final var queueState = baseOf(state, WritableQueueStateBase.class);
+        final var checkpoint = queueState.checkpoint();
+        undoActions.add(() -> queueState.rollbackTo(checkpoint));
+    }
+
+    private void close(final int mark) {
+        if (numOpenSavepoints == 0 || mark > undoActions.size()) {
+            throw new IllegalStateException("No open savepoint with mark " + mark);
+        }
+        numOpenSavepoints--;
+    }
+
+    private static <T> T baseOf(@NonNull final Object state, @NonNull final Class<T> baseType) {
+        requireNonNull(state);
+        if (!baseType.isInstance(state)) {
+            throw new IllegalStateException("Cannot journal changes to a " + state.getClass().getName());
+        }
+        return baseType.cast(state);
+    }
+}
@@ -93,12 +93,22 @@ public class WritableKVStateStack<K, V> implements WritableKVState<K, V> {
 
     @Override
     public void put(@NonNull final K key, @NonNull final V value) {
-        getCurrent().put(key, value);
+        final var current = getCurrent();
+        final var journal = writableStatesStack.activeJournal();
+        if (journal != null) {
+            journal.recordKVChange(current, key);
+        }
+        current.put(key, value);
     }
 
     @Override
     public void remove(@NonNull final K key) {
-        getCurrent().remove(key);
+        final var current = getCurrent();
+        final var journal = writableStatesStack.activeJournal();
+        if (journal != null) {
+            journal.recordKVChange(current, key);
+        }
+        current.remove(key);
     }
 
     @Override
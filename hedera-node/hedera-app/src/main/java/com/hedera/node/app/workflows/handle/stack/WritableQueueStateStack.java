@@ -86,12 +86,22 @@ public class WritableQueueStateStack<E> implements WritableQueueState<E> {
 
     @Override
     public void add(@NonNull E element) {
-        getCurrent().add(element);
+        final var current = getCurrent();
+        final var journal = writableStatesStack.activeJournal();
+        if (journal != null) {
+            journal.recordQueueChange(current);
+        }
+        current.add(element);
     }
 
     @Nullable
     @Override
     public E removeIf(@NonNull Predicate<E> predicate) {
-        return getCurrent().removeIf(predicate);
+        final var current = getCurrent();
+        final var journal = writableStatesStack.activeJournal();
+        if (journal != null) {
+            journal.recordQueueChange(current);
+        }
+        return current.removeIf(predicate);
     }
 }
@@ -82,7 +82,12 @@ public class WritableSingletonStateStack<T> implements WritableSingletonState<T>
 
     @Override
     public void put(@Nullable final T value) {
-        getCurrent().put(value);
+        final var current = getCurrent();
+        final var journal = writableStatesStack.activeJournal();
+        if (journal != null) {
+            journal.recordSingletonChange(current);
+        }
+        current.put(value);
     }
 
     @Override
@@ -24,6 +24,7 @@ import com.swirlds.state.spi.WritableQueueState;
 import com.swirlds.state.spi.WritableSingletonState;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Set;
 
 /**
@@ -62,6 +63,18 @@ public class WritableStatesStack implements WritableStates {
         return stack.peek().state().getWritableStates(statesName);
     }
 
+    /**
+     * Returns the journal in which modifications must be recorded before they are made to the current
+     * {@link WritableStates}, if any. Package-private, because it should only be called by
+     * {@link WritableKVStateStack} {@link WritableSingletonStateStack}, and {@link WritableQueueStateStack}.
+     *
+     * @return the journal, or null if modifications need not be journaled
+     */
+    @Nullable
+    StateJournal activeJournal() {
+        return stack.activeJournal();
+    }
+
     /**
      * Returns the root {@link ReadableStates} of the stack. Package-private, because it should only be called by
      * {@link WritableKVStateStack}.
@@ -96,7 +96,7 @@ public abstract class AbstractSavepoint extends BuilderSinkImpl implements Savep
         assertNotFinished();
 
         commitBuilders();
-        state.commit();
+        commitState();
         status = Status.FINISHED;
     }
 
@@ -104,6 +104,7 @@ public abstract class AbstractSavepoint extends BuilderSinkImpl implements Savep
     public void rollback() {
         assertNotFinished();
 
+        rollbackState();
         rollback(precedingBuilders);
         rollback(followingBuilders);
         commitBuilders();
@@ -145,6 +146,21 @@ public abstract class AbstractSavepoint extends BuilderSinkImpl implements Savep
      */
     abstract void commitBuilders();
 
+    /**
+     * Commits the state changes made in this savepoint to the state it is based on.
+     */
+    void commitState() {
+        state.commit();
+    }
+
+    /**
+     * Discards the state changes made in this savepoint. By default, there is nothing to do, since the changes are
+     * buffered in a {@link WrappedState} that is simply dropped.
+     */
+    void rollbackState() {
+        // No-op
+    }
+
     private void rollback(@NonNull final List<StreamBuilder> builders) {
         var iterator = builders.listIterator();
         while (iterator.hasNext()) {
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.stack.savepoints;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.state.WrappedState;
+import com.hedera.node.app.workflows.handle.stack.Savepoint;
+import com.hedera.node.app.workflows.handle.stack.StateJournal;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A savepoint following the first savepoint of a stack that does not buffer its state changes in a new
+ * {@link WrappedState}, but writes them through to the state of its parent and relies on a {@link StateJournal}
+ * to undo them on rollback. Creating and committing such a savepoint is O(1), no matter how deeply nested.
+ */
+public class JournaledSavepoint extends FollowingSavepoint {
+    private final StateJournal journal;
+    private final int mark;
+
+    /**
+     * Constructs a {@link JournaledSavepoint} sharing the state of the given parent.
+     * @param parent the parent savepoint, which must itself be based on a {@link WrappedState}
+     * @param journal the journal of the stack
+     */
+    public JournaledSavepoint(@NonNull final Savepoint parent, @NonNull final StateJournal journal) {
+        super((WrappedState) parent.state(), parent);
+        this.journal = requireNonNull(journal);
+        this.mark = journal.open();
+    }
+
+    @Override
+    void commitState() {
+        journal.commit(mark);
+    }
+
+    @Override
+    void rollbackState() {
+        journal.rollback(mark);
+    }
+}
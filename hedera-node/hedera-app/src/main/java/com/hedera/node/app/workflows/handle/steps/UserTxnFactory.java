@@ -370,13 +370,17 @@ public class UserTxnFactory {
         final var maxPrecedingRecords = (type == GENESIS_TRANSACTION || type == POST_UPGRADE_TRANSACTION)
                 ? Integer.MAX_VALUE
                 : consensusConfig.handleMaxPrecedingRecords();
-        return SavepointStackImpl.newRootStack(
+        final var stack = SavepointStackImpl.newRootStack(
                 state,
                 maxPrecedingRecords,
                 consensusConfig.handleMaxFollowingRecords(),
                 boundaryStateChangeListener,
                 kvStateChangeListener,
                 blockStreamConfig.streamMode());
+        if (consensusConfig.handleJournaledSavepoints()) {
+            stack.journalSavepoints();
+        }
+        return stack;
     }
 
     private PreHandleResult preHandleSyntheticTransaction(
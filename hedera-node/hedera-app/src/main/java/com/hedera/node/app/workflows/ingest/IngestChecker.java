@@ -291,7 +291,7 @@ public final class IngestChecker {
         }
 
         // Verify the signatures
-        final var results = signatureVerifier.verify(txInfo.signedBytes(), expandedSigs);
+        final var results = signatureVerifier.verifyAndRemember(txInfo.signedBytes(), expandedSigs);
         final var verifier = new DefaultKeyVerifier(sigPairs.size(), hederaConfig, results);
         final SignatureVerification payerKeyVerification;
         if (!isHollow(payer)) {
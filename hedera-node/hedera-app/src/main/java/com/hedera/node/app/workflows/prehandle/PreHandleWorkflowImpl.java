@@ -54,8 +54,12 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -95,6 +99,37 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * Used for registering notice of transactionIDs seen by this node
      */
     private final DeduplicationCache deduplicationCache;
+    /**
+     * The dedicated executor that transactions are pre-handled on, so that other background work running on shared
+     * pools cannot delay signature verification
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Creates a new instance of {@code PreHandleWorkflowImpl} that pre-handles transactions on the common pool.
+     *
+     * @param dispatcher the {@link TransactionDispatcher} for invoking the {@link TransactionHandler} for each
+     * transaction.
+     * @param transactionChecker the {@link TransactionChecker} for parsing and verifying the transaction
+     * @param signatureVerifier the {@link SignatureVerifier} to verify signatures
+     * @throws NullPointerException if any of the parameters is {@code null}
+     */
+    public PreHandleWorkflowImpl(
+            @NonNull final TransactionDispatcher dispatcher,
+            @NonNull final TransactionChecker transactionChecker,
+            @NonNull final SignatureVerifier signatureVerifier,
+            @NonNull final SignatureExpander signatureExpander,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final DeduplicationCache deduplicationCache) {
+        this(
+                dispatcher,
+                transactionChecker,
+                signatureVerifier,
+                signatureExpander,
+                configProvider,
+                deduplicationCache,
+                ForkJoinPool.commonPool());
+    }
 
     /**
      * Creates a new instance of {@code PreHandleWorkflowImpl}.
@@ -103,6 +138,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * transaction.
      * @param transactionChecker the {@link TransactionChecker} for parsing and verifying the transaction
      * @param signatureVerifier the {@link SignatureVerifier} to verify signatures
+     * @param executor the executor to pre-handle transactions on; if its threads belong to a {@link ForkJoinPool}, the
+     * transactions of an event are pre-handled in parallel on those threads
      * @throws NullPointerException if any of the parameters is {@code null}
      */
     @Inject
@@ -112,7 +149,9 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final SignatureVerifier signatureVerifier,
             @NonNull final SignatureExpander signatureExpander,
             @NonNull final ConfigProvider configProvider,
-            @NonNull final DeduplicationCache deduplicationCache) {
+            @NonNull final DeduplicationCache deduplicationCache,
+            @NonNull @Named("PreHandle") final ExecutorService executor) {
+        this.executor = requireNonNull(executor);
         this.dispatcher = requireNonNull(dispatcher);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.signatureVerifier = requireNonNull(signatureVerifier);
@@ -137,7 +176,18 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         // Used for looking up payer account information.
         final var accountStore = readableStoreFactory.getStore(ReadableAccountStore.class);
 
-        // In parallel, we will pre-handle each transaction.
+        // In parallel, we will pre-handle each transaction. The parallel stream is started from a task on the
+        // pre-handle executor, so that its work is split across that executor's threads and not the common pool.
+        CompletableFuture.runAsync(
+                        () -> preHandleAll(readableStoreFactory, creator, accountStore, transactions), executor)
+                .join();
+    }
+
+    private void preHandleAll(
+            @NonNull final ReadableStoreFactory readableStoreFactory,
+            @NonNull final AccountID creator,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final Stream<Transaction> transactions) {
         transactions.parallel().forEach(tx -> {
             if (tx.isSystem()) return;
             try {
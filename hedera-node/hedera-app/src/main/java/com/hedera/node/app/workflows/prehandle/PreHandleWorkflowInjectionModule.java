@@ -22,9 +22,6 @@ import com.hedera.node.app.signature.impl.SignatureExpanderImpl;
 import com.hedera.node.app.signature.impl.SignatureVerifierImpl;
 import dagger.Binds;
 import dagger.Module;
-import dagger.Provides;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 
 @Module
 public interface PreHandleWorkflowInjectionModule {
@@ -36,9 +33,4 @@ public interface PreHandleWorkflowInjectionModule {
 
     @Binds
     SignatureExpander bindSignatureExpander(SignatureExpanderImpl signatureExpander);
-
-    @Provides
-    static ExecutorService provideExecutorService() {
-        return ForkJoinPool.commonPool();
-    }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.query;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTOGET_ACCOUNT_BALANCE;
+import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_GET_INFO;
+import static com.hedera.hapi.node.base.HederaFunctionality.TRANSACTION_GET_RECEIPT;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.UNKNOWN;
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.QueryHeader;
+import com.hedera.hapi.node.base.ResponseHeader;
+import com.hedera.hapi.node.transaction.Query;
+import com.hedera.hapi.node.transaction.Response;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A read-through cache of {@code ANSWER_ONLY} responses to the hot, state-only queries that wallets and explorers
+ * poll (account balances, token info, and final receipts).
+ *
+ * <p>Queries are answered from the working state, which the handle thread mutates while it handles a round. So the
+ * cache only serves and accepts answers computed <i>between</i> rounds, when the state cannot change. This is tracked
+ * with a version that is odd while a round is being handled and even otherwise; entries are keyed by the version
+ * they were computed in, and the whole cache is invalidated when a new round starts. A query that raced with the
+ * start of a round never stores its answer, because the version it started in is no longer current.
+ *
+ * <p>Cached {@link Response}s are immutable PBJ objects, shared as-is by all query threads. Only successful
+ * responses are cached, and receipts are only cached once they have a final status. Setting
+ * {@link CacheConfig#queriesMaxEntries()} to zero disables the cache.
+ */
+@Singleton
+public class QueryResponseCache {
+    private static final Set<HederaFunctionality> CACHEABLE_QUERIES =
+            EnumSet.of(CRYPTOGET_ACCOUNT_BALANCE, TOKEN_GET_INFO, TRANSACTION_GET_RECEIPT);
+
+    /**
+     * The key of a cached response. The query operation is stored with its header cleared, so that queries for the
+     * same entity with different payments share an entry.
+     *
+     * @param version the version the response was computed in
+     * @param function the type of the query
+     * @param op the query operation, without its header
+     */
+    private record Key(long version, @NonNull HederaFunctionality function, @NonNull Record op) {}
+
+    private final AtomicLong version = new AtomicLong();
+
+    @Nullable
+    private final Cache<Key, Response> cache;
+
+    private final Map<HederaFunctionality, Counter> hits = new EnumMap<>(HederaFunctionality.class);
+    private final Map<HederaFunctionality, Counter> misses = new EnumMap<>(HederaFunctionality.class);
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics to report the per-query hit rates to
+     * @param configProvider the configuration provider
+     */
+    @Inject
+    public QueryResponseCache(@NonNull final Metrics metrics, @NonNull final ConfigProvider configProvider) {
+        requireNonNull(metrics);
+        final var maxEntries =
+                requireNonNull(configProvider).getConfiguration().getConfigData(CacheConfig.class).queriesMaxEntries();
+        this.cache = maxEntries > 0 ? Caffeine.newBuilder().maximumSize(maxEntries).build() : null;
+        for (final var function : CACHEABLE_QUERIES) {
+            final var protoName = function.protoName();
+            final var name = protoName.substring(0, 1).toLowerCase() + protoName.substring(1);
+            final var hitCounter = metrics.getOrCreate(new Counter.Config("app", name + "CacheHits")
+                    .withDescription("number of " + name + " queries answered from the query cache"));
+            final var missCounter = metrics.getOrCreate(new Counter.Config("app", name + "CacheMisses")
+                    .withDescription("number of " + name + " queries not found in the query cache"));
+            hits.put(function, hitCounter);
+            misses.put(function, missCounter);
+            metrics.getOrCreate(new FunctionGauge.Config<>(
+                            "app", name + "CacheHitRate", Double.class, () -> hitPercentage(hitCounter, missCounter))
+                    .withDescription("percentage of " + name + " queries answered from the query cache")
+                    .withFormat("%,13.2f"));
+        }
+    }
+
+    /**
+     * Called before the handle thread starts changing the working state for a new round. Invalidates all cached
+     * responses, and stops serving or accepting responses until {@link #endRound()}.
+     */
+    public void beginRound() {
+        // Advance the version before clearing, so no query that started earlier can store a response after the clear
+        version.incrementAndGet();
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Called after the handle thread has finished changing the working state for a round.
+     */
+    public void endRound() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the current version. A query must get the version before it reads any state, and pass it to
+     * {@link #get(long, HederaFunctionality, Query)} and {@link #put(long, HederaFunctionality, Query, Response)}.
+     *
+     * @return the current version
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Returns the cached response to the given query, if there is one for the given version.
+     *
+     * @param version the version the query started in
+     * @param function the type of the query
+     * @param query the query
+     * @return the cached response, or {@code null} if there is none
+     */
+    @Nullable
+    public Response get(final long version, @NonNull final HederaFunctionality function, @NonNull final Query query) {
+        requireNonNull(function);
+        requireNonNull(query);
+        if (cache == null || !CACHEABLE_QUERIES.contains(function) || isRoundInProgress(version)) {
+            return null;
+        }
+        final var response = cache.getIfPresent(new Key(version, function, opWithoutHeader(function, query)));
+        if (response != null) {
+            hits.get(function).increment();
+        } else {
+            misses.get(function).increment();
+        }
+        return response;
+    }
+
+    /**
+     * Caches the response to the given query, if it is cacheable and no round has started since the given version.
+     *
+     * @param version the version the query started in
+     * @param function the type of the query
+     * @param query the query
+     * @param response the response to the query
+     */
+    public void put(
+            final long version,
+            @NonNull final HederaFunctionality function,
+            @NonNull final Query query,
+            @NonNull final Response response) {
+        requireNonNull(function);
+        requireNonNull(query);
+        requireNonNull(response);
+        if (cache == null
+                || !CACHEABLE_QUERIES.contains(function)
+                || isRoundInProgress(version)
+                || version != this.version.get()
+                || !isFinal(function, response)) {
+            return;
+        }
+        cache.put(new Key(version, function, opWithoutHeader(function, query)), response);
+    }
+
+    private static boolean isRoundInProgress(final long version) {
+        return (version & 1L) == 1L;
+    }
+
+    @NonNull
+    private static Record opWithoutHeader(@NonNull final HederaFunctionality function, @NonNull final Query query) {
+        return switch (function) {
+            case CRYPTOGET_ACCOUNT_BALANCE -> query.cryptogetAccountBalanceOrThrow()
+                    .copyBuilder()
+                    .header((QueryHeader) null)
+                    .build();
+            case TOKEN_GET_INFO -> query.tokenGetInfoOrThrow()
+                    .copyBuilder()
+                    .header((QueryHeader) null)
+                    .build();
+            case TRANSACTION_GET_RECEIPT -> query.transactionGetReceiptOrThrow()
+                    .copyBuilder()
+                    .header((QueryHeader) null)
+                    .build();
+            default -> throw new IllegalArgumentException("Query type " + function + " is not cacheable");
+        };
+    }
+
+    private static boolean isFinal(@NonNull final HederaFunctionality function, @NonNull final Response response) {
+        return switch (function) {
+            case CRYPTOGET_ACCOUNT_BALANCE -> isOk(
+                    response.cryptogetAccountBalanceOrThrow().headerOrElse(ResponseHeader.DEFAULT));
+            case TOKEN_GET_INFO -> isOk(response.tokenGetInfoOrThrow().headerOrElse(ResponseHeader.DEFAULT));
+            case TRANSACTION_GET_RECEIPT -> {
+                // A receipt that is still UNKNOWN changes as soon as the transaction reaches consensus
+                final var receiptResponse = response.transactionGetReceiptOrThrow();
+                yield isOk(receiptResponse.headerOrElse(ResponseHeader.DEFAULT))
+                        && receiptResponse.hasReceipt()
+                        && receiptResponse.receiptOrThrow().status() != UNKNOWN;
+            }
+            default -> false;
+        };
+    }
+
+    private static boolean isOk(@NonNull final ResponseHeader header) {
+        return header.nodeTransactionPrecheckCode() == OK;
+    }
+
+    private static double hitPercentage(@NonNull final Counter hits, @NonNull final Counter misses) {
+        final long hitCount = hits.get();
+        final long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : 100.0 * hitCount / total;
+    }
+}
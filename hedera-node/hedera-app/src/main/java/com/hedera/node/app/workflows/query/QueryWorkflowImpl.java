@@ -23,6 +23,7 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.FAIL_INVALID;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.NOT_SUPPORTED;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND;
+import static com.hedera.hapi.node.base.ResponseType.ANSWER_ONLY;
 import static com.hedera.hapi.node.base.ResponseType.ANSWER_STATE_PROOF;
 import static com.hedera.hapi.node.base.ResponseType.COST_ANSWER_STATE_PROOF;
 import static java.util.Objects.requireNonNull;
@@ -101,6 +102,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
     private final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator;
     private final InstantSource instantSource;
     private final OpWorkflowMetrics workflowMetrics;
+    private final QueryResponseCache queryResponseCache;
 
     /**
      * Indicates if the QueryWorkflow should charge for handling queries.
@@ -125,6 +127,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
      * @param synchronizedThrottleAccumulator the {@link SynchronizedThrottleAccumulator} that checks transaction should be throttled
      * @param instantSource the {@link InstantSource} to get the current time
      * @param workflowMetrics the {@link OpWorkflowMetrics} to update the metrics
+     * @param queryResponseCache the {@link QueryResponseCache} of responses to hot queries
      * @param shouldCharge If the workflow should charge for handling queries.
      * @throws NullPointerException if one of the arguments is {@code null}
      */
@@ -144,6 +147,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
             @NonNull final OpWorkflowMetrics workflowMetrics,
+            @NonNull final QueryResponseCache queryResponseCache,
             final boolean shouldCharge) {
         this.stateAccessor = requireNonNull(stateAccessor, "stateAccessor must not be null");
         this.submissionManager = requireNonNull(submissionManager, "submissionManager must not be null");
@@ -160,6 +164,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                 requireNonNull(synchronizedThrottleAccumulator, "hapiThrottling must not be null");
         this.instantSource = requireNonNull(instantSource);
         this.workflowMetrics = requireNonNull(workflowMetrics);
+        this.queryResponseCache = requireNonNull(queryResponseCache);
         this.shouldCharge = shouldCharge;
     }
 
@@ -188,6 +193,8 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
             final ResponseType responseType = queryHeader.responseType();
             logger.debug("Started answering a {} query of type {}", function, responseType);
 
+            // Must be read before any state, so a response computed while a round was handled is never cached
+            final var cacheVersion = queryResponseCache.version();
             try (final var wrappedState = stateAccessor.apply(responseType)) {
                 // 2. Do some general pre-checks
                 ingestChecker.checkNodeState();
@@ -266,8 +273,12 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                             null);
                 }
 
-                // 4. Check validity of query
-                handler.validate(context);
+                // 4. Check validity of query, unless it was already answered successfully since the last round
+                final var cachedResponse =
+                        responseType == ANSWER_ONLY ? queryResponseCache.get(cacheVersion, function, query) : null;
+                if (cachedResponse == null) {
+                    handler.validate(context);
+                }
 
                 // 5. Check query throttles
                 if (shouldCharge && synchronizedThrottleAccumulator.shouldThrottle(function, query, state, payerID)) {
@@ -281,10 +292,16 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
 
                     final var header = createResponseHeader(responseType, OK, queryFees);
                     response = handler.createEmptyResponse(header);
+                } else if (cachedResponse != null) {
+                    // 6.ii Reuse the cached response
+                    response = cachedResponse;
                 } else {
-                    // 6.ii Find response
+                    // 6.iii Find response
                     final var header = createResponseHeader(responseType, OK, 0L);
                     response = handler.findResponse(context, header);
+                    if (responseType == ANSWER_ONLY) {
+                        queryResponseCache.put(cacheVersion, function, query, response);
+                    }
                 }
             } catch (InsufficientBalanceException e) {
                 response = createErrorResponse(handler, responseType, e.responseCode(), e.getEstimatedFee());
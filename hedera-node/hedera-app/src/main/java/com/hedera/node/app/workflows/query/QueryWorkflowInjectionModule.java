@@ -73,7 +73,8 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final FeeManager feeManager,
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
-            @NonNull final OpWorkflowMetrics opWorkflowMetrics) {
+            @NonNull final OpWorkflowMetrics opWorkflowMetrics,
+            @NonNull final QueryResponseCache queryResponseCache) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -89,6 +90,7 @@ public interface QueryWorkflowInjectionModule {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 true);
     }
 
@@ -109,7 +111,8 @@ public interface QueryWorkflowInjectionModule {
             @NonNull final FeeManager feeManager,
             @NonNull final SynchronizedThrottleAccumulator synchronizedThrottleAccumulator,
             @NonNull final InstantSource instantSource,
-            @NonNull final OpWorkflowMetrics opWorkflowMetrics) {
+            @NonNull final OpWorkflowMetrics opWorkflowMetrics,
+            @NonNull final QueryResponseCache queryResponseCache) {
         return new QueryWorkflowImpl(
                 stateAccessor,
                 submissionManager,
@@ -125,6 +128,7 @@ public interface QueryWorkflowInjectionModule {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 false);
     }
 
@@ -150,6 +150,9 @@ public class StandaloneDispatchFactory {
                 new BoundaryStateChangeListener(),
                 new KVStateChangeListener(),
                 blockStreamConfig.streamMode());
+        if (consensusConfig.handleJournaledSavepoints()) {
+            stack.journalSavepoints();
+        }
         final var readableStoreFactory = new ReadableStoreFactory(stack);
         final var consensusTransaction = consensusTransactionFor(transactionBody);
         final var creatorInfo = creatorInfoFor(transactionBody);
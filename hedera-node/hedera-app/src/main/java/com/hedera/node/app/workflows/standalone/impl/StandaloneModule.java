@@ -32,7 +32,11 @@ import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.InstantSource;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.IntSupplier;
+import javax.inject.Named;
 import javax.inject.Singleton;
 
 @Module
@@ -83,4 +87,30 @@ public interface StandaloneModule {
     static Cryptography provideCryptography() {
         return CryptographyHolder.get();
     }
+
+    // Standalone executors run on the common pool instead of dedicated pools, since nothing would shut those down
+    // when a TransactionExecutor is discarded
+    @Provides
+    @Named("PreHandle")
+    static ExecutorService providePreHandleExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    @Provides
+    @Named("CacheWarmer")
+    static Executor provideCacheWarmerExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    @Provides
+    @Named("BlockHashing")
+    static ExecutorService provideBlockHashingExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    @Provides
+    @Named("RecordStream")
+    static ExecutorService provideRecordStreamExecutor() {
+        return ForkJoinPool.commonPool();
+    }
 }
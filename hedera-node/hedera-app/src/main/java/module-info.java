@@ -47,6 +47,7 @@ module com.hedera.node.app {
     requires com.swirlds.merkle;
     requires com.swirlds.merkledb;
     requires com.swirlds.virtualmap;
+    requires com.github.benmanes.caffeine;
     requires com.google.common;
     requires com.google.protobuf;
     requires io.grpc.netty;
@@ -108,6 +109,7 @@ module com.hedera.node.app {
     exports com.hedera.node.app.tss.handlers;
     exports com.hedera.node.app.tss.stores;
     exports com.hedera.node.app.statedumpers;
+    exports com.hedera.node.app.statedumpers.columnar;
     exports com.hedera.node.app.workflows.handle.stack;
     exports com.hedera.node.app.fees.congestion;
     exports com.hedera.node.app.throttle.annotations;
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.concurrent;
+
+import static com.hedera.node.app.concurrent.Workload.BLOCK_HASHING;
+import static com.hedera.node.app.concurrent.Workload.CACHE_WARMUP;
+import static com.hedera.node.app.concurrent.Workload.PRE_HANDLE;
+import static com.hedera.node.app.concurrent.Workload.RECORD_STREAM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.metrics.api.Metrics;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ExecutorRegistryTest {
+    private final Metrics metrics = TestUtils.metrics();
+    private ExecutorRegistry subject = new ExecutorRegistry(HederaTestConfigBuilder.createConfigProvider(), metrics);
+
+    @AfterEach
+    void tearDown() {
+        subject.close();
+    }
+
+    @Test
+    @SuppressWarnings("DataFlowIssue")
+    void nullArgsThrow() {
+        final var configProvider = HederaTestConfigBuilder.createConfigProvider();
+        assertThatThrownBy(() -> new ExecutorRegistry(null, metrics)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new ExecutorRegistry(configProvider, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> subject.executor(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void eachWorkloadGetsItsOwnExecutor() {
+        final Set<ExecutorService> executors = ConcurrentHashMap.newKeySet();
+        for (final var workload : Workload.values()) {
+            final var executor = subject.executor(workload);
+            assertThat(subject.executor(workload)).isSameAs(executor);
+            executors.add(executor);
+        }
+        assertThat(executors).hasSize(Workload.values().length);
+    }
+
+    @Test
+    void tasksRunOnNamedThreads() {
+        for (final var workload : Workload.values()) {
+            final var threadName = CompletableFuture.supplyAsync(
+                            () -> Thread.currentThread().getName(), subject.executor(workload))
+                    .join();
+            assertThat(threadName).startsWith(workload.threadNamePrefix());
+        }
+    }
+
+    @Test
+    void parallelStreamsStayInTheirPool() {
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        CompletableFuture.runAsync(
+                        () -> IntStream.range(0, 10_000)
+                                .parallel()
+                                .forEach(i -> threadNames.add(Thread.currentThread().getName())),
+                        subject.executor(PRE_HANDLE))
+                .join();
+        assertThat(threadNames).isNotEmpty().allMatch(name -> name.startsWith(PRE_HANDLE.threadNamePrefix()));
+    }
+
+    @Test
+    void blockingWorkloadsCanUseVirtualThreads() {
+        subject = registryWith(true, "executors.recordStream.virtualThreads", "executors.cacheWarmup.virtualThreads");
+        assertThat(isVirtual(RECORD_STREAM)).isTrue();
+        assertThat(isVirtual(CACHE_WARMUP)).isTrue();
+        assertThat(isVirtual(BLOCK_HASHING)).isFalse();
+    }
+
+    @Test
+    void registersMetricsPerWorkload() {
+        subject.executor(BLOCK_HASHING);
+        assertThat(metrics.getMetric("app", "blockHashingExecutorQueueDepth")).isNotNull();
+        assertThat(metrics.getMetric("app", "blockHashingExecutorActiveThreads")).isNotNull();
+        assertThat(metrics.getMetric("app", "blockHashingExecutorTaskLatency")).isNotNull();
+        assertThat(metrics.getMetric("app", "preHandleExecutorQueueDepth")).isNull();
+    }
+
+    @Test
+    void metricsCanBeDisabled() {
+        subject = registryWith(false, "executors.metricsEnabled");
+        assertThat(subject.executor(BLOCK_HASHING)).isNotInstanceOf(MeteredExecutorService.class);
+        assertThat(metrics.getMetric("app", "blockHashingExecutorQueueDepth")).isNull();
+    }
+
+    @Test
+    void closeShutsDownExecutors() {
+        final var executor = subject.executor(RECORD_STREAM);
+        subject.close();
+        assertThat(executor.isShutdown()).isTrue();
+        assertThatThrownBy(() -> subject.executor(RECORD_STREAM)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private boolean isVirtual(final Workload workload) {
+        return CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), subject.executor(workload))
+                .join();
+    }
+
+    private ExecutorRegistry registryWith(final boolean value, final String... names) {
+        subject.close();
+        final var builder = HederaTestConfigBuilder.create();
+        for (final var name : names) {
+            builder.withValue(name, value);
+        }
+        final var config = builder.getOrCreateConfig();
+        final ConfigProvider configProvider = () -> new VersionedConfigImpl(config, 1);
+        return new ExecutorRegistry(configProvider, metrics);
+    }
+}
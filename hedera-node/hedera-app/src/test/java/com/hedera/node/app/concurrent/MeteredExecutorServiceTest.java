@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.node.app.utils.TestUtils;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MeteredExecutorServiceTest {
+    private final Metrics metrics = TestUtils.metrics();
+    private ExecutorService delegate;
+    private MeteredExecutorService subject;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Executors.newSingleThreadExecutor();
+        subject = new MeteredExecutorService(delegate, "test", metrics, 10.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        subject.shutdownNow();
+    }
+
+    @Test
+    void tracksQueuedAndActiveTasks() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final Future<?> blocking = subject.submit(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        final Future<?> waiting = subject.submit(() -> {});
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subject.activeThreads()).isEqualTo(1);
+        assertThat(subject.queueDepth()).isEqualTo(1);
+
+        release.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+        waiting.get(5, TimeUnit.SECONDS);
+        assertThat(subject.activeThreads()).isZero();
+        assertThat(subject.queueDepth()).isZero();
+    }
+
+    @Test
+    void recordsTaskLatency() throws Exception {
+        subject.submit(() -> {
+                    Thread.sleep(20);
+                    return null;
+                })
+                .get(5, TimeUnit.SECONDS);
+        final var latency = (RunningAverageMetric) metrics.getMetric("app", "testExecutorTaskLatency");
+        assertThat(latency.get()).isPositive();
+    }
+
+    @Test
+    void rejectedTasksAreNotCounted() {
+        subject.shutdown();
+        assertThatThrownBy(() -> subject.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+        assertThat(subject.queueDepth()).isZero();
+        assertThat(subject.isShutdown()).isTrue();
+        assertThat(delegate.isShutdown()).isTrue();
+    }
+}
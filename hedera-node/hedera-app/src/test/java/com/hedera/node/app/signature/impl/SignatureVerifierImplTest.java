@@ -35,6 +35,9 @@ import com.hedera.node.app.hapi.utils.MiscCryptoUtils;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.fixtures.Scenarios;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.TransactionSignature;
@@ -196,4 +199,85 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                     .isTrue();
         }
     }
+
+    @Test
+    @DisplayName("Signatures remembered at ingest are not verified again")
+    void rememberedSignaturesAreNotVerifiedAgain() {
+        final var subject = new SignatureVerifierImpl(cryptoEngine, cacheWithMaxEntries(100));
+        final var sigs = Set.of(ecdsaPair(ALICE.keyInfo().publicKey()), ed25519Pair(BOB.keyInfo().publicKey()));
+        givenCryptoEngineFinishesWith(VerificationStatus.VALID);
+
+        subject.verifyAndRemember(signedBytes, sigs);
+        final var map = subject.verify(signedBytes, sigs);
+
+        verify(cryptoEngine, times(2)).verifySync(any(TransactionSignature.class));
+        assertThat(map).hasSize(2);
+        assertThat(map.get(BOB.keyInfo().publicKey()))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .extracting("passed")
+                .isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("Signatures on different bytes are verified again")
+    void signaturesOnDifferentBytesAreVerifiedAgain() {
+        final var subject = new SignatureVerifierImpl(cryptoEngine, cacheWithMaxEntries(100));
+        final var sigs = Set.of(ed25519Pair(BOB.keyInfo().publicKey()));
+        givenCryptoEngineFinishesWith(VerificationStatus.VALID);
+
+        subject.verifyAndRemember(signedBytes, sigs);
+        subject.verify(randomBytes(32), sigs);
+
+        verify(cryptoEngine, times(2)).verifySync(any(TransactionSignature.class));
+    }
+
+    @Test
+    @DisplayName("Only verifyAndRemember() populates the cache, and only with valid signatures")
+    void onlyValidSignaturesAreRemembered() {
+        final var subject = new SignatureVerifierImpl(cryptoEngine, cacheWithMaxEntries(100));
+        final var sigs = Set.of(ed25519Pair(BOB.keyInfo().publicKey()));
+        givenCryptoEngineFinishesWith(VerificationStatus.INVALID);
+
+        subject.verify(signedBytes, sigs);
+        subject.verifyAndRemember(signedBytes, sigs);
+        final var map = subject.verify(signedBytes, sigs);
+
+        verify(cryptoEngine, times(3)).verifySync(any(TransactionSignature.class));
+        assertThat(map.get(BOB.keyInfo().publicKey()))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .extracting("passed")
+                .isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("A cache without entries is disabled")
+    void disabledCacheVerifiesEverySignature() {
+        final var subject = new SignatureVerifierImpl(cryptoEngine, cacheWithMaxEntries(0));
+        final var sigs = Set.of(ed25519Pair(BOB.keyInfo().publicKey()));
+        givenCryptoEngineFinishesWith(VerificationStatus.VALID);
+
+        subject.verifyAndRemember(signedBytes, sigs);
+        subject.verify(signedBytes, sigs);
+
+        verify(cryptoEngine, times(2)).verifySync(any(TransactionSignature.class));
+    }
+
+    private void givenCryptoEngineFinishesWith(final VerificationStatus status) {
+        //noinspection unchecked
+        doAnswer((Answer<Void>) invocation -> {
+                    final TransactionSignature signature = invocation.getArgument(0);
+                    signature.setSignatureStatus(status);
+                    signature.setFuture(completedFuture(null));
+                    return null;
+                })
+                .when(cryptoEngine)
+                .verifySync(any(TransactionSignature.class));
+    }
+
+    private static SignatureVerificationCache cacheWithMaxEntries(final int maxEntries) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.signatures.maxEntries", maxEntries)
+                .getOrCreateConfig();
+        return new SignatureVerificationCache(TestUtils.metrics(), () -> new VersionedConfigImpl(config, 1));
+    }
 }
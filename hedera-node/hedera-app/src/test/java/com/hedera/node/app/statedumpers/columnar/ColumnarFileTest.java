@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ColumnarFileTest {
+    private static final int ROW_COUNT = 2_500;
+    private static final int ROW_GROUP_SIZE = 1_000;
+
+    private record Row(long id, boolean deleted, String memo, Bytes alias) {}
+
+    private static final List<ColumnDefinition<Row>> COLUMNS = List.of(
+            ColumnDefinition.ofLong("id", Row::id),
+            ColumnDefinition.ofBoolean("deleted", Row::deleted),
+            ColumnDefinition.ofString("memo", Row::memo),
+            ColumnDefinition.ofBytes("alias", Row::alias));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTripsAllRows() throws IOException {
+        final Path file = tempDir.resolve("rows.hcol");
+        final List<Row> rows = randomRows(new Random(42));
+        try (final var writer = new ColumnarFileWriter<>(file, COLUMNS, ROW_GROUP_SIZE, Runnable::run)) {
+            for (final Row row : rows) {
+                writer.write(row);
+            }
+            assertThat(writer.getRowCount()).isEqualTo(ROW_COUNT);
+        }
+
+        try (final var reader = new ColumnarFileReader(file)) {
+            assertThat(reader.getColumnNames()).containsExactly("id", "deleted", "memo", "alias");
+            assertThat(reader.getColumnType("memo")).isEqualTo(ColumnType.STRING);
+            assertThat(reader.getRowCount()).isEqualTo(ROW_COUNT);
+            assertThat(reader.getRowGroupCount()).isEqualTo(3);
+
+            final List<Row> readRows = new ArrayList<>();
+            reader.forEachRow(List.of("id", "deleted", "memo", "alias"), values -> {
+                final byte[] alias = (byte[]) values[3];
+                readRows.add(new Row(
+                        (Long) values[0],
+                        (Long) values[1] == 1L,
+                        (String) values[2],
+                        alias == null ? null : Bytes.wrap(alias)));
+            });
+            assertThat(readRows).isEqualTo(rows);
+        }
+    }
+
+    @Test
+    void readsOnlyRequestedColumns() throws IOException {
+        final Path file = tempDir.resolve("rows.hcol");
+        final List<Row> rows = randomRows(new Random(7));
+        try (final var writer = new ColumnarFileWriter<>(file, COLUMNS, ROW_GROUP_SIZE, Runnable::run)) {
+            for (final Row row : rows) {
+                writer.write(row);
+            }
+        }
+
+        try (final var reader = new ColumnarFileReader(file)) {
+            final List<String> memos = new ArrayList<>();
+            reader.forEachRow(List.of("memo"), values -> memos.add((String) values[0]));
+            assertThat(memos).isEqualTo(rows.stream().map(Row::memo).toList());
+
+            final long[] ids = (long[]) reader.readColumn(2, "id");
+            assertThat(ids).hasSize(ROW_COUNT - 2 * ROW_GROUP_SIZE);
+            assertThat(ids[0]).isEqualTo(rows.get(2 * ROW_GROUP_SIZE).id());
+
+            assertThatThrownBy(() -> reader.readColumn(0, "missing")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void choosesCompactEncodings() {
+        final Object[] flags = new Object[ROW_GROUP_SIZE];
+        final String[] memos = new String[ROW_GROUP_SIZE];
+        final Object[] ids = new Object[ROW_GROUP_SIZE];
+        for (int i = 0; i < ROW_GROUP_SIZE; i++) {
+            flags[i] = i < ROW_GROUP_SIZE / 2 ? 0L : 1L;
+            memos[i] = i % 3 == 0 ? null : "memo-" + (i % 5);
+            ids[i] = (long) i * 7919;
+        }
+
+        final var flagChunk = ColumnCodec.encode(ColumnType.LONG, flags, ROW_GROUP_SIZE);
+        assertThat(flagChunk.encoding()).isEqualTo(ColumnEncoding.RUN_LENGTH);
+        assertThat(flagChunk.data().length).isLessThan(16);
+
+        final var memoChunk = ColumnCodec.encode(ColumnType.STRING, memos, ROW_GROUP_SIZE);
+        assertThat(memoChunk.encoding()).isEqualTo(ColumnEncoding.DICTIONARY);
+        final var decodedMemos = (String[]) ColumnCodec.decode(
+                ColumnType.STRING, memoChunk.encoding(), ByteBuffer.wrap(memoChunk.data()), ROW_GROUP_SIZE);
+        assertThat(decodedMemos).containsExactly(memos);
+
+        final var idChunk = ColumnCodec.encode(ColumnType.LONG, ids, ROW_GROUP_SIZE);
+        assertThat(idChunk.encoding()).isEqualTo(ColumnEncoding.PLAIN);
+    }
+
+    @Test
+    void rejectsNullLongValues() throws IOException {
+        final List<ColumnDefinition<Row>> columns = List.of(new ColumnDefinition<>("id", ColumnType.LONG, row -> null));
+        try (final var writer = new ColumnarFileWriter<>(tempDir.resolve("nulls.hcol"), columns, 10, Runnable::run)) {
+            assertThatThrownBy(() -> writer.write(new Row(1L, false, null, null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static List<Row> randomRows(final Random random) {
+        final List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            final String memo = random.nextInt(4) == 0 ? null : "memo-" + random.nextInt(10);
+            final Bytes alias = random.nextBoolean() ? null : Bytes.wrap(new byte[] {(byte) i, (byte) (i >> 8)});
+            rows.add(new Row(random.nextLong(), random.nextInt(10) == 0, memo, alias));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class ColumnarStateExportToolTest {
+
+    @Test
+    void parsesAllArguments() {
+        final var arguments = ColumnarStateExportTool.parseArguments("state/SignedState.swh", "out", "3");
+
+        assertThat(arguments.statePath()).isEqualTo(Path.of("state/SignedState.swh").toAbsolutePath());
+        assertThat(arguments.outputDirectory()).isEqualTo(Path.of("out").toAbsolutePath());
+        assertThat(arguments.threadCount()).isEqualTo(3);
+    }
+
+    @Test
+    void defaultsThreadCountToProcessorCount() {
+        final var arguments = ColumnarStateExportTool.parseArguments("SignedState.swh", "out");
+
+        assertThat(arguments.threadCount()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> ColumnarStateExportTool.parseArguments("SignedState.swh"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ColumnarStateExportTool.parseArguments("SignedState.swh", "out", "1", "extra"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ColumnarStateExportTool.parseArguments("SignedState.swh", "out", "many"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ColumnarStateExportTool.parseArguments("SignedState.swh", "out", "0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.statedumpers.columnar;
+
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.NFTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKENS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKEN_RELS_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.NftID;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.base.TokenType;
+import com.hedera.hapi.node.state.common.EntityIDPair;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.state.token.Nft;
+import com.hedera.hapi.node.state.token.Token;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.node.app.service.token.TokenService;
+import com.hedera.pbj.runtime.Codec;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.merkledb.MerkleDbDataSourceBuilder;
+import com.swirlds.merkledb.MerkleDbTableConfig;
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.platform.test.fixtures.state.MerkleTestBase;
+import com.swirlds.state.merkle.StateUtils;
+import com.swirlds.state.merkle.disk.OnDiskKey;
+import com.swirlds.state.merkle.disk.OnDiskKeySerializer;
+import com.swirlds.state.merkle.disk.OnDiskValue;
+import com.swirlds.state.merkle.disk.OnDiskValueSerializer;
+import com.swirlds.state.test.fixtures.merkle.TestMerkleStateRoot;
+import com.swirlds.virtualmap.VirtualMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ColumnarStateExporterTest extends MerkleTestBase {
+    private static final int ROW_GROUP_SIZE = 2;
+
+    @TempDir
+    Path outputDirectory;
+
+    private Path storageDirectory;
+    private TestMerkleStateRoot state;
+    private final List<VirtualMap<?, ?>> mutableCopies = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        setupConstructableRegistry();
+        storageDirectory = LegacyTemporaryFileBuilder.buildTemporaryDirectory(CONFIGURATION);
+        state = new TestMerkleStateRoot();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mutableCopies.forEach(VirtualMap::release);
+        state.release();
+    }
+
+    @Test
+    void exportsAllTokenStates() throws IOException {
+        addState(
+                ACCOUNTS_KEY,
+                AccountID.PROTOBUF,
+                Account.PROTOBUF,
+                Map.of(
+                        accountId(1001), account(1001, 500L, "first", false),
+                        accountId(1002), account(1002, 0L, "", true),
+                        accountId(1003), account(1003, 42L, "third", false)));
+        addState(
+                TOKENS_KEY,
+                TokenID.PROTOBUF,
+                Token.PROTOBUF,
+                Map.of(
+                        tokenId(2001),
+                        Token.newBuilder()
+                                .tokenId(tokenId(2001))
+                                .name("Token")
+                                .symbol("TKN")
+                                .treasuryAccountId(accountId(1001))
+                                .tokenType(TokenType.NON_FUNGIBLE_UNIQUE)
+                                .totalSupply(1L)
+                                .build()));
+        final NftID nftId = new NftID(tokenId(2001), 1L);
+        addState(
+                NFTS_KEY,
+                NftID.PROTOBUF,
+                Nft.PROTOBUF,
+                Map.of(nftId, Nft.newBuilder().nftId(nftId).ownerId(accountId(1003)).build()));
+        final EntityIDPair relationId = new EntityIDPair(accountId(1003), tokenId(2001));
+        addState(
+                TOKEN_RELS_KEY,
+                EntityIDPair.PROTOBUF,
+                TokenRelation.PROTOBUF,
+                Map.of(
+                        relationId,
+                        TokenRelation.newBuilder()
+                                .accountId(accountId(1003))
+                                .tokenId(tokenId(2001))
+                                .balance(1L)
+                                .kycGranted(true)
+                                .build()));
+
+        new ColumnarStateExporter(outputDirectory, 2, ROW_GROUP_SIZE).export(state);
+
+        try (final var reader = new ColumnarFileReader(file("accounts"))) {
+            assertThat(reader.getRowCount()).isEqualTo(3);
+            assertThat(reader.getRowGroupCount()).isEqualTo(2);
+            assertThat(readRows(reader, "accountNum", "tinybarBalance", "memo", "deleted", "stakedNodeId"))
+                    .containsExactlyInAnyOrder(
+                            List.of(1001L, 500L, "first", 0L, -1L),
+                            List.of(1002L, 0L, "", 1L, -1L),
+                            List.of(1003L, 42L, "third", 0L, -1L));
+        }
+        try (final var reader = new ColumnarFileReader(file("tokens"))) {
+            assertThat(readRows(reader, "tokenNum", "symbol", "treasuryAccountNum", "tokenType", "customFeeCount"))
+                    .containsExactly(List.of(2001L, "TKN", 1001L, "NON_FUNGIBLE_UNIQUE", 0L));
+        }
+        try (final var reader = new ColumnarFileReader(file("nfts"))) {
+            assertThat(readRows(reader, "tokenNum", "serialNumber", "ownerNum", "spenderNum"))
+                    .containsExactly(List.of(2001L, 1L, 1003L, 0L));
+        }
+        try (final var reader = new ColumnarFileReader(file("tokenRelations"))) {
+            assertThat(readRows(reader, "accountNum", "tokenNum", "balance", "frozen", "kycGranted"))
+                    .containsExactly(List.of(1003L, 2001L, 1L, 0L, 1L));
+        }
+    }
+
+    @Test
+    void skipsMissingStates() throws IOException {
+        addState(
+                ACCOUNTS_KEY,
+                AccountID.PROTOBUF,
+                Account.PROTOBUF,
+                Map.of(accountId(1001), account(1001, 1L, "only", false)));
+
+        new ColumnarStateExporter(outputDirectory, 1, ROW_GROUP_SIZE).export(state);
+
+        assertThat(file("accounts")).exists();
+        assertThat(file("tokens")).doesNotExist();
+        assertThat(file("nfts")).doesNotExist();
+        assertThat(file("tokenRelations")).doesNotExist();
+        try (final var reader = new ColumnarFileReader(file("accounts"))) {
+            assertThat(reader.getRowCount()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Add a token service state with the given entries to the state. The map in the state is hashed and immutable,
+     * like in a saved state.
+     */
+    private <K, V> void addState(
+            final String stateKey, final Codec<K> keyCodec, final Codec<V> valueCodec, final Map<K, V> entries) {
+        final long keyClassId = onDiskKeyClassId(TokenService.NAME, stateKey);
+        final long valueClassId = onDiskValueClassId(TokenService.NAME, stateKey);
+        final var keySerializer = new OnDiskKeySerializer<>(
+                onDiskKeySerializerClassId(TokenService.NAME, stateKey), keyClassId, keyCodec);
+        final var valueSerializer = new OnDiskValueSerializer<>(
+                onDiskValueSerializerClassId(TokenService.NAME, stateKey), valueClassId, valueCodec);
+        final MerkleDbConfig merkleDbConfig = CONFIGURATION.getConfigData(MerkleDbConfig.class);
+        final var tableConfig = new MerkleDbTableConfig(
+                (short) 1,
+                DigestType.SHA_384,
+                merkleDbConfig.maxNumOfKeys(),
+                merkleDbConfig.hashesRamToDiskThreshold());
+        tableConfig.maxNumberOfKeys(100);
+        final var builder = new MerkleDbDataSourceBuilder(storageDirectory, tableConfig, CONFIGURATION);
+        final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> map = new VirtualMap<>(
+                StateUtils.computeLabel(TokenService.NAME, stateKey),
+                keySerializer,
+                valueSerializer,
+                builder,
+                CONFIGURATION);
+        entries.forEach((key, value) -> map.put(
+                new OnDiskKey<>(keyClassId, keyCodec, key), new OnDiskValue<>(valueClassId, valueCodec, value)));
+        mutableCopies.add(map.copy());
+        CRYPTO.digestTreeSync(map);
+        state.setChild(state.getNumberOfChildren(), map);
+    }
+
+    private Path file(final String fileName) {
+        return outputDirectory.resolve(fileName + ColumnarStateExporter.FILE_EXTENSION);
+    }
+
+    private static List<List<Object>> readRows(final ColumnarFileReader reader, final String... columns)
+            throws IOException {
+        final List<List<Object>> rows = new ArrayList<>();
+        reader.forEachRow(List.of(columns), values -> rows.add(List.of(values)));
+        return rows;
+    }
+
+    private static AccountID accountId(final long num) {
+        return AccountID.newBuilder().accountNum(num).build();
+    }
+
+    private static TokenID tokenId(final long num) {
+        return TokenID.newBuilder().tokenNum(num).build();
+    }
+
+    private static Account account(final long num, final long balance, final String memo, final boolean deleted) {
+        return Account.newBuilder()
+                .accountId(accountId(num))
+                .tinybarBalance(balance)
+                .memo(memo)
+                .deleted(deleted)
+                .build();
+    }
+}
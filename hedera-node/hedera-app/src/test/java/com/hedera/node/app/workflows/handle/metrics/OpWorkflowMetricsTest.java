@@ -56,9 +56,10 @@ class OpWorkflowMetricsTest {
 
         // then
         // subtract 1 to exclude HederaFunctionality.NONE
-        // multiply by 3 to account for max, avg, and throttle metrics which are created for each functionality
+        // multiply by 4 to account for max, avg, throttle, and duration histogram metrics,
+        // which are created for each functionality
         // add 1 to account for gasPerConsSec metric which is not functionality specific
-        final int transactionMetricsCount = ((HederaFunctionality.values().length - 1) * 3) + 1;
+        final int transactionMetricsCount = ((HederaFunctionality.values().length - 1) * 4) + 1;
         assertThat(metrics.findMetricsByCategory("app")).hasSize(transactionMetricsCount);
     }
 
@@ -143,6 +144,8 @@ class OpWorkflowMetricsTest {
                 .isEqualTo(13);
         assertThat(metrics.getMetric("app", "cryptoCreateDurationAvg").get(VALUE))
                 .isEqualTo(7);
+        assertThat(metrics.getMetric("app", "cryptoCreateDurationHist").get(VALUE))
+                .isEqualTo(7.0);
     }
 
     @Test
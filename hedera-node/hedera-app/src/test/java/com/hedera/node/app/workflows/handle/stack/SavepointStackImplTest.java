@@ -16,6 +16,9 @@
 
 package com.hedera.node.app.workflows.handle.stack;
 
+import static com.hedera.node.app.spi.workflows.HandleContext.TransactionCategory.CHILD;
+import static com.hedera.node.app.spi.workflows.record.StreamBuilder.ReversingBehavior.REVERSIBLE;
+import static com.hedera.node.app.spi.workflows.record.StreamBuilder.TransactionCustomizer.NOOP_TRANSACTION_CUSTOMIZER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -74,8 +77,11 @@ class SavepointStackImplTest extends StateTestBase {
     @BeforeEach
     void setup() {
         final var baseKVState = new MapWritableKVState<>(FRUIT_STATE_KEY, new HashMap<>(BASE_DATA));
-        final var writableStates =
-                MapWritableStates.builder().state(baseKVState).build();
+        final var writableStates = MapWritableStates.builder()
+                .state(baseKVState)
+                .state(writableSTEAMState())
+                .state(writableSpaceState())
+                .build();
         when(baseState.getReadableStates(FOOD_SERVICE)).thenReturn(writableStates);
         when(baseState.getWritableStates(FOOD_SERVICE)).thenReturn(writableStates);
         final var config = new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), 1);
@@ -664,6 +670,150 @@ class SavepointStackImplTest extends StateTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for journaled savepoints")
+    class JournaledSavepointTests {
+        @Test
+        void testJournalSavepointsAfterCreateFails() {
+            // given
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.createSavepoint();
+
+            // then
+            assertThatThrownBy(stack::journalSavepoints).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void testMultipleRollbacks() {
+            // given
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.journalSavepoints();
+            final var writableState = stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY);
+            writableState.put(A_KEY, ACAI);
+            stack.createSavepoint();
+            writableState.put(A_KEY, APPLE);
+            writableState.remove(B_KEY);
+            writableState.put(C_KEY, CRANBERRY);
+            stack.createSavepoint();
+            writableState.put(B_KEY, BLACKBERRY);
+            writableState.put(D_KEY, DRAGONFRUIT);
+
+            // when
+            stack.rollback();
+            stack.rollback();
+
+            // then
+            assertThat(stack.depth()).isEqualTo(1);
+            final var newData = new HashMap<>(BASE_DATA);
+            newData.put(A_KEY, ACAI);
+            assertThat(stack.getReadableStates(FOOD_SERVICE)).has(content(newData));
+            assertThat(writableState.modifiedKeys()).containsExactly(A_KEY);
+            assertThat(stack.rootStates(FOOD_SERVICE)).has(content(BASE_DATA));
+        }
+
+        @Test
+        void testRollbackAfterNestedCommit() {
+            // given
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.journalSavepoints();
+            final var writableState = stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY);
+            stack.createSavepoint();
+            writableState.put(A_KEY, ACAI);
+            stack.createSavepoint();
+            writableState.put(B_KEY, BLUEBERRY);
+            stack.commit();
+            assertThat(writableState.get(B_KEY)).isEqualTo(BLUEBERRY);
+
+            // when
+            stack.rollback();
+
+            // then
+            assertThat(stack.depth()).isEqualTo(1);
+            assertThat(stack.getReadableStates(FOOD_SERVICE)).has(content(BASE_DATA));
+            assertThat(writableState.modifiedKeys()).isEmpty();
+        }
+
+        @Test
+        void testCommitFullStack() {
+            // given
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.journalSavepoints();
+            final var writableState = stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY);
+            stack.createSavepoint();
+            writableState.put(A_KEY, ACAI);
+            stack.createSavepoint();
+            writableState.put(B_KEY, BLUEBERRY);
+            stack.rollback();
+            stack.createSavepoint();
+            writableState.put(C_KEY, CRANBERRY);
+
+            // when
+            stack.commitSystemStateChanges();
+
+            // then
+            final var newData = new HashMap<>(BASE_DATA);
+            newData.put(A_KEY, ACAI);
+            newData.put(C_KEY, CRANBERRY);
+            assertThat(baseState.getReadableStates(FOOD_SERVICE)).has(content(newData));
+            assertThat(stack.depth()).isEqualTo(1);
+        }
+
+        @Test
+        void testQueueAndSingletonRollback() {
+            // given
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.journalSavepoints();
+            final var writableStates = stack.getWritableStates(FOOD_SERVICE);
+            final var queueState = writableStates.<String>getQueue(STEAM_STATE_KEY);
+            final var singletonState = writableStates.<String>getSingleton(SPACE_STATE_KEY);
+            assertThat(queueState.removeIf(ART::equals)).isEqualTo(ART);
+            stack.createSavepoint();
+            assertThat(queueState.removeIf(BIOLOGY::equals)).isEqualTo(BIOLOGY);
+            queueState.add(ECOLOGY);
+            singletonState.put(BLASTOFF);
+
+            // when
+            stack.rollback();
+
+            // then
+            assertThat(queueState.peek()).isEqualTo(BIOLOGY);
+            assertThat(singletonState.get()).isEqualTo(ASTRONAUT);
+            stack.commitSystemStateChanges();
+            assertThat(baseState.getWritableStates(FOOD_SERVICE)
+                            .<String>getQueue(STEAM_STATE_KEY)
+                            .peek())
+                    .isEqualTo(BIOLOGY);
+        }
+
+        @Test
+        void testChildStackInheritsJournaling() {
+            // given
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.journalSavepoints();
+            final var childStack =
+                    SavepointStackImpl.newChildStack(stack, REVERSIBLE, CHILD, NOOP_TRANSACTION_CUSTOMIZER, streamMode);
+            final var writableState = childStack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY);
+            writableState.put(A_KEY, ACAI);
+            childStack.createSavepoint();
+            writableState.put(B_KEY, BLUEBERRY);
+
+            // when
+            childStack.rollback();
+            childStack.commitFullStack();
+
+            // then
+            final var newData = new HashMap<>(BASE_DATA);
+            newData.put(A_KEY, ACAI);
+            assertThat(stack.getReadableStates(FOOD_SERVICE)).has(content(newData));
+        }
+    }
+
     private static Condition<ReadableStates> content(Map<String, String> expected) {
         return new Condition<>(contentCheck(expected), "state " + expected);
     }
@@ -265,7 +265,7 @@ class IngestCheckerTest extends AppTestBase {
         final var verificationResult = mock(SignatureVerification.class);
         when(verificationResult.failed()).thenReturn(false);
         when(verificationResultFuture.get(anyLong(), any())).thenReturn(verificationResult);
-        when(signatureVerifier.verify(any(), any()))
+        when(signatureVerifier.verifyAndRemember(any(), any()))
                 .thenReturn(Map.of(ALICE.account().keyOrThrow(), verificationResultFuture));
 
         // when
@@ -466,7 +466,7 @@ class IngestCheckerTest extends AppTestBase {
             final var verificationResult = mock(SignatureVerification.class);
             when(verificationResult.failed()).thenReturn(false);
             when(verificationResultFuture.get(anyLong(), any())).thenReturn(verificationResult);
-            when(signatureVerifier.verify(any(), any()))
+            when(signatureVerifier.verifyAndRemember(any(), any()))
                     .thenReturn(Map.of(ALICE.account().keyOrThrow(), verificationResultFuture));
         }
     }
@@ -480,7 +480,7 @@ class IngestCheckerTest extends AppTestBase {
         void noPayerSignature() {
             // If the signature verifier's returned map doesn't contain an entry for ALICE, it means she didn't have a
             // signature in the signature map to begin with.
-            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of());
+            when(signatureVerifier.verifyAndRemember(any(), any())).thenReturn(Map.of());
 
             // When the transaction is submitted, then the exception is thrown
             assertThatThrownBy(() -> subject.runAllChecks(state, tx, configuration))
@@ -496,7 +496,7 @@ class IngestCheckerTest extends AppTestBase {
             final var verificationResult = mock(SignatureVerification.class);
             when(verificationResult.failed()).thenReturn(true);
             when(verificationResultFuture.get(anyLong(), any())).thenReturn(verificationResult);
-            when(signatureVerifier.verify(any(), any()))
+            when(signatureVerifier.verifyAndRemember(any(), any()))
                     .thenReturn(Map.of(ALICE.account().keyOrThrow(), verificationResultFuture));
 
             assertThatThrownBy(() -> subject.runAllChecks(state, tx, configuration))
@@ -541,7 +541,7 @@ class IngestCheckerTest extends AppTestBase {
             final var verificationResultBob = mock(SignatureVerification.class);
             when(verificationResultBob.failed()).thenReturn(false);
             when(verificationResultFutureBob.get(anyLong(), any())).thenReturn(verificationResultBob);
-            when(signatureVerifier.verify(any(), any()))
+            when(signatureVerifier.verifyAndRemember(any(), any()))
                     .thenReturn(Map.of(
                             ALICE.account().keyOrThrow(), verificationResultFutureAlice,
                             BOB.account().keyOrThrow(), verificationResultFutureBob));
@@ -590,7 +590,7 @@ class IngestCheckerTest extends AppTestBase {
             final var verificationResultBob = mock(SignatureVerification.class);
             when(verificationResultBob.failed()).thenReturn(true);
             when(verificationResultFutureBob.get(anyLong(), any())).thenReturn(verificationResultBob);
-            when(signatureVerifier.verify(any(), any()))
+            when(signatureVerifier.verifyAndRemember(any(), any()))
                     .thenReturn(Map.of(
                             ALICE.account().keyOrThrow(), verificationResultFutureAlice,
                             BOB.account().keyOrThrow(), verificationResultFutureBob));
@@ -640,7 +640,7 @@ class IngestCheckerTest extends AppTestBase {
             final var verificationResultBob = mock(SignatureVerification.class);
             when(verificationResultBob.failed()).thenReturn(true);
             when(verificationResultFutureBob.get(anyLong(), any())).thenReturn(verificationResultBob);
-            when(signatureVerifier.verify(any(), any()))
+            when(signatureVerifier.verifyAndRemember(any(), any()))
                     .thenReturn(Map.of(
                             ALICE.account().keyOrThrow(), verificationResultFutureAlice,
                             BOB.account().keyOrThrow(), verificationResultFutureBob));
@@ -691,7 +691,7 @@ class IngestCheckerTest extends AppTestBase {
             final var verificationResultBob = mock(SignatureVerification.class);
             when(verificationResultBob.failed()).thenReturn(true);
             when(verificationResultFutureBob.get(anyLong(), any())).thenReturn(verificationResultBob);
-            when(signatureVerifier.verify(any(), any()))
+            when(signatureVerifier.verifyAndRemember(any(), any()))
                     .thenReturn(Map.of(
                             ALICE.account().keyOrThrow(), verificationResultFutureAlice,
                             BOB.account().keyOrThrow(), verificationResultFutureBob));
@@ -711,7 +711,7 @@ class IngestCheckerTest extends AppTestBase {
             doThrow(new RuntimeException("checkPayerSignature exception"))
                     .when(verificationResultFuture)
                     .get(anyLong(), any());
-            when(signatureVerifier.verify(any(), any()))
+            when(signatureVerifier.verifyAndRemember(any(), any()))
                     .thenReturn(Map.of(ALICE.account().keyOrThrow(), verificationResultFuture));
 
             // When the transaction is submitted, then the exception is bubbled up
@@ -1,33 +0,0 @@
-/*
- * Copyright (C) 2023-2024 Hedera Hashgraph, LLC
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *      http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package com.hedera.node.app.workflows.prehandle;
-
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
-
-import java.util.concurrent.ForkJoinPool;
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.junit.jupiter.MockitoExtension;
-
-@ExtendWith(MockitoExtension.class)
-class PreHandleWorkflowModuleTest {
-    @Test
-    void usesComponentsToGetExecutorService() {
-        final var execService = PreHandleWorkflowInjectionModule.provideExecutorService();
-        assertInstanceOf(ForkJoinPool.class, execService);
-    }
-}
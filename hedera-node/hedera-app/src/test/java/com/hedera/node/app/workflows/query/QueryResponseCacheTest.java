@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.query;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTOGET_ACCOUNT_BALANCE;
+import static com.hedera.hapi.node.base.HederaFunctionality.FILE_GET_INFO;
+import static com.hedera.hapi.node.base.HederaFunctionality.TRANSACTION_GET_RECEIPT;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_ACCOUNT_ID;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.UNKNOWN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.QueryHeader;
+import com.hedera.hapi.node.base.ResponseCodeEnum;
+import com.hedera.hapi.node.base.ResponseHeader;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.file.FileGetInfoQuery;
+import com.hedera.hapi.node.file.FileGetInfoResponse;
+import com.hedera.hapi.node.token.CryptoGetAccountBalanceQuery;
+import com.hedera.hapi.node.token.CryptoGetAccountBalanceResponse;
+import com.hedera.hapi.node.transaction.Query;
+import com.hedera.hapi.node.transaction.Response;
+import com.hedera.hapi.node.transaction.TransactionGetReceiptQuery;
+import com.hedera.hapi.node.transaction.TransactionGetReceiptResponse;
+import com.hedera.hapi.node.transaction.TransactionReceipt;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import org.junit.jupiter.api.Test;
+
+class QueryResponseCacheTest {
+    private static final AccountID ACCOUNT_ID =
+            AccountID.newBuilder().accountNum(1234L).build();
+
+    private final QueryResponseCache subject = cacheWithMaxEntries(100);
+
+    @Test
+    void cachesSuccessfulBalanceResponseForSameVersion() {
+        final var version = subject.version();
+        final var response = balanceResponse(OK, 42L);
+
+        assertThat(subject.get(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L)))
+                .isNull();
+        subject.put(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L), response);
+
+        assertThat(subject.get(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L)))
+                .isSameAs(response);
+    }
+
+    @Test
+    void queriesWithDifferentPaymentsShareEntry() {
+        final var version = subject.version();
+        final var response = balanceResponse(OK, 42L);
+
+        subject.put(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L), response);
+
+        assertThat(subject.get(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(2L)))
+                .isSameAs(response);
+    }
+
+    @Test
+    void newRoundInvalidatesEverything() {
+        final var version = subject.version();
+        subject.put(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L), balanceResponse(OK, 42L));
+
+        subject.beginRound();
+        assertThat(subject.get(subject.version(), CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L)))
+                .isNull();
+        subject.endRound();
+
+        assertThat(subject.get(subject.version(), CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L)))
+                .isNull();
+    }
+
+    @Test
+    void nothingIsCachedWhileRoundIsHandled() {
+        subject.beginRound();
+        final var version = subject.version();
+        subject.put(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L), balanceResponse(OK, 42L));
+        subject.endRound();
+
+        assertThat(subject.get(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L)))
+                .isNull();
+        assertThat(subject.get(subject.version(), CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L)))
+                .isNull();
+    }
+
+    @Test
+    void responseComputedAcrossRoundStartIsNotCached() {
+        final var version = subject.version();
+        subject.beginRound();
+        subject.endRound();
+
+        subject.put(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L), balanceResponse(OK, 42L));
+
+        assertThat(subject.get(subject.version(), CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L)))
+                .isNull();
+    }
+
+    @Test
+    void failedResponsesAreNotCached() {
+        final var version = subject.version();
+        subject.put(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L), balanceResponse(INVALID_ACCOUNT_ID, 0L));
+
+        assertThat(subject.get(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L)))
+                .isNull();
+    }
+
+    @Test
+    void onlyFinalReceiptsAreCached() {
+        final var version = subject.version();
+        final var unknown = receiptResponse(UNKNOWN);
+        subject.put(version, TRANSACTION_GET_RECEIPT, receiptQuery(), unknown);
+        assertThat(subject.get(version, TRANSACTION_GET_RECEIPT, receiptQuery())).isNull();
+
+        final var success = receiptResponse(SUCCESS);
+        subject.put(version, TRANSACTION_GET_RECEIPT, receiptQuery(), success);
+        assertThat(subject.get(version, TRANSACTION_GET_RECEIPT, receiptQuery())).isSameAs(success);
+    }
+
+    @Test
+    void otherQueryTypesAreNotCached() {
+        final var version = subject.version();
+        final var query = Query.newBuilder()
+                .fileGetInfo(FileGetInfoQuery.DEFAULT)
+                .build();
+        final var response = Response.newBuilder()
+                .fileGetInfo(FileGetInfoResponse.newBuilder()
+                        .header(ResponseHeader.newBuilder().nodeTransactionPrecheckCode(OK)))
+                .build();
+
+        subject.put(version, FILE_GET_INFO, query, response);
+
+        assertThat(subject.get(version, FILE_GET_INFO, query)).isNull();
+    }
+
+    @Test
+    void disabledCacheNeverReturnsAnything() {
+        final var disabled = cacheWithMaxEntries(0);
+        final var version = disabled.version();
+
+        disabled.put(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L), balanceResponse(OK, 42L));
+
+        assertThat(disabled.get(version, CRYPTOGET_ACCOUNT_BALANCE, balanceQuery(1L)))
+                .isNull();
+    }
+
+    private static Query balanceQuery(final long paymentNonce) {
+        final var payment = Transaction.newBuilder()
+                .bodyBytes(Bytes.wrap(new byte[] {(byte) paymentNonce}))
+                .build();
+        return Query.newBuilder()
+                .cryptogetAccountBalance(CryptoGetAccountBalanceQuery.newBuilder()
+                        .header(QueryHeader.newBuilder().payment(payment))
+                        .accountID(ACCOUNT_ID))
+                .build();
+    }
+
+    private static Response balanceResponse(final ResponseCodeEnum status, final long balance) {
+        return Response.newBuilder()
+                .cryptogetAccountBalance(CryptoGetAccountBalanceResponse.newBuilder()
+                        .header(ResponseHeader.newBuilder().nodeTransactionPrecheckCode(status))
+                        .accountID(ACCOUNT_ID)
+                        .balance(balance))
+                .build();
+    }
+
+    private static Query receiptQuery() {
+        return Query.newBuilder()
+                .transactionGetReceipt(TransactionGetReceiptQuery.newBuilder()
+                        .transactionID(
+                                TransactionID.newBuilder().accountID(ACCOUNT_ID).build()))
+                .build();
+    }
+
+    private static Response receiptResponse(final ResponseCodeEnum status) {
+        return Response.newBuilder()
+                .transactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .header(ResponseHeader.newBuilder().nodeTransactionPrecheckCode(OK))
+                        .receipt(TransactionReceipt.newBuilder().status(status)))
+                .build();
+    }
+
+    private static QueryResponseCache cacheWithMaxEntries(final int maxEntries) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("cache.queries.maxEntries", maxEntries)
+                .getOrCreateConfig();
+        return new QueryResponseCache(TestUtils.metrics(), () -> new VersionedConfigImpl(config, 1));
+    }
+}
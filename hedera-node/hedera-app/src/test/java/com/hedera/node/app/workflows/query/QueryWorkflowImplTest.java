@@ -34,6 +34,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.BDDMockito.given;
@@ -152,6 +153,9 @@ class QueryWorkflowImplTest extends AppTestBase {
     @Mock
     private OpWorkflowMetrics opWorkflowMetrics;
 
+    @Mock(strictness = LENIENT)
+    private QueryResponseCache queryResponseCache;
+
     private VersionedConfiguration configuration;
     private Transaction payment;
     private TransactionBody txBody;
@@ -221,6 +225,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 true);
     }
 
@@ -242,6 +247,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -259,6 +265,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -276,6 +283,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -293,6 +301,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -310,6 +319,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -327,6 +337,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -344,6 +355,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -361,6 +373,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -378,6 +391,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -395,6 +409,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -412,6 +427,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -429,6 +445,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         null,
                         instantSource,
                         opWorkflowMetrics,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -446,6 +463,25 @@ class QueryWorkflowImplTest extends AppTestBase {
                         synchronizedThrottleAccumulator,
                         null,
                         opWorkflowMetrics,
+                        queryResponseCache,
+                        true))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new QueryWorkflowImpl(
+                        stateAccessor,
+                        submissionManager,
+                        queryChecker,
+                        ingestChecker,
+                        dispatcher,
+                        queryParser,
+                        configProvider,
+                        recordCache,
+                        authorizer,
+                        exchangeRateManager,
+                        feeManager,
+                        synchronizedThrottleAccumulator,
+                        instantSource,
+                        null,
+                        queryResponseCache,
                         true))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
@@ -462,6 +498,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                         feeManager,
                         synchronizedThrottleAccumulator,
                         instantSource,
+                        opWorkflowMetrics,
                         null,
                         true))
                 .isInstanceOf(NullPointerException.class);
@@ -500,6 +537,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 shouldCharge);
         final var responseBuffer = newEmptyBuffer();
         // when
@@ -515,6 +553,47 @@ class QueryWorkflowImplTest extends AppTestBase {
         verify(opWorkflowMetrics, never()).incrementThrottled(any());
     }
 
+    @Test
+    void testCachedResponseIsReturnedWithoutValidation() throws ParseException, PreCheckException {
+        // given
+        final var cachedResponse = Response.newBuilder()
+                .fileGetInfo(FileGetInfoResponse.newBuilder()
+                        .header(ResponseHeader.newBuilder()
+                                .responseType(ANSWER_ONLY)
+                                .nodeTransactionPrecheckCode(OK)
+                                .build())
+                        .build())
+                .build();
+        given(queryResponseCache.version()).willReturn(2L);
+        given(queryResponseCache.get(eq(2L), eq(FILE_GET_INFO), any())).willReturn(cachedResponse);
+        final var responseBuffer = newEmptyBuffer();
+
+        // when
+        workflow.handleQuery(requestBuffer, responseBuffer);
+
+        // then
+        assertThat(parseResponse(responseBuffer)).isEqualTo(cachedResponse);
+        verify(handler, never()).validate(any());
+        verify(handler, never()).findResponse(any(), any());
+        verify(queryResponseCache, never()).put(anyLong(), any(), any(), any());
+        verifyMetricsSent();
+    }
+
+    @Test
+    void testFoundResponseIsOfferedToCache() throws ParseException {
+        // given
+        given(queryResponseCache.version()).willReturn(2L);
+        final var responseBuffer = newEmptyBuffer();
+
+        // when
+        workflow.handleQuery(requestBuffer, responseBuffer);
+
+        // then
+        final var response = parseResponse(responseBuffer);
+        verify(queryResponseCache).put(eq(2L), eq(FILE_GET_INFO), any(), eq(response));
+        verifyMetricsSent();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void testSuccessIfPaymentRequired(boolean shouldCharge) throws ParseException {
@@ -534,6 +613,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 shouldCharge);
         given(handler.computeFees(any(QueryContext.class))).willReturn(new Fees(100L, 0L, 100L));
         given(handler.requiresNodePayment(any())).willReturn(true);
@@ -756,6 +836,7 @@ class QueryWorkflowImplTest extends AppTestBase {
                 synchronizedThrottleAccumulator,
                 instantSource,
                 opWorkflowMetrics,
+                queryResponseCache,
                 false);
         when(synchronizedThrottleAccumulator.shouldThrottle(eq(HederaFunctionality.FILE_GET_INFO), any(), any(), any()))
                 .thenReturn(true);
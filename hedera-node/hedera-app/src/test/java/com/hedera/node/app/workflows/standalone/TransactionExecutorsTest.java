@@ -31,6 +31,7 @@ import com.hedera.hapi.node.base.Duration;
 import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.KeyList;
+import com.hedera.hapi.node.base.ResponseCodeEnum;
 import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.contract.ContractCallTransactionBody;
@@ -64,6 +65,7 @@ import com.hedera.node.app.services.AppContextImpl;
 import com.hedera.node.app.services.ServicesRegistry;
 import com.hedera.node.app.spi.AppContext;
 import com.hedera.node.app.spi.signatures.SignatureVerifier;
+import com.hedera.node.app.state.recordcache.LegacyListRecordSource;
 import com.hedera.node.app.state.recordcache.RecordCacheService;
 import com.hedera.node.app.throttle.AppThrottleFactory;
 import com.hedera.node.app.throttle.CongestionThrottleService;
@@ -109,6 +111,7 @@ import java.util.Set;
 import java.util.Spliterators;
 import java.util.function.Function;
 import java.util.stream.StreamSupport;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
 import org.hyperledger.besu.evm.tracing.StandardJsonTracer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -188,6 +191,37 @@ public class TransactionExecutorsTest {
         assertThat(stringWriter.toString()).startsWith(EXPECTED_TRACE_START);
     }
 
+    @Test
+    void executorComponentIsReadyToReplayTransactions() {
+        final var overrides = Map.of("hedera.transaction.maxMemoUtf8Bytes", "101");
+        final var state = genesisState(overrides);
+        final var noTracers = new TransactionExecutors.TracerBinding() {
+            @Override
+            public void runWhere(@NonNull final List<OperationTracer> tracers, @NonNull final Runnable runnable) {
+                runnable.run();
+            }
+
+            @Override
+            public List<OperationTracer> get() {
+                return List.of();
+            }
+        };
+
+        // Replay a FileCreate phase by phase, the way StandaloneTransactionReplay times it
+        final var component = TRANSACTION_EXECUTORS.newExecutorComponent(state, overrides, noTracers);
+        final var dispatch =
+                component.standaloneDispatchFactory().newDispatch(state, uploadMultipurposeInitcode(), Instant.EPOCH);
+        component.dispatchProcessor().processDispatch(dispatch);
+        final var recordSource = dispatch.stack()
+                .buildHandleOutput(Instant.EPOCH, component.exchangeRateManager().exchangeRates())
+                .recordSourceOrThrow();
+        final var records = ((LegacyListRecordSource) recordSource).precomputedRecords();
+
+        final var receipt = records.getFirst().transactionRecord().receiptOrThrow();
+        assertThat(receipt.status()).isEqualTo(ResponseCodeEnum.SUCCESS);
+        assertThat(receipt.fileIDOrThrow()).isEqualTo(EXPECTED_INITCODE_ID);
+    }
+
     private TransactionBody contractCallMultipurposePickFunction() {
         final var callData = PICK_FUNCTION.encodeCallWithArgs();
         return newBodyBuilder()
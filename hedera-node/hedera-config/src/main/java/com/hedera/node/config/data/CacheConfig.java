@@ -17,10 +17,14 @@
 package com.hedera.node.config.data;
 
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
 
 @ConfigData("cache")
 public record CacheConfig(
         @ConfigProperty(value = "records.ttl", defaultValue = "180") @NetworkProperty int recordsTtl,
-        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads) {}
+        @ConfigProperty(value = "warmThreads", defaultValue = "30") @NetworkProperty int warmThreads,
+        @ConfigProperty(value = "signatures.maxEntries", defaultValue = "100000") @NodeProperty
+                int signaturesMaxEntries,
+        @ConfigProperty(value = "queries.maxEntries", defaultValue = "50000") @NodeProperty int queriesMaxEntries) {}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.config.data;
+
+import com.hedera.node.config.NodeProperty;
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+
+/**
+ * Configuration for the dedicated executors that isolate the node's background workloads from each other. Thread
+ * counts of zero mean "one thread per available processor". The size of the cache warmup pool is still taken from
+ * {@link CacheConfig#warmThreads()}.
+ *
+ * @param preHandleThreads            The number of threads used to pre-handle transactions and verify signatures
+ * @param blockHashingThreads         The number of threads used to serialize and hash block items
+ * @param recordStreamThreads         The number of threads used to write record stream files
+ * @param recordStreamVirtualThreads  If true, record stream files are written on virtual threads instead of a fixed
+ *                                    pool; {@code recordStreamThreads} is then ignored
+ * @param cacheWarmupVirtualThreads   If true, the cache is warmed on virtual threads instead of a fixed pool
+ * @param queryThreads                The number of threads used to answer queries received over gRPC
+ * @param queriesIsolated             If true, queries are answered on the query pool; otherwise they are answered
+ *                                    directly on the gRPC transport threads
+ * @param metricsEnabled              If true, queue depth, active thread and task latency metrics are registered for
+ *                                    each executor
+ */
+@ConfigData("executors")
+public record ExecutorsConfig(
+        @ConfigProperty(value = "preHandle.threads", defaultValue = "0") @NodeProperty int preHandleThreads,
+        @ConfigProperty(value = "blockHashing.threads", defaultValue = "0") @NodeProperty int blockHashingThreads,
+        @ConfigProperty(value = "recordStream.threads", defaultValue = "2") @NodeProperty int recordStreamThreads,
+        @ConfigProperty(value = "recordStream.virtualThreads", defaultValue = "false") @NodeProperty
+                boolean recordStreamVirtualThreads,
+        @ConfigProperty(value = "cacheWarmup.virtualThreads", defaultValue = "false") @NodeProperty
+                boolean cacheWarmupVirtualThreads,
+        @ConfigProperty(value = "queries.threads", defaultValue = "0") @NodeProperty int queryThreads,
+        @ConfigProperty(value = "queries.isolated", defaultValue = "true") @NodeProperty boolean queriesIsolated,
+        @ConfigProperty(defaultValue = "true") @NodeProperty boolean metricsEnabled) {}
@@ -51,6 +51,7 @@ import com.hedera.node.config.data.ConsensusConfig;
 import com.hedera.node.config.data.ContractsConfig;
 import com.hedera.node.config.data.CryptoCreateWithAliasConfig;
 import com.hedera.node.config.data.EntitiesConfig;
+import com.hedera.node.config.data.ExecutorsConfig;
 import com.hedera.node.config.data.ExpiryConfig;
 import com.hedera.node.config.data.FeesConfig;
 import com.hedera.node.config.data.FilesConfig;
@@ -167,6 +168,7 @@ public final class HederaTestConfigBuilder {
                 .withConfigDataType(ContractsConfig.class)
                 .withConfigDataType(CryptoCreateWithAliasConfig.class)
                 .withConfigDataType(EntitiesConfig.class)
+                .withConfigDataType(ExecutorsConfig.class)
                 .withConfigDataType(ExpiryConfig.class)
                 .withConfigDataType(FeesConfig.class)
                 .withConfigDataType(FilesConfig.class)
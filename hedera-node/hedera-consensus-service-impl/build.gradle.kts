@@ -17,6 +17,7 @@
 plugins {
     id("com.hedera.gradle.services")
     id("com.hedera.gradle.services-publish")
+    id("com.hedera.gradle.feature.benchmark")
 }
 
 description = "Default Hedera Consensus Service Implementation"
@@ -37,3 +38,10 @@ testModuleInfo {
     requires("org.mockito.junit.jupiter")
     requiresStatic("com.github.spotbugs.annotations")
 }
+
+jmhModuleInfo {
+    requires("com.hedera.node.app.service.consensus.impl")
+    requires("com.hedera.node.hapi")
+    requires("com.hedera.pbj.runtime")
+    requires("jmh.core")
+}
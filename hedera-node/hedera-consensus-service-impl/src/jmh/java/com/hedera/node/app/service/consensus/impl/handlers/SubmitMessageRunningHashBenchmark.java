@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.consensus.impl.handlers;
+
+import static com.hedera.node.app.service.consensus.impl.handlers.ConsensusSubmitMessageHandler.RUNNING_HASH_VERSION;
+import static com.hedera.node.app.service.consensus.impl.handlers.ConsensusSubmitMessageHandler.noThrowSha384HashOf;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TopicID;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.consensus.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hapi.node.state.consensus.Topic;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-message cost of updating a topic's running hash and sequence number in
+ * {@link ConsensusSubmitMessageHandler}, comparing {@link TopicRunningHashCalculator} to the previous
+ * {@link ObjectOutputStream} based computation. Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SubmitMessageRunningHashBenchmark {
+    private static final AccountID PAYER =
+            AccountID.newBuilder().shardNum(0).realmNum(0).accountNum(1001).build();
+    private static final TopicID TOPIC_ID =
+            TopicID.newBuilder().shardNum(0).realmNum(0).topicNum(1002).build();
+
+    /**
+     * The size of each submitted message in bytes.
+     */
+    @Param({"100", "1024"})
+    private int messageSize;
+
+    private final ConsensusSubmitMessageHandler handler = new ConsensusSubmitMessageHandler();
+    private TransactionBody txn;
+    private Bytes message;
+    private Topic topic;
+    private Instant consensusNow;
+
+    @Setup
+    public void setup() {
+        final var bytes = new byte[messageSize];
+        new Random(messageSize).nextBytes(bytes);
+        message = Bytes.wrap(bytes);
+        txn = TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder().accountID(PAYER))
+                .consensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+                        .topicID(TOPIC_ID)
+                        .message(message))
+                .build();
+        topic = Topic.newBuilder()
+                .topicId(TOPIC_ID)
+                .runningHash(Bytes.wrap(new byte[48]))
+                .build();
+        consensusNow = Instant.ofEpochSecond(1_700_000_000L);
+    }
+
+    @Benchmark
+    public Topic handleUpdate() {
+        consensusNow = consensusNow.plusNanos(1);
+        topic = handler.updateRunningHashAndSequenceNumber(txn, topic, consensusNow);
+        return topic;
+    }
+
+    @Benchmark
+    public Bytes runningHash() {
+        consensusNow = consensusNow.plusNanos(1);
+        final var sequenceNumber = topic.sequenceNumber() + 1;
+        final var runningHash = TopicRunningHashCalculator.nextRunningHash(
+                topic.runningHash(), PAYER, TOPIC_ID, consensusNow, sequenceNumber, message);
+        topic = topic.copyBuilder()
+                .sequenceNumber(sequenceNumber)
+                .runningHash(runningHash)
+                .build();
+        return runningHash;
+    }
+
+    @Benchmark
+    public Bytes legacyRunningHash() throws IOException {
+        consensusNow = consensusNow.plusNanos(1);
+        final var sequenceNumber = topic.sequenceNumber() + 1;
+        final var boas = new ByteArrayOutputStream();
+        final Bytes runningHash;
+        try (final var out = new ObjectOutputStream(boas)) {
+            out.writeObject(topic.runningHash().toByteArray());
+            out.writeLong(RUNNING_HASH_VERSION);
+            out.writeLong(PAYER.shardNum());
+            out.writeLong(PAYER.realmNum());
+            out.writeLong(PAYER.accountNumOrElse(0L));
+            out.writeLong(TOPIC_ID.shardNum());
+            out.writeLong(TOPIC_ID.realmNum());
+            out.writeLong(TOPIC_ID.topicNum());
+            out.writeLong(consensusNow.getEpochSecond());
+            out.writeInt(consensusNow.getNano());
+            out.writeLong(sequenceNumber);
+            out.writeObject(noThrowSha384HashOf(message.toByteArray()));
+            out.flush();
+            runningHash = Bytes.wrap(noThrowSha384HashOf(boas.toByteArray()));
+        }
+        topic = topic.copyBuilder()
+                .sequenceNumber(sequenceNumber)
+                .runningHash(runningHash)
+                .build();
+        return runningHash;
+    }
+}
@@ -21,7 +21,6 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_CHUNK_TRANSACTI
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_SUBMIT_KEY;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_TOPIC_ID;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_TOPIC_MESSAGE;
-import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_TRANSACTION;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.MESSAGE_SIZE_TOO_LARGE;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.BASIC_ENTITY_ID_SIZE;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.LONG_SIZE;
@@ -40,7 +39,6 @@ import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.consensus.ConsensusSubmitMessageTransactionBody;
 import com.hedera.hapi.node.state.consensus.Topic;
 import com.hedera.hapi.node.transaction.TransactionBody;
-import com.hedera.node.app.hapi.utils.CommonPbjConverters;
 import com.hedera.node.app.service.consensus.ReadableTopicStore;
 import com.hedera.node.app.service.consensus.impl.WritableTopicStore;
 import com.hedera.node.app.service.consensus.impl.records.ConsensusSubmitMessageStreamBuilder;
@@ -55,9 +53,6 @@ import com.hedera.node.config.data.ConsensusConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
@@ -128,22 +123,18 @@ public class ConsensusSubmitMessageHandler implements TransactionHandler {
         final var config = handleContext.configuration().getConfigData(ConsensusConfig.class);
         validateTransaction(txn, config, topic);
 
-        try {
-            final var updatedTopic = updateRunningHashAndSequenceNumber(txn, topic, handleContext.consensusNow());
+        final var updatedTopic = updateRunningHashAndSequenceNumber(txn, topic, handleContext.consensusNow());
 
-            /* --- Put the modified topic. It will be in underlying state's modifications map.
-            It will not be committed to state until commit is called on the state.--- */
-            topicStore.put(updatedTopic);
+        /* --- Put the modified topic. It will be in underlying state's modifications map.
+        It will not be committed to state until commit is called on the state.--- */
+        topicStore.put(updatedTopic);
 
-            final var recordBuilder =
-                    handleContext.savepointStack().getBaseBuilder(ConsensusSubmitMessageStreamBuilder.class);
-            recordBuilder
-                    .topicRunningHash(updatedTopic.runningHash())
-                    .topicSequenceNumber(updatedTopic.sequenceNumber())
-                    .topicRunningHashVersion(RUNNING_HASH_VERSION);
-        } catch (IOException e) {
-            throw new HandleException(INVALID_TRANSACTION);
-        }
+        final var recordBuilder =
+                handleContext.savepointStack().getBaseBuilder(ConsensusSubmitMessageStreamBuilder.class);
+        recordBuilder
+                .topicRunningHash(updatedTopic.runningHash())
+                .topicSequenceNumber(updatedTopic.sequenceNumber())
+                .topicRunningHashVersion(RUNNING_HASH_VERSION);
     }
 
     /**
@@ -220,51 +211,25 @@ public class ConsensusSubmitMessageHandler implements TransactionHandler {
      * @param topic the topic to which the message is being submitted
      * @param consensusNow the consensus time of the active transaction
      * @return the updated topic
-     * @throws IOException if there is an error while updating the running hash
      */
     public Topic updateRunningHashAndSequenceNumber(
-            @NonNull final TransactionBody txn, @NonNull final Topic topic, @Nullable Instant consensusNow)
-            throws IOException {
+            @NonNull final TransactionBody txn, @NonNull final Topic topic, @Nullable Instant consensusNow) {
         requireNonNull(txn);
         requireNonNull(topic);
 
         final var submitMessage = txn.consensusSubmitMessageOrThrow();
         final var payer = txn.transactionIDOrElse(TransactionID.DEFAULT).accountIDOrElse(AccountID.DEFAULT);
         final var topicId = submitMessage.topicIDOrElse(TopicID.DEFAULT);
-        final var message = CommonPbjConverters.asBytes(submitMessage.message());
-
-        // This line will be uncommented once there is PBJ fix to make copyBuilder() public
-        final var topicBuilder = topic.copyBuilder();
+        final var message = submitMessage.message();
 
         final var effectiveConsensusNow = (consensusNow == null) ? Instant.ofEpochSecond(0) : consensusNow;
+        final var sequenceNumber = topic.sequenceNumber() + 1;
+        final var runningHash = TopicRunningHashCalculator.nextRunningHash(
+                topic.runningHash(), payer, topicId, effectiveConsensusNow, sequenceNumber, message);
 
-        var sequenceNumber = topic.sequenceNumber();
-        var runningHash = topic.runningHash();
-
-        final var boas = new ByteArrayOutputStream();
-        try (final var out = new ObjectOutputStream(boas)) {
-            out.writeObject(CommonPbjConverters.asBytes(runningHash));
-            out.writeLong(RUNNING_HASH_VERSION);
-            out.writeLong(payer.shardNum());
-            out.writeLong(payer.realmNum());
-            out.writeLong(payer.accountNumOrElse(0L));
-            out.writeLong(topicId.shardNum());
-            out.writeLong(topicId.realmNum());
-            out.writeLong(topicId.topicNum());
-            out.writeLong(effectiveConsensusNow.getEpochSecond());
-            out.writeInt(effectiveConsensusNow.getNano());
-
-            /* Update the sequence number */
-            topicBuilder.sequenceNumber(++sequenceNumber);
-
-            out.writeLong(sequenceNumber);
-            out.writeObject(noThrowSha384HashOf(message));
-            out.flush();
-            runningHash = Bytes.wrap(noThrowSha384HashOf(boas.toByteArray()));
-
-            /* Update the running hash */
-            topicBuilder.runningHash(runningHash);
-        }
+        final var topicBuilder = topic.copyBuilder();
+        topicBuilder.sequenceNumber(sequenceNumber);
+        topicBuilder.runningHash(runningHash);
         return topicBuilder.build();
     }
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.consensus.impl.handlers;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TopicID;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+/**
+ * Computes the next running hash of a topic without allocating intermediate buffers.
+ *
+ * <p>The running hash is the SHA-384 hash of a Java-serialized record of the previous running hash, the payer and
+ * topic ids, the consensus time, the new sequence number, and the SHA-384 hash of the message. Historically these
+ * values were written through an {@link java.io.ObjectOutputStream}, which allocates a stream, its block buffers and
+ * handle tables for every message. Since the record always has the same shape, this class instead feeds the
+ * exact same bytes to a per-thread {@link MessageDigest}, so the only allocation per message is the returned hash.
+ */
+public final class TopicRunningHashCalculator {
+    /**
+     * The length of a SHA-384 hash in bytes.
+     */
+    private static final int SHA_384_LENGTH = 48;
+
+    /**
+     * The length of the serialized primitives; eight longs, one int and the sequence number.
+     */
+    private static final int PRIMITIVES_LENGTH = 8 * Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    /**
+     * The stream header followed by the start of a new {@code byte[]} object and its class descriptor, as written
+     * by {@link java.io.ObjectOutputStream}. The array length and contents follow.
+     */
+    private static final byte[] STREAM_HEADER_AND_BYTE_ARRAY_START = {
+        // STREAM_MAGIC, STREAM_VERSION
+        (byte) 0xAC, (byte) 0xED, 0x00, 0x05,
+        // TC_ARRAY, TC_CLASSDESC, class name "[B"
+        0x75, 0x72, 0x00, 0x02, 0x5B, 0x42,
+        // serialVersionUID of byte[]
+        (byte) 0xAC, (byte) 0xF3, 0x17, (byte) 0xF8, 0x06, 0x08, 0x54, (byte) 0xE0,
+        // SC_SERIALIZABLE, no fields, TC_ENDBLOCKDATA, TC_NULL super class
+        0x02, 0x00, 0x00, 0x78, 0x70
+    };
+
+    /**
+     * The start of the second {@code byte[]} object, which refers back to the class descriptor written above,
+     * followed by the length of the message hash.
+     */
+    private static final byte[] MESSAGE_HASH_ARRAY_START = {
+        // TC_ARRAY, TC_REFERENCE to the first handle
+        0x75, 0x71, 0x00, 0x7E, 0x00, 0x00,
+        // array length
+        0x00, 0x00, 0x00, SHA_384_LENGTH
+    };
+
+    /**
+     * The reusable digest and scratch buffers of each handling thread.
+     */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private TopicRunningHashCalculator() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * Computes the running hash of a topic after a message is submitted to it. The result is byte-for-byte
+     * identical to hashing the {@link java.io.ObjectOutputStream} serialization of the same values.
+     *
+     * @param runningHash the current running hash of the topic
+     * @param payer the payer of the submit message transaction
+     * @param topicId the id of the topic
+     * @param consensusNow the consensus time of the submit message transaction
+     * @param sequenceNumber the new sequence number of the topic
+     * @param message the submitted message
+     * @return the new running hash
+     */
+    @NonNull
+    public static Bytes nextRunningHash(
+            @NonNull final Bytes runningHash,
+            @NonNull final AccountID payer,
+            @NonNull final TopicID topicId,
+            @NonNull final Instant consensusNow,
+            final long sequenceNumber,
+            @NonNull final Bytes message) {
+        requireNonNull(runningHash);
+        requireNonNull(payer);
+        requireNonNull(topicId);
+        requireNonNull(consensusNow);
+        requireNonNull(message);
+
+        final var scratch = SCRATCH.get();
+        final var digest = scratch.digest;
+        digest.reset();
+
+        // Hash the message first, so the digest can be reused for the running hash
+        message.writeTo(digest);
+        try {
+            digest.digest(scratch.messageHash, 0, SHA_384_LENGTH);
+        } catch (final DigestException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+
+        final var buffer = scratch.buffer.clear();
+        buffer.putInt((int) runningHash.length());
+        digest.update(STREAM_HEADER_AND_BYTE_ARRAY_START);
+        digest.update(scratch.bytes, 0, Integer.BYTES);
+        runningHash.writeTo(digest);
+
+        buffer.clear();
+        // TC_BLOCKDATA and its length
+        buffer.put((byte) 0x77).put((byte) PRIMITIVES_LENGTH);
+        buffer.putLong(ConsensusSubmitMessageHandler.RUNNING_HASH_VERSION);
+        buffer.putLong(payer.shardNum());
+        buffer.putLong(payer.realmNum());
+        buffer.putLong(payer.accountNumOrElse(0L));
+        buffer.putLong(topicId.shardNum());
+        buffer.putLong(topicId.realmNum());
+        buffer.putLong(topicId.topicNum());
+        buffer.putLong(consensusNow.getEpochSecond());
+        buffer.putInt(consensusNow.getNano());
+        buffer.putLong(sequenceNumber);
+        digest.update(scratch.bytes, 0, buffer.position());
+
+        digest.update(MESSAGE_HASH_ARRAY_START);
+        digest.update(scratch.messageHash);
+        return Bytes.wrap(digest.digest());
+    }
+
+    /**
+     * The per-thread state used to compute running hashes.
+     */
+    private static final class Scratch {
+        private final MessageDigest digest;
+        private final byte[] messageHash = new byte[SHA_384_LENGTH];
+        private final byte[] bytes = new byte[2 + PRIMITIVES_LENGTH];
+        private final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        private Scratch() {
+            try {
+                digest = MessageDigest.getInstance("SHA-384");
+            } catch (final NoSuchAlgorithmException fatal) {
+                throw new IllegalStateException(fatal);
+            }
+        }
+    }
+}
@@ -62,9 +62,6 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
-import edu.umd.cs.findbugs.annotations.NonNull;
-import edu.umd.cs.findbugs.annotations.Nullable;
-import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
@@ -196,28 +193,6 @@ class ConsensusSubmitMessageHandlerTest extends ConsensusTestBase {
                 expectedTopic.runningHash().toString());
     }
 
-    @Test
-    @DisplayName("Handle throws IOException")
-    void handleThrowsIOException() {
-        givenValidTopic();
-        subject = new ConsensusSubmitMessageHandler() {
-            @Override
-            public Topic updateRunningHashAndSequenceNumber(
-                    @NonNull final TransactionBody txn, @NonNull final Topic topic, @Nullable Instant consensusNow)
-                    throws IOException {
-                throw new IOException();
-            }
-        };
-
-        final var txn = newSubmitMessageTxn(topicEntityNum, "");
-        given(handleContext.body()).willReturn(txn);
-
-        given(handleContext.consensusNow()).willReturn(consensusTimestamp);
-
-        final var msg = assertThrows(HandleException.class, () -> subject.handle(handleContext));
-        assertThat(msg.getStatus()).isEqualTo(ResponseCodeEnum.INVALID_TRANSACTION);
-    }
-
     @Test
     @DisplayName("Handle works as expected if Consensus time is null")
     void handleWorksAsExpectedIfConsensusTimeIsNull() {
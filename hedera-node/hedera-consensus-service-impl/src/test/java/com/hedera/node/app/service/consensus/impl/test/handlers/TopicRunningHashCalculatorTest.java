@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.consensus.impl.test.handlers;
+
+import static com.hedera.node.app.service.consensus.impl.handlers.ConsensusSubmitMessageHandler.RUNNING_HASH_VERSION;
+import static com.hedera.node.app.service.consensus.impl.handlers.ConsensusSubmitMessageHandler.noThrowSha384HashOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TopicID;
+import com.hedera.node.app.service.consensus.impl.handlers.TopicRunningHashCalculator;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TopicRunningHashCalculatorTest {
+    private static final AccountID PAYER =
+            AccountID.newBuilder().shardNum(1).realmNum(2).accountNum(1234).build();
+    private static final TopicID TOPIC_ID =
+            TopicID.newBuilder().shardNum(1).realmNum(2).topicNum(5678).build();
+    private static final Instant CONSENSUS_NOW = Instant.ofEpochSecond(1_234_567L, 890);
+
+    @Test
+    @DisplayName("Running hash matches the object stream serialization for random inputs")
+    void matchesObjectStreamSerialization() throws IOException {
+        final var random = new Random(1_234L);
+        for (int i = 0; i < 1_000; i++) {
+            final var runningHash = randomBytes(random, i % 10 == 0 ? 0 : 48);
+            final var payer = AccountID.newBuilder()
+                    .shardNum(random.nextLong())
+                    .realmNum(random.nextLong())
+                    .accountNum(random.nextLong())
+                    .build();
+            final var topicId = TopicID.newBuilder()
+                    .shardNum(random.nextLong())
+                    .realmNum(random.nextLong())
+                    .topicNum(random.nextLong())
+                    .build();
+            final var consensusNow = Instant.ofEpochSecond(random.nextInt(), random.nextInt(1_000_000_000));
+            final var sequenceNumber = random.nextLong();
+            final var message = randomBytes(random, random.nextInt(1024));
+
+            assertEquals(
+                    legacyRunningHash(runningHash, payer, topicId, consensusNow, sequenceNumber, message),
+                    TopicRunningHashCalculator.nextRunningHash(
+                            runningHash, payer, topicId, consensusNow, sequenceNumber, message));
+        }
+    }
+
+    @Test
+    @DisplayName("Payer without an account number is hashed with account number zero")
+    void payerAliasIsHashedAsZero() throws IOException {
+        final var payer = AccountID.newBuilder()
+                .shardNum(1)
+                .realmNum(2)
+                .alias(Bytes.wrap("alias"))
+                .build();
+        final var runningHash = Bytes.wrap(new byte[48]);
+        final var message = Bytes.wrap("message");
+
+        assertEquals(
+                legacyRunningHash(runningHash, payer, TOPIC_ID, CONSENSUS_NOW, 1L, message),
+                TopicRunningHashCalculator.nextRunningHash(runningHash, payer, TOPIC_ID, CONSENSUS_NOW, 1L, message));
+    }
+
+    @Test
+    @DisplayName("Consecutive running hashes on different threads are consistent")
+    void consecutiveHashesAreConsistentAcrossThreads() throws Exception {
+        var expected = Bytes.wrap(new byte[48]);
+        for (long sequenceNumber = 1; sequenceNumber <= 10; sequenceNumber++) {
+            expected = legacyRunningHash(
+                    expected, PAYER, TOPIC_ID, CONSENSUS_NOW, sequenceNumber, Bytes.wrap("msg" + sequenceNumber));
+        }
+
+        var actual = Bytes.wrap(new byte[48]);
+        for (long sequenceNumber = 1; sequenceNumber <= 10; sequenceNumber++) {
+            final var previous = actual;
+            final var n = sequenceNumber;
+            actual = sequenceNumber % 2 == 0
+                    ? TopicRunningHashCalculator.nextRunningHash(
+                            previous, PAYER, TOPIC_ID, CONSENSUS_NOW, n, Bytes.wrap("msg" + n))
+                    : CompletableFuture.supplyAsync(() -> TopicRunningHashCalculator.nextRunningHash(
+                                    previous, PAYER, TOPIC_ID, CONSENSUS_NOW, n, Bytes.wrap("msg" + n)))
+                            .get();
+        }
+        assertEquals(expected, actual);
+    }
+
+    private static Bytes randomBytes(final Random random, final int length) {
+        final var bytes = new byte[length];
+        random.nextBytes(bytes);
+        return Bytes.wrap(bytes);
+    }
+
+    private static Bytes legacyRunningHash(
+            final Bytes runningHash,
+            final AccountID payer,
+            final TopicID topicId,
+            final Instant consensusNow,
+            final long sequenceNumber,
+            final Bytes message)
+            throws IOException {
+        final var boas = new ByteArrayOutputStream();
+        try (final var out = new ObjectOutputStream(boas)) {
+            out.writeObject(runningHash.toByteArray());
+            out.writeLong(RUNNING_HASH_VERSION);
+            out.writeLong(payer.shardNum());
+            out.writeLong(payer.realmNum());
+            out.writeLong(payer.accountNumOrElse(0L));
+            out.writeLong(topicId.shardNum());
+            out.writeLong(topicId.realmNum());
+            out.writeLong(topicId.topicNum());
+            out.writeLong(consensusNow.getEpochSecond());
+            out.writeInt(consensusNow.getNano());
+            out.writeLong(sequenceNumber);
+            out.writeObject(noThrowSha384HashOf(message.toByteArray()));
+            out.flush();
+            return Bytes.wrap(noThrowSha384HashOf(boas.toByteArray()));
+        }
+    }
+}
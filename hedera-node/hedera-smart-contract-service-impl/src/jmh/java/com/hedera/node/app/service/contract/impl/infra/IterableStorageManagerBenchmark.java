@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.Bytecode;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.StorageAccess;
+import com.hedera.node.app.service.contract.impl.state.StorageAccesses;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the time it takes {@link IterableStorageManager} to splice the storage linked lists of contracts
+ * that each write around a thousand slots in a single transaction.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IterableStorageManagerBenchmark {
+    /**
+     * The number of contracts writing storage in the transaction.
+     */
+    @Param({"1", "10"})
+    private int numContracts;
+
+    /**
+     * The number of slots each contract already has in state.
+     */
+    @Param({"1000"})
+    private int existingSlots;
+
+    /**
+     * The number of slots each contract writes in the transaction.
+     */
+    @Param({"1000"})
+    private int slotsWritten;
+
+    /**
+     * The percentage of written slots that are removals of existing slots; the rest are insertions.
+     */
+    @Param({"0", "50", "100"})
+    private int removalPercent;
+
+    private final IterableStorageManager subject = new IterableStorageManager();
+    private final Map<ContractID, Bytes> firstKeys = new HashMap<>();
+    private Map<SlotKey, SlotValue> initialSlots;
+    private List<StorageAccesses> allAccesses;
+    private InMemoryContractStateStore store;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        final var random = new Random(1_234L);
+        initialSlots = new HashMap<>();
+        allAccesses = new ArrayList<>();
+        for (int c = 0; c < numContracts; c++) {
+            final var contractId = ContractID.newBuilder().contractNum(1_001L + c).build();
+            // Existing slots use even keys, linked in key order
+            Bytes prevKey = Bytes.EMPTY;
+            for (int i = 0; i < existingSlots; i++) {
+                final var key = keyOf(2L * i);
+                final var nextKey = i + 1 < existingSlots ? keyOf(2L * (i + 1)) : Bytes.EMPTY;
+                initialSlots.put(new SlotKey(contractId, key), new SlotValue(keyOf(i + 1L), prevKey, nextKey));
+                prevKey = key;
+            }
+            firstKeys.put(contractId, existingSlots > 0 ? keyOf(0) : Bytes.EMPTY);
+
+            final List<StorageAccess> accesses = new ArrayList<>(slotsWritten);
+            final int numRemovals = Math.min(existingSlots, slotsWritten * removalPercent / 100);
+            final var removed = random.ints(0, existingSlots).distinct().limit(numRemovals);
+            removed.forEach(i -> accesses.add(
+                    StorageAccess.newWrite(UInt256.valueOf(2L * i), UInt256.valueOf(i + 1L), UInt256.ZERO)));
+            // New slots use odd keys
+            for (int i = 0; i < slotsWritten - numRemovals; i++) {
+                accesses.add(StorageAccess.newWrite(UInt256.valueOf(2L * i + 1), UInt256.ZERO, UInt256.ONE));
+            }
+            allAccesses.add(new StorageAccesses(contractId, accesses));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        store = new InMemoryContractStateStore(new HashMap<>(initialSlots));
+    }
+
+    @Benchmark
+    public void spliceLinkedLists(final Blackhole blackhole) {
+        blackhole.consume(subject.spliceLinkedLists(allAccesses, firstKeys::get, store));
+        blackhole.consume(store.numReads);
+        blackhole.consume(store.numWrites);
+    }
+
+    private static Bytes keyOf(final long n) {
+        return tuweniToPbjBytes(UInt256.valueOf(n));
+    }
+
+    /**
+     * A {@link ContractStateStore} whose slots are kept in a {@link HashMap}, counting reads and writes.
+     */
+    private static class InMemoryContractStateStore implements ContractStateStore {
+        private final Map<SlotKey, SlotValue> slots;
+        private int numReads;
+        private int numWrites;
+
+        InMemoryContractStateStore(final Map<SlotKey, SlotValue> slots) {
+            this.slots = slots;
+        }
+
+        @Override
+        public Bytecode getBytecode(final ContractID contractID) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void putBytecode(final ContractID contractID, final Bytecode code) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeSlot(final SlotKey key) {
+            numWrites++;
+            slots.remove(key);
+        }
+
+        @Override
+        public void putSlot(final SlotKey key, final SlotValue value) {
+            numWrites++;
+            slots.put(key, value);
+        }
+
+        @Override
+        public Set<SlotKey> getModifiedSlotKeys() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SlotValue getSlotValue(final SlotKey key) {
+            numReads++;
+            return slots.get(key);
+        }
+
+        @Override
+        public SlotValue getSlotValueForModify(final SlotKey key) {
+            numReads++;
+            return slots.get(key);
+        }
+
+        @Override
+        public SlotValue getOriginalSlotValue(final SlotKey key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getNumSlots() {
+            return slots.size();
+        }
+
+        @Override
+        public long getNumBytecodes() {
+            return 0;
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(
+                new String[] {"com.hedera.node.app.service.contract.impl.infra.IterableStorageManagerBenchmark"});
+    }
+}
@@ -31,8 +31,12 @@ import com.hedera.node.app.service.contract.impl.state.StorageSizeChange;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -57,6 +61,11 @@ public class IterableStorageManager {
      * scope, "rewrites" the pending changes to maintain per-contract linked lists of owned storage. (The
      * linked lists are used to purge all the contract's storage from state when it expires.)
      *
+     * <p>The changes to each contract's linked list are planned as a batch; that is, all removals and
+     * insertions are spliced into an in-memory view of the touched slots first, so that each slot is read
+     * from the store at most once and written back at most once, no matter how many of its neighbors
+     * changed in the same transaction.
+     *
      * <p>Besides updating the first keys of these linked lists in the scoped accounts, also updates the
      * slots used per contract via
      * {@link HandleHederaOperations#updateStorageMetadata(ContractID, Bytes, int)}.
@@ -71,39 +80,8 @@ public class IterableStorageManager {
             @NonNull final List<StorageAccesses> allAccesses,
             @NonNull final List<StorageSizeChange> allSizeChanges,
             @NonNull final ContractStateStore store) {
-        // map to store the first storage key for each contract
-        final Map<ContractID, Bytes> firstKeys = new HashMap<>();
-
-        // Adjust the storage linked lists for each contract
-        allAccesses.forEach(contractAccesses -> contractAccesses.accesses().forEach(access -> {
-            if (access.isUpdate()) {
-                final var contractId = contractAccesses.contractID();
-                // If we have already changed the head pointer for this contract,
-                // use that; otherwise, get the contract's head pointer from state
-                final var firstContractKey =
-                        firstKeys.computeIfAbsent(contractId, cid -> contractFirstKeyOf(enhancement, contractId));
-
-                // Only certain access types can change the head slot in a contract's storage linked list
-                final var newFirstContractKey =
-                        switch (StorageAccessType.getAccessType(access)) {
-                            case UNKNOWN, READ_ONLY, UPDATE -> firstContractKey;
-                                // We might be removing the head slot from the existing list
-                            case REMOVAL -> removeAccessedValue(
-                                    store,
-                                    firstContractKey,
-                                    contractAccesses.contractID(),
-                                    tuweniToPbjBytes(access.key()));
-                                // We always insert the new slot at the head
-                            case INSERTION -> insertAccessedValue(
-                                    store,
-                                    firstContractKey,
-                                    tuweniToPbjBytes(requireNonNull(access.writtenValue())),
-                                    contractAccesses.contractID(),
-                                    tuweniToPbjBytes(access.key()));
-                        };
-                firstKeys.put(contractAccesses.contractID(), newFirstContractKey);
-            }
-        }));
+        final var firstKeys =
+                spliceLinkedLists(allAccesses, contractId -> contractFirstKeyOf(enhancement, contractId), store);
 
         // Update contract metadata with the net change in slots used
         allSizeChanges.forEach(change -> {
@@ -118,6 +96,51 @@ public class IterableStorageManager {
         });
     }
 
+    /**
+     * Plans and applies the linked list changes implied by the given storage accesses, writing each
+     * touched slot to the store exactly once.
+     *
+     * @param allAccesses the pending changes to storage values
+     * @param firstKeyLookup returns the current first storage key of a contract
+     * @param store the writable state store
+     * @return the new first storage key of each contract with at least one storage write
+     */
+    @NonNull
+    Map<ContractID, Bytes> spliceLinkedLists(
+            @NonNull final List<StorageAccesses> allAccesses,
+            @NonNull final Function<ContractID, Bytes> firstKeyLookup,
+            @NonNull final ContractStateStore store) {
+        final Map<ContractID, LinkedListSplice> splices = new LinkedHashMap<>();
+        allAccesses.forEach(contractAccesses -> {
+            final var contractId = contractAccesses.contractID();
+            contractAccesses.accesses().forEach(access -> {
+                if (access.isUpdate()) {
+                    final var splice = splices.computeIfAbsent(
+                            contractId, cid -> new LinkedListSplice(cid, firstKeyLookup.apply(cid), store));
+                    // Only certain access types can change the head slot in a contract's storage linked list
+                    switch (StorageAccessType.getAccessType(access)) {
+                        case UNKNOWN, READ_ONLY, UPDATE -> {
+                            // No change to the linked list
+                        }
+                            // We might be removing the head slot from the existing list
+                        case REMOVAL -> splice.remove(tuweniToPbjBytes(access.key()));
+                            // We always insert the new slot at the head
+                        case INSERTION -> splice.insert(
+                                tuweniToPbjBytes(access.key()),
+                                tuweniToPbjBytes(requireNonNull(access.writtenValue())));
+                    }
+                }
+            });
+        });
+
+        final Map<ContractID, Bytes> firstKeys = new HashMap<>();
+        splices.forEach((contractId, splice) -> {
+            splice.flush();
+            firstKeys.put(contractId, splice.firstKey);
+        });
+        return firstKeys;
+    }
+
     /**
      * Returns the first storage key for the contract or Bytes.Empty if none exists.
      *
@@ -132,104 +155,107 @@ public class IterableStorageManager {
     }
 
     /**
-     * Removes the given key from the slot storage and from the linked list of storage for the given contract, and removes the
-     *
-     * @param store Contract storage store
-     * @param firstContractKey The first key in the linked list of storage for the given contract
-     * @param contractID The contract id under consideration
-     * @param key The slot key to remove
-     * @return the new first key in the linked list of storage for the given contract
+     * An in-memory view of the slots in one contract's storage linked list that are touched by a
+     * transaction. Slots are read from the store on first use, re-linked in memory as removals and
+     * insertions are applied, and only written back to the store in {@link #flush()}.
      */
-    @NonNull
-    private Bytes removeAccessedValue(
-            @NonNull final ContractStateStore store,
-            @NonNull Bytes firstContractKey,
-            @NonNull final ContractID contractID,
-            @NonNull final Bytes key) {
-        requireNonNull(firstContractKey);
-        requireNonNull(contractID);
-        requireNonNull(store);
-        requireNonNull(key);
-        final var slotKey = new SlotKey(contractID, key);
-        try {
-            final var slotValue = slotValueFor(store, false, slotKey, "Missing key ");
-            final var nextKey = slotValue.nextKey();
-            final var prevKey = slotValue.previousKey();
-            if (!Bytes.EMPTY.equals(nextKey)) {
-                updatePrevFor(new SlotKey(contractID, nextKey), prevKey, store);
-            }
-            if (!Bytes.EMPTY.equals(prevKey)) {
-                updateNextFor(new SlotKey(contractID, prevKey), nextKey, store);
-            }
-            firstContractKey = key.equals(firstContractKey) ? nextKey : firstContractKey;
-        } catch (Exception irreparable) {
-            // Since maintaining linked lists is not mission-critical, just log the error and continue
-            log.error(
-                    "Failed link management when removing {}; will be unable to" + " expire all slots for contract {}",
-                    key,
-                    contractID,
-                    irreparable);
+    private static class LinkedListSplice {
+        private final ContractID contractID;
+        private final ContractStateStore store;
+        private final Map<Bytes, SlotValue> pendingPuts = new LinkedHashMap<>();
+        private final Set<Bytes> pendingRemovals = new LinkedHashSet<>();
+        private Bytes firstKey;
+
+        LinkedListSplice(
+                @NonNull final ContractID contractID,
+                @NonNull final Bytes firstKey,
+                @NonNull final ContractStateStore store) {
+            this.contractID = requireNonNull(contractID);
+            this.firstKey = requireNonNull(firstKey);
+            this.store = requireNonNull(store);
         }
-        store.removeSlot(slotKey);
-        return firstContractKey;
-    }
 
-    /**
-     * Inserts the given key into the slot storage and into the linked list of storage for the given contract.
-     *
-     * @param store Contract storage store
-     * @param firstContractKey The first key in the linked list of storage for the given contract
-     * @param newValue The new value for the slot
-     * @param contractID The contract id under consideration
-     * @param newKey The slot key to insert
-     * @return the new first key in the linked list of storage for the given contract
-     */
-    @NonNull
-    private Bytes insertAccessedValue(
-            @NonNull final ContractStateStore store,
-            @NonNull final Bytes firstContractKey,
-            @NonNull final Bytes newValue,
-            @NonNull final ContractID contractID,
-            @NonNull final Bytes newKey) {
-        requireNonNull(store);
-        requireNonNull(newKey);
-        requireNonNull(newValue);
-        try {
-            if (!Bytes.EMPTY.equals(firstContractKey)) {
-                updatePrevFor(new SlotKey(contractID, firstContractKey), newKey, store);
+        /**
+         * Removes the given key from the linked list of storage for this contract, and schedules the
+         * slot for removal from the store.
+         *
+         * @param key The slot key to remove
+         */
+        void remove(@NonNull final Bytes key) {
+            try {
+                final var slotValue = slotValueFor(key, false, "Missing key ");
+                final var nextKey = slotValue.nextKey();
+                final var prevKey = slotValue.previousKey();
+                if (!Bytes.EMPTY.equals(nextKey)) {
+                    final var next = slotValueFor(nextKey, true, "Missing next key ");
+                    pendingPuts.put(nextKey, next.copyBuilder().previousKey(prevKey).build());
+                }
+                if (!Bytes.EMPTY.equals(prevKey)) {
+                    final var prev = slotValueFor(prevKey, true, "Missing prev key ");
+                    pendingPuts.put(prevKey, prev.copyBuilder().nextKey(nextKey).build());
+                }
+                firstKey = key.equals(firstKey) ? nextKey : firstKey;
+            } catch (Exception irreparable) {
+                // Since maintaining linked lists is not mission-critical, just log the error and continue
+                log.error(
+                        "Failed link management when removing {}; will be unable to"
+                                + " expire all slots for contract {}",
+                        key,
+                        contractID,
+                        irreparable);
             }
-        } catch (Exception irreparable) {
-            // Since maintaining linked lists is not mission-critical, just log the error and continue
-            log.error(
-                    "Failed link management when inserting {}; will be unable to" + " expire all slots for contract {}",
-                    newKey,
-                    contractID,
-                    irreparable);
+            pendingPuts.remove(key);
+            pendingRemovals.add(key);
         }
-        store.putSlot(new SlotKey(contractID, newKey), new SlotValue(newValue, Bytes.EMPTY, firstContractKey));
-        return newKey;
-    }
 
-    private void updatePrevFor(
-            @NonNull final SlotKey key, @NonNull final Bytes newPrevKey, @NonNull final ContractStateStore store) {
-        final var value = slotValueFor(store, true, key, "Missing next key ");
-        store.putSlot(key, value.copyBuilder().previousKey(newPrevKey).build());
-    }
+        /**
+         * Inserts the given key at the head of the linked list of storage for this contract.
+         *
+         * @param newKey The slot key to insert
+         * @param newValue The new value for the slot
+         */
+        void insert(@NonNull final Bytes newKey, @NonNull final Bytes newValue) {
+            try {
+                if (!Bytes.EMPTY.equals(firstKey)) {
+                    final var head = slotValueFor(firstKey, true, "Missing next key ");
+                    pendingPuts.put(firstKey, head.copyBuilder().previousKey(newKey).build());
+                }
+            } catch (Exception irreparable) {
+                // Since maintaining linked lists is not mission-critical, just log the error and continue
+                log.error(
+                        "Failed link management when inserting {}; will be unable to"
+                                + " expire all slots for contract {}",
+                        newKey,
+                        contractID,
+                        irreparable);
+            }
+            pendingRemovals.remove(newKey);
+            pendingPuts.put(newKey, new SlotValue(newValue, Bytes.EMPTY, firstKey));
+            firstKey = newKey;
+        }
 
-    private void updateNextFor(
-            @NonNull final SlotKey key, @NonNull final Bytes newNextKey, @NonNull final ContractStateStore store) {
-        final var value = slotValueFor(store, true, key, "Missing prev key ");
-        store.putSlot(key, value.copyBuilder().nextKey(newNextKey).build());
-    }
+        /**
+         * Writes every touched slot to the store, exactly once.
+         */
+        void flush() {
+            pendingPuts.forEach((key, value) -> store.putSlot(new SlotKey(contractID, key), value));
+            pendingRemovals.forEach(key -> store.removeSlot(new SlotKey(contractID, key)));
+        }
 
-    @NonNull
-    private SlotValue slotValueFor(
-            @NonNull final ContractStateStore store,
-            final boolean forModify,
-            @NonNull final SlotKey slotKey,
-            @NonNull final String msgOnError) {
-        return forModify
-                ? requireNonNull(store.getSlotValueForModify(slotKey), () -> msgOnError + slotKey.key())
-                : requireNonNull(store.getSlotValue(slotKey), () -> msgOnError + slotKey.key());
+        @NonNull
+        private SlotValue slotValueFor(
+                @NonNull final Bytes key, final boolean forModify, @NonNull final String msgOnError) {
+            final var pending = pendingPuts.get(key);
+            if (pending != null) {
+                return pending;
+            }
+            if (pendingRemovals.contains(key)) {
+                throw new IllegalStateException(msgOnError + key + " (already removed)");
+            }
+            final var slotKey = new SlotKey(contractID, key);
+            return forModify
+                    ? requireNonNull(store.getSlotValueForModify(slotKey), () -> msgOnError + key)
+                    : requireNonNull(store.getSlotValue(slotKey), () -> msgOnError + key);
+        }
     }
 }
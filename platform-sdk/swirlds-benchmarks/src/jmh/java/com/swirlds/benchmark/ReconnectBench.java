@@ -97,6 +97,20 @@ public class ReconnectBench extends VirtualMapBaseBench {
     @Param({"0.15"})
     public double delayNetworkFuzzRangePercent;
 
+    /**
+     * Number of teachers to reconnect from. Teachers other than the first one only assist the
+     * first teacher when virtualMap.reconnectMode is set to "pullMultiTeacher".
+     */
+    @Param({"1"})
+    public int teacherCount;
+
+    /**
+     * A multiplier for both storage and network delays of the last teacher, e.g. 4.0 to
+     * emulate a teacher that is four times slower than the others.
+     */
+    @Param({"1.0"})
+    public double lastTeacherDelayFactor;
+
     private List<VirtualMap<BenchmarkKey, BenchmarkValue>> teacherMaps;
     private List<VirtualMap<BenchmarkKey, BenchmarkValue>> learnerMaps;
 
@@ -263,6 +277,8 @@ public class ReconnectBench extends VirtualMapBaseBench {
                 delayStorageFuzzRangePercent,
                 delayNetworkMicroseconds,
                 delayNetworkFuzzRangePercent,
+                teacherCount,
+                lastTeacherDelayFactor,
                 configuration);
     }
 }
@@ -31,12 +31,14 @@ import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
 import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
 import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.streams.TeacherStreams;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.platform.network.SocketConfig;
 import com.swirlds.virtualmap.VirtualMap;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -64,6 +66,8 @@ public class MerkleBenchmarkUtils {
             final double delayStorageFuzzRangePercent,
             final long delayNetworkMicroseconds,
             final double delayNetworkFuzzRangePercent,
+            final int teacherCount,
+            final double lastTeacherDelayFactor,
             final Configuration configuration)
             throws Exception {
         System.out.println("------------");
@@ -86,12 +90,16 @@ public class MerkleBenchmarkUtils {
                 delayStorageFuzzRangePercent,
                 delayNetworkMicroseconds,
                 delayNetworkFuzzRangePercent,
+                teacherCount,
+                lastTeacherDelayFactor,
                 configuration,
                 reconnectConfig);
     }
 
     /**
-     * Synchronize two trees and verify that the end result is the expected result.
+     * Synchronize two trees and verify that the end result is the expected result. If there are several
+     * teachers, all of them hold the desired tree, the first one synchronizes the tree with the learner,
+     * and the others assist it.
      */
     @SuppressWarnings("unchecked")
     private static <T extends MerkleNode> T testSynchronization(
@@ -102,84 +110,85 @@ public class MerkleBenchmarkUtils {
             final double delayStorageFuzzRangePercent,
             final long delayNetworkMicroseconds,
             final double delayNetworkFuzzRangePercent,
+            final int teacherCount,
+            final double lastTeacherDelayFactor,
             final Configuration configuration,
             final ReconnectConfig reconnectConfig)
             throws Exception {
-        try (PairedStreams streams = new PairedStreams(configuration.getConfigData(SocketConfig.class))) {
+        final List<PairedStreams> streams = new ArrayList<>(teacherCount);
+        try {
+            for (int i = 0; i < teacherCount; i++) {
+                streams.add(new PairedStreams(configuration.getConfigData(SocketConfig.class)));
+            }
+            final Runnable breakConnection = () -> {
+                for (final PairedStreams pairedStreams : streams) {
+                    try {
+                        pairedStreams.disconnect();
+                    } catch (final IOException e) {
+                        // test code, no danger
+                        e.printStackTrace();
+                    }
+                }
+            };
+            final PairedStreams primaryStreams = streams.get(0);
+            final List<TeacherStreams> additionalTeachers = streams.subList(1, teacherCount).stream()
+                    .map(s -> new TeacherStreams(s.getLearnerInput(), s.getLearnerOutput()))
+                    .toList();
+
             final LearningSynchronizer learner;
-            final TeachingSynchronizer teacher;
+            final List<TeachingSynchronizer> teachers = new ArrayList<>(teacherCount);
 
             if (delayStorageMicroseconds == 0 && delayNetworkMicroseconds == 0) {
                 learner = new LearningSynchronizer(
                         getStaticThreadManager(),
-                        streams.getLearnerInput(),
-                        streams.getLearnerOutput(),
+                        primaryStreams.getLearnerInput(),
+                        primaryStreams.getLearnerOutput(),
+                        additionalTeachers,
                         startingTree,
-                        () -> {
-                            try {
-                                streams.disconnect();
-                            } catch (final IOException e) {
-                                // test code, no danger
-                                e.printStackTrace();
-                            }
-                        },
+                        breakConnection,
                         reconnectConfig,
                         BenchmarkMetrics.getMetrics());
-                teacher = new TeachingSynchronizer(
-                        configuration,
-                        Time.getCurrent(),
-                        getStaticThreadManager(),
-                        streams.getTeacherInput(),
-                        streams.getTeacherOutput(),
-                        desiredTree,
-                        () -> {
-                            try {
-                                streams.disconnect();
-                            } catch (final IOException e) {
-                                // test code, no danger
-                                e.printStackTrace();
-                            }
-                        },
-                        reconnectConfig);
+                for (final PairedStreams teacherStreams : streams) {
+                    teachers.add(new TeachingSynchronizer(
+                            configuration,
+                            Time.getCurrent(),
+                            getStaticThreadManager(),
+                            teacherStreams.getTeacherInput(),
+                            teacherStreams.getTeacherOutput(),
+                            desiredTree,
+                            breakConnection,
+                            reconnectConfig));
+                }
             } else {
                 learner = new BenchmarkSlowLearningSynchronizer(
-                        streams.getLearnerInput(),
-                        streams.getLearnerOutput(),
+                        primaryStreams.getLearnerInput(),
+                        primaryStreams.getLearnerOutput(),
+                        additionalTeachers,
                         startingTree,
                         randomSeed,
                         delayStorageMicroseconds,
                         delayStorageFuzzRangePercent,
                         delayNetworkMicroseconds,
                         delayNetworkFuzzRangePercent,
-                        () -> {
-                            try {
-                                streams.disconnect();
-                            } catch (final IOException e) {
-                                // test code, no danger
-                                e.printStackTrace();
-                            }
-                        },
+                        breakConnection,
                         reconnectConfig,
                         BenchmarkMetrics.getMetrics());
-                teacher = new BenchmarkSlowTeachingSynchronizer(
-                        configuration,
-                        streams.getTeacherInput(),
-                        streams.getTeacherOutput(),
-                        desiredTree,
-                        randomSeed,
-                        delayStorageMicroseconds,
-                        delayStorageFuzzRangePercent,
-                        delayNetworkMicroseconds,
-                        delayNetworkFuzzRangePercent,
-                        () -> {
-                            try {
-                                streams.disconnect();
-                            } catch (final IOException e) {
-                                // test code, no danger
-                                e.printStackTrace();
-                            }
-                        },
-                        reconnectConfig);
+                for (int i = 0; i < teacherCount; i++) {
+                    // The last teacher may be slower or faster than others
+                    final double delayFactor = (i == teacherCount - 1) ? lastTeacherDelayFactor : 1.0;
+                    teachers.add(new BenchmarkSlowTeachingSynchronizer(
+                            configuration,
+                            streams.get(i).getTeacherInput(),
+                            streams.get(i).getTeacherOutput(),
+                            desiredTree,
+                            randomSeed + i,
+                            (long) (delayStorageMicroseconds * delayFactor),
+                            delayStorageFuzzRangePercent,
+                            (long) (delayNetworkMicroseconds * delayFactor),
+                            delayNetworkFuzzRangePercent,
+                            breakConnection,
+                            reconnectConfig));
+                }
             }
 
             final AtomicReference<Throwable> firstReconnectException = new AtomicReference<>();
@@ -189,7 +198,11 @@ public class MerkleBenchmarkUtils {
             };
             final StandardWorkGroup workGroup =
                     new StandardWorkGroup(getStaticThreadManager(), "synchronization-test", null, exceptionListener);
-            workGroup.execute("teaching-synchronizer-main", () -> teachingSynchronizerThread(teacher));
+            workGroup.execute("teaching-synchronizer-main", () -> teachingSynchronizerThread(teachers.get(0)));
+            for (int i = 1; i < teacherCount; i++) {
+                final TeachingSynchronizer teacher = teachers.get(i);
+                workGroup.execute("teaching-synchronizer-assist-" + i, () -> assistingSynchronizerThread(teacher));
+            }
             workGroup.execute("learning-synchronizer-main", () -> learningSynchronizerThread(learner));
 
             try {
@@ -206,6 +219,10 @@ public class MerkleBenchmarkUtils {
 
             final MerkleNode generatedTree = learner.getRoot();
             return (T) generatedTree;
+        } finally {
+            for (final PairedStreams pairedStreams : streams) {
+                pairedStreams.close();
+            }
         }
     }
 
@@ -217,6 +234,14 @@ public class MerkleBenchmarkUtils {
         }
     }
 
+    private static void assistingSynchronizerThread(final TeachingSynchronizer teacher) {
+        try {
+            teacher.assist();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static void learningSynchronizerThread(final LearningSynchronizer learner) {
         try {
             learner.synchronize();
@@ -26,9 +26,11 @@ import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.TeacherStreams;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 
 /**
  * A {@link LearningSynchronizer} with simulated delay.
@@ -48,6 +50,7 @@ public class BenchmarkSlowLearningSynchronizer extends LearningSynchronizer {
     public BenchmarkSlowLearningSynchronizer(
             final MerkleDataInputStream in,
             final MerkleDataOutputStream out,
+            final List<TeacherStreams> additionalTeachers,
             final MerkleNode root,
             final long randomSeed,
             final long delayStorageMicroseconds,
@@ -57,7 +60,7 @@ public class BenchmarkSlowLearningSynchronizer extends LearningSynchronizer {
             final Runnable breakConnection,
             final ReconnectConfig reconnectConfig,
             @NonNull final Metrics metrics) {
-        super(getStaticThreadManager(), in, out, root, breakConnection, reconnectConfig, metrics);
+        super(getStaticThreadManager(), in, out, additionalTeachers, root, breakConnection, reconnectConfig, metrics);
 
         this.randomSeed = randomSeed;
         this.delayStorageMicroseconds = delayStorageMicroseconds;
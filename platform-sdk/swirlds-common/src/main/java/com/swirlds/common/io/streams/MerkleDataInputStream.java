@@ -27,20 +27,32 @@ import com.swirlds.common.io.exceptions.MerkleSerializationException;
 import com.swirlds.common.io.streams.internal.MerkleSerializationProtocol;
 import com.swirlds.common.io.streams.internal.MerkleTreeSerializationOptions;
 import com.swirlds.common.io.streams.internal.PartiallyConstructedMerkleInternal;
+import com.swirlds.common.io.utility.IORunnable;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.exceptions.IllegalChildCountException;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * A SerializableDataInputStream that can also handle merkle tree.
@@ -50,6 +62,22 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
     private final Queue<PartiallyConstructedMerkleInternal> internalNodes;
     private MerkleNode root;
 
+    /**
+     * If not null, subtrees that are stored in their own files are loaded on this executor while the rest of the tree
+     * is still being read from this stream. See {@link #deferExternalLoad(String, IORunnable)}.
+     */
+    private Executor externalLoadExecutor;
+
+    /**
+     * External loads that have been scheduled but not yet awaited.
+     */
+    private final List<CompletableFuture<Void>> pendingExternalLoads = new ArrayList<>();
+
+    /**
+     * The time taken by each external load, by description.
+     */
+    private final Map<String, Duration> externalLoadTimes = new ConcurrentHashMap<>();
+
     /**
      * Create a stream capable of reading merkle trees.
      *
@@ -61,6 +89,109 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
         internalNodes = new LinkedList<>();
     }
 
+    /**
+     * Allow nodes that keep their data in separate files to load that data in parallel. When an executor is set, such
+     * nodes are attached to the tree right away and their data is loaded on the executor. All scheduled loads are
+     * complete before {@link #readMerkleTree(Path, int)} initializes and returns the tree.
+     *
+     * @param executor
+     * 		the executor to load external data on, or null to load everything on the calling thread
+     * @return this object
+     */
+    @NonNull
+    public MerkleDataInputStream setExternalLoadExecutor(@Nullable final Executor executor) {
+        this.externalLoadExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Check if nodes may defer loading their external data by calling {@link #deferExternalLoad(String, IORunnable)}.
+     *
+     * @return true if external loads run in parallel
+     */
+    public boolean isExternalLoadDeferred() {
+        return externalLoadExecutor != null;
+    }
+
+    /**
+     * Load the external data of a node that has already been read from this stream. The load runs on the external
+     * load executor if one is set, otherwise it runs immediately on the calling thread. The load must only touch the
+     * node that scheduled it, the rest of the tree is still being read concurrently.
+     *
+     * @param description
+     * 		a human-readable description of what is being loaded, used to report load times
+     * @param load
+     * 		the operation that loads the data
+     * @throws IOException
+     * 		if the load runs on the calling thread and fails
+     */
+    public void deferExternalLoad(@NonNull final String description, @NonNull final IORunnable load)
+            throws IOException {
+        Objects.requireNonNull(description, "description must not be null");
+        Objects.requireNonNull(load, "load must not be null");
+        if (externalLoadExecutor == null) {
+            timeExternalLoad(description, load);
+            return;
+        }
+        pendingExternalLoads.add(CompletableFuture.runAsync(
+                () -> {
+                    try {
+                        timeExternalLoad(description, load);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException("Failed to load " + description, e);
+                    }
+                },
+                externalLoadExecutor));
+    }
+
+    /**
+     * Get the time taken by each external load done while reading from this stream, slowest first.
+     *
+     * @return an unmodifiable map from load description to load time
+     */
+    @NonNull
+    public Map<String, Duration> getExternalLoadTimes() {
+        final List<Map.Entry<String, Duration>> entries = new ArrayList<>(externalLoadTimes.entrySet());
+        entries.sort(Map.Entry.comparingByValue(Collections.reverseOrder()));
+        final Map<String, Duration> sorted = new LinkedHashMap<>();
+        entries.forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return Collections.unmodifiableMap(sorted);
+    }
+
+    private void timeExternalLoad(@NonNull final String description, @NonNull final IORunnable load)
+            throws IOException {
+        final long start = System.nanoTime();
+        load.run();
+        externalLoadTimes.merge(description, Duration.ofNanos(System.nanoTime() - start), Duration::plus);
+    }
+
+    /**
+     * Wait for all external loads scheduled so far to complete.
+     *
+     * @throws IOException
+     * 		if any of the loads failed
+     */
+    private void awaitExternalLoads() throws IOException {
+        if (pendingExternalLoads.isEmpty()) {
+            return;
+        }
+        final CompletableFuture<?>[] loads = pendingExternalLoads.toArray(new CompletableFuture<?>[0]);
+        pendingExternalLoads.clear();
+        try {
+            CompletableFuture.allOf(loads).join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException("External load failed", cause);
+        }
+    }
+
     /**
      * Add a child to its parent.
      *
@@ -222,13 +353,25 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
         final Map<Long /* class ID */, Integer /* version */> deserializedVersions = new HashMap<>();
 
         int nodeCount = 0;
-        while (!internalNodes.isEmpty() || root == null) {
-            nodeCount++;
-            if (nodeCount > maxNumberOfNodes) {
-                throw new MerkleSerializationException("Node count exceeds maximum value of " + maxNumberOfNodes + ".");
+        try {
+            while (!internalNodes.isEmpty() || root == null) {
+                nodeCount++;
+                if (nodeCount > maxNumberOfNodes) {
+                    throw new MerkleSerializationException(
+                            "Node count exceeds maximum value of " + maxNumberOfNodes + ".");
+                }
+                readNextNode(directory, deserializedVersions);
+            }
+        } catch (final IOException | RuntimeException e) {
+            // Don't leave loads running in the background against a tree that is being discarded
+            try {
+                awaitExternalLoads();
+            } catch (final IOException | RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
             }
-            readNextNode(directory, deserializedVersions);
+            throw e;
         }
+        awaitExternalLoads();
 
         final MerkleNode migratedRoot = initializeAndMigrateTreeAfterDeserialization(root, deserializedVersions);
 
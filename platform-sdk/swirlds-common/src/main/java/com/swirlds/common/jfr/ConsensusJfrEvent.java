@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that spans the addition of a single event to the consensus algorithm, including the computation of any
+ * rounds that reach consensus as a result.
+ */
+@Name("com.swirlds.platform.Consensus")
+@Label("Consensus")
+@Category({"Swirlds", "Platform", "Consensus"})
+@Description("Addition of an event to the hashgraph and computation of the rounds it decides")
+@Enabled(false)
+@StackTrace(false)
+public final class ConsensusJfrEvent extends Event {
+
+    @Label("Creator")
+    private long creatorId;
+
+    @Label("Generation")
+    private long generation;
+
+    @Label("Birth Round")
+    private long birthRound;
+
+    @Label("Rounds Decided")
+    private int roundsDecided;
+
+    @Label("Last Round Decided")
+    @Description("The last round that reached consensus, or -1 if no round reached consensus")
+    private long lastRoundDecided;
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param creatorId        the ID of the node that created the event
+     * @param generation       the generation of the event
+     * @param birthRound       the birth round of the event
+     * @param roundsDecided    the number of rounds that reached consensus
+     * @param lastRoundDecided the last round that reached consensus, or -1 if no round reached consensus
+     */
+    public void commit(
+            final long creatorId,
+            final long generation,
+            final long birthRound,
+            final int roundsDecided,
+            final long lastRoundDecided) {
+        end();
+        if (shouldCommit()) {
+            this.creatorId = creatorId;
+            this.generation = generation;
+            this.birthRound = birthRound;
+            this.roundsDecided = roundsDecided;
+            this.lastRoundDecided = lastRoundDecided;
+            commit();
+        }
+    }
+}
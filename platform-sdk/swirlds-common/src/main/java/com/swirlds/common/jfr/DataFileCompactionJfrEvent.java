@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that spans a single compaction run of a MerkleDb data file collection.
+ */
+@Name("com.swirlds.merkledb.Compaction")
+@Label("Data File Compaction")
+@Category({"Swirlds", "MerkleDb"})
+@Description("A compaction run over the files of a single MerkleDb store")
+@Enabled(false)
+@StackTrace(false)
+public final class DataFileCompactionJfrEvent extends Event {
+
+    @Label("Store")
+    private String storeName;
+
+    @Label("Target Level")
+    private int targetLevel;
+
+    @Label("Files Compacted")
+    private int filesCompacted;
+
+    @Label("Bytes Compacted")
+    @DataAmount
+    private long bytesCompacted;
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param storeName      the name of the store
+     * @param targetLevel    the compaction level of the files produced
+     * @param filesCompacted the number of files that were compacted
+     * @param bytesCompacted the total size of the files that were compacted
+     */
+    public void commit(
+            final String storeName, final int targetLevel, final int filesCompacted, final long bytesCompacted) {
+        end();
+        if (shouldCommit()) {
+            this.storeName = storeName;
+            this.targetLevel = targetLevel;
+            this.filesCompacted = filesCompacted;
+            this.bytesCompacted = bytesCompacted;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that spans the processing of a single event by one stage of the event intake pipeline.
+ */
+@Name("com.swirlds.platform.EventIntake")
+@Label("Event Intake Stage")
+@Category({"Swirlds", "Platform", "Event Intake"})
+@Description("Processing of a single event by one stage of the event intake pipeline")
+@Enabled(false)
+@StackTrace(false)
+public final class EventIntakeJfrEvent extends Event {
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Creator")
+    private long creatorId;
+
+    @Label("Generation")
+    private long generation;
+
+    @Label("Birth Round")
+    private long birthRound;
+
+    @Label("Passed")
+    @Description("False if the stage discarded the event or held it back, e.g. as an orphan")
+    private boolean passed;
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param stage      the name of the intake stage
+     * @param creatorId  the ID of the node that created the event
+     * @param generation the generation of the event
+     * @param birthRound the birth round of the event
+     * @param passed     true if the event was passed on to the next stage
+     */
+    public void commit(
+            final String stage,
+            final long creatorId,
+            final long generation,
+            final long birthRound,
+            final boolean passed) {
+        end();
+        if (shouldCommit()) {
+            this.stage = stage;
+            this.creatorId = creatorId;
+            this.generation = generation;
+            this.birthRound = birthRound;
+            this.passed = passed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that spans a single gossip sync with a peer.
+ */
+@Name("com.swirlds.platform.GossipSync")
+@Label("Gossip Sync")
+@Category({"Swirlds", "Platform", "Gossip"})
+@Description("A gossip sync with a single peer")
+@Enabled(false)
+@StackTrace(false)
+public final class GossipSyncJfrEvent extends Event {
+
+    @Label("Peer")
+    private long peerId;
+
+    @Label("Outbound")
+    private boolean outbound;
+
+    @Label("Latest Consensus Round")
+    private long latestConsensusRound;
+
+    @Label("Events Sent")
+    private int eventsSent;
+
+    @Label("Events Received")
+    private int eventsReceived;
+
+    @Label("Completed")
+    private boolean completed;
+
+    /**
+     * Record the round of the latest consensus round known to this node when the sync started.
+     *
+     * @param latestConsensusRound the latest consensus round
+     */
+    public void setLatestConsensusRound(final long latestConsensusRound) {
+        this.latestConsensusRound = latestConsensusRound;
+    }
+
+    /**
+     * Record the number of events exchanged during the sync.
+     *
+     * @param eventsSent     the number of events sent to the peer
+     * @param eventsReceived the number of events received from the peer
+     */
+    public void setEventCounts(final int eventsSent, final int eventsReceived) {
+        this.eventsSent = eventsSent;
+        this.eventsReceived = eventsReceived;
+    }
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param peerId    the ID of the peer
+     * @param outbound  true if this node initiated the sync
+     * @param completed true if the sync completed, false if it was aborted or failed
+     */
+    public void commit(final long peerId, final boolean outbound, final boolean completed) {
+        end();
+        if (shouldCommit()) {
+            this.peerId = peerId;
+            this.outbound = outbound;
+            this.completed = completed;
+            commit();
+        }
+    }
+}
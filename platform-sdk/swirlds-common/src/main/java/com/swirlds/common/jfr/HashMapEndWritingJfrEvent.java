@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that spans {@code HalfDiskHashMap.endWriting()}, i.e. the application of all bucket updates made during
+ * a single flush.
+ */
+@Name("com.swirlds.merkledb.HashMapEndWriting")
+@Label("Half Disk Hash Map End Writing")
+@Category({"Swirlds", "MerkleDb"})
+@Description("Writing of all updated buckets of a half disk hash map at the end of a flush")
+@Enabled(false)
+@StackTrace(false)
+public final class HashMapEndWritingJfrEvent extends Event {
+
+    @Label("Store")
+    private String storeName;
+
+    @Label("Updated Buckets")
+    private int updatedBuckets;
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param storeName      the name of the store
+     * @param updatedBuckets the number of buckets that were updated
+     */
+    public void commit(final String storeName, final int updatedBuckets) {
+        end();
+        if (shouldCommit()) {
+            this.storeName = storeName;
+            this.updatedBuckets = updatedBuckets;
+            commit();
+        }
+    }
+}
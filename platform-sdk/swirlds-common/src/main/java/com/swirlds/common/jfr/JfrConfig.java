@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import java.time.Duration;
+
+/**
+ * Configuration for the platform's JDK Flight Recorder events.
+ *
+ * @param enabled       if true, an in-process flight recording that enables all platform event types is started when
+ *                      the platform starts. The platform event types are disabled by default, so they cost next to
+ *                      nothing unless this is set or they are enabled by an externally started recording.
+ * @param threshold     platform events that are shorter than this duration are not recorded
+ * @param maxAge        the maximum age of data kept by the in-process recording
+ * @param recordingFile if not empty, the in-process recording is written to this file when the JVM exits. The
+ *                      recording can always be dumped with {@code jcmd <pid> JFR.dump name=swirlds-platform}.
+ */
+@ConfigData("jfr")
+public record JfrConfig(
+        @ConfigProperty(defaultValue = "false") boolean enabled,
+        @ConfigProperty(defaultValue = "0ms") Duration threshold,
+        @ConfigProperty(defaultValue = "1h") Duration maxAge,
+        @ConfigProperty(defaultValue = "") String recordingFile) {}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.logging.legacy.LogMarker.STARTUP;
+
+import com.swirlds.config.api.Configuration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import jdk.jfr.Event;
+import jdk.jfr.EventSettings;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Starts an in-process flight recording that enables the platform's JFR event types.
+ * <p>
+ * All platform event types are disabled by default. They can be enabled either with a custom settings file passed to
+ * an externally started recording, or by setting {@link JfrConfig#enabled()}, in which case
+ * {@link #start(Configuration)} starts a recording named {@value #RECORDING_NAME} that enables them. JFR enables an
+ * event type for all recordings if any running recording enables it, so an externally started recording (e.g. with
+ * {@code -XX:StartFlightRecording}) also captures the platform events while this recording is running.
+ */
+public final class PlatformFlightRecorder {
+
+    private static final Logger logger = LogManager.getLogger(PlatformFlightRecorder.class);
+
+    /**
+     * The name of the in-process recording.
+     */
+    public static final String RECORDING_NAME = "swirlds-platform";
+
+    /**
+     * The platform event types enabled by the in-process recording.
+     */
+    public static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+            GossipSyncJfrEvent.class,
+            EventIntakeJfrEvent.class,
+            ConsensusJfrEvent.class,
+            RoundHandleJfrEvent.class,
+            StateSigningJfrEvent.class,
+            StateSnapshotJfrEvent.class,
+            VirtualPipelineJfrEvent.class,
+            DataFileCompactionJfrEvent.class,
+            HashMapEndWritingJfrEvent.class);
+
+    /**
+     * Names of event types that are not public, but that are also enabled by the in-process recording. These events are
+     * only emitted if the corresponding feature is enabled, e.g. wire latency tracing.
+     */
+    private static final List<String> INTERNAL_EVENT_NAMES = List.of("com.swirlds.wiring.WireLatency");
+
+    private PlatformFlightRecorder() {}
+
+    /**
+     * Start the in-process recording if it is enabled by the configuration.
+     *
+     * @param configuration the configuration
+     * @return the recording that was started, or null if no recording was started
+     */
+    @Nullable
+    public static Recording start(@NonNull final Configuration configuration) {
+        Objects.requireNonNull(configuration);
+        final JfrConfig config = configuration.getConfigData(JfrConfig.class);
+        if (!config.enabled()) {
+            return null;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            logger.warn(STARTUP.getMarker(), "JFR platform events are enabled, but flight recorder is unavailable");
+            return null;
+        }
+
+        final Recording recording = new Recording();
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(config.maxAge());
+        for (final Class<? extends Event> eventType : EVENT_TYPES) {
+            configure(recording.enable(eventType), config);
+        }
+        for (final String eventName : INTERNAL_EVENT_NAMES) {
+            configure(recording.enable(eventName), config);
+        }
+
+        if (!config.recordingFile().isBlank()) {
+            try {
+                recording.setDestination(Path.of(config.recordingFile()));
+                recording.setDumpOnExit(true);
+            } catch (final IOException e) {
+                logger.error(
+                        EXCEPTION.getMarker(), "Unable to use {} as JFR recording file", config.recordingFile(), e);
+            }
+        }
+
+        recording.start();
+        logger.info(STARTUP.getMarker(), "Started JFR recording {} with platform events enabled", RECORDING_NAME);
+        return recording;
+    }
+
+    private static void configure(@NonNull final EventSettings settings, @NonNull final JfrConfig config) {
+        settings.withThreshold(config.threshold()).withoutStackTrace();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that spans the handling of a consensus round by the state.
+ */
+@Name("com.swirlds.platform.RoundHandle")
+@Label("Round Handle")
+@Category({"Swirlds", "Platform", "State"})
+@Description("Handling of the transactions in a consensus round")
+@Enabled(false)
+@StackTrace(false)
+public final class RoundHandleJfrEvent extends Event {
+
+    @Label("Round")
+    private long round;
+
+    @Label("Event Count")
+    private int eventCount;
+
+    @Label("Application Transaction Count")
+    private int transactionCount;
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param round            the round number
+     * @param eventCount       the number of events in the round
+     * @param transactionCount the number of application transactions in the round
+     */
+    public void commit(final long round, final int eventCount, final int transactionCount) {
+        end();
+        if (shouldCommit()) {
+            this.round = round;
+            this.eventCount = eventCount;
+            this.transactionCount = transactionCount;
+            commit();
+        }
+    }
+}
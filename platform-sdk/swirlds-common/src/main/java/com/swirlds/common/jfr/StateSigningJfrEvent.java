@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that spans the signing of a state by this node.
+ */
+@Name("com.swirlds.platform.StateSigning")
+@Label("State Signing")
+@Category({"Swirlds", "Platform", "State"})
+@Description("Signing of the hash of a state by this node")
+@Enabled(false)
+@StackTrace(false)
+public final class StateSigningJfrEvent extends Event {
+
+    @Label("Round")
+    private long round;
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param round the round of the signed state
+     */
+    public void commit(final long round) {
+        end();
+        if (shouldCommit()) {
+            this.round = round;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that spans the writing of a state snapshot to disk.
+ */
+@Name("com.swirlds.platform.StateSnapshot")
+@Label("State Snapshot")
+@Category({"Swirlds", "Platform", "State"})
+@Description("Writing of a signed state snapshot to disk")
+@Enabled(false)
+@StackTrace(false)
+public final class StateSnapshotJfrEvent extends Event {
+
+    @Label("Round")
+    private long round;
+
+    @Label("Reason")
+    private String reason;
+
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param round   the round of the state
+     * @param reason  the reason the state was written to disk
+     * @param success true if the state was written successfully
+     */
+    public void commit(final long round, final String reason, final boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.round = round;
+            this.reason = reason;
+            this.success = success;
+            commit();
+        }
+    }
+}
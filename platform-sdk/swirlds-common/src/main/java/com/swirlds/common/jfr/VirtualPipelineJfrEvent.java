@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that spans a flush or a merge of a virtual map copy by the virtual pipeline.
+ */
+@Name("com.swirlds.virtualmap.Pipeline")
+@Label("Virtual Pipeline")
+@Category({"Swirlds", "Virtual Map"})
+@Description("A flush of a virtual map copy to disk, or a merge of a copy into the next copy")
+@Enabled(false)
+@StackTrace(false)
+public final class VirtualPipelineJfrEvent extends Event {
+
+    /**
+     * The operation recorded when a copy is flushed.
+     */
+    public static final String FLUSH = "flush";
+
+    /**
+     * The operation recorded when a copy is merged.
+     */
+    public static final String MERGE = "merge";
+
+    @Label("Map")
+    private String label;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Copy Version")
+    @Description("The fast copy version of the virtual map copy, which usually matches the round of the state")
+    private long copyVersion;
+
+    @Label("Estimated Size")
+    private long estimatedSize;
+
+    /**
+     * End the event and commit it if it is enabled.
+     *
+     * @param label         the label of the virtual map
+     * @param operation     either {@link #FLUSH} or {@link #MERGE}
+     * @param copyVersion   the fast copy version of the copy
+     * @param estimatedSize the estimated size of the copy, in bytes
+     */
+    public void commit(final String label, final String operation, final long copyVersion, final long estimatedSize) {
+        end();
+        if (shouldCommit()) {
+            this.label = label;
+            this.operation = operation;
+            this.copyVersion = copyVersion;
+            this.estimatedSize = estimatedSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.route.MerkleRoute;
+import com.swirlds.common.merkle.route.MerkleRouteFactory;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+
+/**
+ * Messages exchanged between the learner and an additional teacher, which serves parts of subtrees while
+ * the learner synchronizes the rest of the tree with its primary teacher.
+ *
+ * <p>The additional teacher first sends the hash of its state root, so the learner can check that all
+ * teachers hold the same state. After that, the learner sends the route of every subtree it wants the
+ * additional teacher to serve, and the subtree is synchronized with the subtree's custom view. When there
+ * are no more subtrees to serve, the learner sends an end marker.
+ */
+final class AdditionalTeacherProtocol {
+
+    private AdditionalTeacherProtocol() {}
+
+    static void writeRootHash(@NonNull final MerkleDataOutputStream out, @NonNull final Hash hash)
+            throws IOException {
+        out.writeSerializable(hash, false);
+        out.flush();
+    }
+
+    @NonNull
+    static Hash readRootHash(@NonNull final MerkleDataInputStream in) throws IOException {
+        return in.readSerializable(false, Hash::new);
+    }
+
+    static void writeSubtreeRoute(@NonNull final MerkleDataOutputStream out, @NonNull final MerkleRoute route)
+            throws IOException {
+        final int[] steps = new int[route.size()];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = route.getStep(i);
+        }
+        out.writeBoolean(true);
+        out.writeIntArray(steps);
+        out.flush();
+    }
+
+    static void writeEndOfSubtrees(@NonNull final MerkleDataOutputStream out) throws IOException {
+        out.writeBoolean(false);
+        out.flush();
+    }
+
+    /**
+     * Read the route of the next subtree to serve.
+     *
+     * @return the route, or null if there are no more subtrees to serve
+     */
+    @Nullable
+    static MerkleRoute readSubtreeRoute(@NonNull final MerkleDataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return MerkleRouteFactory.buildRoute(in.readIntArray(MerkleRoute.MAX_ROUTE_LENGTH));
+    }
+}
@@ -20,16 +20,19 @@ import static com.swirlds.base.units.UnitConstants.MILLISECONDS_TO_SECONDS;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
 
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.common.merkle.route.MerkleRoute;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapMetrics;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.TeacherStreams;
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.merkle.synchronization.views.CustomReconnectRoot;
@@ -41,8 +44,10 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.logging.legacy.payload.SynchronizationCompletePayload;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ExecutionException;
@@ -70,6 +75,17 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     private final MerkleDataOutputStream outputStream;
 
+    /**
+     * Streams to additional teachers, which hold the same state as the primary teacher and may serve
+     * parts of subtrees with custom views in parallel with it.
+     */
+    private final List<TeacherStreams> additionalTeachers;
+
+    /**
+     * The state root hash reported by the additional teachers, or null if there are no additional teachers.
+     */
+    private Hash additionalTeachersRootHash;
+
     private final Queue<MerkleNode> rootsToReceive;
     private final Deque<LearnerTreeView<?>> viewsToInitialize;
     private final Runnable breakConnection;
@@ -117,11 +133,40 @@ public class LearningSynchronizer implements ReconnectNodeCount {
             @NonNull final Runnable breakConnection,
             @NonNull final ReconnectConfig reconnectConfig,
             @NonNull final Metrics metrics) {
+        this(threadManager, in, out, List.of(), root, breakConnection, reconnectConfig, metrics);
+    }
+
+    /**
+     * Create a new learning synchronizer, which may receive parts of the tree from several teachers in parallel.
+     * All teachers must hold the same state. Additional teachers are expected to run
+     * {@link TeachingSynchronizer#assist()}.
+     *
+     * @param threadManager      responsible for managing thread lifecycles
+     * @param in                 the input stream of the primary teacher
+     * @param out                the output stream of the primary teacher
+     * @param additionalTeachers the streams of additional teachers, may be empty
+     * @param root               the root of the tree
+     * @param breakConnection    a method that breaks the connection. Used iff an exception is encountered. Prevents
+     *                           deadlock if there is a thread stuck on a blocking IO operation that will never finish
+     *                           due to a failure.
+     * @param reconnectConfig    the configuration for the reconnect
+     * @param metrics            a Metrics instance for ReconnectMapStats
+     */
+    public LearningSynchronizer(
+            @NonNull final ThreadManager threadManager,
+            @NonNull final MerkleDataInputStream in,
+            @NonNull final MerkleDataOutputStream out,
+            @NonNull final List<TeacherStreams> additionalTeachers,
+            @NonNull final MerkleNode root,
+            @NonNull final Runnable breakConnection,
+            @NonNull final ReconnectConfig reconnectConfig,
+            @NonNull final Metrics metrics) {
 
         this.threadManager = Objects.requireNonNull(threadManager, "threadManager is null");
 
         inputStream = Objects.requireNonNull(in, "inputStream is null");
         outputStream = Objects.requireNonNull(out, "outputStream is null");
+        this.additionalTeachers = List.copyOf(Objects.requireNonNull(additionalTeachers, "additionalTeachers is null"));
         this.reconnectConfig = Objects.requireNonNull(reconnectConfig, "reconnectConfig is null");
 
         rootsToReceive = new LinkedList<>();
@@ -138,12 +183,23 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     public void synchronize() throws InterruptedException {
         try {
+            if (!additionalTeachers.isEmpty()) {
+                logger.info(RECONNECT.getMarker(), "learner calls checkAdditionalTeachers()");
+                checkAdditionalTeachers();
+            }
             logger.info(RECONNECT.getMarker(), "learner calls receiveTree()");
             receiveTree();
+            if (!additionalTeachers.isEmpty()) {
+                logger.info(RECONNECT.getMarker(), "learner calls releaseAdditionalTeachers()");
+                releaseAdditionalTeachers();
+            }
             logger.info(RECONNECT.getMarker(), "learner calls initialize()");
             initialize();
             logger.info(RECONNECT.getMarker(), "learner calls hash()");
             hash();
+            if (additionalTeachersRootHash != null) {
+                checkReconstructedHash();
+            }
             logger.info(RECONNECT.getMarker(), "learner calls logStatistics()");
             logStatistics();
             logger.info(RECONNECT.getMarker(), "learner is done synchronizing");
@@ -181,6 +237,76 @@ public class LearningSynchronizer implements ReconnectNodeCount {
         }
     }
 
+    /**
+     * Read the state root hashes reported by the additional teachers and make sure they are all the same.
+     */
+    private void checkAdditionalTeachers() throws IOException {
+        for (final TeacherStreams teacher : additionalTeachers) {
+            final Hash rootHash = AdditionalTeacherProtocol.readRootHash(teacher.in());
+            if (additionalTeachersRootHash == null) {
+                additionalTeachersRootHash = rootHash;
+            } else if (!additionalTeachersRootHash.equals(rootHash)) {
+                // The primary teacher is waiting for requests, which will never come
+                breakConnection.run();
+                throw new MerkleSynchronizationException("Additional teachers hold different states: "
+                        + additionalTeachersRootHash + " and " + rootHash);
+            }
+        }
+        logger.info(
+                RECONNECT.getMarker(),
+                "{} additional teachers hold state with root hash {}",
+                additionalTeachers.size(),
+                additionalTeachersRootHash);
+    }
+
+    /**
+     * Let the additional teachers know there are no more subtrees to serve.
+     */
+    private void releaseAdditionalTeachers() throws IOException {
+        for (final TeacherStreams teacher : additionalTeachers) {
+            AdditionalTeacherProtocol.writeEndOfSubtrees(teacher.out());
+        }
+    }
+
+    /**
+     * Make sure the reconstructed tree matches the state held by the additional teachers. Parts of the tree were
+     * received from them, so a mismatch means the teachers didn't hold the same state.
+     */
+    private void checkReconstructedHash() {
+        final Hash reconstructedHash = newRoot == null ? null : newRoot.getHash();
+        if (!additionalTeachersRootHash.equals(reconstructedHash)) {
+            throw new MerkleSynchronizationException("Reconstructed tree hash " + reconstructedHash
+                    + " doesn't match the state hash of additional teachers " + additionalTeachersRootHash);
+        }
+    }
+
+    /**
+     * Get the streams of the additional teachers. Learner views that support receiving a subtree from several
+     * teachers in parallel may use them after calling {@link #requestSubtreeFromAdditionalTeachers(MerkleRoute)}.
+     * Other views ignore them.
+     *
+     * @return the additional teachers, may be empty
+     */
+    @NonNull
+    public List<TeacherStreams> getAdditionalTeachers() {
+        return additionalTeachers;
+    }
+
+    /**
+     * Ask all additional teachers to serve the subtree at the given route. The subtree root must have a custom
+     * view, and the additional teachers will process requests for it with that view until the learner view
+     * indicates there are no more requests.
+     *
+     * @param route the route of the subtree root, the same in the learner and teacher trees
+     * @throws IOException if an I/O error occurs
+     */
+    public void requestSubtreeFromAdditionalTeachers(@NonNull final MerkleRoute route) throws IOException {
+        Objects.requireNonNull(route, "route is null");
+        for (final TeacherStreams teacher : additionalTeachers) {
+            AdditionalTeacherProtocol.writeSubtreeRoute(teacher.out(), route);
+        }
+    }
+
     /**
      * Receive the tree from the teacher.
      */
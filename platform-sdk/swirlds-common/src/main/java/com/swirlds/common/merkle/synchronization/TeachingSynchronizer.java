@@ -24,16 +24,19 @@ import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.route.MerkleRoute;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
 import com.swirlds.common.merkle.synchronization.task.TeacherSubtree;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.merkle.synchronization.views.CustomReconnectRoot;
 import com.swirlds.common.merkle.synchronization.views.TeacherTreeView;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
 import java.net.SocketException;
 import java.util.LinkedList;
 import java.util.Objects;
@@ -75,6 +78,11 @@ public class TeachingSynchronizer {
      */
     private final Queue<TeacherSubtree> subtrees;
 
+    /**
+     * The root of the tree.
+     */
+    private final MerkleNode root;
+
     private final Runnable breakConnection;
 
     /**
@@ -114,6 +122,7 @@ public class TeachingSynchronizer {
         inputStream = Objects.requireNonNull(in, "in must not be null");
         outputStream = Objects.requireNonNull(out, "out must not be null");
 
+        this.root = root;
         subtrees = new LinkedList<>();
         subtrees.add(new TeacherSubtree(configuration, root));
 
@@ -140,6 +149,43 @@ public class TeachingSynchronizer {
         }
     }
 
+    /**
+     * Perform synchronization in the role of an additional teacher. The learner synchronizes the tree with a
+     * different (primary) teacher, and this teacher only serves parts of subtrees with custom views that the
+     * learner requests by their routes. All teachers must hold the same state, which is verified by the learner
+     * using the state root hash sent by this method.
+     */
+    public void assist() throws InterruptedException {
+        try {
+            AdditionalTeacherProtocol.writeRootHash(outputStream, root.getHash());
+            while (true) {
+                final MerkleRoute route = AdditionalTeacherProtocol.readSubtreeRoute(inputStream);
+                if (route == null) {
+                    logger.info(RECONNECT.getMarker(), "no more subtrees requested by the learner");
+                    break;
+                }
+                final MerkleNode node = root.getNodeAtRoute(route);
+                if (!(node instanceof CustomReconnectRoot<?, ?> subtreeRoot)) {
+                    throw new MerkleSynchronizationException(
+                            "Learner requested a subtree without a custom view, route = " + route);
+                }
+                try (final TeacherSubtree subtree =
+                        new TeacherSubtree(subtreeRoot, subtreeRoot.buildTeacherView(reconnectConfig))) {
+                    subtree.getView().waitUntilReady();
+                    sendTree(subtree.getRoot(), subtree.getView());
+                }
+            }
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to communicate with the learner", e);
+        } finally {
+            // The subtree created for the regular synchronization is not used
+            for (final TeacherSubtree subtree : subtrees) {
+                subtree.close();
+            }
+            subtrees.clear();
+        }
+    }
+
     /**
      * Send a tree (or subtree).
      */
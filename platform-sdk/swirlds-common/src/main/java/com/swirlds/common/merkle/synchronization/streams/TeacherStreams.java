@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * A pair of streams connecting the learner to one teacher.
+ *
+ * @param in  the stream to read data from the teacher
+ * @param out the stream to write data to the teacher
+ */
+public record TeacherStreams(@NonNull MerkleDataInputStream in, @NonNull MerkleDataOutputStream out) {
+
+    public TeacherStreams {
+        Objects.requireNonNull(in, "in must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+    }
+}
@@ -27,6 +27,7 @@ import com.swirlds.common.metrics.config.MetricsConfig;
 import com.swirlds.metrics.api.Counter;
 import com.swirlds.metrics.api.DoubleAccumulator;
 import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.IntegerAccumulator;
 import com.swirlds.metrics.api.IntegerGauge;
 import com.swirlds.metrics.api.LongAccumulator;
@@ -86,6 +87,14 @@ public class PlatformMetricsFactoryImpl implements PlatformMetricsFactory {
         return new PlatformFunctionGauge<>(config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Histogram createHistogram(final Histogram.Config config) {
+        return new PlatformHistogram(config);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.PLATFORM;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.NODE_LABEL;
+
+import com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import com.swirlds.metrics.api.snapshot.Snapshot;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapter that synchronizes a {@link Histogram} with a classic Prometheus histogram, i.e. the series {@code _bucket},
+ * {@code _count}, and {@code _sum}.
+ * <p>
+ * To keep the number of series small, only the buckets that end at a power of two are exported. Percentiles can still
+ * be computed by Prometheus, with the precision of these coarser buckets.
+ */
+public class HistogramAdapter extends AbstractMetricAdapter {
+
+    private static final String GLOBAL_KEY = "";
+
+    private final HistogramCollector collector;
+
+    /**
+     * Constructor of {@code HistogramAdapter}.
+     *
+     * @param registry
+     * 		The {@link CollectorRegistry} with which the Prometheus {@link Collector} should be registered
+     * @param metric
+     * 		The {@link Histogram} which value should be reported to Prometheus
+     * @param adapterType
+     * 		Scope of the {@link Histogram},
+     * 		either {@link AdapterType#GLOBAL} or {@link AdapterType#PLATFORM}
+     * @throws NullPointerException if any of the following parameters are {@code null}.
+     *     <ul>
+     *       <li>{@code registry}</li>
+     *       <li>{@code metric}</li>
+     *     </ul>
+     */
+    public HistogramAdapter(final CollectorRegistry registry, final Metric metric, final AdapterType adapterType) {
+        super(adapterType, metric);
+        Objects.requireNonNull(registry, "registry must not be null");
+        Objects.requireNonNull(metric, "metric must not be null");
+        this.collector = new HistogramCollector(metric, adapterType == PLATFORM);
+        collector.register(registry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Snapshot snapshot, final NodeId nodeId) {
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+        if (adapterType != GLOBAL) {
+            Objects.requireNonNull(nodeId, "nodeId must not be null");
+        }
+        // Prometheus histograms are cumulative, so the windowed snapshot entries are not used
+        if (snapshot.metric() instanceof final Histogram histogram) {
+            collector.histograms.put(adapterType == GLOBAL ? GLOBAL_KEY : nodeId.toString(), histogram.getSnapshot());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unregister(final CollectorRegistry registry) {
+        registry.unregister(collector);
+    }
+
+    /**
+     * A {@link Collector} that reports the latest cumulative snapshot of each node as a Prometheus histogram.
+     */
+    private static final class HistogramCollector extends Collector {
+
+        private final String name;
+        private final String help;
+        private final boolean perNode;
+        private final Map<String, HistogramSnapshot> histograms = new ConcurrentHashMap<>();
+
+        private HistogramCollector(@NonNull final Metric metric, final boolean perNode) {
+            final String unit = NameConverter.fix(metric.getUnit());
+            final String baseName = NameConverter.fix(metric.getCategory()) + "_" + NameConverter.fix(metric.getName());
+            this.name = unit.isEmpty() || baseName.endsWith("_" + unit) ? baseName : baseName + "_" + unit;
+            this.help = metric.getDescription();
+            this.perNode = perNode;
+        }
+
+        @Override
+        public List<MetricFamilySamples> collect() {
+            final List<String> labelNames = perNode ? List.of(NODE_LABEL) : List.of();
+            final List<String> bucketLabelNames = perNode ? List.of(NODE_LABEL, "le") : List.of("le");
+            final List<MetricFamilySamples.Sample> samples = new ArrayList<>();
+            for (final Map.Entry<String, HistogramSnapshot> entry : histograms.entrySet()) {
+                final List<String> labelValues = perNode ? List.of(entry.getKey()) : List.of();
+                final HistogramSnapshot snapshot = entry.getValue();
+                final long[] upperBounds = snapshot.upperBounds();
+                final long[] counts = snapshot.counts();
+
+                long cumulativeCount = 0;
+                for (int i = 0; i < counts.length - 1; i++) {
+                    cumulativeCount += counts[i];
+                    // only export buckets at power-of-two boundaries, i.e. upper bounds of the form 2^k - 1
+                    if ((upperBounds[i] & (upperBounds[i] + 1)) == 0) {
+                        samples.add(new MetricFamilySamples.Sample(
+                                name + "_bucket",
+                                bucketLabelNames,
+                                append(labelValues, doubleToGoString(upperBounds[i])),
+                                cumulativeCount));
+                    }
+                }
+                samples.add(new MetricFamilySamples.Sample(
+                        name + "_bucket", bucketLabelNames, append(labelValues, "+Inf"), snapshot.count()));
+                samples.add(
+                        new MetricFamilySamples.Sample(name + "_count", labelNames, labelValues, snapshot.count()));
+                samples.add(new MetricFamilySamples.Sample(name + "_sum", labelNames, labelValues, snapshot.sum()));
+            }
+            return List.of(new MetricFamilySamples(name, Type.HISTOGRAM, help, samples));
+        }
+
+        @NonNull
+        private static List<String> append(@NonNull final List<String> list, @NonNull final String value) {
+            final List<String> result = new ArrayList<>(list);
+            result.add(value);
+            return result;
+        }
+    }
+}
@@ -98,6 +98,11 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     private boolean daemon = true;
 
+    /**
+     * If new threads are virtual threads or platform threads.
+     */
+    private boolean virtual;
+
     /**
      * The priority for new threads.
      */
@@ -147,6 +152,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         this.otherNodeId = that.otherNodeId;
         this.threadGroup = that.threadGroup;
         this.daemon = that.daemon;
+        this.virtual = that.virtual;
         this.priority = that.priority;
         this.contextClassLoader = that.contextClassLoader;
         this.exceptionHandler = that.exceptionHandler;
@@ -213,7 +219,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     protected Thread buildThread(final boolean start) {
         final Runnable runnable = requireNonNull(getRunnable(), "runnable must not be null");
-        final Thread thread = threadManager.createThread(getThreadGroup(), runnable);
+        final Thread thread = createThread(runnable);
         configureThread(thread);
 
         if (start) {
@@ -223,6 +229,20 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         return thread;
     }
 
+    /**
+     * Create a new, unconfigured thread. Depending on this configuration, this is either a platform thread in the
+     * configured thread group or a virtual thread.
+     *
+     * @param runnable
+     * 		the runnable that will be executed on the thread
+     * @return a new thread that has not been started
+     */
+    protected Thread createThread(final Runnable runnable) {
+        return virtual
+                ? threadManager.createVirtualThread(runnable)
+                : threadManager.createThread(getThreadGroup(), runnable);
+    }
+
     /**
      * <p>
      * Build a "seed" that can be planted in a thread. When the runnable is executed, it takes over the calling thread
@@ -363,8 +383,8 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     protected void configureThread(final Thread thread) {
         thread.setName(buildThreadName());
-        if (!thread.isAlive()) {
-            // Daemon status can only be configured before a thread starts.
+        if (!thread.isAlive() && !thread.isVirtual()) {
+            // Daemon status can only be configured before a thread starts, virtual threads are always daemons.
             thread.setDaemon(isDaemon());
         }
         thread.setPriority(getPriority());
@@ -414,6 +434,28 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         return (C) this;
     }
 
+    /**
+     * Get whether new threads are virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Set whether new threads are virtual threads. Virtual threads are always daemon threads and ignore the
+     * configured thread group and priority. They are well suited for work that spends most of its time blocked on
+     * I/O, since a blocked virtual thread does not occupy a platform thread.
+     *
+     * @return this object
+     */
+    @SuppressWarnings("unchecked")
+    public C setVirtual(final boolean virtual) {
+        throwIfImmutable();
+
+        this.virtual = virtual;
+        return (C) this;
+    }
+
     /**
      * Get the priority of new threads.
      */
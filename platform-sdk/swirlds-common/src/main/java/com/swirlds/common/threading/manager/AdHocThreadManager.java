@@ -63,6 +63,14 @@ public final class AdHocThreadManager implements ThreadManager {
         return new Thread(threadGroup, runnable);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Thread createVirtualThread(final Runnable runnable) {
+        return Thread.ofVirtual().unstarted(runnable);
+    }
+
     /**
      * {@inheritDoc}
      */
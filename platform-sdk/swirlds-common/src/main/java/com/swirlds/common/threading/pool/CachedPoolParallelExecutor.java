@@ -16,6 +16,7 @@
 
 package com.swirlds.common.threading.pool;
 
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.manager.ThreadManager;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -25,10 +26,12 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 
 /**
- * An implementation that uses a CachedThreadPool to execute parallel tasks
+ * An implementation that uses a CachedThreadPool to execute parallel tasks. If configured to use virtual threads, each
+ * background task runs on a new virtual thread instead.
  */
 public class CachedPoolParallelExecutor implements ParallelExecutor {
     private static final Runnable NOOP = () -> {};
+    private static final String COMPONENT = "parallel-executor";
 
     /**
      * The thread pool used by this class.
@@ -39,6 +42,8 @@ public class CachedPoolParallelExecutor implements ParallelExecutor {
 
     private final ThreadFactory factory;
 
+    private final boolean virtual;
+
     /**
      * @param threadManager
      * 		responsible for managing thread lifecycles
@@ -46,7 +51,26 @@ public class CachedPoolParallelExecutor implements ParallelExecutor {
      * 		the name given to the threads in the pool
      */
     public CachedPoolParallelExecutor(final ThreadManager threadManager, final String name) {
-        factory = threadManager.createThreadFactory("parallel-executor", name);
+        this(threadManager, name, false);
+    }
+
+    /**
+     * @param threadManager
+     * 		responsible for managing thread lifecycles
+     * @param name
+     * 		the name given to the threads in the pool
+     * @param virtual
+     * 		if true, background tasks run on virtual threads instead of pooled platform threads
+     */
+    public CachedPoolParallelExecutor(final ThreadManager threadManager, final String name, final boolean virtual) {
+        this.factory = virtual
+                ? new ThreadConfiguration(threadManager)
+                        .setComponent(COMPONENT)
+                        .setThreadName(name)
+                        .setVirtual(true)
+                        .buildFactory()
+                : threadManager.createThreadFactory(COMPONENT, name);
+        this.virtual = virtual;
     }
 
     /**
@@ -64,7 +88,8 @@ public class CachedPoolParallelExecutor implements ParallelExecutor {
     public void start() {
         throwIfImmutable("should only be started once");
         immutable = true;
-        threadPool = Executors.newCachedThreadPool(factory);
+        // virtual threads are cheap to create, so they are not pooled
+        threadPool = virtual ? Executors.newThreadPerTaskExecutor(factory) : Executors.newCachedThreadPool(factory);
     }
 
     /**
@@ -38,6 +38,11 @@ import java.time.Duration;
  *                                       considered to be unhealthy and starts to write log warnings
  * @param healthLogPeriod                the minimum amount of time that must pass between health log messages for the
  *                                       same scheduler
+ * @param latencyTracingEnabled          whether sampled latency tracing of input wires is enabled. When enabled, the
+ *                                       queue wait time and the service time of sampled tasks are recorded per input
+ *                                       wire, exported as metrics and JFR events, and shown in the wiring diagram
+ * @param latencyTracingSamplePeriod     when latency tracing is enabled, on average one out of this many tasks is
+ *                                       traced on each input wire
  */
 @ConfigData("platform.wiring")
 public record WiringConfig(
@@ -48,4 +53,6 @@ public record WiringConfig(
         @ConfigProperty(defaultValue = "500") int healthMonitorSchedulerCapacity,
         @ConfigProperty(defaultValue = "1ms") Duration healthMonitorHeartbeatPeriod,
         @ConfigProperty(defaultValue = "1s") Duration healthLogThreshold,
-        @ConfigProperty(defaultValue = "10m") Duration healthLogPeriod) {}
+        @ConfigProperty(defaultValue = "10m") Duration healthLogPeriod,
+        @ConfigProperty(defaultValue = "false") boolean latencyTracingEnabled,
+        @ConfigProperty(defaultValue = "100") int latencyTracingSamplePeriod) {}
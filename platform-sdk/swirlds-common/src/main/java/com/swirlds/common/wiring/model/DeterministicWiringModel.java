@@ -26,7 +26,9 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -48,6 +50,11 @@ public class DeterministicWiringModel extends TraceableWiringModel {
 
     private final DeterministicHeartbeatScheduler heartbeatScheduler;
 
+    /**
+     * The wall clock time spent handling work for each scheduler, in nanoseconds, indexed by scheduler name.
+     */
+    private final Map<String, long[]> busyNanosBySchedulerName = new HashMap<>();
+
     /**
      * Constructor.
      *
@@ -91,7 +98,30 @@ public class DeterministicWiringModel extends TraceableWiringModel {
     @NonNull
     @Override
     public <O> TaskSchedulerBuilder<O> schedulerBuilder(@NonNull final String name) {
-        return new DeterministicTaskSchedulerBuilder<>(platformContext, this, name, this::submitWork);
+        final long[] busyNanos = busyNanosBySchedulerName.computeIfAbsent(name, ignored -> new long[1]);
+        return new DeterministicTaskSchedulerBuilder<>(platformContext, this, name, work -> submitWork(() -> {
+            final long start = System.nanoTime();
+            work.run();
+            busyNanos[0] += System.nanoTime() - start;
+        }));
+    }
+
+    /**
+     * Get the wall clock time each scheduler has spent handling work so far. Time spent in schedulers that are
+     * called directly by a scheduler (e.g. {@code DIRECT} schedulers) is included in the time of the calling
+     * scheduler. Must not be called concurrently with {@link #tick()}.
+     *
+     * @return the busy time of each scheduler that has handled work, in nanoseconds, indexed by scheduler name
+     */
+    @NonNull
+    public Map<String, Long> getBusyNanosBySchedulerName() {
+        final Map<String, Long> busyNanos = new HashMap<>();
+        busyNanosBySchedulerName.forEach((name, nanos) -> {
+            if (nanos[0] > 0) {
+                busyNanos.put(name, nanos[0]);
+            }
+        });
+        return busyNanos;
     }
 
     /**
@@ -23,6 +23,7 @@ import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.SE
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.wiring.model.diagram.HyperlinkBuilder;
 import com.swirlds.common.wiring.model.internal.monitor.HealthMonitor;
+import com.swirlds.common.wiring.model.internal.monitor.WireLatencyTracker;
 import com.swirlds.common.wiring.model.internal.standard.HeartbeatScheduler;
 import com.swirlds.common.wiring.model.internal.standard.JvmAnchor;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
@@ -101,7 +102,11 @@ public class StandardWiringModel extends TraceableWiringModel {
      * @param builder the builder for this model, contains all needed configuration
      */
     StandardWiringModel(@NonNull final WiringModelBuilder builder) {
-        super(builder.isHardBackpressureEnabled());
+        super(
+                builder.isHardBackpressureEnabled(),
+                builder.isLatencyTracingEnabled()
+                        ? new WireLatencyTracker(builder.getPlatformContext(), builder.getLatencyTracingSamplePeriod())
+                        : null);
 
         this.platformContext = Objects.requireNonNull(builder.getPlatformContext());
         this.defaultPool = Objects.requireNonNull(builder.getDefaultPool());
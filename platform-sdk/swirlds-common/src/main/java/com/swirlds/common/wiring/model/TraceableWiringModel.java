@@ -31,6 +31,8 @@ import com.swirlds.common.wiring.model.internal.analysis.ModelEdge;
 import com.swirlds.common.wiring.model.internal.analysis.ModelVertex;
 import com.swirlds.common.wiring.model.internal.analysis.StandardVertex;
 import com.swirlds.common.wiring.model.internal.analysis.WiringFlowchart;
+import com.swirlds.common.wiring.model.internal.monitor.WireLatencyTracer;
+import com.swirlds.common.wiring.model.internal.monitor.WireLatencyTracker;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
 import com.swirlds.common.wiring.wires.SolderType;
@@ -91,13 +93,42 @@ public abstract class TraceableWiringModel implements WiringModel {
      */
     private final boolean backpressureEnabled;
 
+    /**
+     * Traces the latency of input wires, or null if latency tracing is disabled.
+     */
+    private final WireLatencyTracker latencyTracker;
+
     /**
      * Constructor.
      *
      * @param backpressureEnabled true if backpressure is enabled
      */
     TraceableWiringModel(final boolean backpressureEnabled) {
+        this(backpressureEnabled, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param backpressureEnabled true if backpressure is enabled
+     * @param latencyTracker      traces the latency of input wires, or null if latency tracing is disabled
+     */
+    TraceableWiringModel(final boolean backpressureEnabled, @Nullable final WireLatencyTracker latencyTracker) {
         this.backpressureEnabled = backpressureEnabled;
+        this.latencyTracker = latencyTracker;
+    }
+
+    /**
+     * Get the latency tracer for an input wire.
+     *
+     * @param taskSchedulerName the name of the task scheduler the input wire is bound to
+     * @param inputWireName     the name of the input wire
+     * @return the latency tracer, or null if latency tracing is disabled
+     */
+    @Nullable
+    public WireLatencyTracer getLatencyTracer(
+            @NonNull final String taskSchedulerName, @NonNull final String inputWireName) {
+        return latencyTracker == null ? null : latencyTracker.getTracer(taskSchedulerName, inputWireName);
     }
 
     /**
@@ -144,7 +175,12 @@ public abstract class TraceableWiringModel implements WiringModel {
             @NonNull final List<ModelManualLink> manualLinks,
             final boolean moreMystery) {
         addVertexForUnsolderedInputWires(moreMystery);
-        final WiringFlowchart flowchart = new WiringFlowchart(vertices, substitutions, groups, manualLinks);
+        final WiringFlowchart flowchart = new WiringFlowchart(
+                vertices,
+                substitutions,
+                groups,
+                manualLinks,
+                latencyTracker == null ? Map.of() : latencyTracker.buildAnnotations());
         return flowchart.render();
     }
 
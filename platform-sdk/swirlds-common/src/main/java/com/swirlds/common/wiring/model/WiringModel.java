@@ -81,7 +81,8 @@ public interface WiringModel extends Startable, Stoppable {
     boolean checkForUnboundInputWires();
 
     /**
-     * Generate a mermaid style wiring diagram.
+     * Generate a mermaid style wiring diagram. If latency tracing is enabled, edges leading to traced input wires are
+     * annotated with the queue wait and service time percentiles observed so far.
      *
      * @param groups        optional groupings of vertices
      * @param substitutions edges to substitute
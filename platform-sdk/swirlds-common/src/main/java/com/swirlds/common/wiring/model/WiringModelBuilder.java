@@ -38,6 +38,8 @@ public class WiringModelBuilder {
     private Duration healthMonitorPeriod = Duration.ofMillis(100);
     private Duration healthLogThreshold = Duration.ofSeconds(5);
     private Duration healthLogPeriod = Duration.ofMinutes(10);
+    private boolean latencyTracingEnabled = false;
+    private int latencyTracingSamplePeriod = 100;
 
     /**
      * Create a new builder.
@@ -173,6 +175,34 @@ public class WiringModelBuilder {
         return this;
     }
 
+    /**
+     * Set whether sampled latency tracing of input wires is enabled. Ignored in deterministic mode.
+     *
+     * @param latencyTracingEnabled true if latency tracing is enabled
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withLatencyTracingEnabled(final boolean latencyTracingEnabled) {
+        this.latencyTracingEnabled = latencyTracingEnabled;
+        return this;
+    }
+
+    /**
+     * Set the sample period for latency tracing. On average one out of this many tasks is traced on each input wire.
+     *
+     * @param latencyTracingSamplePeriod the sample period, must be at least 1
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withLatencyTracingSamplePeriod(final int latencyTracingSamplePeriod) {
+        if (latencyTracingSamplePeriod < 1) {
+            throw new IllegalArgumentException(
+                    "latencyTracingSamplePeriod must be at least 1, got " + latencyTracingSamplePeriod);
+        }
+        this.latencyTracingSamplePeriod = latencyTracingSamplePeriod;
+        return this;
+    }
+
     /**
      * Build the wiring model.
      *
@@ -275,4 +305,22 @@ public class WiringModelBuilder {
     Duration getHealthLogPeriod() {
         return healthLogPeriod;
     }
+
+    /**
+     * Check if latency tracing is enabled.
+     *
+     * @return true if latency tracing is enabled
+     */
+    boolean isLatencyTracingEnabled() {
+        return latencyTracingEnabled;
+    }
+
+    /**
+     * Get the latency tracing sample period.
+     *
+     * @return the latency tracing sample period
+     */
+    int getLatencyTracingSamplePeriod() {
+        return latencyTracingSamplePeriod;
+    }
 }
@@ -32,6 +32,7 @@ public class ModelEdge implements Comparable<ModelEdge> {
     private final String label;
     private final boolean insertionIsBlocking;
     private final boolean manual;
+    private String annotation;
 
     /**
      * Constructor.
@@ -114,6 +115,15 @@ public class ModelEdge implements Comparable<ModelEdge> {
         return insertionIsBlocking;
     }
 
+    /**
+     * Set an annotation that is rendered below the label of this edge, e.g. live latency information.
+     *
+     * @param annotation the annotation, or null to remove the annotation
+     */
+    public void setAnnotation(@Nullable final String annotation) {
+        this.annotation = annotation;
+    }
+
     @Override
     public boolean equals(@Nullable final Object obj) {
         if (obj instanceof final ModelEdge that) {
@@ -174,17 +184,26 @@ public class ModelEdge implements Comparable<ModelEdge> {
         final String sourceName = nameProvider.getShortVertexName(source.getName());
         sb.append(sourceName).append(" ");
 
+        final String renderedLabel;
+        if (annotation == null) {
+            renderedLabel = label;
+        } else if (label.isEmpty()) {
+            renderedLabel = annotation;
+        } else {
+            renderedLabel = label + "<br/>" + annotation;
+        }
+
         if (insertionIsBlocking) {
-            if (label.isEmpty()) {
+            if (renderedLabel.isEmpty()) {
                 sb.append("--");
             } else {
-                sb.append("-- \"").append(label).append("\" --");
+                sb.append("-- \"").append(renderedLabel).append("\" --");
             }
         } else {
-            if (label.isEmpty()) {
+            if (renderedLabel.isEmpty()) {
                 sb.append("-.-");
             } else {
-                sb.append("-. \"").append(label).append("\" .-");
+                sb.append("-. \"").append(renderedLabel).append("\" .-");
             }
         }
 
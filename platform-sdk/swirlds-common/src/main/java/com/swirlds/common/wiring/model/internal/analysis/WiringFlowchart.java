@@ -71,10 +71,29 @@ public class WiringFlowchart {
             @NonNull final List<ModelEdgeSubstitution> substitutions,
             @NonNull final List<ModelGroup> groups,
             @NonNull final List<ModelManualLink> manualLinks) {
+        this(modelVertexMap, substitutions, groups, manualLinks, Map.of());
+    }
+
+    /**
+     * Draws a mermaid flowchart from the given wiring model, annotating edges with additional information.
+     *
+     * @param modelVertexMap  a map from vertex name to vertex
+     * @param substitutions   a list of edge substitutions to perform
+     * @param groups          a list of groups to create
+     * @param manualLinks     a list of manual links to draw
+     * @param edgeAnnotations annotations for the edges that lead to an input wire, e.g. live latency information
+     */
+    public WiringFlowchart(
+            @NonNull final Map<String, ModelVertex> modelVertexMap,
+            @NonNull final List<ModelEdgeSubstitution> substitutions,
+            @NonNull final List<ModelGroup> groups,
+            @NonNull final List<ModelManualLink> manualLinks,
+            @NonNull final Map<InputWireDescriptor, String> edgeAnnotations) {
 
         Objects.requireNonNull(modelVertexMap);
+        Objects.requireNonNull(edgeAnnotations);
 
-        vertexMap = copyVertexMap(modelVertexMap);
+        vertexMap = copyVertexMap(modelVertexMap, edgeAnnotations);
         addManualLinks(manualLinks);
         substituteEdges(substitutions);
         handleGroups(groups);
@@ -83,10 +102,14 @@ public class WiringFlowchart {
     /**
      * Do a deep copy of the vertex map. Allows the local copy to be modified without affecting the original.
      *
+     * @param original        the vertex map to copy
+     * @param edgeAnnotations annotations to attach to the copied edges
      * @return a deep copy of the vertex map
      */
     @NonNull
-    private Map<String, ModelVertex> copyVertexMap(@NonNull final Map<String, ModelVertex> original) {
+    private Map<String, ModelVertex> copyVertexMap(
+            @NonNull final Map<String, ModelVertex> original,
+            @NonNull final Map<InputWireDescriptor, String> edgeAnnotations) {
         final Map<String, ModelVertex> copy = new HashMap<>();
 
         // First, copy the vertices without copying the edges.
@@ -114,6 +137,8 @@ public class WiringFlowchart {
 
                 final ModelEdge edgeCopy =
                         new ModelEdge(source, destination, edge.getLabel(), edge.isInsertionIsBlocking(), false);
+                edgeCopy.setAnnotation(
+                        edgeAnnotations.get(new InputWireDescriptor(destination.getName(), edge.getLabel())));
 
                 source.getOutgoingEdges().add(edgeCopy);
             }
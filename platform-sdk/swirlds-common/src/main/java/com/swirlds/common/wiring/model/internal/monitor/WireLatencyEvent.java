@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event that describes the latency of a single sampled task on an input wire.
+ */
+@Name("com.swirlds.wiring.WireLatency")
+@Label("Wire Latency")
+@Category({"Swirlds", "Wiring"})
+@Description("Queue wait time and service time of a sampled task on a wiring framework input wire")
+@Enabled(false)
+@StackTrace(false)
+class WireLatencyEvent extends jdk.jfr.Event {
+
+    @Label("Scheduler")
+    String scheduler;
+
+    @Label("Input Wire")
+    String wire;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueWait;
+
+    @Label("Service Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long serviceTime;
+}
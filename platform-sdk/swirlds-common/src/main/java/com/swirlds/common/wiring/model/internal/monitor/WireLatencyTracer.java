@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.monitor;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Traces the latency of a sample of the tasks sent over a single input wire. For each sampled task, the time spent
+ * waiting in the scheduler's queue (from insertion until the handler is called) and the time spent in the handler are
+ * recorded.
+ * <p>
+ * Tasks that are not sampled are passed through without any overhead other than a random number draw. Note that the
+ * service time of a handler includes the time needed to pass its output to the next schedulers, which for direct
+ * schedulers includes the time spent in their handlers.
+ */
+public class WireLatencyTracer {
+
+    private static final String CATEGORY = "platform";
+
+    private final String schedulerName;
+    private final String wireName;
+    private final Time time;
+    private final int samplePeriod;
+    private final Histogram queueWait;
+    private final Histogram serviceTime;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics       the metrics system
+     * @param time          provides wall clock time
+     * @param schedulerName the name of the scheduler the input wire belongs to
+     * @param wireName      the name of the input wire
+     * @param samplePeriod  on average one out of this many tasks is traced
+     */
+    public WireLatencyTracer(
+            @NonNull final Metrics metrics,
+            @NonNull final Time time,
+            @NonNull final String schedulerName,
+            @NonNull final String wireName,
+            final int samplePeriod) {
+        if (samplePeriod < 1) {
+            throw new IllegalArgumentException("samplePeriod must be at least 1, got " + samplePeriod);
+        }
+        this.schedulerName = Objects.requireNonNull(schedulerName);
+        this.wireName = Objects.requireNonNull(wireName);
+        this.time = Objects.requireNonNull(time);
+        this.samplePeriod = samplePeriod;
+
+        final String baseName = "wire_" + sanitize(schedulerName) + "_" + sanitize(wireName);
+        queueWait = metrics.getOrCreate(new Histogram.Config(CATEGORY, baseName + "_queueWait")
+                .withUnit("nanoseconds")
+                .withDescription("Time sampled tasks wait in the queue of " + schedulerName));
+        serviceTime = metrics.getOrCreate(new Histogram.Config(CATEGORY, baseName + "_serviceTime")
+                .withUnit("nanoseconds")
+                .withDescription("Time sampled tasks spend in the handler of " + schedulerName));
+    }
+
+    /**
+     * Possibly wrap a handler so that the latency of the task is traced. Must be called at the moment the task is
+     * inserted into the scheduler.
+     *
+     * @param handler the handler that will process the task
+     * @return the handler itself if the task is not sampled, otherwise a wrapper that traces the task
+     */
+    @NonNull
+    public Consumer<Object> trace(@NonNull final Consumer<Object> handler) {
+        if (samplePeriod > 1 && ThreadLocalRandom.current().nextInt(samplePeriod) != 0) {
+            return handler;
+        }
+        final long enqueueTime = time.nanoTime();
+        return data -> {
+            final long startTime = time.nanoTime();
+            try {
+                handler.accept(data);
+            } finally {
+                record(startTime - enqueueTime, time.nanoTime() - startTime);
+            }
+        };
+    }
+
+    /**
+     * Record the latency of a single task.
+     *
+     * @param queueWaitNanos   the time the task spent waiting in the queue
+     * @param serviceTimeNanos the time the task spent in the handler
+     */
+    private void record(final long queueWaitNanos, final long serviceTimeNanos) {
+        queueWait.update(queueWaitNanos);
+        serviceTime.update(serviceTimeNanos);
+
+        final WireLatencyEvent event = new WireLatencyEvent();
+        if (event.isEnabled()) {
+            event.scheduler = schedulerName;
+            event.wire = wireName;
+            event.queueWait = queueWaitNanos;
+            event.serviceTime = serviceTimeNanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Get the distribution of queue wait times recorded so far.
+     *
+     * @return the queue wait time distribution, in nanoseconds
+     */
+    @NonNull
+    public HistogramSnapshot getQueueWait() {
+        return queueWait.getSnapshot();
+    }
+
+    /**
+     * Get the distribution of service times recorded so far.
+     *
+     * @return the service time distribution, in nanoseconds
+     */
+    @NonNull
+    public HistogramSnapshot getServiceTime() {
+        return serviceTime.getSnapshot();
+    }
+
+    /**
+     * Replace all characters that are not legal in a metric name.
+     */
+    @NonNull
+    private static String sanitize(@NonNull final String name) {
+        return name.replaceAll("[^A-Za-z0-9]+", "_");
+    }
+}
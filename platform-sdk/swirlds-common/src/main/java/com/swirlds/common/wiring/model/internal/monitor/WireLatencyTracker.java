@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.monitor;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.wiring.model.internal.analysis.InputWireDescriptor;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns the {@link WireLatencyTracer}s of all input wires in a wiring model.
+ */
+public class WireLatencyTracker {
+
+    private final PlatformContext platformContext;
+    private final int samplePeriod;
+    private final Map<InputWireDescriptor, WireLatencyTracer> tracers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param platformContext the platform context
+     * @param samplePeriod    on average one out of this many tasks is traced on each input wire
+     */
+    public WireLatencyTracker(@NonNull final PlatformContext platformContext, final int samplePeriod) {
+        this.platformContext = Objects.requireNonNull(platformContext);
+        if (samplePeriod < 1) {
+            throw new IllegalArgumentException("samplePeriod must be at least 1, got " + samplePeriod);
+        }
+        this.samplePeriod = samplePeriod;
+    }
+
+    /**
+     * Get the tracer for an input wire, creating it if necessary.
+     *
+     * @param taskSchedulerName the name of the scheduler the input wire belongs to
+     * @param inputWireName     the name of the input wire
+     * @return the tracer for the input wire
+     */
+    @NonNull
+    public WireLatencyTracer getTracer(@NonNull final String taskSchedulerName, @NonNull final String inputWireName) {
+        return tracers.computeIfAbsent(
+                new InputWireDescriptor(taskSchedulerName, inputWireName),
+                descriptor -> new WireLatencyTracer(
+                        platformContext.getMetrics(),
+                        platformContext.getTime(),
+                        taskSchedulerName,
+                        inputWireName,
+                        samplePeriod));
+    }
+
+    /**
+     * Build a short, human-readable latency summary for every input wire that has traced at least one task. Intended
+     * to annotate the edges of a wiring diagram.
+     *
+     * @return a map from input wire to latency summary
+     */
+    @NonNull
+    public Map<InputWireDescriptor, String> buildAnnotations() {
+        final Map<InputWireDescriptor, String> annotations = new HashMap<>();
+        tracers.forEach((descriptor, tracer) -> {
+            final HistogramSnapshot queueWait = tracer.getQueueWait();
+            if (queueWait.count() == 0) {
+                return;
+            }
+            final HistogramSnapshot serviceTime = tracer.getServiceTime();
+            annotations.put(
+                    descriptor,
+                    "wait p50 " + formatNanos(queueWait.valueAtPercentile(50)) + " p99 "
+                            + formatNanos(queueWait.valueAtPercentile(99)) + ", service p50 "
+                            + formatNanos(serviceTime.valueAtPercentile(50)) + " p99 "
+                            + formatNanos(serviceTime.valueAtPercentile(99)));
+        });
+        return annotations;
+    }
+
+    /**
+     * Format a duration in nanoseconds using the largest unit that keeps the value above 1.
+     */
+    @NonNull
+    private static String formatNanos(final long nanos) {
+        if (nanos < 1_000L) {
+            return nanos + "ns";
+        } else if (nanos < 1_000_000L) {
+            return String.format("%.1fus", nanos / 1_000.0);
+        } else if (nanos < 1_000_000_000L) {
+            return String.format("%.1fms", nanos / 1_000_000.0);
+        } else {
+            return String.format("%.1fs", nanos / 1_000_000_000.0);
+        }
+    }
+}
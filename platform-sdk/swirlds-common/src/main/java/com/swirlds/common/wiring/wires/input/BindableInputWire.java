@@ -73,6 +73,7 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
             return;
         }
         model.registerInputWireCreation(taskSchedulerName, name);
+        setLatencyTracer(model.getLatencyTracer(taskSchedulerName, name));
     }
 
     /**
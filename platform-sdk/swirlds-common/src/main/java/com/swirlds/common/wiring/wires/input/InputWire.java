@@ -16,9 +16,11 @@
 
 package com.swirlds.common.wiring.wires.input;
 
+import com.swirlds.common.wiring.model.internal.monitor.WireLatencyTracer;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -34,6 +36,7 @@ public abstract class InputWire<IN> {
     private final String name;
     private final String taskSchedulerName;
     private final TaskSchedulerType taskSchedulerType;
+    private WireLatencyTracer latencyTracer;
 
     /**
      * Constructor.
@@ -84,7 +87,7 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void put(@NonNull final IN data) {
-        taskSchedulerInput.put(handler, data);
+        taskSchedulerInput.put(getHandler(), data);
     }
 
     /**
@@ -95,7 +98,7 @@ public abstract class InputWire<IN> {
      * @return true if the data was accepted, false otherwise
      */
     public boolean offer(@NonNull final IN data) {
-        return taskSchedulerInput.offer(handler, data);
+        return taskSchedulerInput.offer(getHandler(), data);
     }
 
     /**
@@ -106,7 +109,26 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void inject(@NonNull final IN data) {
-        taskSchedulerInput.inject(handler, data);
+        taskSchedulerInput.inject(getHandler(), data);
+    }
+
+    /**
+     * Set the tracer that samples the latency of tasks sent over this wire.
+     *
+     * @param latencyTracer the latency tracer, or null if latency tracing is disabled
+     */
+    protected void setLatencyTracer(@Nullable final WireLatencyTracer latencyTracer) {
+        this.latencyTracer = latencyTracer;
+    }
+
+    /**
+     * Get the handler for the next task, wrapped by the latency tracer if this task is sampled.
+     *
+     * @return the handler
+     */
+    @NonNull
+    private Consumer<Object> getHandler() {
+        return latencyTracer == null ? handler : latencyTracer.trace(handler);
     }
 
     /**
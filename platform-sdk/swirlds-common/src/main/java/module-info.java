@@ -19,6 +19,7 @@ module com.swirlds.common {
     exports com.swirlds.common.io.filesystem;
     exports com.swirlds.common.io.streams;
     exports com.swirlds.common.io.utility;
+    exports com.swirlds.common.jfr;
     exports com.swirlds.common.merkle;
     exports com.swirlds.common.merkle.copy;
     exports com.swirlds.common.merkle.crypto;
@@ -153,6 +154,7 @@ module com.swirlds.common {
     requires transitive com.fasterxml.jackson.databind;
     requires transitive com.hedera.pbj.runtime;
     requires transitive io.prometheus.simpleclient;
+    requires transitive jdk.jfr;
     requires transitive lazysodium.java;
     requires transitive org.apache.logging.log4j;
     requires com.sun.jna;
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PlatformFlightRecorderTests {
+
+    @TempDir
+    Path testDirectory;
+
+    @Test
+    void disabledByDefaultTest() {
+        final Configuration configuration = new TestConfigBuilder(JfrConfig.class).getOrCreateConfig();
+        assertNull(PlatformFlightRecorder.start(configuration));
+        assertFalse(new RoundHandleJfrEvent().isEnabled());
+    }
+
+    @Test
+    void recordingCapturesPlatformEventsTest() throws IOException {
+        final Configuration configuration = new TestConfigBuilder(JfrConfig.class)
+                .withValue("jfr.enabled", true)
+                .getOrCreateConfig();
+
+        final Recording recording = PlatformFlightRecorder.start(configuration);
+        assertNotNull(recording);
+        try (recording) {
+            assertEquals(PlatformFlightRecorder.RECORDING_NAME, recording.getName());
+
+            final RoundHandleJfrEvent roundHandle = new RoundHandleJfrEvent();
+            assertTrue(roundHandle.isEnabled());
+            roundHandle.begin();
+            roundHandle.commit(42, 3, 7);
+
+            final StateSigningJfrEvent stateSigning = new StateSigningJfrEvent();
+            stateSigning.begin();
+            stateSigning.commit(42);
+
+            recording.stop();
+            final Path file = testDirectory.resolve("recording.jfr");
+            recording.dump(file);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            final RecordedEvent recordedRoundHandle = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("com.swirlds.platform.RoundHandle"))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(42, recordedRoundHandle.getLong("round"));
+            assertEquals(3, recordedRoundHandle.getInt("eventCount"));
+            assertEquals(7, recordedRoundHandle.getInt("transactionCount"));
+
+            assertTrue(events.stream()
+                    .anyMatch(e -> e.getEventType().getName().equals("com.swirlds.platform.StateSigning")
+                            && e.getLong("round") == 42));
+        }
+
+        // once the recording is closed the platform events are disabled again
+        assertFalse(new RoundHandleJfrEvent().isEnabled());
+    }
+}
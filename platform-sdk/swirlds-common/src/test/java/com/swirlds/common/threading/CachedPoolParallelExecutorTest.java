@@ -19,7 +19,9 @@ package com.swirlds.common.threading;
 import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.test.fixtures.junit.tags.TestComponentTags;
 import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
@@ -28,6 +30,7 @@ import com.swirlds.common.threading.pool.ParallelExecutor;
 import java.util.Random;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -63,6 +66,23 @@ class CachedPoolParallelExecutorTest {
         assertEquals(expectedReturn, actualReturn, "doParallel did not return the correct value");
     }
 
+    @Test
+    @Tag(TestComponentTags.THREADING)
+    @DisplayName("Virtual thread test")
+    void virtualThreads() throws Exception {
+        final ParallelExecutor executor = new CachedPoolParallelExecutor(getStaticThreadManager(), "a name", true);
+        executor.start();
+        final AtomicBoolean backgroundVirtual = new AtomicBoolean();
+        final Callable<Boolean> task1 = () -> Thread.currentThread().isVirtual();
+        final Callable<Void> task2 = () -> {
+            backgroundVirtual.set(Thread.currentThread().isVirtual());
+            return null;
+        };
+
+        assertFalse(executor.doParallel(task1, task2), "the foreground task should run on the calling thread");
+        assertTrue(backgroundVirtual.get(), "the background task should run on a virtual thread");
+    }
+
     @Test
     @Tag(TestComponentTags.THREADING)
     @DisplayName("Exception test")
@@ -161,6 +161,37 @@ class ThreadTests {
         assertFalse(threadException.get(), "there should not have been any exceptions");
     }
 
+    @Test
+    @Tag(TestComponentTags.THREADING)
+    @DisplayName("Virtual Thread Test")
+    void virtualThreadTest() throws InterruptedException {
+        final AtomicBoolean threadException = new AtomicBoolean(false);
+
+        final Thread thread = new ThreadConfiguration(getStaticThreadManager())
+                .setExceptionHandler((t, e) -> {
+                    e.printStackTrace();
+                    threadException.set(true);
+                })
+                .setComponent("component")
+                .setThreadName("virtual")
+                // daemon status can't be changed for virtual threads, this must not cause an exception
+                .setDaemon(false)
+                .setVirtual(true)
+                .setRunnable(() -> assertTrue(Thread.currentThread().isVirtual(), "expected a virtual thread"))
+                .build(true);
+        thread.join();
+
+        assertTrue(thread.isVirtual(), "expected a virtual thread");
+        assertTrue(thread.isDaemon(), "virtual threads are always daemons");
+        assertEquals("<component: virtual>", thread.getName(), "unexpected thread name");
+        assertFalse(threadException.get(), "there should not have been any exceptions");
+
+        final ThreadFactory factory = new ThreadConfiguration(getStaticThreadManager())
+                .setVirtual(true)
+                .buildFactory();
+        assertTrue(factory.newThread(() -> {}).isVirtual(), "expected factory to build virtual threads");
+    }
+
     @Test
     @Tag(TestComponentTags.THREADING)
     @DisplayName("Class Loader Test")
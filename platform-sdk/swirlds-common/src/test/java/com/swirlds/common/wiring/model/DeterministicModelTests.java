@@ -30,6 +30,7 @@ import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Fail.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -44,6 +45,7 @@ import com.swirlds.common.wiring.wires.output.OutputWire;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -567,4 +569,46 @@ class DeterministicModelTests {
 
         model.stop();
     }
+
+    @Test
+    void busyTimeIsTrackedPerScheduler() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final DeterministicWiringModel model = WiringModelBuilder.create(platformContext)
+                .withDeterministicModeEnabled(true)
+                .build();
+
+        final TaskScheduler<Void> busyScheduler = model.schedulerBuilder("busy")
+                .withType(SEQUENTIAL)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .build()
+                .cast();
+        final TaskScheduler<Void> idleScheduler = model.schedulerBuilder("idle")
+                .withType(SEQUENTIAL)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .build()
+                .cast();
+        final BindableInputWire<Integer, Void> busyInput = busyScheduler.buildInputWire("busyInput");
+        final BindableInputWire<Integer, Void> idleInput = idleScheduler.buildInputWire("idleInput");
+        busyInput.bindConsumer(x -> {
+            final long start = System.nanoTime();
+            while (System.nanoTime() - start < MILLISECONDS.toNanos(1)) {
+                Thread.onSpinWait();
+            }
+        });
+        idleInput.bindConsumer(x -> {});
+
+        model.start();
+        for (int i = 0; i < 10; i++) {
+            busyInput.put(i);
+        }
+        model.tick();
+        model.tick();
+
+        final Map<String, Long> busyNanos = model.getBusyNanosBySchedulerName();
+        assertTrue(busyNanos.get("busy") >= MILLISECONDS.toNanos(10));
+        assertFalse(busyNanos.containsKey("idle"));
+
+        model.stop();
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.monitor;
+
+import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.DIRECT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.PlatformMetricsFactory;
+import com.swirlds.common.metrics.config.MetricsConfig;
+import com.swirlds.common.metrics.platform.DefaultPlatformMetrics;
+import com.swirlds.common.metrics.platform.MetricKeyRegistry;
+import com.swirlds.common.metrics.platform.PlatformMetricsFactoryImpl;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.wiring.model.WiringModel;
+import com.swirlds.common.wiring.model.WiringModelBuilder;
+import com.swirlds.common.wiring.schedulers.TaskScheduler;
+import com.swirlds.common.wiring.wires.input.BindableInputWire;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.metrics.api.Metrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WireLatencyTracerTests {
+
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        final Configuration configuration = new TestConfigBuilder().getOrCreateConfig();
+        final MetricsConfig metricsConfig = configuration.getConfigData(MetricsConfig.class);
+        final PlatformMetricsFactory factory = new PlatformMetricsFactoryImpl(metricsConfig);
+        metrics = new DefaultPlatformMetrics(
+                null, new MetricKeyRegistry(), Executors.newSingleThreadScheduledExecutor(), factory, metricsConfig);
+    }
+
+    @Test
+    void queueWaitAndServiceTimeTest() {
+        final FakeTime time = new FakeTime();
+        final WireLatencyTracer tracer = new WireLatencyTracer(metrics, time, "scheduler", "input wire", 1);
+
+        final AtomicLong handled = new AtomicLong();
+        final Consumer<Object> handler = data -> {
+            handled.addAndGet((Long) data);
+            time.tick(Duration.ofNanos(300));
+        };
+
+        for (int i = 0; i < 10; i++) {
+            final Consumer<Object> traced = tracer.trace(handler);
+            assertNotSame(handler, traced);
+            time.tick(Duration.ofNanos(1000));
+            traced.accept(1L);
+        }
+
+        assertEquals(10, handled.get());
+        assertEquals(10, tracer.getQueueWait().count());
+        assertEquals(10 * 1000, tracer.getQueueWait().sum());
+        assertEquals(10, tracer.getServiceTime().count());
+        assertEquals(10 * 300, tracer.getServiceTime().sum());
+
+        assertNotNull(metrics.getMetric("platform", "wire_scheduler_input_wire_queueWait"));
+        assertNotNull(metrics.getMetric("platform", "wire_scheduler_input_wire_serviceTime"));
+    }
+
+    @Test
+    void samplingTest() {
+        final FakeTime time = new FakeTime();
+        final WireLatencyTracer tracer = new WireLatencyTracer(metrics, time, "scheduler", "wire", 10);
+
+        final Consumer<Object> handler = data -> {};
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            final Consumer<Object> traced = tracer.trace(handler);
+            if (traced != handler) {
+                sampled++;
+            }
+            traced.accept(i);
+        }
+
+        assertEquals(sampled, tracer.getQueueWait().count());
+        // on average one out of ten tasks is sampled, allow for a generous margin of error
+        assertTrue(sampled > 500 && sampled < 1500, "unexpected number of samples: " + sampled);
+    }
+
+    @Test
+    void diagramAnnotationTest() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().withMetrics(metrics).build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withLatencyTracingEnabled(true)
+                .withLatencyTracingSamplePeriod(1)
+                .build();
+
+        final TaskScheduler<Integer> schedulerA =
+                model.<Integer>schedulerBuilder("A").withType(DIRECT).build().cast();
+        final TaskScheduler<Void> schedulerB =
+                model.<Void>schedulerBuilder("B").withType(DIRECT).build().cast();
+
+        final BindableInputWire<Integer, Integer> inputA = schedulerA.buildInputWire("A input");
+        final BindableInputWire<Integer, Void> inputB = schedulerB.buildInputWire("B input");
+        inputA.bind(x -> x + 1);
+        inputB.bindConsumer(x -> {});
+        schedulerA.getOutputWire().solderTo(inputB);
+
+        inputA.put(1);
+
+        final String diagram = model.generateWiringDiagram(List.of(), List.of(), List.of(), false);
+        assertTrue(diagram.contains("wait p50"), diagram);
+    }
+
+    @Test
+    void tracingDisabledTest() {
+        final WiringModel model = WiringModelBuilder.create(
+                        TestPlatformContextBuilder.create().build())
+                .build();
+        final TaskScheduler<Void> scheduler =
+                model.<Void>schedulerBuilder("A").withType(DIRECT).build().cast();
+        final BindableInputWire<Integer, Void> input = scheduler.buildInputWire("A input");
+        input.bindConsumer(x -> {});
+        input.put(1);
+
+        final String diagram = model.generateWiringDiagram(List.of(), List.of(), List.of(), false);
+        assertFalse(diagram.contains("wait p50"), diagram);
+    }
+}
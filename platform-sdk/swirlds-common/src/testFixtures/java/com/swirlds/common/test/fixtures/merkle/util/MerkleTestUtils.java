@@ -35,6 +35,7 @@ import com.swirlds.common.merkle.iterators.MerkleIterator;
 import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
 import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.streams.TeacherStreams;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.metrics.config.MetricsConfig;
 import com.swirlds.common.metrics.platform.DefaultPlatformMetrics;
@@ -1017,6 +1018,14 @@ public final class MerkleTestUtils {
         }
     }
 
+    private static void assistingSynchronizerThread(final TeachingSynchronizer teacher) {
+        try {
+            teacher.assist();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static void learningSynchronizerThread(final LearningSynchronizer learner) {
         try {
             learner.synchronize();
@@ -1174,6 +1183,89 @@ public final class MerkleTestUtils {
         }
     }
 
+    /**
+     * Synchronize a tree from several teachers and verify that the end result is the expected result. The first
+     * teacher synchronizes the tree with the learner, and the other teachers assist it.
+     *
+     * @param startingTree    the tree of the learner
+     * @param teacherTrees    the trees of the teachers, the first one is the tree of the primary teacher
+     * @param reconnectConfig the reconnect configuration
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends MerkleNode> T testMultiTeacherSynchronization(
+            final MerkleNode startingTree, final List<MerkleNode> teacherTrees, final ReconnectConfig reconnectConfig)
+            throws Exception {
+        final List<PairedStreams> streams = new ArrayList<>(teacherTrees.size());
+        try {
+            for (int i = 0; i < teacherTrees.size(); i++) {
+                streams.add(new PairedStreams());
+            }
+            final Runnable breakConnection = () -> streams.forEach(PairedStreams::disconnect);
+
+            final PairedStreams primaryStreams = streams.get(0);
+            final List<TeacherStreams> additionalTeachers = streams.subList(1, streams.size()).stream()
+                    .map(s -> new TeacherStreams(s.getLearnerInput(), s.getLearnerOutput()))
+                    .toList();
+            final LearningSynchronizer learner = new LearningSynchronizer(
+                    getStaticThreadManager(),
+                    primaryStreams.getLearnerInput(),
+                    primaryStreams.getLearnerOutput(),
+                    additionalTeachers,
+                    startingTree,
+                    breakConnection,
+                    reconnectConfig,
+                    metrics);
+
+            final PlatformContext platformContext = TestPlatformContextBuilder.create().build();
+            final List<TeachingSynchronizer> teachers = new ArrayList<>(teacherTrees.size());
+            for (int i = 0; i < teacherTrees.size(); i++) {
+                teachers.add(new TeachingSynchronizer(
+                        platformContext.getConfiguration(),
+                        Time.getCurrent(),
+                        getStaticThreadManager(),
+                        streams.get(i).getTeacherInput(),
+                        streams.get(i).getTeacherOutput(),
+                        teacherTrees.get(i),
+                        breakConnection,
+                        reconnectConfig));
+            }
+
+            final AtomicReference<Throwable> firstReconnectException = new AtomicReference<>();
+            final Function<Throwable, Boolean> exceptionListener = t -> {
+                firstReconnectException.compareAndSet(null, t);
+                return false;
+            };
+            final StandardWorkGroup workGroup = new StandardWorkGroup(
+                    getStaticThreadManager(), "synchronization-test", null, exceptionListener, true);
+            workGroup.execute("teaching-synchronizer-main", () -> teachingSynchronizerThread(teachers.get(0)));
+            for (int i = 1; i < teachers.size(); i++) {
+                final TeachingSynchronizer teacher = teachers.get(i);
+                workGroup.execute("teaching-synchronizer-assist-" + i, () -> assistingSynchronizerThread(teacher));
+            }
+            workGroup.execute("learning-synchronizer-main", () -> learningSynchronizerThread(learner));
+
+            try {
+                workGroup.waitForTermination();
+            } catch (InterruptedException e) {
+                workGroup.shutdown();
+                Thread.currentThread().interrupt();
+            }
+
+            if (workGroup.hasExceptions()) {
+                throw new MerkleSynchronizationException(
+                        "Exception(s) in synchronization test", firstReconnectException.get());
+            }
+
+            final MerkleNode generatedTree = learner.getRoot();
+
+            assertReconnectValidity(startingTree, teacherTrees.get(0), generatedTree);
+
+            return (T) generatedTree;
+        } finally {
+            streams.forEach(PairedStreams::close);
+        }
+    }
+
     /**
      * Check if a node is virtual. A required work around due to the incorrect package structure for the virtual tests.
      */
@@ -1306,6 +1398,20 @@ public final class MerkleTestUtils {
         return testSynchronization(startingTree, desiredTree, 0, reconnectConfig);
     }
 
+    public static <T extends MerkleNode> T hashAndTestMultiTeacherSynchronization(
+            final MerkleNode startingTree, final List<MerkleNode> teacherTrees, final ReconnectConfig reconnectConfig)
+            throws Exception {
+        if (startingTree != null && startingTree.getHash() == null) {
+            MerkleCryptoFactory.getInstance().digestTreeSync(startingTree);
+        }
+        for (final MerkleNode teacherTree : teacherTrees) {
+            if (teacherTree.getHash() == null) {
+                MerkleCryptoFactory.getInstance().digestTreeSync(teacherTree);
+            }
+        }
+        return testMultiTeacherSynchronization(startingTree, teacherTrees, reconnectConfig);
+    }
+
     /**
      * Walk down a tree and return the node at the specified position.
      *
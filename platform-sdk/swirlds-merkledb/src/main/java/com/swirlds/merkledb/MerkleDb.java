@@ -556,6 +556,10 @@ public final class MerkleDb {
      *
      * <p>This method must be called before the database instance is created in the target folder.
      *
+     * <p>When a state is loaded, every virtual map restores the same database, possibly from multiple
+     * threads at once. The method is synchronized, so only the first call copies the database files,
+     * and all later calls just return the restored instance.
+     *
      * @param source Source folder
      * @param target Target folder, optional. If {@code null}, the default MerkleDb folder is used
      * @param configuration platform configuration
@@ -563,8 +567,8 @@ public final class MerkleDb {
      * @throws IOException If an I/O error occurs
      * @throws IllegalStateException If the default database instance is already created
      */
-    public static MerkleDb restore(final Path source, final Path target, final @NonNull Configuration configuration)
-            throws IOException {
+    public static synchronized MerkleDb restore(
+            final Path source, final Path target, final @NonNull Configuration configuration) throws IOException {
         requireNonNull(configuration);
         final Path defaultInstancePath = (target != null) ? target : getDefaultPath(configuration);
         if (!Files.exists(defaultInstancePath.resolve(METADATA_FILENAME))) {
@@ -25,6 +25,7 @@ import static com.swirlds.merkledb.files.DataFileCommon.logCompactStats;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.swirlds.base.units.UnitConstants;
+import com.swirlds.common.jfr.DataFileCompactionJfrEvent;
 import com.swirlds.merkledb.KeyRange;
 import com.swirlds.merkledb.collections.CASableLongIndex;
 import com.swirlds.merkledb.config.MerkleDbConfig;
@@ -413,6 +414,8 @@ public class DataFileCompactor {
 
         final int targetCompactionLevel = getTargetCompactionLevel(filesToCompact, filesCount);
 
+        final DataFileCompactionJfrEvent jfrEvent = new DataFileCompactionJfrEvent();
+        jfrEvent.begin();
         final long start = System.currentTimeMillis();
 
         final long filesToCompactSize = getSizeOfFiles(filesToCompact);
@@ -426,6 +429,7 @@ public class DataFileCompactor {
         final List<Path> newFilesCreated = compactFiles(index, filesToCompact, targetCompactionLevel);
 
         final long end = System.currentTimeMillis();
+        jfrEvent.commit(storeName, targetCompactionLevel, filesCount, filesToCompactSize);
         final long tookMillis = end - start;
         if (reportDurationMetricFunction != null) {
             reportDurationMetricFunction.accept(targetCompactionLevel, tookMillis);
@@ -22,6 +22,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.jfr.HashMapEndWritingJfrEvent;
 import com.swirlds.common.wiring.tasks.AbstractTask;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.merkledb.FileStatisticAware;
@@ -477,6 +478,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             throw new IllegalStateException("Tried calling endWriting with different thread to startWriting()");
         }
         final int size = oneTransactionsData.size();
+        final HashMapEndWritingJfrEvent jfrEvent = new HashMapEndWritingJfrEvent();
+        jfrEvent.begin();
         logger.info(
                 MERKLE_DB.getMarker(),
                 "Finishing writing to {}, num of changed bins = {}, num of changed keys = {}",
@@ -511,6 +514,7 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             } else {
                 dataFileReader = null;
             }
+            jfrEvent.commit(storeName, size);
         } catch (final Exception z) {
             throw new RuntimeException("Exception in HDHM.endWriting()", z);
         } finally {
@@ -63,6 +63,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -260,9 +263,19 @@ class VirtualMapSerializationTests {
     /**
      * Test serialization of a map. Does not release any resources created by caller.
      */
-    @SuppressWarnings("resource")
     private void testMapSerialization(final VirtualMap<ExampleLongKeyFixedSize, ExampleFixedSizeVirtualValue> map)
             throws IOException {
+        testMapSerialization(map, null);
+    }
+
+    /**
+     * Test serialization of a map, loading it on the given executor if it is not null. Does not release any
+     * resources created by caller.
+     */
+    @SuppressWarnings("resource")
+    private void testMapSerialization(
+            final VirtualMap<ExampleLongKeyFixedSize, ExampleFixedSizeVirtualValue> map, final Executor loadExecutor)
+            throws IOException {
 
         final Path savedStateDirectory =
                 LegacyTemporaryFileBuilder.buildTemporaryDirectory("saved-state", CONFIGURATION);
@@ -285,11 +298,16 @@ class VirtualMapSerializationTests {
                 LegacyTemporaryFileBuilder.buildTemporaryDirectory("merkledb-restored", CONFIGURATION);
         MerkleDb.setDefaultPath(restoredDbDirectory);
 
-        final MerkleDataInputStream in = new MerkleDataInputStream(new ByteArrayInputStream(byteOut.toByteArray()));
+        final MerkleDataInputStream in = new MerkleDataInputStream(new ByteArrayInputStream(byteOut.toByteArray()))
+                .setExternalLoadExecutor(loadExecutor);
 
         final VirtualMap<ExampleLongKeyFixedSize, ExampleFixedSizeVirtualValue> deserializedMap =
                 in.readMerkleTree(savedStateDirectory, Integer.MAX_VALUE);
 
+        assertEquals(
+                List.of(map.getLabel() + ".vmap"),
+                List.copyOf(in.getExternalLoadTimes().keySet()),
+                "the map should be loaded as an external subtree");
         assertMapsAreEqual(map, deserializedMap);
 
         deserializedMap.release();
@@ -382,6 +400,27 @@ class VirtualMapSerializationTests {
         MILLISECONDS.sleep(100); // Hack. Release methods may not have finished their work yet.
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, 1025})
+    @DisplayName("Serialize With Parallel Load")
+    void serializeWithParallelLoad(final int count) throws InterruptedException, IOException {
+        final long seed = new Random().nextLong();
+        System.out.println("seed = " + seed);
+
+        final VirtualMap<ExampleLongKeyFixedSize, ExampleFixedSizeVirtualValue> map =
+                generateRandomMap(seed, count, "test");
+        final VirtualMap<ExampleLongKeyFixedSize, ExampleFixedSizeVirtualValue> copy = map.copy();
+
+        try (final ExecutorService loadExecutor = Executors.newFixedThreadPool(2)) {
+            testMapSerialization(map, loadExecutor);
+        }
+
+        map.release();
+        copy.release();
+
+        MILLISECONDS.sleep(100); // Hack. Release methods may not have finished their work yet.
+    }
+
     @Test
     void inMemoryModeSerde() throws IOException {
         final Configuration configuration = new TestConfigBuilder()
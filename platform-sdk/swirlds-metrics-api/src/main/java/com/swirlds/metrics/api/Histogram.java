@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.metrics.api;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumSet;
+import java.util.Objects;
+
+/**
+ * A {@code Histogram} records the distribution of {@code long}-values (typically durations in nanoseconds).
+ * <p>
+ * Values are counted in log-linear buckets: every power-of-two range is split into {@code 2^precisionBits} equally
+ * sized buckets, which bounds the relative error of every reported percentile. Values larger than
+ * {@link #getMaxValue() maxValue} are counted in the last bucket, negative values in the first one.
+ * <p>
+ * Recording a value never allocates and never blocks, so a {@code Histogram} can be updated on hot paths.
+ */
+public interface Histogram extends Metric {
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default MetricType getMetricType() {
+        return MetricType.HISTOGRAM;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default DataType getDataType() {
+        return DataType.FLOAT;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * {@link ValueType#VALUE} is the mean of all recorded values.
+     */
+    @NonNull
+    @Override
+    default EnumSet<ValueType> getValueTypes() {
+        return EnumSet.of(VALUE, MAX, P50, P99, P999);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default Double get(@NonNull final ValueType valueType) {
+        Objects.requireNonNull(valueType, "valueType must not be null");
+        final HistogramSnapshot snapshot = getSnapshot();
+        return switch (valueType) {
+            case VALUE -> snapshot.mean();
+            case MAX -> (double) snapshot.max();
+            case P50 -> (double) snapshot.valueAtPercentile(50.0);
+            case P99 -> (double) snapshot.valueAtPercentile(99.0);
+            case P999 -> (double) snapshot.valueAtPercentile(99.9);
+            default -> throw new IllegalArgumentException("Unsupported ValueType: " + valueType);
+        };
+    }
+
+    /**
+     * Records a value
+     *
+     * @param value the value to record
+     */
+    void update(final long value);
+
+    /**
+     * Returns the distribution of all values recorded since the {@code Histogram} was created
+     *
+     * @return the cumulative distribution
+     */
+    @NonNull
+    HistogramSnapshot getSnapshot();
+
+    /**
+     * Getter of the {@code maxValue}, the largest value that is tracked precisely
+     *
+     * @return the {@code maxValue}
+     */
+    long getMaxValue();
+
+    /**
+     * Getter of the {@code precisionBits}, the binary logarithm of the number of buckets per power of two
+     *
+     * @return the {@code precisionBits}
+     */
+    int getPrecisionBits();
+
+    /**
+     * Configuration of a {@link Histogram}
+     */
+    final class Config extends MetricConfig<Histogram, Histogram.Config> {
+
+        /**
+         * The default {@code maxValue}, one minute in nanoseconds
+         */
+        public static final long DEFAULT_MAX_VALUE = 60_000_000_000L;
+
+        /**
+         * The default {@code precisionBits}, which gives a relative error of at most 12.5%
+         */
+        public static final int DEFAULT_PRECISION_BITS = 3;
+
+        /**
+         * The largest supported {@code precisionBits}
+         */
+        public static final int MAX_PRECISION_BITS = 8;
+
+        private final long maxValue;
+        private final int precisionBits;
+
+        /**
+         * Constructor of {@code Histogram.Config}
+         *
+         * By default, the {@link #getMaxValue() maxValue} is one minute in nanoseconds,
+         * the {@link #getPrecisionBits() precisionBits} are {@code 3},
+         * and the {@link #getFormat() format} is set to {@link FloatFormats#FORMAT_DECIMAL_3}.
+         *
+         * @param category
+         * 		the kind of metric (metrics are grouped or filtered by this)
+         * @param name
+         * 		a short name for the metric
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        public Config(@NonNull final String category, @NonNull final String name) {
+            super(category, name, FloatFormats.FORMAT_DECIMAL_3);
+            this.maxValue = DEFAULT_MAX_VALUE;
+            this.precisionBits = DEFAULT_PRECISION_BITS;
+        }
+
+        /**
+         * Constructor of {@code Histogram.Config}
+         *
+         * @param category
+         * 		the kind of metric (metrics are grouped or filtered by this)
+         * @param name
+         * 		a short name for the metric
+         * @param description
+         * 		a one-sentence description of the metric
+         * @param unit
+         * 		the unit of the metric
+         * @param format
+         * 		the format of the metric
+         * @param maxValue
+         * 		the largest value that is tracked precisely
+         * @param precisionBits
+         * 		the binary logarithm of the number of buckets per power of two
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces or is out of range
+         */
+        private Config(
+                @NonNull final String category,
+                @NonNull final String name,
+                @NonNull final String description,
+                @NonNull final String unit,
+                @NonNull final String format,
+                final long maxValue,
+                final int precisionBits) {
+            super(category, name, description, unit, format);
+            if (precisionBits < 1 || precisionBits > MAX_PRECISION_BITS) {
+                throw new IllegalArgumentException(
+                        "precisionBits must be between 1 and " + MAX_PRECISION_BITS + ", got " + precisionBits);
+            }
+            if (maxValue < (1L << precisionBits)) {
+                throw new IllegalArgumentException("maxValue must be at least " + (1L << precisionBits));
+            }
+            this.maxValue = maxValue;
+            this.precisionBits = precisionBits;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Histogram.Config withDescription(@NonNull final String description) {
+            return new Histogram.Config(
+                    getCategory(), getName(), description, getUnit(), getFormat(), getMaxValue(), getPrecisionBits());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Histogram.Config withUnit(@NonNull final String unit) {
+            return new Histogram.Config(
+                    getCategory(), getName(), getDescription(), unit, getFormat(), getMaxValue(), getPrecisionBits());
+        }
+
+        /**
+         * Sets the {@link Metric#getFormat() Metric.format} in fluent style.
+         *
+         * @param format
+         * 		the format-string
+         * @return a new configuration-object with updated {@code format}
+         * @throws NullPointerException     if {@code format} is {@code null}
+         * @throws IllegalArgumentException if {@code format} consists only of whitespaces
+         */
+        @NonNull
+        public Histogram.Config withFormat(@NonNull final String format) {
+            return new Histogram.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), format, getMaxValue(), getPrecisionBits());
+        }
+
+        /**
+         * Getter of the {@code maxValue}
+         *
+         * @return the {@code maxValue}
+         */
+        public long getMaxValue() {
+            return maxValue;
+        }
+
+        /**
+         * Fluent-style setter of the {@code maxValue}
+         *
+         * @param maxValue
+         * 		the largest value that is tracked precisely, larger values are counted in the last bucket
+         * @return a new configuration-object with updated {@code maxValue}
+         * @throws IllegalArgumentException if {@code maxValue} is smaller than {@code 2^precisionBits}
+         */
+        @NonNull
+        public Histogram.Config withMaxValue(final long maxValue) {
+            return new Histogram.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), getFormat(), maxValue, getPrecisionBits());
+        }
+
+        /**
+         * Getter of the {@code precisionBits}
+         *
+         * @return the {@code precisionBits}
+         */
+        public int getPrecisionBits() {
+            return precisionBits;
+        }
+
+        /**
+         * Fluent-style setter of the {@code precisionBits}. Each additional bit halves the relative error and doubles
+         * the number of buckets.
+         *
+         * @param precisionBits
+         * 		the binary logarithm of the number of buckets per power of two
+         * @return a new configuration-object with updated {@code precisionBits}
+         * @throws IllegalArgumentException if {@code precisionBits} is out of range
+         */
+        @NonNull
+        public Histogram.Config withPrecisionBits(final int precisionBits) {
+            return new Histogram.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), getFormat(), getMaxValue(), precisionBits);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Class<Histogram> getResultClass() {
+            return Histogram.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NonNull
+        public Histogram create(@NonNull final MetricsFactory factory) {
+            return factory.createHistogram(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .appendSuper(super.toString())
+                    .append("maxValue", maxValue)
+                    .append("precisionBits", precisionBits)
+                    .toString();
+        }
+    }
+}
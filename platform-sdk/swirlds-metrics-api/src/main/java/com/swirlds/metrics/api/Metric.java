@@ -31,7 +31,10 @@ public interface Metric {
         VALUE,
         MAX,
         MIN,
-        STD_DEV
+        STD_DEV,
+        P50,
+        P99,
+        P999
     }
 
     enum DataType {
@@ -37,6 +37,11 @@ public enum MetricType {
      */
     GAUGE,
 
+    /**
+     * A histogram is a metric that records the distribution of values in a fixed set of buckets.
+     */
+    HISTOGRAM,
+
     /**
      * A running average is a metric that calculates trends over short periods of time using a set of data.
      */
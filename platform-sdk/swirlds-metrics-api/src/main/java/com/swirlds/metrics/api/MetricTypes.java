@@ -23,4 +23,6 @@ public final class MetricTypes {
     public static final String GAUGE = "GAUGE";
 
     public static final String ACCUMULATOR = "ACCUMULATOR";
+
+    public static final String HISTOGRAM = "HISTOGRAM";
 }
@@ -53,6 +53,16 @@ public interface MetricsFactory {
     @NonNull
     DoubleGauge createDoubleGauge(@NonNull final DoubleGauge.Config config);
 
+    /**
+     * Creates a {@link Histogram}
+     *
+     * @param config the configuration
+     * @return the new {@code Histogram}
+     * @throws IllegalArgumentException if {@code config} is {@code null}
+     */
+    @NonNull
+    Histogram createHistogram(@NonNull final Histogram.Config config);
+
     /**
      * Creates a {@link IntegerAccumulator}
      *
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.metrics.api.snapshot;
+
+import com.swirlds.metrics.api.Histogram;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * An immutable view of the buckets of a {@link Histogram} at a certain point in time.
+ * <p>
+ * Bucket {@code i} counts all recorded values {@code v} with {@code upperBounds[i - 1] < v <= upperBounds[i]}. The
+ * arrays are owned by the snapshot and must not be modified.
+ *
+ * @param upperBounds the inclusive upper bound of each bucket, in increasing order
+ * @param counts      the number of values recorded in each bucket
+ * @param count       the total number of recorded values
+ * @param sum         the sum of all recorded values
+ */
+public record HistogramSnapshot(@NonNull long[] upperBounds, @NonNull long[] counts, long count, long sum) {
+
+    /**
+     * Constructor of {@code HistogramSnapshot}
+     *
+     * @throws NullPointerException     if one of the arrays is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public HistogramSnapshot {
+        Objects.requireNonNull(upperBounds, "upperBounds must not be null");
+        Objects.requireNonNull(counts, "counts must not be null");
+        if (upperBounds.length != counts.length) {
+            throw new IllegalArgumentException("upperBounds and counts must have the same length");
+        }
+    }
+
+    /**
+     * Returns the mean of all recorded values
+     *
+     * @return the mean, or {@code 0.0} if no values were recorded
+     */
+    public double mean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Returns an estimate of the value at the given percentile. The estimate is the upper bound of the bucket that
+     * contains the requested rank, so it is never lower than the real value.
+     *
+     * @param percentile the percentile, between {@code 0.0} and {@code 100.0}
+     * @return the estimated value, or {@code 0} if no values were recorded
+     * @throws IllegalArgumentException if {@code percentile} is out of range
+     */
+    public long valueAtPercentile(final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100, got " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBounds[i];
+            }
+        }
+        return upperBounds[upperBounds.length - 1];
+    }
+
+    /**
+     * Returns the upper bound of the highest non-empty bucket
+     *
+     * @return an estimate of the maximum value, or {@code 0} if no values were recorded
+     */
+    public long max() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] != 0) {
+                return upperBounds[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the difference between this snapshot and an earlier snapshot of the same histogram, i.e. the
+     * distribution of the values recorded between the two snapshots.
+     *
+     * @param earlier the earlier snapshot
+     * @return the difference
+     * @throws IllegalArgumentException if the snapshots have different buckets
+     */
+    @NonNull
+    public HistogramSnapshot minus(@NonNull final HistogramSnapshot earlier) {
+        Objects.requireNonNull(earlier, "earlier must not be null");
+        if (earlier.counts.length != counts.length) {
+            throw new IllegalArgumentException("snapshots have different buckets");
+        }
+        final long[] diff = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            diff[i] = counts[i] - earlier.counts[i];
+        }
+        return new HistogramSnapshot(upperBounds, diff, count - earlier.count, sum - earlier.sum);
+    }
+}
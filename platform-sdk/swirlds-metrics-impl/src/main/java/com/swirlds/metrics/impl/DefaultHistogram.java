@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.metrics.impl;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Platform-implementation of {@link Histogram}
+ * <p>
+ * To avoid contention between recording threads, the counters are striped: every thread updates one of a small number
+ * of {@link AtomicLongArray}s, chosen by its thread id. The stripes are only summed up when a snapshot is taken.
+ * <p>
+ * {@link #takeSnapshot()} reports the distribution of the values recorded since the previous call, while
+ * {@link #getSnapshot()} and {@link #get(ValueType)} report the distribution since creation (or the last reset).
+ */
+public class DefaultHistogram extends AbstractMetric implements Histogram {
+
+    private static final int MAX_STRIPES = 8;
+
+    private final long maxValue;
+    private final int precisionBits;
+    private final LogLinearBuckets buckets;
+    private final long[] upperBounds;
+
+    /**
+     * Each stripe holds one counter per bucket, followed by the total count and the sum of all values
+     */
+    private final AtomicLongArray[] stripes;
+
+    private final int stripeMask;
+    private final int countSlot;
+    private final int sumSlot;
+
+    private HistogramSnapshot previous;
+
+    public DefaultHistogram(@NonNull final Config config) {
+        super(config);
+        this.maxValue = config.getMaxValue();
+        this.precisionBits = config.getPrecisionBits();
+        this.buckets = new LogLinearBuckets(maxValue, precisionBits);
+        this.upperBounds = buckets.upperBounds();
+        this.countSlot = buckets.getBucketCount();
+        this.sumSlot = countSlot + 1;
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(processors * 2 - 1));
+        this.stripeMask = stripeCount - 1;
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(sumSlot + 1);
+        }
+        this.previous = emptySnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPrecisionBits() {
+        return precisionBits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {
+        final AtomicLongArray stripe = stripes[(int) Thread.currentThread().threadId() & stripeMask];
+        stripe.incrementAndGet(buckets.indexOf(value));
+        stripe.incrementAndGet(countSlot);
+        stripe.addAndGet(sumSlot, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public HistogramSnapshot getSnapshot() {
+        final long[] counts = new long[countSlot];
+        long count = 0;
+        long sum = 0;
+        for (final AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < countSlot; i++) {
+                counts[i] += stripe.get(i);
+            }
+            count += stripe.get(countSlot);
+            sum += stripe.get(sumSlot);
+        }
+        // updates are not atomic across slots, derive the count from the buckets to keep the snapshot consistent
+        long bucketTotal = 0;
+        for (final long c : counts) {
+            bucketTotal += c;
+        }
+        return new HistogramSnapshot(upperBounds, counts, Math.min(count, bucketTotal), sum);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public synchronized List<SnapshotEntry> takeSnapshot() {
+        final HistogramSnapshot current = getSnapshot();
+        final HistogramSnapshot window = current.minus(previous);
+        previous = current;
+        return List.of(
+                new SnapshotEntry(VALUE, window.mean()),
+                new SnapshotEntry(MAX, (double) window.max()),
+                new SnapshotEntry(P50, (double) window.valueAtPercentile(50.0)),
+                new SnapshotEntry(P99, (double) window.valueAtPercentile(99.0)),
+                new SnapshotEntry(P999, (double) window.valueAtPercentile(99.9)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reset() {
+        for (final AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < stripe.length(); i++) {
+                stripe.set(i, 0L);
+            }
+        }
+        previous = emptySnapshot();
+    }
+
+    @NonNull
+    private HistogramSnapshot emptySnapshot() {
+        return new HistogramSnapshot(upperBounds, new long[countSlot], 0L, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final HistogramSnapshot snapshot = getSnapshot();
+        return new ToStringBuilder(this)
+                .appendSuper(super.toString())
+                .append("count", snapshot.count())
+                .append("mean", snapshot.mean())
+                .toString();
+    }
+}
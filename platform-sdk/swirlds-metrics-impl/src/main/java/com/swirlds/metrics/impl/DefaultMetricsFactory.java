@@ -19,6 +19,7 @@ package com.swirlds.metrics.impl;
 import com.swirlds.metrics.api.Counter;
 import com.swirlds.metrics.api.DoubleAccumulator;
 import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.IntegerAccumulator;
 import com.swirlds.metrics.api.IntegerGauge;
 import com.swirlds.metrics.api.LongAccumulator;
@@ -51,6 +52,14 @@ public class DefaultMetricsFactory implements MetricsFactory {
         return new DefaultDoubleGauge(config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Histogram createHistogram(final Histogram.Config config) {
+        return new DefaultHistogram(config);
+    }
+
     /**
      * {@inheritDoc}
      */
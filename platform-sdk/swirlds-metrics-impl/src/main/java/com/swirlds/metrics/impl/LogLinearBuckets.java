@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.metrics.impl;
+
+/**
+ * The bucket layout of a {@link com.swirlds.metrics.api.Histogram}.
+ * <p>
+ * Values smaller than {@code 2^precisionBits} get one bucket each. Above that, every power-of-two range
+ * {@code [2^e, 2^(e+1))} is split into {@code 2^precisionBits} equally sized buckets, so the width of a bucket is never
+ * larger than {@code 2^-precisionBits} times its lower bound. The bucket of a value is computed with a few shifts, no
+ * search or floating point arithmetic is needed.
+ */
+public final class LogLinearBuckets {
+
+    private final int precisionBits;
+    private final int subBucketCount;
+    private final long maxValue;
+    private final int bucketCount;
+
+    /**
+     * Constructor of {@code LogLinearBuckets}
+     *
+     * @param maxValue      the largest value that is tracked precisely, larger values are counted in the last bucket
+     * @param precisionBits the binary logarithm of the number of buckets per power of two
+     * @throws IllegalArgumentException if one of the parameters is out of range
+     */
+    public LogLinearBuckets(final long maxValue, final int precisionBits) {
+        if (precisionBits < 1 || precisionBits > 30) {
+            throw new IllegalArgumentException("precisionBits out of range: " + precisionBits);
+        }
+        if (maxValue < (1L << precisionBits)) {
+            throw new IllegalArgumentException("maxValue must be at least " + (1L << precisionBits));
+        }
+        this.precisionBits = precisionBits;
+        this.subBucketCount = 1 << precisionBits;
+        this.maxValue = maxValue;
+        this.bucketCount = rawIndexOf(maxValue) + 1;
+    }
+
+    /**
+     * Returns the number of buckets
+     *
+     * @return the number of buckets
+     */
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Returns the index of the bucket that counts the given value
+     *
+     * @param value the value
+     * @return the index of the bucket
+     */
+    public int indexOf(final long value) {
+        if (value <= 0) {
+            return 0;
+        }
+        if (value >= maxValue) {
+            return bucketCount - 1;
+        }
+        return rawIndexOf(value);
+    }
+
+    /**
+     * Returns the largest value that is counted in the given bucket
+     *
+     * @param index the index of the bucket
+     * @return the inclusive upper bound of the bucket
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public long upperBoundOf(final int index) {
+        if (index < 0 || index >= bucketCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (index < subBucketCount) {
+            return index;
+        }
+        final int shift = index / subBucketCount - 1;
+        final long subBucket = index % subBucketCount;
+        final long nextLowerBound = (subBucketCount + subBucket + 1) << shift;
+        // the upper bound of the very last possible bucket is 2^63 - 1, which makes the shift above overflow
+        return nextLowerBound <= 0 ? Long.MAX_VALUE : nextLowerBound - 1;
+    }
+
+    /**
+     * Returns the upper bounds of all buckets
+     *
+     * @return a new array with the inclusive upper bound of every bucket
+     */
+    public long[] upperBounds() {
+        final long[] result = new long[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            result[i] = upperBoundOf(i);
+        }
+        return result;
+    }
+
+    private int rawIndexOf(final long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - precisionBits;
+        return (shift + 1) * subBucketCount + (int) ((value >>> shift) - subBucketCount);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.metrics.impl.test;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.snapshot.HistogramSnapshot;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import com.swirlds.metrics.impl.DefaultHistogram;
+import com.swirlds.metrics.impl.LogLinearBuckets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DefaultHistogramTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+    private static final String FORMAT = "FoRmAt";
+
+    @Test
+    @DisplayName("Constructor should store values")
+    void testConstructor() {
+        // given
+        final Histogram.Config config = new Histogram.Config(CATEGORY, NAME)
+                .withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withFormat(FORMAT)
+                .withMaxValue(1_000_000L)
+                .withPrecisionBits(4);
+        final Histogram histogram = new DefaultHistogram(config);
+
+        assertEquals(CATEGORY, histogram.getCategory(), "The category was not set correctly in the constructor");
+        assertEquals(NAME, histogram.getName(), "The name was not set correctly in the constructor");
+        assertEquals(
+                DESCRIPTION, histogram.getDescription(), "The description was not set correctly in the constructor");
+        assertEquals(UNIT, histogram.getUnit(), "The unit was not set correctly in the constructor");
+        assertEquals(FORMAT, histogram.getFormat(), "The format was not set correctly in the constructor");
+        assertEquals(1_000_000L, histogram.getMaxValue(), "The maxValue was not set correctly in the constructor");
+        assertEquals(4, histogram.getPrecisionBits(), "The precisionBits were not set correctly in the constructor");
+        assertEquals(0L, histogram.getSnapshot().count(), "A new histogram should be empty");
+        assertThat(histogram.getValueTypes()).containsExactly(VALUE, MAX, P50, P99, P999);
+        assertEquals(Metric.DataType.FLOAT, histogram.getDataType());
+    }
+
+    @Test
+    @DisplayName("Config should reject invalid values")
+    void testInvalidConfig() {
+        final Histogram.Config config = new Histogram.Config(CATEGORY, NAME);
+        assertThrows(IllegalArgumentException.class, () -> config.withPrecisionBits(0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> config.withPrecisionBits(Histogram.Config.MAX_PRECISION_BITS + 1));
+        assertThrows(IllegalArgumentException.class, () -> config.withMaxValue(1L));
+    }
+
+    @Test
+    @DisplayName("Every value should be counted in a bucket that contains it")
+    void testBucketBounds() {
+        final LogLinearBuckets buckets = new LogLinearBuckets(Long.MAX_VALUE, 3);
+        assertEquals(Long.MAX_VALUE, buckets.upperBoundOf(buckets.getBucketCount() - 1));
+
+        long previousUpperBound = -1;
+        for (int i = 0; i < buckets.getBucketCount(); i++) {
+            final long upperBound = buckets.upperBoundOf(i);
+            assertTrue(upperBound > previousUpperBound, "Upper bounds must be strictly increasing");
+            assertEquals(i, buckets.indexOf(upperBound), "Upper bound must be in its own bucket");
+            assertEquals(i, buckets.indexOf(previousUpperBound + 1), "Lower bound must be in the same bucket");
+            // the relative width of a bucket is bounded by the precision
+            assertTrue(upperBound - previousUpperBound - 1 <= Math.max(0, (previousUpperBound + 1) >> 3));
+            previousUpperBound = upperBound;
+        }
+    }
+
+    @Test
+    @DisplayName("Values out of range should be clamped")
+    void testClamping() {
+        final Histogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME).withMaxValue(1000L));
+        histogram.update(-5L);
+        histogram.update(1_000_000L);
+
+        final HistogramSnapshot snapshot = histogram.getSnapshot();
+        assertEquals(2L, snapshot.count());
+        assertEquals(1L, snapshot.counts()[0]);
+        assertEquals(1L, snapshot.counts()[snapshot.counts().length - 1]);
+        assertTrue(snapshot.upperBounds()[snapshot.upperBounds().length - 1] >= 1000L);
+    }
+
+    @Test
+    @DisplayName("Percentiles should be within the precision of the histogram")
+    void testPercentiles() {
+        final Histogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.update(i * 1000);
+        }
+
+        assertEquals(5_000_500.0, histogram.get(VALUE), 0.001);
+        assertEquals(5_000_000.0, histogram.get(P50), 5_000_000.0 / 8);
+        assertEquals(9_900_000.0, histogram.get(P99), 9_900_000.0 / 8);
+        assertEquals(9_990_000.0, histogram.get(P999), 9_990_000.0 / 8);
+        assertEquals(10_000_000.0, histogram.get(MAX), 10_000_000.0 / 8);
+        assertTrue(histogram.get(P50) >= 5_000_000.0, "Percentiles must never be underestimated");
+    }
+
+    @Test
+    @DisplayName("takeSnapshot() should only report values since the last snapshot")
+    void testSnapshot() {
+        final DefaultHistogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        histogram.update(100L);
+        histogram.update(300L);
+
+        final List<SnapshotEntry> first = histogram.takeSnapshot();
+        assertEquals(new SnapshotEntry(VALUE, 200.0), first.get(0));
+
+        histogram.update(1000L);
+        final List<SnapshotEntry> second = histogram.takeSnapshot();
+        assertEquals(new SnapshotEntry(VALUE, 1000.0), second.get(0));
+        assertEquals(MAX, second.get(1).valueType());
+        assertTrue((double) second.get(1).value() >= 1000.0);
+
+        final List<SnapshotEntry> third = histogram.takeSnapshot();
+        assertEquals(new SnapshotEntry(VALUE, 0.0), third.get(0));
+
+        // the cumulative view is not affected by snapshots
+        assertEquals(3L, histogram.getSnapshot().count());
+        assertEquals(1400L, histogram.getSnapshot().sum());
+    }
+
+    @Test
+    @DisplayName("reset() should clear all values")
+    void testReset() {
+        final DefaultHistogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        histogram.update(42L);
+        histogram.reset();
+
+        assertEquals(0L, histogram.getSnapshot().count());
+        assertEquals(0.0, histogram.get(VALUE));
+        assertEquals(new SnapshotEntry(VALUE, 0.0), histogram.takeSnapshot().get(0));
+    }
+
+    @Test
+    @DisplayName("Concurrent updates should not be lost")
+    void testConcurrentUpdates() throws InterruptedException {
+        final DefaultHistogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        final int threads = 8;
+        final int updatesPerThread = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch done = new CountDownLatch(threads);
+        final long seed = new Random().nextLong();
+        for (int t = 0; t < threads; t++) {
+            final Random random = new Random(seed + t);
+            executor.execute(() -> {
+                for (int i = 0; i < updatesPerThread; i++) {
+                    histogram.update(random.nextInt(1_000_000));
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        final HistogramSnapshot snapshot = histogram.getSnapshot();
+        assertEquals((long) threads * updatesPerThread, snapshot.count(), "seed " + seed);
+        long total = 0;
+        for (final long count : snapshot.counts()) {
+            total += count;
+        }
+        assertEquals(snapshot.count(), total, "seed " + seed);
+    }
+}
@@ -41,6 +41,7 @@ jmhModuleInfo {
     requires("com.swirlds.common.test.fixtures")
     requires("com.swirlds.platform.core.test.fixtures")
     requires("com.hedera.node.hapi")
+    requires("jdk.management")
     requires("jmh.core")
 }
 
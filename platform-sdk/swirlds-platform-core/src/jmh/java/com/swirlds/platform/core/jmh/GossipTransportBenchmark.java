@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.readEventsINeed;
+import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.sendEventsTheyNeed;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.NoOpIntakeEventCounter;
+import com.swirlds.platform.gossip.sync.SyncInputStream;
+import com.swirlds.platform.gossip.sync.SyncOutputStream;
+import com.swirlds.platform.metrics.SyncMetrics;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.ConnectionTracker;
+import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.SocketConnection;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares syncs on platform threads with syncs on virtual threads (see {@code socket.useVirtualThreads}) for a node
+ * that gossips with many peers at once.
+ *
+ * <p>Each simulated peer is connected to the local node over a loopback {@link SocketConnection} with the same
+ * {@link SyncInputStream} and {@link SyncOutputStream} as a real gossip connection. Every peer has a runner on the
+ * local side that initiates syncs and a runner on the remote side that responds to them, and both sides use a
+ * {@link CachedPoolParallelExecutor} for the background half of a sync, all on the thread type under test. A sync is
+ * the event exchange phase of the shadowgraph sync: both sides send each other {@code eventsPerSync} events with
+ * {@link com.swirlds.platform.gossip.shadowgraph.SyncUtils#sendEventsTheyNeed} while reading the events of the other
+ * side with {@link com.swirlds.platform.gossip.shadowgraph.SyncUtils#readEventsINeed}. The exchange of tips and event
+ * windows and the shadowgraph lookups that precede it are not part of the benchmark, since they do not depend on the
+ * thread type.
+ *
+ * <p>One benchmark invocation is one gossip round in which every peer performs a sync. The sampled round time gives
+ * the tail latency of a round, and the process CPU time per synced event is printed at the end of every iteration.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class GossipTransportBenchmark {
+
+    @Param({"48"})
+    public int peerCount;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"20"})
+    public int eventsPerSync;
+
+    @Param({"4"})
+    public int transactionsPerEvent;
+
+    @Param({"256"})
+    public int transactionSize;
+
+    private static final NodeId SELF_ID = NodeId.of(0);
+    private static final Duration SYNC_KEEPALIVE_PERIOD = Duration.ofMillis(500);
+    private static final Duration MAX_SYNC_TIME = Duration.ofMinutes(1);
+    private static final ConnectionTracker NO_TRACKER = new ConnectionTracker() {
+        @Override
+        public void newConnectionOpened(final Connection connection) {}
+
+        @Override
+        public void connectionClosed(final boolean outbound, final Connection connection) {}
+    };
+
+    private PlatformContext platformContext;
+    private SyncMetrics syncMetrics;
+    private final IntakeEventCounter intakeEventCounter = new NoOpIntakeEventCounter();
+    private ParallelExecutor executor;
+    private ServerSocket serverSocket;
+    private final List<Socket> sockets = new ArrayList<>();
+    private final List<Thread> runners = new ArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicLong syncedEvents = new AtomicLong();
+    private Phaser rounds;
+    private volatile boolean running;
+    private List<PlatformEvent> events;
+
+    private long iterationCpuStart;
+    private long iterationEventsStart;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        platformContext = TestPlatformContextBuilder.create().build();
+        syncMetrics = new SyncMetrics(new NoOpMetrics());
+        final Random random = new Random(0);
+        events = new ArrayList<>(eventsPerSync);
+        for (int i = 0; i < eventsPerSync; i++) {
+            events.add(new TestingEventBuilder(random)
+                    .setAppTransactionCount(transactionsPerEvent)
+                    .setSystemTransactionCount(0)
+                    .setTransactionSize(transactionSize)
+                    .build());
+        }
+
+        // the same executor is shared by all syncs of a node, like the shadowgraph executor of SyncGossip
+        executor = new CachedPoolParallelExecutor(getStaticThreadManager(), "node-sync", virtualThreads);
+        executor.start();
+
+        // the benchmark thread and all initiators take part in every round
+        rounds = new Phaser(peerCount + 1);
+        running = true;
+
+        serverSocket = new ServerSocket(0, peerCount, InetAddress.getLoopbackAddress());
+        for (int peer = 0; peer < peerCount; peer++) {
+            final NodeId peerId = NodeId.of(peer + 1L);
+            final Socket local = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+            final Socket remote = serverSocket.accept();
+            sockets.add(local);
+            sockets.add(remote);
+
+            runners.add(startRunner("initiator" + peer, connect(SELF_ID, peerId, true, local), true));
+            runners.add(startRunner("responder" + peer, connect(peerId, SELF_ID, false, remote), false));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        running = false;
+        rounds.forceTermination();
+        for (final Socket socket : sockets) {
+            socket.close();
+        }
+        serverSocket.close();
+        for (final Thread runner : runners) {
+            runner.join();
+        }
+        sockets.clear();
+        runners.clear();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        iterationCpuStart = processCpuTime();
+        iterationEventsStart = syncedEvents.get();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration() {
+        final long synced = syncedEvents.get() - iterationEventsStart;
+        final long cpu = processCpuTime() - iterationCpuStart;
+        if (synced > 0 && iterationCpuStart >= 0) {
+            System.out.printf(
+                    "%n%s threads: %,d events synced, %,.0f ns of CPU per synced event%n",
+                    virtualThreads ? "virtual" : "platform",
+                    synced,
+                    (double) cpu / synced);
+        }
+    }
+
+    /**
+     * Performs one gossip round in which every peer completes one sync with the local node.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void gossipRound() {
+        // start the round, then wait for all initiators to finish their sync
+        rounds.arriveAndAwaitAdvance();
+        rounds.arriveAndAwaitAdvance();
+        if (failure.get() != null) {
+            throw new IllegalStateException("a sync failed", failure.get());
+        }
+    }
+
+    private Connection connect(final NodeId selfId, final NodeId otherId, final boolean outbound, final Socket socket)
+            throws IOException {
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        socket.setTcpNoDelay(socketConfig.tcpNoDelay());
+        return SocketConnection.create(
+                selfId,
+                otherId,
+                NO_TRACKER,
+                outbound,
+                socket,
+                SyncInputStream.createSyncInputStream(
+                        platformContext, socket.getInputStream(), socketConfig.bufferSize()),
+                SyncOutputStream.createSyncOutputStream(
+                        platformContext, socket.getOutputStream(), socketConfig.bufferSize()),
+                platformContext.getConfiguration());
+    }
+
+    private Thread startRunner(final String name, final Connection connection, final boolean initiator) {
+        final Runnable work = () -> {
+            try {
+                while (running) {
+                    if (initiator) {
+                        if (rounds.arriveAndAwaitAdvance() < 0) {
+                            return;
+                        }
+                        syncedEvents.addAndGet(exchangeEvents(connection));
+                        rounds.arriveAndAwaitAdvance();
+                    } else {
+                        syncedEvents.addAndGet(exchangeEvents(connection));
+                    }
+                }
+            } catch (final Exception e) {
+                if (running) {
+                    failure.compareAndSet(null, e);
+                    rounds.forceTermination();
+                }
+            }
+        };
+
+        return new ThreadConfiguration(getStaticThreadManager())
+                .setComponent("benchmark")
+                .setThreadName(name)
+                .setVirtual(virtualThreads)
+                .setRunnable(work)
+                .build(true);
+    }
+
+    /**
+     * Exchanges events with the peer the way the shadowgraph synchronizer does, reading in the calling thread while
+     * writing in the background.
+     *
+     * @return the number of events read from the peer
+     */
+    private int exchangeEvents(final Connection connection) throws Exception {
+        final CountDownLatch eventReadingDone = new CountDownLatch(1);
+        return executor.doParallel(
+                readEventsINeed(
+                        connection, event -> {}, 0, syncMetrics, eventReadingDone, intakeEventCounter, MAX_SYNC_TIME),
+                sendEventsTheyNeed(connection, events, eventReadingDone, new AtomicBoolean(), SYNC_KEEPALIVE_PERIOD),
+                connection::disconnect);
+    }
+
+    private static long processCpuTime() {
+        if (ManagementFactory.getOperatingSystemMXBean()
+                instanceof final com.sun.management.OperatingSystemMXBean operatingSystem) {
+            return operatingSystem.getProcessCpuTime();
+        }
+        return -1;
+    }
+}
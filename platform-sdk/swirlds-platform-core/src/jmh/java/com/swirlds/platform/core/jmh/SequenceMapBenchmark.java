@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.WeightGenerators;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.sequence.map.PrimitiveSequenceMap;
+import com.swirlds.platform.sequence.map.SequenceMap;
+import com.swirlds.platform.sequence.map.StandardSequenceMap;
+import com.swirlds.platform.system.events.EventDescriptorWrapper;
+import com.swirlds.platform.test.event.emitter.StandardEventEmitter;
+import com.swirlds.platform.test.event.source.EventSourceFactory;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.EventSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Replays a generated event stream through a sequence map keyed by event descriptors, the way the tipset tracker,
+ * the orphan buffer and the deduplicator use it: every event is added, its parents are looked up, and the window is
+ * shifted as the generation of the stream advances.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 10)
+public class SequenceMapBenchmark {
+    @Param({"39"})
+    public int numNodes;
+
+    @Param({"100000"})
+    public int numEvents;
+
+    @Param({"0"})
+    public long seed;
+
+    /**
+     * The number of generations kept in the map, roughly the number of non-ancient generations.
+     */
+    @Param({"26"})
+    public int windowSize;
+
+    @Param({"STANDARD", "PRIMITIVE"})
+    public MapType mapType;
+
+    private List<EventDescriptorWrapper> descriptors;
+    private List<List<EventDescriptorWrapper>> parents;
+    private SequenceMap<EventDescriptorWrapper, EventDescriptorWrapper> map;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        final List<EventSource<?>> eventSources =
+                EventSourceFactory.newStandardEventSources(WeightGenerators.balancedNodeWeights(numNodes));
+
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final StandardGraphGenerator generator = new StandardGraphGenerator(platformContext, seed, eventSources);
+        final StandardEventEmitter emitter = new StandardEventEmitter(generator);
+
+        descriptors = new ArrayList<>(numEvents);
+        parents = new ArrayList<>(numEvents);
+        for (final EventImpl event : emitter.emitEvents(numEvents)) {
+            final PlatformEvent platformEvent = event.getBaseEvent();
+            descriptors.add(platformEvent.getDescriptor());
+            parents.add(platformEvent.getAllParents());
+        }
+
+        map = mapType.newMap();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void replayEvents(final Blackhole bh) {
+        map.clear();
+        long maxGeneration = 0;
+        for (int i = 0; i < descriptors.size(); i++) {
+            final EventDescriptorWrapper descriptor = descriptors.get(i);
+            for (final EventDescriptorWrapper parent : parents.get(i)) {
+                bh.consume(map.get(parent));
+            }
+            map.put(descriptor, descriptor);
+
+            final long generation = descriptor.eventDescriptor().generation();
+            if (generation > maxGeneration) {
+                maxGeneration = generation;
+                map.shiftWindow(Math.max(0, maxGeneration - windowSize));
+            }
+        }
+        bh.consume(map.getSize());
+    }
+
+    public enum MapType {
+        STANDARD,
+        PRIMITIVE;
+
+        public SequenceMap<EventDescriptorWrapper, EventDescriptorWrapper> newMap() {
+            return switch (this) {
+                case STANDARD -> new StandardSequenceMap<>(0, 8, true, ed -> ed.eventDescriptor().generation());
+                case PRIMITIVE -> new PrimitiveSequenceMap<>(0, 8, true, ed -> ed.eventDescriptor().generation());
+            };
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.hedera.hapi.platform.event.EventTransaction;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.pool.TransactionPoolNexus;
+import com.swirlds.platform.system.status.PlatformStatus;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the transaction pool while several ingest threads submit transactions and a single event creator takes
+ * them out. The number of producers can be changed with the {@code -tg} option of JMH, e.g. {@code -tg 16,1}.
+ */
+@State(Scope.Group)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class TransactionPoolBenchmark {
+
+    @Param({"100", "1000"})
+    public int transactionSize;
+
+    private TransactionPoolNexus transactionPoolNexus;
+    private Bytes transaction;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        transactionPoolNexus = new TransactionPoolNexus(TestPlatformContextBuilder.create().build());
+        transactionPoolNexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+        transaction = Bytes.wrap(new byte[transactionSize]);
+    }
+
+    @Benchmark
+    @Group("pool")
+    @GroupThreads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public boolean submitTransaction() {
+        return transactionPoolNexus.submitApplicationTransaction(transaction);
+    }
+
+    @Benchmark
+    @Group("pool")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<EventTransaction> createEvent() {
+        return transactionPoolNexus.getTransactions();
+    }
+}
@@ -445,8 +445,17 @@ public class SwirldsPlatform implements Platform {
     private void replayPreconsensusEvents() {
         platformWiring.getStatusActionSubmitter().submitStatusAction(new StartedReplayingEventsAction());
 
-        final IOIterator<PlatformEvent> iterator =
-                initialPcesFiles.getEventIterator(initialAncientThreshold, startingRound);
+        final int readAheadFileCount = platformContext
+                .getConfiguration()
+                .getConfigData(PcesConfig.class)
+                .replayReadAheadFileCount();
+        final IOIterator<PlatformEvent> iterator = readAheadFileCount > 0
+                ? initialPcesFiles.getEventIterator(
+                        initialAncientThreshold,
+                        startingRound,
+                        platformContext.getExecutorFactory().createExecutorService(readAheadFileCount),
+                        readAheadFileCount)
+                : initialPcesFiles.getEventIterator(initialAncientThreshold, startingRound);
 
         logger.info(
                 STARTUP.getMarker(),
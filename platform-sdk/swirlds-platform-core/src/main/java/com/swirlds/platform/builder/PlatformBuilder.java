@@ -441,6 +441,8 @@ public final class PlatformBuilder {
                     .withHealthMonitorPeriod(wiringConfig.healthMonitorHeartbeatPeriod())
                     .withHealthLogThreshold(wiringConfig.healthLogThreshold())
                     .withHealthLogPeriod(wiringConfig.healthLogPeriod())
+                    .withLatencyTracingEnabled(wiringConfig.latencyTracingEnabled())
+                    .withLatencyTracingSamplePeriod(wiringConfig.latencyTracingSamplePeriod())
                     .build();
         }
 
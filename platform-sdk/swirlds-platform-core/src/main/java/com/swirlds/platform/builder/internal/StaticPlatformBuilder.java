@@ -22,6 +22,7 @@ import static com.swirlds.platform.builder.PlatformBuildConstants.LOG4J_FILE_NAM
 import static com.swirlds.platform.util.BootstrapUtils.startJVMPauseDetectorThread;
 import static com.swirlds.platform.util.BootstrapUtils.writeSettingsUsed;
 
+import com.swirlds.common.jfr.PlatformFlightRecorder;
 import com.swirlds.common.metrics.platform.DefaultMetricsProvider;
 import com.swirlds.common.startup.Log4jSetup;
 import com.swirlds.config.api.Configuration;
@@ -112,6 +113,9 @@ public final class StaticPlatformBuilder {
         // Initialize JVMPauseDetectorThread, if enabled via settings
         startJVMPauseDetectorThread(configuration);
 
+        // Start the in-process flight recording of platform events, if enabled via settings
+        PlatformFlightRecorder.start(configuration);
+
         return true;
     }
 
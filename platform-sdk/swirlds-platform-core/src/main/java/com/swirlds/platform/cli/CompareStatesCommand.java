@@ -27,6 +27,8 @@ import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.ConfigurationBuilder;
 import com.swirlds.logging.legacy.LogMarker;
 import com.swirlds.platform.config.DefaultConfiguration;
+import com.swirlds.platform.state.signed.MismatchedNodes;
+import com.swirlds.platform.state.signed.ParallelStateComparison;
 import com.swirlds.platform.state.signed.ReservedSignedState;
 import com.swirlds.platform.state.signed.SignedStateComparison;
 import com.swirlds.platform.state.snapshot.SignedStateFileReader;
@@ -34,6 +36,7 @@ import com.swirlds.platform.util.BootstrapUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
@@ -50,6 +53,11 @@ import picocli.CommandLine.Command;
 public final class CompareStatesCommand extends AbstractCommand {
     private static final Logger logger = LogManager.getLogger(CompareStatesCommand.class);
 
+    /**
+     * How often to log progress while comparing states.
+     */
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
     /**
      * The path to the first state being compared.
      */
@@ -70,6 +78,16 @@ public final class CompareStatesCommand extends AbstractCommand {
      */
     private boolean deepComparison = false;
 
+    /**
+     * If true then print the contents of mismatched leaves.
+     */
+    private boolean printValues = false;
+
+    /**
+     * The number of threads to compare states on.
+     */
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+
     /**
      * Load configuration from these files.
      */
@@ -122,6 +140,23 @@ public final class CompareStatesCommand extends AbstractCommand {
         this.deepComparison = deepComparison;
     }
 
+    @CommandLine.Option(
+            names = {"--values"},
+            description = "if set then print the keys and values of mismatched leaves")
+    private void setPrintValues(final boolean printValues) {
+        this.printValues = printValues;
+    }
+
+    @CommandLine.Option(
+            names = {"--threads"},
+            description = "the number of threads to compare the states on, defaults to the number of processors")
+    private void setThreadCount(final int threadCount) {
+        if (threadCount <= 0) {
+            throw new CommandLine.ParameterException(getSpec().commandLine(), "thread count must be non-zero positive");
+        }
+        this.threadCount = threadCount;
+    }
+
     /**
      * Load a state from disk and hash it.
      *
@@ -165,10 +200,15 @@ public final class CompareStatesCommand extends AbstractCommand {
 
         try (final ReservedSignedState stateA = loadAndHashState(platformContext, stateAPath)) {
             try (final ReservedSignedState stateB = loadAndHashState(platformContext, stateBPath)) {
-                SignedStateComparison.printMismatchedNodes(
-                        SignedStateComparison.mismatchedNodeIterator(
-                                stateA.get().getState(), stateB.get().getState(), deepComparison),
-                        nodeLimit);
+                logger.info(LogMarker.CLI.getMarker(), "Comparing states on {} threads", threadCount);
+                final ParallelStateComparison comparison =
+                        new ParallelStateComparison(threadCount, deepComparison, PROGRESS_INTERVAL);
+                final List<MismatchedNodes> mismatches =
+                        comparison.compare(stateA.get().getState(), stateB.get().getState());
+                SignedStateComparison.printMismatchedNodes(mismatches.iterator(), nodeLimit);
+                if (printValues) {
+                    SignedStateComparison.printMismatchedValues(mismatches, nodeLimit);
+                }
             }
         }
 
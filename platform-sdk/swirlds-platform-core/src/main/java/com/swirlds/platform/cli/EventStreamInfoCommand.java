@@ -65,9 +65,15 @@ public final class EventStreamInfoCommand extends AbstractCommand {
     /** the timestamp of the lower bound */
     private Instant timestampBound = Instant.MIN;
 
+    /** the timestamp of the upper bound, or null if there is no upper bound */
+    private Instant endTimestampBound = null;
+
     /** the round of the lower bound */
     private long roundBound = -1;
 
+    /** the number of event stream files to parse in parallel */
+    private int readAheadFileCount = Runtime.getRuntime().availableProcessors();
+
     /** the default temporal granularity of the data report */
     private Duration granularity = Duration.ofSeconds(10);
 
@@ -97,13 +103,43 @@ public final class EventStreamInfoCommand extends AbstractCommand {
             description = "The minimum timestamp to be considered in the event stream. The format is \""
                     + TIMESTAMP_FORMAT + "\".")
     private void setTimestamp(@NonNull final String timestamp) {
+        timestampBound = parseTimestamp(timestamp);
+    }
+
+    @CommandLine.Option(
+            names = {"-e", "--end-timestamp"},
+            description = "The maximum timestamp to be considered in the event stream. The format is \""
+                    + TIMESTAMP_FORMAT + "\".")
+    private void setEndTimestamp(@NonNull final String timestamp) {
+        endTimestampBound = parseTimestamp(timestamp);
+    }
+
+    @CommandLine.Option(
+            names = {"-p", "--parallelism"},
+            description = "The number of event stream files to read and parse in parallel. "
+                    + "If 0, files are read one at a time. Defaults to the number of available processors.")
+    private void setParallelism(final int parallelism) {
+        if (parallelism < 0) {
+            throw buildParameterException("Parallelism must not be negative");
+        }
+        this.readAheadFileCount = parallelism;
+    }
+
+    /**
+     * Parse a timestamp passed on the command line.
+     *
+     * @param timestamp the timestamp, in either the log4j2 format or the format used by {@link Instant#toString()}
+     * @return the parsed timestamp
+     */
+    @NonNull
+    private static Instant parseTimestamp(@NonNull final String timestamp) {
         Objects.requireNonNull(timestamp, "timestamp must not be null");
         try {
             // the format used by log4j2
-            timestampBound = formatter.parse(timestamp, Instant::from);
+            return formatter.parse(timestamp, Instant::from);
         } catch (final DateTimeParseException e) {
             // the format used by Instant.toString()
-            timestampBound = Instant.parse(timestamp);
+            return Instant.parse(timestamp);
         }
     }
 
@@ -142,7 +178,8 @@ public final class EventStreamInfoCommand extends AbstractCommand {
         Objects.requireNonNull(bound);
 
         try {
-            return new EventStreamScanner(directory, bound, granularity, true).createReport();
+            return new EventStreamScanner(directory, bound, endTimestampBound, granularity, true, readAheadFileCount)
+                    .createReport();
         } catch (final IOException e) {
             throw new UncheckedIOException("Failed to generate event stream report", e);
         } catch (final IllegalStateException e) {
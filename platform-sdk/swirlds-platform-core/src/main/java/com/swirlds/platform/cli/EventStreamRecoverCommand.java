@@ -47,6 +47,7 @@ public final class EventStreamRecoverCommand extends AbstractCommand {
     private Path eventStreamDirectory;
     private List<Path> configurationPaths = List.of();
     private boolean loadSigningKeys;
+    private int readAheadFileCount = Runtime.getRuntime().availableProcessors();
 
     private EventStreamRecoverCommand() {}
 
@@ -120,6 +121,17 @@ public final class EventStreamRecoverCommand extends AbstractCommand {
         this.loadSigningKeys = loadSigningKeys;
     }
 
+    @CommandLine.Option(
+            names = {"-r", "--read-ahead"},
+            description = "The number of event stream files to read and parse in parallel. "
+                    + "If 0, files are read one at a time. Default = the number of available processors")
+    private void setReadAheadFileCount(final int readAheadFileCount) {
+        if (readAheadFileCount < 0) {
+            throw buildParameterException("Read ahead file count must not be negative");
+        }
+        this.readAheadFileCount = readAheadFileCount;
+    }
+
     @Override
     public Integer call() throws Exception {
         final Configuration configuration = DefaultConfiguration.buildBasicConfiguration(
@@ -136,7 +148,8 @@ public final class EventStreamRecoverCommand extends AbstractCommand {
                 finalRound,
                 outputPath,
                 selfId,
-                loadSigningKeys);
+                loadSigningKeys,
+                readAheadFileCount);
         return 0;
     }
 }
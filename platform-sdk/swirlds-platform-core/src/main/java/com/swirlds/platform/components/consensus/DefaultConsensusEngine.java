@@ -20,6 +20,7 @@ import static com.swirlds.platform.system.status.PlatformStatus.REPLAYING_EVENTS
 
 import com.hedera.hapi.node.state.roster.Roster;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.jfr.ConsensusJfrEvent;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.platform.Consensus;
 import com.swirlds.platform.ConsensusImpl;
@@ -111,7 +112,15 @@ public class DefaultConsensusEngine implements ConsensusEngine {
             return List.of();
         }
 
+        final ConsensusJfrEvent jfrEvent = new ConsensusJfrEvent();
+        jfrEvent.begin();
         final List<ConsensusRound> consensusRounds = consensus.addEvent(linkedEvent);
+        jfrEvent.commit(
+                event.getCreatorId().id(),
+                event.getGeneration(),
+                event.getBirthRound(),
+                consensusRounds.size(),
+                consensusRounds.isEmpty() ? -1 : consensusRounds.getLast().getRoundNum());
         eventAddedMetrics.eventAdded(linkedEvent);
 
         if (!consensusRounds.isEmpty()) {
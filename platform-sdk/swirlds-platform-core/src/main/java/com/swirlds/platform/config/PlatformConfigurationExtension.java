@@ -22,6 +22,7 @@ import com.swirlds.common.config.StateCommonConfig;
 import com.swirlds.common.crypto.config.CryptoConfig;
 import com.swirlds.common.io.config.FileSystemManagerConfig;
 import com.swirlds.common.io.config.TemporaryFileConfig;
+import com.swirlds.common.jfr.JfrConfig;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.metrics.config.MetricsConfig;
 import com.swirlds.common.metrics.platform.prometheus.PrometheusConfig;
@@ -69,6 +70,7 @@ public class PlatformConfigurationExtension implements ConfigurationExtension {
                 CryptoConfig.class,
                 EventConfig.class,
                 EventCreationConfig.class,
+                JfrConfig.class,
                 MerkleDbConfig.class,
                 MetricsConfig.class,
                 OSHealthCheckConfig.class,
@@ -82,6 +82,15 @@ import java.time.Duration;
  *                                      resubmitted. Age is measured by taking the round number of the most recent round
  *                                      to reach consensus and subtracting the round that the signature transaction
  *                                      signs.
+ * @param loadThreadCount               The number of threads used to load the virtual maps of a state read from disk
+ *                                      in parallel. If 0 then the number of available processors is used. If 1 then
+ *                                      the whole state is loaded on the calling thread.
+ * @param onDiskValueCacheMaxBytes      The bound on the estimated size of the decoded values cached for each on-disk
+ *                                      k/v state of each state copy, or 0 to disable the cache. The cache only needs
+ *                                      to hold the values read repeatedly within a round, such as fee collection and
+ *                                      node accounts, and 1 MiB holds a few thousand typical values. Since the memory
+ *                                      is retained by every live copy until it is destroyed, the worst case is this
+ *                                      bound times the number of on-disk states times the number of live copies.
  */
 @ConfigData("state")
 public record StateConfig(
@@ -104,7 +113,9 @@ public record StateConfig(
         @ConfigProperty(defaultValue = "emergencyRecovery.yaml") String emergencyStateFileName,
         @ConfigProperty(defaultValue = "false") boolean deleteInvalidStateFiles,
         @ConfigProperty(defaultValue = "true") boolean validateInitialState,
-        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge) {
+        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge,
+        @ConfigProperty(defaultValue = "0") int loadThreadCount,
+        @ConfigProperty(defaultValue = "1048576") long onDiskValueCacheMaxBytes) {
 
     /**
      * Get the main class name that should be used for signed states.
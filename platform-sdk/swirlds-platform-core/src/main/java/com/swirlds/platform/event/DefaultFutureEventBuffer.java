@@ -22,8 +22,8 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.metrics.FunctionGauge;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.eventhandling.EventConfig;
+import com.swirlds.platform.sequence.map.PrimitiveSequenceMap;
 import com.swirlds.platform.sequence.map.SequenceMap;
-import com.swirlds.platform.sequence.map.StandardSequenceMap;
 import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -47,7 +47,7 @@ public class DefaultFutureEventBuffer implements FutureEventBuffer {
     private EventWindow eventWindow;
 
     private final SequenceMap<Long /* birth round */, List<PlatformEvent>> futureEvents =
-            new StandardSequenceMap<>(ROUND_FIRST, 8, true, x -> x);
+            new PrimitiveSequenceMap<>(ROUND_FIRST, 8, true, x -> x);
 
     private final AtomicLong bufferedEventCount = new AtomicLong(0);
 
@@ -30,8 +30,8 @@ import com.swirlds.platform.event.AncientMode;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.eventhandling.EventConfig;
 import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.sequence.map.PrimitiveSequenceMap;
 import com.swirlds.platform.sequence.map.SequenceMap;
-import com.swirlds.platform.sequence.map.StandardSequenceMap;
 import com.swirlds.platform.system.events.EventDescriptorWrapper;
 import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -112,10 +112,10 @@ public class StandardEventDeduplicator implements EventDeduplicator {
                 .getAncientMode();
         this.eventWindow = EventWindow.getGenesisEventWindow(ancientMode);
         if (ancientMode == AncientMode.BIRTH_ROUND_THRESHOLD) {
-            observedEvents = new StandardSequenceMap<>(
+            observedEvents = new PrimitiveSequenceMap<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().birthRound());
         } else {
-            observedEvents = new StandardSequenceMap<>(
+            observedEvents = new PrimitiveSequenceMap<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().generation());
         }
     }
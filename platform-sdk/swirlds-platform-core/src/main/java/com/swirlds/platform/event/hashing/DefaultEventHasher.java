@@ -16,6 +16,7 @@
 
 package com.swirlds.platform.event.hashing;
 
+import com.swirlds.common.jfr.EventIntakeJfrEvent;
 import com.swirlds.platform.event.PlatformEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Objects;
@@ -24,11 +25,20 @@ import java.util.Objects;
  * Default implementation of the {@link EventHasher}.
  */
 public class DefaultEventHasher implements EventHasher {
+
+    /**
+     * The name of this intake stage in JFR events.
+     */
+    private static final String JFR_STAGE = "eventHasher";
+
     @Override
     @NonNull
     public PlatformEvent hashEvent(@NonNull final PlatformEvent event) {
         Objects.requireNonNull(event);
+        final EventIntakeJfrEvent jfrEvent = new EventIntakeJfrEvent();
+        jfrEvent.begin();
         new PbjStreamHasher().hashEvent(event);
+        jfrEvent.commit(JFR_STAGE, event.getCreatorId().id(), event.getGeneration(), event.getBirthRound(), true);
         return event;
     }
 }
@@ -19,14 +19,15 @@ package com.swirlds.platform.event.orphan;
 import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.jfr.EventIntakeJfrEvent;
 import com.swirlds.common.metrics.FunctionGauge;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.event.AncientMode;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.eventhandling.EventConfig;
 import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.sequence.map.PrimitiveSequenceMap;
 import com.swirlds.platform.sequence.map.SequenceMap;
-import com.swirlds.platform.sequence.map.StandardSequenceMap;
 import com.swirlds.platform.sequence.set.SequenceSet;
 import com.swirlds.platform.sequence.set.StandardSequenceSet;
 import com.swirlds.platform.system.events.EventDescriptorWrapper;
@@ -54,6 +55,11 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
     private static final Function<EventDescriptorWrapper, List<OrphanedEvent>> EMPTY_LIST =
             ignored -> new ArrayList<>();
 
+    /**
+     * The name of this intake stage in JFR events.
+     */
+    private static final String JFR_STAGE = "orphanBuffer";
+
     /**
      * The current event window.
      */
@@ -106,12 +112,12 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
                 .getAncientMode();
         this.eventWindow = EventWindow.getGenesisEventWindow(ancientMode);
         if (ancientMode == AncientMode.BIRTH_ROUND_THRESHOLD) {
-            missingParentMap = new StandardSequenceMap<>(
+            missingParentMap = new PrimitiveSequenceMap<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().birthRound());
             eventsWithParents = new StandardSequenceSet<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().birthRound());
         } else {
-            missingParentMap = new StandardSequenceMap<>(
+            missingParentMap = new PrimitiveSequenceMap<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().generation());
             eventsWithParents = new StandardSequenceSet<>(
                     0, INITIAL_CAPACITY, true, ed -> ed.eventDescriptor().generation());
@@ -132,17 +138,28 @@ public class DefaultOrphanBuffer implements OrphanBuffer {
 
         currentOrphanCount++;
 
+        final EventIntakeJfrEvent jfrEvent = new EventIntakeJfrEvent();
+        jfrEvent.begin();
+        final List<PlatformEvent> unorphanedEvents;
         final List<EventDescriptorWrapper> missingParents = getMissingParents(event);
         if (missingParents.isEmpty()) {
-            return eventIsNotAnOrphan(event);
+            unorphanedEvents = eventIsNotAnOrphan(event);
         } else {
             final OrphanedEvent orphanedEvent = new OrphanedEvent(event, missingParents);
             for (final EventDescriptorWrapper missingParent : missingParents) {
                 this.missingParentMap.computeIfAbsent(missingParent, EMPTY_LIST).add(orphanedEvent);
             }
 
-            return List.of();
+            unorphanedEvents = List.of();
         }
+        jfrEvent.commit(
+                JFR_STAGE,
+                event.getCreatorId().id(),
+                event.getGeneration(),
+                event.getBirthRound(),
+                missingParents.isEmpty());
+
+        return unorphanedEvents;
     }
 
     /**
@@ -20,6 +20,7 @@ import static com.swirlds.common.units.DataUnit.UNIT_BYTES;
 import static com.swirlds.common.units.DataUnit.UNIT_MEGABYTES;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 
+import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.utility.LongRunningAverage;
 import com.swirlds.platform.consensus.EventWindow;
@@ -50,6 +51,11 @@ public class CommonPcesWriter {
      */
     private final PcesFileManager fileManager;
 
+    /**
+     * Provides wall clock time, used to measure flush durations.
+     */
+    private final Time time;
+
     /**
      * The current file that is being written to.
      */
@@ -131,6 +137,11 @@ public class CommonPcesWriter {
 
     private final boolean syncEveryEvent;
 
+    /**
+     * The number of events between entries in the sparse index written next to each file, 0 if indexing is disabled.
+     */
+    private final int fileIndexInterval;
+
     /**
      * Constructor
      *
@@ -144,6 +155,7 @@ public class CommonPcesWriter {
             final boolean syncEveryEvent) {
         Objects.requireNonNull(platformContext, "platformContext is required");
         this.fileManager = Objects.requireNonNull(fileManager, "fileManager is required");
+        this.time = platformContext.getTime();
         this.syncEveryEvent = syncEveryEvent;
 
         final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
@@ -154,6 +166,7 @@ public class CommonPcesWriter {
         spanOverlapFactor = pcesConfig.spanOverlapFactor();
         minimumSpan = pcesConfig.minimumSpan();
         preferredFileSizeMegabytes = pcesConfig.preferredFileSizeMegabytes();
+        fileIndexInterval = pcesConfig.fileIndexInterval();
 
         averageSpanUtilization = new LongRunningAverage(pcesConfig.spanUtilizationRunningAverageLength());
 
@@ -294,7 +307,7 @@ public class CommonPcesWriter {
 
             currentMutableFile = fileManager
                     .getNextFileDescriptor(nonAncientBoundary, upperBound)
-                    .getMutableFile(USE_FILE_CHANNEL_WRITER, syncEveryEvent);
+                    .getMutableFile(USE_FILE_CHANNEL_WRITER, syncEveryEvent, fileIndexInterval);
         }
 
         return fileClosed;
@@ -357,6 +370,17 @@ public class CommonPcesWriter {
         return currentMutableFile;
     }
 
+    /**
+     * Flush the current mutable file to disk, and record how long the flush took.
+     *
+     * @throws IOException if the file could not be flushed
+     */
+    public void flushCurrentMutableFile() throws IOException {
+        final long start = time.nanoTime();
+        currentMutableFile.flush();
+        fileManager.recordFlushDuration(time.nanoTime() - start);
+    }
+
     /**
      * Close the current mutable file.
      */
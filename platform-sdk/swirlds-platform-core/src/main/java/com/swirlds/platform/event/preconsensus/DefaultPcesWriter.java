@@ -159,7 +159,7 @@ public class DefaultPcesWriter implements PcesWriter {
             }
 
             try {
-                commonPcesWriter.getCurrentMutableFile().flush();
+                commonPcesWriter.flushCurrentMutableFile();
             } catch (final IOException e) {
                 throw new UncheckedIOException(e);
             }
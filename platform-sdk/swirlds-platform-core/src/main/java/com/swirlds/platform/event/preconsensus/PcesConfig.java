@@ -87,6 +87,12 @@ import java.time.Duration;
  *                                             time, pause PCES replay until the system is able to catch up.
  * @param limitReplayFrequency                 if true, then directly limit the replay frequency of preconsensus events
  * @param maxEventReplayFrequency              the maximum number of events that can be replayed per second
+ * @param fileIndexInterval                    the number of events between entries in the sparse index written next
+ *                                             to each preconsensus event file. The index allows readers to skip
+ *                                             directly to the first events they need. A value of 0 disables indexing.
+ * @param replayReadAheadFileCount             the number of preconsensus event files that are read and deserialized
+ *                                             in parallel ahead of the file currently being replayed. A value of 0
+ *                                             causes files to be read sequentially on the replay thread.
  */
 @ConfigData("event.preconsensus")
 public record PcesConfig(
@@ -109,4 +115,6 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "1m") Duration suspiciousRoundDurabilityDuration,
         @ConfigProperty(defaultValue = "1ms") Duration replayHealthThreshold,
         @ConfigProperty(defaultValue = "true") boolean limitReplayFrequency,
-        @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency) {}
+        @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency,
+        @Min(0) @ConfigProperty(defaultValue = "1000") int fileIndexInterval,
+        @Min(0) @ConfigProperty(defaultValue = "4") int replayReadAheadFileCount) {}
@@ -392,12 +392,20 @@ public final class PcesFile implements Comparable<PcesFile> {
         return path;
     }
 
+    /**
+     * @return the path to the sparse index sidecar file for this file, see {@link PcesFileIndex}
+     */
+    @NonNull
+    public Path getIndexPath() {
+        return path.resolveSibling(path.getFileName() + PcesFileIndex.INDEX_FILE_EXTENSION);
+    }
+
     /**
      * Same as {@link #getMutableFile(boolean, boolean)} with both parameters set to false.
      */
     @NonNull
     public PcesMutableFile getMutableFile() throws IOException {
-        return new PcesMutableFile(this, false, false);
+        return getMutableFile(false, false);
     }
 
     /**
@@ -412,7 +420,25 @@ public final class PcesFile implements Comparable<PcesFile> {
     @NonNull
     public PcesMutableFile getMutableFile(final boolean useFileChannelWriter, final boolean syncEveryEvent)
             throws IOException {
-        return new PcesMutableFile(this, useFileChannelWriter, syncEveryEvent);
+        return getMutableFile(useFileChannelWriter, syncEveryEvent, 0);
+    }
+
+    /**
+     * Get an object that can be used to write events to this file. Throws if there already exists a file on disk with
+     * the same path.
+     *
+     * @param useFileChannelWriter if true, use a {@link java.nio.channels.FileChannel} to write to the file. Otherwise,
+     *                             use a {@link java.io.FileOutputStream}.
+     * @param syncEveryEvent       if true, sync the file after every event is written
+     * @param indexInterval        the number of events between entries in the sparse index written alongside this
+     *                             file, or 0 if no index should be written
+     * @return a writer for this file
+     */
+    @NonNull
+    public PcesMutableFile getMutableFile(
+            final boolean useFileChannelWriter, final boolean syncEveryEvent, final int indexInterval)
+            throws IOException {
+        return new PcesMutableFile(this, useFileChannelWriter, syncEveryEvent, indexInterval);
     }
 
     /**
@@ -445,6 +471,9 @@ public final class PcesFile implements Comparable<PcesFile> {
             recycleBin.recycle(path);
         }
 
+        // The index can always be rebuilt from the event file, so there is no need to recycle it
+        Files.deleteIfExists(getIndexPath());
+
         // Delete parent directories if they are empty
         Path target = path.getParent();
         while (!target.equals(rootDirectory)) {
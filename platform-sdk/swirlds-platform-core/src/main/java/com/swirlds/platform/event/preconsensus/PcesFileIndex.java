@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Objects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * A sparse index over the events in a single preconsensus event file. The index is stored in a sidecar file that lives
+ * next to the event file it describes (see {@link PcesFile#getIndexPath()}).
+ * </p>
+ *
+ * <p>
+ * Every {@code interval} events, the writer records the byte offset of the next event in the file together with the
+ * highest ancient indicator of all events that precede that offset. Events in a file are not strictly sorted by
+ * ancient indicator, so the recorded value is a running maximum. This makes the index safe to use for seeking: if the
+ * highest ancient indicator before an offset is less than the requested lower bound, then no event before that offset
+ * can be returned by an iterator and it is safe to skip directly to the offset.
+ * </p>
+ *
+ * <p>
+ * The index is purely an optimization. It is only written after the event file has been completely written, and it is
+ * ignored if it is missing, malformed, or does not match the length of the event file.
+ * </p>
+ *
+ * <p>
+ * Sidecar file format:
+ * </p>
+ * <pre>
+ * [int version][int interval][long event file length][int entry count]([long offset][long highest ancient indicator])*
+ * </pre>
+ */
+public final class PcesFileIndex {
+    private static final Logger logger = LogManager.getLogger(PcesFileIndex.class);
+
+    /**
+     * The file extension for index files. The index file name is the name of the event file with this extension
+     * appended.
+     */
+    public static final String INDEX_FILE_EXTENSION = ".idx";
+
+    /**
+     * The current version of the index file format.
+     */
+    private static final int INDEX_FILE_VERSION = 1;
+
+    /**
+     * The initial capacity of the entry arrays when building a new index.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The number of events between two consecutive index entries.
+     */
+    private final int interval;
+
+    /**
+     * Byte offsets of indexed events, in increasing order.
+     */
+    private long[] offsets;
+
+    /**
+     * For each entry, the highest ancient indicator of all events in the file that precede the corresponding offset.
+     */
+    private long[] highestAncientIndicators;
+
+    /**
+     * The number of entries in the index.
+     */
+    private int size;
+
+    /**
+     * Create a new, empty index.
+     *
+     * @param interval the number of events between two consecutive index entries
+     */
+    public PcesFileIndex(final int interval) {
+        this(interval, new long[INITIAL_CAPACITY], new long[INITIAL_CAPACITY], 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param interval                 the number of events between two consecutive index entries
+     * @param offsets                  byte offsets of indexed events
+     * @param highestAncientIndicators the highest ancient indicator that precedes each offset
+     * @param size                     the number of valid entries
+     */
+    private PcesFileIndex(
+            final int interval,
+            @NonNull final long[] offsets,
+            @NonNull final long[] highestAncientIndicators,
+            final int size) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("interval must be positive, got " + interval);
+        }
+        this.interval = interval;
+        this.offsets = Objects.requireNonNull(offsets);
+        this.highestAncientIndicators = Objects.requireNonNull(highestAncientIndicators);
+        this.size = size;
+    }
+
+    /**
+     * Get the number of events between two consecutive index entries.
+     *
+     * @return the index interval
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Get the number of entries in this index.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Add a new entry to the index. Entries must be added in increasing offset order.
+     *
+     * @param offset                  the byte offset of an event in the file
+     * @param highestAncientIndicator the highest ancient indicator of all events written before the offset
+     */
+    public void addEntry(final long offset, final long highestAncientIndicator) {
+        if (size > 0 && offset <= offsets[size - 1]) {
+            throw new IllegalArgumentException(
+                    "offset " + offset + " is not greater than the previous offset " + offsets[size - 1]);
+        }
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            highestAncientIndicators = Arrays.copyOf(highestAncientIndicators, size * 2);
+        }
+        offsets[size] = offset;
+        highestAncientIndicators[size] = highestAncientIndicator;
+        size++;
+    }
+
+    /**
+     * Find the largest offset in the file that can be skipped to without missing any event with an ancient indicator
+     * greater than or equal to the given lower bound.
+     *
+     * @param lowerBound the lower bound of events that must not be skipped
+     * @return the offset to seek to, or -1 if no entry permits skipping any part of the file
+     */
+    public long getSeekOffset(final long lowerBound) {
+        // The recorded values are running maximums and therefore never decrease, so a binary search can be used.
+        int low = 0;
+        int high = size - 1;
+        int candidate = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (highestAncientIndicators[mid] < lowerBound) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate == -1 ? -1 : offsets[candidate];
+    }
+
+    /**
+     * Write this index to disk. The index is first written to a temporary file and then atomically moved into place,
+     * so that a crash never leaves a partially written index behind.
+     *
+     * @param indexPath       the location of the index file
+     * @param eventFileLength the length of the event file being indexed, in bytes
+     * @throws IOException if the index could not be written
+     */
+    public void write(@NonNull final Path indexPath, final long eventFileLength) throws IOException {
+        final Path temporaryPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        try (final DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+            out.writeInt(INDEX_FILE_VERSION);
+            out.writeInt(interval);
+            out.writeLong(eventFileLength);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(offsets[i]);
+                out.writeLong(highestAncientIndicators[i]);
+            }
+        }
+        Files.move(temporaryPath, indexPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Read the index for a preconsensus event file, if one is available.
+     *
+     * @param file the event file whose index should be read
+     * @return the index, or null if there is no usable index for the file
+     */
+    @Nullable
+    public static PcesFileIndex read(@NonNull final PcesFile file) {
+        final Path indexPath = file.getIndexPath();
+        if (!Files.exists(indexPath)) {
+            return null;
+        }
+
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+            final int version = in.readInt();
+            if (version != INDEX_FILE_VERSION) {
+                logger.warn(EXCEPTION.getMarker(), "Unsupported PCES index version {} in {}", version, indexPath);
+                return null;
+            }
+            final int interval = in.readInt();
+            final long eventFileLength = in.readLong();
+            if (eventFileLength != Files.size(file.getPath())) {
+                // The event file was modified after the index was written (e.g. it was truncated), ignore the index.
+                logger.warn(EXCEPTION.getMarker(), "Ignoring stale PCES index {}", indexPath);
+                return null;
+            }
+            final int size = in.readInt();
+            if (size < 0) {
+                throw new IOException("negative entry count " + size);
+            }
+            final long[] offsets = new long[Math.max(size, 1)];
+            final long[] highestAncientIndicators = new long[Math.max(size, 1)];
+            for (int i = 0; i < size; i++) {
+                offsets[i] = in.readLong();
+                highestAncientIndicators[i] = in.readLong();
+                if (offsets[i] > eventFileLength || (i > 0 && offsets[i] <= offsets[i - 1])) {
+                    throw new IOException("invalid offset " + offsets[i] + " at entry " + i);
+                }
+            }
+            return new PcesFileIndex(interval, offsets, highestAncientIndicators, size);
+        } catch (final IOException | IllegalArgumentException e) {
+            logger.warn(EXCEPTION.getMarker(), "Unable to read PCES index {}", indexPath, e);
+            return null;
+        }
+    }
+}
@@ -72,6 +72,7 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
             if (fileVersion == null) {
                 throw new IOException("unsupported file version: " + fileVersionNumber);
             }
+            skipToIndexedOffset(fileDescriptor);
         } catch (final EOFException e) {
             // Empty file. Possible if the node crashed right after it created this file.
             stream.close();
@@ -79,6 +80,27 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
         }
     }
 
+    /**
+     * If the file has a sparse index, skip over the part of the file that can not contain any events at or above the
+     * lower bound. Without an index, the file is read from the beginning.
+     *
+     * @param fileDescriptor describes the file being read
+     */
+    private void skipToIndexedOffset(@NonNull final PcesFile fileDescriptor) throws IOException {
+        if (lowerBound <= fileDescriptor.getLowerBound()) {
+            // Every event in the file may be needed, no point in reading the index.
+            return;
+        }
+        final PcesFileIndex index = PcesFileIndex.read(fileDescriptor);
+        if (index == null) {
+            return;
+        }
+        final long offset = index.getSeekOffset(lowerBound);
+        if (offset > counter.getCount()) {
+            stream.skipNBytes(offset - counter.getCount());
+        }
+    }
+
     /**
      * Find the next event that should be returned.
      */
@@ -271,6 +271,15 @@ public class PcesFileManager {
         updateFileSizeMetrics();
     }
 
+    /**
+     * The event file writer calls this method after flushing the current event file.
+     *
+     * @param nanoseconds the time it took to flush the file, in nanoseconds
+     */
+    public void recordFlushDuration(final long nanoseconds) {
+        metrics.getPreconsensusEventFlushDuration().update(nanoseconds);
+    }
+
     /**
      * Prune old event files. Files are pruned if they are too old AND if they do not contain events with high enough
      * ancient indicators.
@@ -28,6 +28,7 @@ import java.nio.file.Files;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -171,6 +172,31 @@ public class PcesFileTracker {
         return new PcesMultiFileIterator(lowerBound, getFileIterator(lowerBound, startingRound), fileType);
     }
 
+    /**
+     * Same as {@link #getEventIterator(long, long)}, but upcoming files are deserialized in parallel on the given
+     * executor while events from the current file are consumed.
+     *
+     * @param lowerBound         the desired lower bound, see {@link #getEventIterator(long, long)}
+     * @param startingRound      the round to start iterating from
+     * @param readAheadExecutor  the executor used to read files ahead, shut down by the iterator once all files have
+     *                           been read
+     * @param readAheadFileCount the maximum number of files to read ahead of the file currently being iterated
+     * @return an iterator that walks over events
+     */
+    @NonNull
+    public PcesMultiFileIterator getEventIterator(
+            final long lowerBound,
+            final long startingRound,
+            @NonNull final ExecutorService readAheadExecutor,
+            final int readAheadFileCount) {
+        return new PcesMultiFileIterator(
+                lowerBound,
+                getFileIterator(lowerBound, startingRound),
+                fileType,
+                Objects.requireNonNull(readAheadExecutor),
+                readAheadFileCount);
+    }
+
     /**
      * Get an iterator that walks over all event files currently being tracked, in order.
      * <p>
@@ -19,6 +19,7 @@ package com.swirlds.platform.event.preconsensus;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.LongGauge;
 import com.swirlds.metrics.api.Metrics;
 
@@ -83,6 +84,12 @@ public class PcesMetrics {
             .withDescription("The age of the oldest preconsensus event file, in seconds.");
     private final LongGauge preconsensusEventFileOldestSeconds;
 
+    private static final Histogram.Config PRECONSENSUS_EVENT_FLUSH_DURATION_CONFIG = new Histogram.Config(
+                    CATEGORY, "preconsensusEventFlushDuration")
+            .withUnit("nanoseconds")
+            .withDescription("The distribution of the time it takes to flush a preconsensus event file.");
+    private final Histogram preconsensusEventFlushDuration;
+
     /**
      * Construct preconsensus event metrics.
      *
@@ -100,6 +107,7 @@ public class PcesMetrics {
         preconsensusEventFileYoungestIdentifier =
                 metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_YOUNGEST_IDENTIFIER_CONFIG);
         preconsensusEventFileOldestSeconds = metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_OLDEST_SECONDS_CONFIG);
+        preconsensusEventFlushDuration = metrics.getOrCreate(PRECONSENSUS_EVENT_FLUSH_DURATION_CONFIG);
     }
 
     /**
@@ -164,4 +172,11 @@ public class PcesMetrics {
     public LongGauge getPreconsensusEventFileOldestSeconds() {
         return preconsensusEventFileOldestSeconds;
     }
+
+    /**
+     * Get the metric tracking the distribution of preconsensus event file flush durations, in nanoseconds.
+     */
+    public Histogram getPreconsensusEventFlushDuration() {
+        return preconsensusEventFlushDuration;
+    }
 }
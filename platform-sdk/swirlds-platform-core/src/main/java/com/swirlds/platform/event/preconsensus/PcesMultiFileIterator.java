@@ -19,14 +19,24 @@ package com.swirlds.platform.event.preconsensus;
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.platform.event.AncientMode;
 import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.util.iterator.ReadAheadIterator;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Iterates over events from a sequence of preconsensus event files.
+ * <p>
+ * If constructed with an executor, up to {@code readAheadFileCount} files following the current one are read and
+ * deserialized in parallel on that executor while events from the current file are being consumed. Events are always
+ * returned in file order.
  */
 public class PcesMultiFileIterator implements IOIterator<PlatformEvent> {
 
@@ -37,6 +47,24 @@ public class PcesMultiFileIterator implements IOIterator<PlatformEvent> {
     private PlatformEvent next;
     private int truncatedFileCount = 0;
 
+    /**
+     * Reads files ahead of the current file, or null if files are read sequentially on the calling thread.
+     */
+    private final ReadAheadIterator<PcesFile, PcesFileContents> readAheadFiles;
+
+    /**
+     * The events of the current read-ahead file that have not yet been returned.
+     */
+    private Iterator<PlatformEvent> currentEvents = Collections.emptyIterator();
+
+    /**
+     * The fully deserialized contents of a single file.
+     *
+     * @param events           the events in the file with an ancient indicator at or above the lower bound
+     * @param hasPartialEvent  true if the file ended with a partial event
+     */
+    private record PcesFileContents(@NonNull List<PlatformEvent> events, boolean hasPartialEvent) {}
+
     /**
      * Create an iterator that walks over events in a series of event files.
      *
@@ -50,15 +78,48 @@ public class PcesMultiFileIterator implements IOIterator<PlatformEvent> {
             @NonNull final Iterator<PcesFile> fileIterator,
             @NonNull final AncientMode fileType) {
 
+        this(lowerBound, fileIterator, fileType, null, 0);
+    }
+
+    /**
+     * Create an iterator that walks over events in a series of event files, deserializing upcoming files in parallel.
+     *
+     * @param lowerBound         the minimum ancient indicator of events to return, events with lower ancient indicators
+     *                           are not returned
+     * @param fileIterator       an iterator that walks over event files
+     * @param fileType           the type of file to read
+     * @param readAheadExecutor  the executor used to read files ahead of the current file, or null to read files
+     *                           sequentially. The iterator shuts this executor down once all files have been read or
+     *                           the iterator is closed.
+     * @param readAheadFileCount the maximum number of files to read ahead, must be positive if an executor
+     *                           is provided
+     */
+    public PcesMultiFileIterator(
+            final long lowerBound,
+            @NonNull final Iterator<PcesFile> fileIterator,
+            @NonNull final AncientMode fileType,
+            @Nullable final ExecutorService readAheadExecutor,
+            final int readAheadFileCount) {
+
         this.fileIterator = Objects.requireNonNull(fileIterator);
         this.lowerBound = lowerBound;
         this.fileType = Objects.requireNonNull(fileType);
+        if (readAheadExecutor != null && readAheadFileCount <= 0) {
+            throw new IllegalArgumentException("readAheadFileCount must be positive, got " + readAheadFileCount);
+        }
+        this.readAheadFiles = readAheadExecutor == null
+                ? null
+                : new ReadAheadIterator<>(fileIterator, this::readFile, readAheadExecutor, readAheadFileCount);
     }
 
     /**
      * Find the next event that should be returned.
      */
     private void findNext() throws IOException {
+        if (readAheadFiles != null) {
+            findNextReadAhead();
+            return;
+        }
         while (next == null) {
             if (currentIterator == null || !currentIterator.hasNext()) {
                 if (currentIterator != null && currentIterator.hasPartialEvent()) {
@@ -76,6 +137,55 @@ public class PcesMultiFileIterator implements IOIterator<PlatformEvent> {
         }
     }
 
+    /**
+     * Find the next event that should be returned, reading files ahead on the read-ahead executor.
+     */
+    private void findNextReadAhead() throws IOException {
+        while (next == null) {
+            if (currentEvents.hasNext()) {
+                next = currentEvents.next();
+                break;
+            }
+
+            if (!readAheadFiles.hasNext()) {
+                break;
+            }
+
+            final PcesFileContents contents = readAheadFiles.next();
+            if (contents.hasPartialEvent()) {
+                truncatedFileCount++;
+            }
+            currentEvents = contents.events().iterator();
+        }
+    }
+
+    /**
+     * Read all events at or above the lower bound from a single file.
+     *
+     * @param file the file to read
+     * @return the contents of the file
+     */
+    @NonNull
+    private PcesFileContents readFile(@NonNull final PcesFile file) throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        try (final PcesFileIterator iterator = new PcesFileIterator(file, lowerBound, fileType)) {
+            while (iterator.hasNext()) {
+                events.add(iterator.next());
+            }
+            return new PcesFileContents(events, iterator.hasPartialEvent());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (readAheadFiles != null) {
+            readAheadFiles.close();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
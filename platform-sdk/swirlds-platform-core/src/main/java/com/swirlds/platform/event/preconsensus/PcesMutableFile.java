@@ -39,15 +39,30 @@ public class PcesMutableFile {
      */
     private long highestAncientIdentifierInFile;
 
+    /**
+     * The sparse index that is written next to the file when it is closed, or null if no index is being built.
+     */
+    private final PcesFileIndex index;
+
+    /**
+     * The number of events written to the file.
+     */
+    private long eventCount;
+
     /**
      * Create a new preconsensus event file that can be written to.
      *
      * @param descriptor           a description of the file
      * @param useFileChannelWriter whether to use a FileChannel to write to the file as opposed to an OutputStream
      * @param syncEveryEvent       whether to sync the file after every event
+     * @param indexInterval        the number of events between entries in the sparse index, or 0 if no index should
+     *                             be written
      */
     PcesMutableFile(
-            @NonNull final PcesFile descriptor, final boolean useFileChannelWriter, final boolean syncEveryEvent)
+            @NonNull final PcesFile descriptor,
+            final boolean useFileChannelWriter,
+            final boolean syncEveryEvent,
+            final int indexInterval)
             throws IOException {
         if (Files.exists(descriptor.getPath())) {
             throw new IOException("File " + descriptor.getPath() + " already exists");
@@ -61,6 +76,7 @@ public class PcesMutableFile {
                 : new PcesOutputStreamFileWriter(descriptor.getPath(), syncEveryEvent);
         writer.writeVersion(PcesFileVersion.currentVersionNumber());
         highestAncientIdentifierInFile = descriptor.getLowerBound();
+        index = indexInterval > 0 ? new PcesFileIndex(indexInterval) : null;
     }
 
     /**
@@ -83,7 +99,13 @@ public class PcesMutableFile {
             throw new IllegalStateException("Cannot write event " + event.getHash() + " with ancient indicator "
                     + event.getAncientIndicator(descriptor.getFileType()) + " to file " + descriptor);
         }
+        if (index != null && eventCount > 0 && eventCount % index.getInterval() == 0) {
+            // Nothing written so far has an ancient indicator higher than highestAncientIdentifierInFile, so a reader
+            // looking for events above that value can safely start reading at this offset.
+            index.addEntry(writer.fileSize(), highestAncientIdentifierInFile);
+        }
         writer.writeEvent(event.getGossipEvent());
+        eventCount++;
         highestAncientIdentifierInFile =
                 Math.max(highestAncientIdentifierInFile, event.getAncientIndicator(descriptor.getFileType()));
     }
@@ -107,6 +129,9 @@ public class PcesMutableFile {
 
         try {
             Files.move(descriptor.getPath(), newDescriptor.getPath(), StandardCopyOption.ATOMIC_MOVE);
+            if (Files.exists(descriptor.getIndexPath())) {
+                Files.move(descriptor.getIndexPath(), newDescriptor.getIndexPath(), StandardCopyOption.ATOMIC_MOVE);
+            }
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -122,10 +147,13 @@ public class PcesMutableFile {
     }
 
     /**
-     * Close the file.
+     * Close the file. If an index is being built, it is written to disk after the file has been closed.
      */
     public void close() throws IOException {
         writer.close();
+        if (index != null && index.size() > 0) {
+            index.write(descriptor.getIndexPath(), writer.fileSize());
+        }
     }
 
     /**
@@ -89,6 +89,9 @@ public final class PcesUtilities {
         final PcesFile newFile = originalFile.buildFileWithCompressedSpan(newUpperBound);
         try {
             Files.move(originalFile.getPath(), newFile.getPath(), StandardCopyOption.ATOMIC_MOVE);
+            if (Files.exists(originalFile.getIndexPath())) {
+                Files.move(originalFile.getIndexPath(), newFile.getIndexPath(), StandardCopyOption.ATOMIC_MOVE);
+            }
         } catch (final IOException e) {
             logger.error(EXCEPTION.getMarker(), "Failed to compact span of file {}", originalFile.getPath(), e);
             return originalFile;
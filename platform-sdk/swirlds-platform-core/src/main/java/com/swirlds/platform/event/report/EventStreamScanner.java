@@ -26,12 +26,16 @@ import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.units.TimeUnit;
 import com.swirlds.platform.recovery.internal.EventStreamLowerBound;
 import com.swirlds.platform.recovery.internal.EventStreamMultiFileIterator;
+import com.swirlds.platform.recovery.internal.EventStreamPathIterator;
 import com.swirlds.platform.recovery.internal.MultiFileRunningHashIterator;
 import com.swirlds.platform.system.events.CesEvent;
+import com.swirlds.platform.util.iterator.ReadAheadIterator;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -63,6 +67,7 @@ public class EventStreamScanner {
 
     private final Duration reportPeriod;
     private final boolean enableProgressReport;
+    private final Instant upperTimestampBound;
 
     private final EventStreamMultiFileIterator fileIterator;
     private final IOIterator<CesEvent> eventIterator;
@@ -73,15 +78,56 @@ public class EventStreamScanner {
             @NonNull final Duration reportPeriod,
             final boolean enableProgressReport)
             throws IOException {
+        this(eventStreamDirectory, lowerBound, null, reportPeriod, enableProgressReport, 0);
+    }
+
+    /**
+     * Create a scanner for the events in a time range, that parses event stream files in parallel.
+     *
+     * @param eventStreamDirectory the directory containing the event stream files
+     * @param lowerBound           the lower bound of the events to scan
+     * @param upperTimestampBound  if not null, events with a consensus timestamp after this bound are not scanned, and
+     *                             files that only contain such events are not read
+     * @param reportPeriod         the temporal granularity of the report
+     * @param enableProgressReport if true then write progress to the console
+     * @param readAheadFileCount   the number of files to parse in parallel, or 0 to parse files sequentially
+     * @throws IOException if there is a problem reading the event stream
+     */
+    public EventStreamScanner(
+            @NonNull final Path eventStreamDirectory,
+            @NonNull final EventStreamLowerBound lowerBound,
+            @Nullable final Instant upperTimestampBound,
+            @NonNull final Duration reportPeriod,
+            final boolean enableProgressReport,
+            final int readAheadFileCount)
+            throws IOException {
         Objects.requireNonNull(eventStreamDirectory, "the event stream directory must not be null");
         Objects.requireNonNull(lowerBound, "the lower bound must not be null");
         this.reportPeriod = Objects.requireNonNull(reportPeriod, "the report period must not be null");
         this.enableProgressReport = enableProgressReport;
+        this.upperTimestampBound = upperTimestampBound;
 
-        fileIterator = new EventStreamMultiFileIterator(eventStreamDirectory, lowerBound);
+        fileIterator = new EventStreamMultiFileIterator(
+                new EventStreamPathIterator(eventStreamDirectory, lowerBound, upperTimestampBound),
+                lowerBound,
+                readAheadFileCount > 0
+                        ? ReadAheadIterator.createExecutor("event-stream-scanner", readAheadFileCount)
+                        : null,
+                readAheadFileCount);
         eventIterator = new MultiFileRunningHashIterator(fileIterator);
     }
 
+    /**
+     * Check if there is another event to scan, i.e. an event that isn't after the upper timestamp bound.
+     */
+    private boolean hasNextInRange() throws IOException {
+        if (!eventIterator.hasNext()) {
+            return false;
+        }
+        return upperTimestampBound == null
+                || !eventIterator.peek().getPlatformEvent().getConsensusTimestamp().isAfter(upperTimestampBound);
+    }
+
     /**
      * Time is split into "chunks". For each chunk of time we generate a mini-report. When this method is called
      * we gather all the data from a single chunk of time.
@@ -163,8 +209,16 @@ public class EventStreamScanner {
     }
 
     public EventStreamReport createReport() throws IOException {
+        try {
+            return scan();
+        } finally {
+            eventIterator.close();
+        }
+    }
 
-        if (!eventIterator.hasNext()) {
+    private EventStreamReport scan() throws IOException {
+
+        if (!hasNextInRange()) {
             throw new IllegalStateException("No events found in the event stream");
         }
 
@@ -173,7 +227,7 @@ public class EventStreamScanner {
 
         CesEvent mostRecentEvent = null;
         CesEvent previousEvent;
-        while (eventIterator.hasNext()) {
+        while (hasNextInRange()) {
             previousEvent = mostRecentEvent;
             mostRecentEvent = eventIterator.next();
 
@@ -191,7 +245,7 @@ public class EventStreamScanner {
             previousFileCount = fileIterator.getFileCount();
             previousDamagedFileCount = fileIterator.getDamagedFileCount();
 
-            if (!eventIterator.hasNext() && granularEventCount > 0) {
+            if (!hasNextInRange() && granularEventCount > 0) {
                 reportGranularData(mostRecentEvent);
             }
 
@@ -23,6 +23,7 @@ import com.hedera.hapi.node.base.SemanticVersion;
 import com.hedera.hapi.node.state.roster.Roster;
 import com.hedera.hapi.node.state.roster.RosterEntry;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.jfr.EventIntakeJfrEvent;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import com.swirlds.metrics.api.LongAccumulator;
@@ -54,6 +55,11 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
      */
     private static final Duration MINIMUM_LOG_PERIOD = Duration.ofMinutes(1);
 
+    /**
+     * The name of this intake stage in JFR events.
+     */
+    private static final String JFR_STAGE = "eventSignatureValidator";
+
     /**
      * A verifier for checking event signatures.
      */
@@ -228,7 +234,12 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
             return null;
         }
 
-        if (isSignatureValid(event)) {
+        final EventIntakeJfrEvent jfrEvent = new EventIntakeJfrEvent();
+        jfrEvent.begin();
+        final boolean valid = isSignatureValid(event);
+        jfrEvent.commit(JFR_STAGE, event.getCreatorId().id(), event.getGeneration(), event.getBirthRound(), valid);
+
+        if (valid) {
             return event;
         } else {
             intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
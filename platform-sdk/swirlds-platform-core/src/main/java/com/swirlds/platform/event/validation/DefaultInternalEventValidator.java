@@ -28,6 +28,7 @@ import com.hedera.hapi.platform.event.GossipEvent;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.common.jfr.EventIntakeJfrEvent;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.platform.config.TransactionConfig;
@@ -57,6 +58,11 @@ public class DefaultInternalEventValidator implements InternalEventValidator {
      */
     private static final Duration MINIMUM_LOG_PERIOD = Duration.ofMinutes(1);
 
+    /**
+     * The name of this intake stage in JFR events.
+     */
+    private static final String JFR_STAGE = "internalEventValidator";
+
     /**
      * Whether this node is in a single-node network.
      */
@@ -384,12 +390,17 @@ public class DefaultInternalEventValidator implements InternalEventValidator {
     @Override
     @Nullable
     public PlatformEvent validateEvent(@NonNull final PlatformEvent event) {
-        if (areRequiredFieldsNonNull(event)
+        final EventIntakeJfrEvent jfrEvent = new EventIntakeJfrEvent();
+        jfrEvent.begin();
+        final boolean valid = areRequiredFieldsNonNull(event)
                 && areByteFieldsCorrectLength(event)
                 && isTransactionByteCountValid(event)
                 && areParentsInternallyConsistent(event)
                 && isEventGenerationValid(event)
-                && isEventBirthRoundValid(event)) {
+                && isEventBirthRoundValid(event);
+        jfrEvent.commit(JFR_STAGE, event.getCreatorId().id(), event.getGeneration(), event.getBirthRound(), valid);
+
+        if (valid) {
             return event;
         } else {
             intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
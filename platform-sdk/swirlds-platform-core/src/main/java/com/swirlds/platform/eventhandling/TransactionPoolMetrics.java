@@ -22,7 +22,9 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.metrics.FunctionGauge;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.stats.AverageTimeStat;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.temporal.ChronoUnit;
 import java.util.function.Supplier;
 
 /**
@@ -46,6 +48,8 @@ public class TransactionPoolMetrics {
                     "Cycled when a platform transaction is submitted (platform transactions are always accepted).");
     private final SpeedometerMetric submittedPlatformTransactions;
 
+    private final AverageTimeStat transactionPoolWaitTime;
+
     /**
      * Create metrics for the transaction pool.
      *
@@ -75,6 +79,14 @@ public class TransactionPoolMetrics {
                         getPriorityBufferedTransactionCount)
                 .withDescription("The number of priority transactions waiting to be inserted into an event.")
                 .withUnit("count"));
+
+        transactionPoolWaitTime = new AverageTimeStat(
+                metrics,
+                ChronoUnit.MICROS,
+                PLATFORM_CATEGORY,
+                "transactionPoolWaitMicros",
+                "average time a non-priority transaction waits in the transaction pool before it is put into an event"
+                        + " (in microseconds)");
     }
 
     /**
@@ -97,4 +109,14 @@ public class TransactionPoolMetrics {
     public void recordSubmittedPlatformTransaction() {
         submittedPlatformTransactions.cycle();
     }
+
+    /**
+     * Record the time a transaction waited in the pool.
+     *
+     * @param submittedTime the time at which the transaction was submitted, in nanoseconds
+     * @param removedTime   the time at which the transaction was taken out of the pool, in nanoseconds
+     */
+    public void recordWaitTime(final long submittedTime, final long removedTime) {
+        transactionPoolWaitTime.update(submittedTime, removedTime);
+    }
 }
@@ -54,6 +54,7 @@ import com.swirlds.platform.network.NetworkMetrics;
 import com.swirlds.platform.network.NetworkPeerIdentifier;
 import com.swirlds.platform.network.NetworkUtils;
 import com.swirlds.platform.network.PeerInfo;
+import com.swirlds.platform.network.SocketConfig;
 import com.swirlds.platform.network.communication.NegotiationProtocols;
 import com.swirlds.platform.network.communication.ProtocolNegotiatorThread;
 import com.swirlds.platform.network.communication.handshake.VersionCompareHandshake;
@@ -282,7 +283,9 @@ public class SyncGossip implements ConnectionTracker, Gossip {
 
         syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
 
-        final ParallelExecutor shadowgraphExecutor = new CachedPoolParallelExecutor(threadManager, "node-sync");
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        final ParallelExecutor shadowgraphExecutor =
+                new CachedPoolParallelExecutor(threadManager, "node-sync", socketConfig.useVirtualThreads());
         thingsToStart.add(shadowgraphExecutor);
         final SyncMetrics syncMetrics = new SyncMetrics(platformContext.getMetrics());
         syncShadowgraphSynchronizer = new ShadowgraphSynchronizer(
@@ -366,9 +369,11 @@ public class SyncGossip implements ConnectionTracker, Gossip {
         final VersionCompareHandshake versionCompareHandshake =
                 new VersionCompareHandshake(appVersion, !protocolConfig.tolerateMismatchedVersion());
         final List<ProtocolRunnable> handshakeProtocols = List.of(versionCompareHandshake);
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
         for (final NodeId otherId : topology.getNeighbors()) {
             syncProtocolThreads.add(new StoppableThreadConfiguration<>(threadManager)
                     .setPriority(Thread.NORM_PRIORITY)
+                    .setVirtual(socketConfig.useVirtualThreads())
                     .setNodeId(selfId)
                     .setComponent(PLATFORM_THREAD_POOL_NAME)
                     .setOtherNodeId(otherId)
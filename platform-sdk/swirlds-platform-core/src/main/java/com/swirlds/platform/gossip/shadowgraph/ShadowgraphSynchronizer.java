@@ -29,6 +29,7 @@ import static com.swirlds.platform.gossip.shadowgraph.SyncUtils.writeTheirTipsIH
 
 import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.jfr.GossipSyncJfrEvent;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.common.threading.pool.ParallelExecutionException;
 import com.swirlds.common.threading.pool.ParallelExecutor;
@@ -188,9 +189,14 @@ public class ShadowgraphSynchronizer {
     public boolean synchronize(@NonNull final PlatformContext platformContext, @NonNull final Connection connection)
             throws IOException, ParallelExecutionException, SyncException, InterruptedException {
         logger.info(SYNC_INFO.getMarker(), "{} sync start", connection.getDescription());
+        final GossipSyncJfrEvent jfrEvent = new GossipSyncJfrEvent();
+        jfrEvent.begin();
+        boolean completed = false;
         try {
-            return reserveSynchronize(platformContext, connection);
+            completed = reserveSynchronize(platformContext, connection, jfrEvent);
+            return completed;
         } finally {
+            jfrEvent.commit(connection.getOtherId().id(), connection.isOutbound(), completed);
             logger.info(SYNC_INFO.getMarker(), "{} sync end", connection.getDescription());
         }
     }
@@ -200,10 +206,13 @@ public class ShadowgraphSynchronizer {
      *
      * @param platformContext the platform context
      * @param connection      the connection to use
+     * @param jfrEvent        the JFR event that spans this sync
      * @return true if the sync was successful, false if it was aborted
      */
     private boolean reserveSynchronize(
-            @NonNull final PlatformContext platformContext, @NonNull final Connection connection)
+            @NonNull final PlatformContext platformContext,
+            @NonNull final Connection connection,
+            @NonNull final GossipSyncJfrEvent jfrEvent)
             throws IOException, ParallelExecutionException, SyncException, InterruptedException {
 
         // accumulates time points for each step in the execution of a single gossip session, used for stats
@@ -218,6 +227,7 @@ public class ShadowgraphSynchronizer {
             // Step 1: each peer tells the other about its tips and event windows
 
             final EventWindow myWindow = reservation.getEventWindow();
+            jfrEvent.setLatestConsensusRound(myWindow.getLatestConsensusRound());
 
             final List<ShadowEvent> myTips = getTips();
             // READ and WRITE event windows numbers & tip hashes
@@ -268,7 +278,7 @@ public class ShadowgraphSynchronizer {
         final SyncConfig syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
 
         return sendAndReceiveEvents(
-                connection, timing, sendList, syncConfig.syncKeepalivePeriod(), syncConfig.maxSyncTime());
+                connection, timing, jfrEvent, sendList, syncConfig.syncKeepalivePeriod(), syncConfig.maxSyncTime());
     }
 
     @NonNull
@@ -379,6 +389,7 @@ public class ShadowgraphSynchronizer {
      *
      * @param connection          the connection to use
      * @param timing              metrics that track sync timing
+     * @param jfrEvent            the JFR event that spans this sync
      * @param sendList            the events to send
      * @param syncKeepAlivePeriod the period at which the reading thread should send keepalive messages
      * @param maxSyncTime         the maximum amount of time to spend syncing with a peer, syncs that take longer than
@@ -389,6 +400,7 @@ public class ShadowgraphSynchronizer {
     private boolean sendAndReceiveEvents(
             @NonNull final Connection connection,
             @NonNull final SyncTiming timing,
+            @NonNull final GossipSyncJfrEvent jfrEvent,
             @NonNull final List<PlatformEvent> sendList,
             @NonNull final Duration syncKeepAlivePeriod,
             @NonNull final Duration maxSyncTime)
@@ -431,6 +443,7 @@ public class ShadowgraphSynchronizer {
 
         syncMetrics.syncDone(
                 new SyncResult(connection.isOutbound(), connection.getOtherId(), eventsRead, sendList.size()));
+        jfrEvent.setEventCounts(sendList.size(), eventsRead);
 
         timing.setTimePoint(5);
         syncMetrics.recordSyncTiming(timing, connection);
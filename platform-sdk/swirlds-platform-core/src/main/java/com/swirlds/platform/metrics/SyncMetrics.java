@@ -25,6 +25,7 @@ import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
 import com.swirlds.base.units.UnitConstants;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.extensions.CountPerSecond;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.gossip.shadowgraph.ShadowgraphSynchronizer;
@@ -65,6 +66,12 @@ public class SyncMetrics {
             .withDescription("the average number of tips per sync at the start of each sync")
             .withFormat(FORMAT_15_3);
 
+    private static final Histogram.Config SYNC_DURATION_HISTOGRAM_CONFIG = new Histogram.Config(
+                    INTERNAL_CATEGORY, "syncDurationHistogram")
+            .withUnit("nanoseconds")
+            .withDescription("distribution of the duration of successful syncs");
+    private final Histogram syncDurationHistogram;
+
     private static final CountPerSecond.Config INCOMING_SYNC_REQUESTS_CONFIG = new CountPerSecond.Config(
                     PLATFORM_CATEGORY, "incomingSyncRequests_per_sec")
             .withDescription("Incoming sync requests received per second");
@@ -165,6 +172,7 @@ public class SyncMetrics {
         outgoingSyncRequestsPerSec = new CountPerSecond(metrics, OUTGOING_SYNC_REQUESTS_CONFIG);
         syncsPerSec = new CountPerSecond(metrics, SYNCS_PER_SECOND_CONFIG);
         syncFilterTime = metrics.getOrCreate(SYNC_FILTER_TIME_CONFIG);
+        syncDurationHistogram = metrics.getOrCreate(SYNC_DURATION_HISTOGRAM_CONFIG);
 
         doNoSyncPlatformStatus = new CountPerSecond(metrics, DO_NOT_SYNC_PLATFORM_STATUS);
         doNotSyncCooldown = new CountPerSecond(metrics, DO_NOT_SYNC_COOLDOWN_CONFIG);
@@ -290,6 +298,7 @@ public class SyncMetrics {
         avgSyncDuration5.update(timing.getTimePoint(4), timing.getTimePoint(5));
 
         avgSyncDuration.update(timing.getTimePoint(0), timing.getTimePoint(5));
+        syncDurationHistogram.update(timing.getPointDiff(5, 0));
         final double syncDurationSec = timing.getPointDiff(5, 0) * UnitConstants.NANOSECONDS_TO_SECONDS;
         final double speed = Math.max(
                         conn.getDis().getSyncByteCounter().getCount(),
@@ -35,6 +35,11 @@ import com.swirlds.config.api.ConfigProperty;
  * @param tcpNoDelay                 if true, then Nagel's algorithm is disabled, which helps latency, hurts bandwidth
  *                                   usage
  * @param gzipCompression            whether to use gzip compression over the network
+ * @param useVirtualThreads          if true, then the protocol runners of each peer connection (sync, heartbeat and
+ *                                   reconnect) and the background tasks of each sync are executed on virtual threads
+ *                                   instead of platform threads. A thread that is blocked on socket I/O then parks and
+ *                                   releases its carrier thread, and the waiting is multiplexed by the JVM's NIO
+ *                                   poller, so the number of platform threads no longer grows with the number of peers
  */
 @ConfigData("socket")
 public record SocketConfig(
@@ -45,4 +50,5 @@ public record SocketConfig(
         @ConfigProperty(defaultValue = "5000") int timeoutServerAcceptConnect,
         @ConfigProperty(defaultValue = "false") boolean useLoopbackIp,
         @ConfigProperty(defaultValue = "true") boolean tcpNoDelay,
-        @ConfigProperty(defaultValue = "false") boolean gzipCompression) {}
+        @ConfigProperty(defaultValue = "false") boolean gzipCompression,
+        @ConfigProperty(defaultValue = "false") boolean useVirtualThreads) {}
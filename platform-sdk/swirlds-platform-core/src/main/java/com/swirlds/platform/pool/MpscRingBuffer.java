@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.pool;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer FIFO queue backed by a ring buffer. Together with every element,
+ * the queue stores a timestamp provided by the producer.
+ *
+ * <p>Each slot of the ring has a sequence number that tells producers and the consumer whose turn it is. A producer
+ * claims a position with a single CAS on the producer index, writes the element, and then publishes it by advancing the
+ * sequence of the slot. The consumer never uses CAS, and offering or polling an element never allocates.
+ *
+ * <p>Any number of threads may call {@link #offer(Object, long)} and {@link #size()} concurrently. All other methods
+ * must only be called by one thread at a time.
+ *
+ * @param <T> the type of the elements
+ */
+final class MpscRingBuffer<T> {
+
+    /** The elements, indexed by position modulo capacity. */
+    private final AtomicReferenceArray<T> elements;
+
+    /** The timestamps of the elements, written before the element is published. */
+    private final long[] timestamps;
+
+    /**
+     * The sequence of each slot. A slot at position {@code p} is free for a producer when its sequence equals
+     * {@code p}, and holds a published element when its sequence equals {@code p + 1}.
+     */
+    private final AtomicLongArray sequences;
+
+    /** Used to map positions to slots. */
+    private final int mask;
+
+    /** The next position to be claimed by a producer. */
+    private final AtomicLong producerPosition = new AtomicLong();
+
+    /** The next position to be read by the consumer. Only written by the consumer. */
+    private volatile long consumerPosition;
+
+    /**
+     * Constructor.
+     *
+     * @param minimumCapacity the minimum number of elements the queue must be able to hold, rounded up to the next
+     *                        power of two
+     */
+    MpscRingBuffer(final int minimumCapacity) {
+        if (minimumCapacity <= 0 || minimumCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("invalid capacity " + minimumCapacity);
+        }
+        final int capacity = minimumCapacity == 1 ? 1 : Integer.highestOneBit(minimumCapacity - 1) << 1;
+        mask = capacity - 1;
+        elements = new AtomicReferenceArray<>(capacity);
+        timestamps = new long[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Get the maximum number of elements this queue can hold.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Add an element to the tail of the queue. Thread safe.
+     *
+     * @param element   the element to add
+     * @param timestamp the timestamp to store with the element
+     * @return true if the element was added, false if the queue is full
+     */
+    boolean offer(@NonNull final T element, final long timestamp) {
+        Objects.requireNonNull(element);
+        long position = producerPosition.get();
+        while (true) {
+            final int slot = (int) (position & mask);
+            final long difference = sequences.getAcquire(slot) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    timestamps[slot] = timestamp;
+                    elements.setPlain(slot, element);
+                    // the release store makes the element and timestamp visible to the consumer
+                    sequences.setRelease(slot, position + 1);
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                // the slot still holds an element that was offered one lap earlier
+                return false;
+            } else {
+                // another producer claimed this position
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Get the element at the head of the queue without removing it. Elements that have been claimed by a producer but
+     * are not yet published are not visible.
+     *
+     * @return the head element, or null if the queue is empty
+     */
+    @Nullable
+    T peek() {
+        final long position = consumerPosition;
+        final int slot = (int) (position & mask);
+        if (sequences.getAcquire(slot) != position + 1) {
+            return null;
+        }
+        return elements.getPlain(slot);
+    }
+
+    /**
+     * Get the timestamp of the element at the head of the queue. Must only be called after {@link #peek()} returned a
+     * non-null element.
+     *
+     * @return the timestamp of the head element
+     */
+    long peekTimestamp() {
+        return timestamps[(int) (consumerPosition & mask)];
+    }
+
+    /**
+     * Remove the element at the head of the queue.
+     *
+     * @return the removed element, or null if the queue is empty
+     */
+    @Nullable
+    T poll() {
+        final long position = consumerPosition;
+        final int slot = (int) (position & mask);
+        if (sequences.getAcquire(slot) != position + 1) {
+            return null;
+        }
+        final T element = elements.getPlain(slot);
+        elements.setPlain(slot, null);
+        consumerPosition = position + 1;
+        // free the slot for the producer that will use it on the next lap
+        sequences.setRelease(slot, position + mask + 1);
+        return element;
+    }
+
+    /**
+     * Get the number of elements in the queue. Thread safe. Since producers and the consumer may be active at the same
+     * time, the value is only an estimate.
+     *
+     * @return the number of elements
+     */
+    int size() {
+        final long size = producerPosition.get() - consumerPosition;
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+}
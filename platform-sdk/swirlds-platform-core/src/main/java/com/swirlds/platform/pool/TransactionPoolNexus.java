@@ -24,6 +24,7 @@ import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import com.hedera.hapi.platform.event.EventTransaction;
 import com.hedera.pbj.runtime.OneOf;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import com.swirlds.platform.components.transaction.TransactionSupplier;
@@ -32,13 +33,14 @@ import com.swirlds.platform.eventhandling.TransactionPoolMetrics;
 import com.swirlds.platform.system.status.PlatformStatus;
 import com.swirlds.platform.util.TransactionUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.event.creator.impl.EventCreationConfig;
@@ -46,6 +48,11 @@ import org.hiero.event.creator.impl.EventCreationConfig;
 /**
  * Store a list of transactions created by self, both system and non-system, for wrapping in the next event to be
  * created.
+ *
+ * <p>Transactions are submitted by many threads concurrently while a single event creator takes them out, so the pool
+ * does not use a single lock for both. Non-priority transactions are kept in a bounded lock-free ring buffer, and
+ * priority transactions in a separate lock-free lane. Submitting a transaction never blocks. Methods that take
+ * transactions out of the pool are serialized with each other, but never with submissions.
  */
 public class TransactionPoolNexus implements TransactionSupplier {
 
@@ -53,20 +60,43 @@ public class TransactionPoolNexus implements TransactionSupplier {
     private final RateLimitedLogger illegalTransactionLogger;
 
     /**
-     * A list of transactions created by this node waiting to be put into a self-event.
+     * The initial capacity of {@link #selectedTransactions}.
+     */
+    private static final int INITIAL_SELECTION_CAPACITY = 256;
+
+    /**
+     * Transactions created by this node waiting to be put into a self-event.
+     */
+    private final MpscRingBuffer<EventTransaction> bufferedTransactions;
+
+    /**
+     * High-priority transactions created by this node waiting to be put into a self-event. Transactions in this queue
+     * are always inserted into an event before transactions waiting in {@link #bufferedTransactions}. This lane is not
+     * bounded, since system transactions must never be rejected. It is expected to hold very few transactions.
      */
-    private final Queue<EventTransaction> bufferedTransactions = new LinkedList<>();
+    private final Queue<EventTransaction> priorityBufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
-     * A list of high-priority transactions created by this node waiting to be put into a self-event. Transactions in
-     * this queue are always inserted into an event before transactions waiting in {@link #bufferedTransactions}.
+     * The number of transactions in {@link #priorityBufferedTransactions}, tracked separately since the size of a
+     * {@link ConcurrentLinkedQueue} is expensive to compute.
      */
-    private final Queue<EventTransaction> priorityBufferedTransactions = new LinkedList<>();
+    private final AtomicInteger priorityBufferedTransactionCount = new AtomicInteger();
 
     /**
      * The number of buffered signature transactions waiting to be put into events.
      */
-    private int bufferedSignatureTransactionCount = 0;
+    private final AtomicInteger bufferedSignatureTransactionCount = new AtomicInteger();
+
+    /**
+     * Serializes the methods that remove transactions from the pool. Never acquired by submitting threads.
+     */
+    private final Object consumerLock = new Object();
+
+    /**
+     * Scratch space for the transactions selected for the next event, reused by every call to
+     * {@link #getTransactions()}. Only accessed while holding {@link #consumerLock}.
+     */
+    private EventTransaction[] selectedTransactions = new EventTransaction[INITIAL_SELECTION_CAPACITY];
 
     /**
      * The maximum number of bytes of transactions that can be put in an event.
@@ -89,10 +119,15 @@ public class TransactionPoolNexus implements TransactionSupplier {
      */
     private final int maximumTransactionSize;
 
+    /**
+     * Provides the timestamps used to measure how long transactions wait in the pool.
+     */
+    private final Time time;
+
     /**
      * The current status of the platform.
      */
-    private PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
+    private volatile PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
 
     /**
      * The maximum amount of time the platform may be in an unhealthy state before we start rejecting transactions.
@@ -102,7 +137,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * Whether the platform is currently in a healthy state.
      */
-    private boolean healthy = true;
+    private volatile boolean healthy = true;
 
     /**
      * Creates a new transaction pool for transactions waiting to be put in an event.
@@ -112,13 +147,18 @@ public class TransactionPoolNexus implements TransactionSupplier {
     public TransactionPoolNexus(@NonNull final PlatformContext platformContext) {
         Objects.requireNonNull(platformContext);
 
-        illegalTransactionLogger = new RateLimitedLogger(logger, platformContext.getTime(), Duration.ofMinutes(10));
+        time = platformContext.getTime();
+        illegalTransactionLogger = new RateLimitedLogger(logger, time, Duration.ofMinutes(10));
 
         final TransactionConfig transactionConfig =
                 platformContext.getConfiguration().getConfigData(TransactionConfig.class);
         maxTransactionBytesPerEvent = transactionConfig.maxTransactionBytesPerEvent();
         throttleTransactionQueueSize = transactionConfig.throttleTransactionQueueSize();
 
+        // App transactions are accepted as long as the pool holds no more than throttleTransactionQueueSize
+        // transactions. Some extra room is needed for system transactions that are not submitted with priority.
+        bufferedTransactions = new MpscRingBuffer<>(Math.max(throttleTransactionQueueSize, 0) + 1024);
+
         transactionPoolMetrics = new TransactionPoolMetrics(
                 platformContext, this::getBufferedTransactionCount, this::getPriorityBufferedTransactionCount);
 
@@ -140,7 +180,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      * @param appTransaction the transaction to submit
      * @return true if the transaction passed all validity checks and was accepted by the consumer
      */
-    public synchronized boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
+    public boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
         if (!healthy || platformStatus != PlatformStatus.ACTIVE) {
             return false;
         }
@@ -174,7 +214,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *                    functionalities.
      * @return true if successful
      */
-    public synchronized boolean submitTransaction(@NonNull final EventTransaction transaction, final boolean priority) {
+    public boolean submitTransaction(@NonNull final EventTransaction transaction, final boolean priority) {
 
         Objects.requireNonNull(transaction);
         final boolean isSystem = TransactionUtils.isSystemTransaction(transaction);
@@ -182,22 +222,32 @@ public class TransactionPoolNexus implements TransactionSupplier {
         // Always submit system transactions. If it's not a system transaction, then only submit it if we
         // don't violate queue size capacity restrictions.
         if (!isSystem
-                && (bufferedTransactions.size() + priorityBufferedTransactions.size()) > throttleTransactionQueueSize) {
+                && (bufferedTransactions.size() + priorityBufferedTransactionCount.get())
+                        > throttleTransactionQueueSize) {
             transactionPoolMetrics.recordRejectedAppTransaction();
             return false;
         }
 
         if (isSystem) {
-            bufferedSignatureTransactionCount++;
-            transactionPoolMetrics.recordSubmittedPlatformTransaction();
-        } else {
-            transactionPoolMetrics.recordAcceptedAppTransaction();
+            // counted before the transaction becomes visible to the event creator, which decrements the count
+            bufferedSignatureTransactionCount.incrementAndGet();
         }
 
-        if (priority) {
+        if (priority || !bufferedTransactions.offer(transaction, time.nanoTime())) {
+            if (!priority && !isSystem) {
+                // the ring is full, which can only happen if many producers raced past the size check above
+                transactionPoolMetrics.recordRejectedAppTransaction();
+                return false;
+            }
+            // a system transaction is never rejected, if the ring is full it jumps the queue instead
+            priorityBufferedTransactionCount.incrementAndGet();
             priorityBufferedTransactions.add(transaction);
+        }
+
+        if (isSystem) {
+            transactionPoolMetrics.recordSubmittedPlatformTransaction();
         } else {
-            bufferedTransactions.add(transaction);
+            transactionPoolMetrics.recordAcceptedAppTransaction();
         }
 
         return true;
@@ -208,7 +258,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param platformStatus the new platform status
      */
-    public synchronized void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
+    public void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
         this.platformStatus = platformStatus;
     }
 
@@ -218,66 +268,63 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param duration the amount of time that the system has been in an unhealthy state
      */
-    public synchronized void reportUnhealthyDuration(@NonNull final Duration duration) {
+    public void reportUnhealthyDuration(@NonNull final Duration duration) {
         healthy = isLessThan(duration, maximumPermissibleUnhealthyDuration);
     }
 
-    /**
-     * Get the next transaction that should be inserted into an event, or null if there is no available transaction.
-     *
-     * @param currentEventSize the current size in bytes of the event being constructed
-     * @return the next transaction, or null if no transaction is available
-     */
-    @Nullable
-    private EventTransaction getNextTransaction(final int currentEventSize) {
-        final int maxSize = maxTransactionBytesPerEvent - currentEventSize;
-
-        if (!priorityBufferedTransactions.isEmpty()
-                && TransactionUtils.getLegacyTransactionSize(priorityBufferedTransactions.peek()) <= maxSize) {
-            return priorityBufferedTransactions.poll();
-        }
-
-        if (!bufferedTransactions.isEmpty()
-                && TransactionUtils.getLegacyTransactionSize(bufferedTransactions.peek()) <= maxSize) {
-            return bufferedTransactions.poll();
-        }
-
-        return null;
-    }
-
     /**
      * Removes as many transactions from the list waiting to be in an event that can fit (FIFO ordering), and returns
      * them as an array, along with a boolean indicating if the array of transactions returned contains a freeze state
      * signature transaction.
+     *
+     * <p>Transactions are packed by size: the head of the priority lane is taken whenever it still fits into the event,
+     * otherwise the head of the regular queue, until neither fits. Apart from the returned list, this method does not
+     * allocate.
      */
     @NonNull
     @Override
-    public synchronized List<EventTransaction> getTransactions() {
-        // Early return due to no transactions waiting
-        if (bufferedTransactions.isEmpty() && priorityBufferedTransactions.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        final List<EventTransaction> selectedTrans = new LinkedList<>();
-        int currEventSize = 0;
-
-        while (true) {
-            final EventTransaction transaction = getNextTransaction(currEventSize);
-
-            if (transaction == null) {
-                // No transaction of suitable size is available
-                break;
+    public List<EventTransaction> getTransactions() {
+        synchronized (consumerLock) {
+            final long now = time.nanoTime();
+            int count = 0;
+            int remainingBytes = maxTransactionBytesPerEvent;
+
+            while (true) {
+                EventTransaction transaction = priorityBufferedTransactions.peek();
+                int size = transaction == null ? 0 : TransactionUtils.getLegacyTransactionSize(transaction);
+                if (transaction != null && size <= remainingBytes) {
+                    priorityBufferedTransactions.poll();
+                    priorityBufferedTransactionCount.decrementAndGet();
+                } else {
+                    transaction = bufferedTransactions.peek();
+                    size = transaction == null ? 0 : TransactionUtils.getLegacyTransactionSize(transaction);
+                    if (transaction == null || size > remainingBytes) {
+                        // No transaction of suitable size is available
+                        break;
+                    }
+                    transactionPoolMetrics.recordWaitTime(bufferedTransactions.peekTimestamp(), now);
+                    bufferedTransactions.poll();
+                }
+
+                remainingBytes -= size;
+                if (count == selectedTransactions.length) {
+                    selectedTransactions = Arrays.copyOf(selectedTransactions, count * 2);
+                }
+                selectedTransactions[count++] = transaction;
+
+                if (STATE_SIGNATURE_TRANSACTION.equals(transaction.transaction().kind())) {
+                    bufferedSignatureTransactionCount.decrementAndGet();
+                }
             }
 
-            currEventSize += TransactionUtils.getLegacyTransactionSize(transaction);
-            selectedTrans.add(transaction);
-
-            if (STATE_SIGNATURE_TRANSACTION.equals(transaction.transaction().kind())) {
-                bufferedSignatureTransactionCount--;
+            if (count == 0) {
+                return Collections.emptyList();
             }
+            final EventTransaction[] selected = Arrays.copyOf(selectedTransactions, count);
+            // don't keep the selected transactions reachable from the scratch space
+            Arrays.fill(selectedTransactions, 0, count, null);
+            return Arrays.asList(selected);
         }
-
-        return selectedTrans;
     }
 
     /**
@@ -285,8 +332,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return true if there are any buffered signature transactions
      */
-    public synchronized boolean hasBufferedSignatureTransactions() {
-        return bufferedSignatureTransactionCount > 0;
+    public boolean hasBufferedSignatureTransactions() {
+        return bufferedSignatureTransactionCount.get() > 0;
     }
 
     /**
@@ -294,7 +341,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getBufferedTransactionCount() {
+    private int getBufferedTransactionCount() {
         return bufferedTransactions.size();
     }
 
@@ -303,16 +350,35 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getPriorityBufferedTransactionCount() {
-        return priorityBufferedTransactions.size();
+    private int getPriorityBufferedTransactionCount() {
+        return priorityBufferedTransactionCount.get();
     }
 
     /**
-     * Clear all the transactions
+     * Clear all the transactions. Producers may keep submitting while the buffers are drained, so the counters are
+     * decremented per drained transaction rather than reset.
      */
-    synchronized void clear() {
-        bufferedTransactions.clear();
-        priorityBufferedTransactions.clear();
-        bufferedSignatureTransactionCount = 0;
+    void clear() {
+        synchronized (consumerLock) {
+            EventTransaction transaction;
+            while ((transaction = bufferedTransactions.poll()) != null) {
+                recordDiscardedTransaction(transaction);
+            }
+            while ((transaction = priorityBufferedTransactions.poll()) != null) {
+                priorityBufferedTransactionCount.decrementAndGet();
+                recordDiscardedTransaction(transaction);
+            }
+        }
+    }
+
+    /**
+     * Updates the count of buffered signature transactions for a transaction removed from the buffers.
+     *
+     * @param transaction the removed transaction
+     */
+    private void recordDiscardedTransaction(@NonNull final EventTransaction transaction) {
+        if (STATE_SIGNATURE_TRANSACTION.equals(transaction.transaction().kind())) {
+            bufferedSignatureTransactionCount.decrementAndGet();
+        }
     }
 }
@@ -68,6 +68,7 @@ import com.swirlds.platform.system.events.CesEvent;
 import com.swirlds.platform.system.events.ConsensusEvent;
 import com.swirlds.platform.system.state.notifications.NewRecoveredStateListener;
 import com.swirlds.platform.system.state.notifications.NewRecoveredStateNotification;
+import com.swirlds.platform.util.iterator.ReadAheadIterator;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -107,6 +108,8 @@ public final class EventRecoveryWorkflow {
      * @param allowPartialRounds      if true then allow the last round to be missing events, if false then ignore the
      *                                last round if it does not have all of its events
      * @param loadSigningKeys         if true then load the signing keys
+     * @param readAheadFileCount      the number of event stream files to parse in parallel, or 0 to parse files
+     *                                sequentially
      */
     public static void recoverState(
             @NonNull final PlatformContext platformContext,
@@ -118,7 +121,8 @@ public final class EventRecoveryWorkflow {
             @NonNull final Long finalRound,
             @NonNull final Path resultingStateDirectory,
             @NonNull final NodeId selfId,
-            final boolean loadSigningKeys)
+            final boolean loadSigningKeys,
+            final int readAheadFileCount)
             throws IOException {
         Objects.requireNonNull(platformContext);
         Objects.requireNonNull(signedStateFile, "signedStateFile must not be null");
@@ -166,7 +170,11 @@ public final class EventRecoveryWorkflow {
                     RosterRetriever.buildRoster(initialState.get().getAddressBook()),
                     eventStreamDirectory,
                     initialState.get().getRound() + 1,
-                    allowPartialRounds);
+                    allowPartialRounds,
+                    readAheadFileCount > 0
+                            ? ReadAheadIterator.createExecutor("event-stream-recovery", readAheadFileCount)
+                            : null,
+                    readAheadFileCount);
 
             logger.info(STARTUP.getMarker(), "Reapplying transactions");
 
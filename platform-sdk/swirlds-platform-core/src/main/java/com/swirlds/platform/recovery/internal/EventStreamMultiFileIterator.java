@@ -16,10 +16,14 @@
 
 package com.swirlds.platform.recovery.internal;
 
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.CryptographyHolder;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.platform.system.events.CesEvent;
+import com.swirlds.platform.util.iterator.ReadAheadIterator;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -27,6 +31,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * <p>
@@ -43,6 +48,12 @@ import java.util.Objects;
  * (if, for example, a node crashed while writing it). All complete events at the beginning of the file are returned by
  * this iterator.
  * </p>
+ *
+ * <p>
+ * If constructed with an executor, up to {@code readAheadFileCount} files following the current one are parsed in
+ * parallel, and the hash of every event is calculated on the executor threads as well. Validating that files link up
+ * and calculating the running hash still happen in file order, on the thread consuming this iterator.
+ * </p>
  */
 public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
 
@@ -54,6 +65,47 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
     private EventStreamSingleFileIterator eventIterator;
     private long damagedFileCount = 0;
 
+    /**
+     * Reads files ahead of the current file, or null if files are read sequentially on the calling thread.
+     */
+    private final ReadAheadIterator<EventStreamFile, EventStreamFileContents> readAheadFiles;
+
+    /**
+     * The current read-ahead file, or null if no file has been read yet.
+     */
+    private EventStreamFileContents currentContents;
+
+    /**
+     * The index of the next event to return from {@link #currentContents}.
+     */
+    private int currentIndex;
+
+    /**
+     * An event stream file to be read.
+     *
+     * @param path                the path to the file
+     * @param toleratePartialFile true if the file is permitted to end abruptly, i.e. it's the last file
+     */
+    private record EventStreamFile(@NonNull Path path, boolean toleratePartialFile) {}
+
+    /**
+     * The fully parsed contents of a single event stream file.
+     *
+     * @param path      the path to the file
+     * @param startHash the running hash at the start of the file
+     * @param endHash   the running hash at the end of the file, or null if the file is damaged
+     * @param events    the events in the file, with their hashes calculated
+     * @param bytesRead the number of bytes read from the file
+     * @param damaged   true if the file is damaged
+     */
+    private record EventStreamFileContents(
+            @NonNull Path path,
+            @NonNull Hash startHash,
+            @Nullable Hash endHash,
+            @NonNull List<CesEvent> events,
+            long bytesRead,
+            boolean damaged) {}
+
     /**
      * Create an iterator that walks over events in an event stream spanning multiple files, starting from the indicated
      * event stream bound.  The bound must occur in the event stream otherwise a NoSuchElementException will be thrown.
@@ -65,10 +117,51 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
      */
     public EventStreamMultiFileIterator(
             @NonNull final Iterator<Path> fileIterator, @NonNull final EventStreamLowerBound bound) throws IOException {
+        this(fileIterator, bound, null, 0);
+    }
+
+    /**
+     * Create an iterator that walks over events in an event stream spanning multiple files, starting from the indicated
+     * event stream bound, parsing upcoming files in parallel. The bound must occur in the event stream otherwise a
+     * NoSuchElementException will be thrown.
+     *
+     * @param fileIterator       an iterator that returns ordered event stream files
+     * @param bound              the lower bound of the events in the event stream to be walked by this iterator.
+     * @param readAheadExecutor  the executor used to read files ahead of the current file, or null to read files
+     *                           sequentially. The iterator shuts this executor down once all files have been read or
+     *                           the iterator is closed.
+     * @param readAheadFileCount the maximum number of files to read ahead, must be positive if an executor is provided
+     * @throws IOException            if there is a problem reading the event stream
+     * @throws NoSuchElementException if an event prior to or matching the bound can't be found
+     */
+    public EventStreamMultiFileIterator(
+            @NonNull final Iterator<Path> fileIterator,
+            @NonNull final EventStreamLowerBound bound,
+            @Nullable final ExecutorService readAheadExecutor,
+            final int readAheadFileCount)
+            throws IOException {
         Objects.requireNonNull(bound, "the lower bound must not be null");
         this.fileIterator = Objects.requireNonNull(fileIterator, "the file iterator must not be null");
         this.startHash = null;
         this.skippedEvents = new ArrayList<>();
+        this.readAheadFiles = readAheadExecutor == null
+                ? null
+                : new ReadAheadIterator<>(
+                        new Iterator<>() {
+                            @Override
+                            public boolean hasNext() {
+                                return fileIterator.hasNext();
+                            }
+
+                            @Override
+                            public EventStreamFile next() {
+                                final Path path = fileIterator.next();
+                                return new EventStreamFile(path, !fileIterator.hasNext());
+                            }
+                        },
+                        EventStreamMultiFileIterator::readFile,
+                        readAheadExecutor,
+                        readAheadFileCount);
 
         // Remove events from before the requested bound
         while (hasNext() && bound.compareTo(peek()) < 0) {
@@ -89,6 +182,35 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         this(new EventStreamPathIterator(eventStreamDirectory, bound), bound);
     }
 
+    /**
+     * Read and parse a whole event stream file, and calculate the hash of each event in it.
+     *
+     * @param file the file to read
+     * @return the contents of the file
+     * @throws IOException if there is a problem reading the file
+     */
+    @NonNull
+    private static EventStreamFileContents readFile(@NonNull final EventStreamFile file) throws IOException {
+        final Cryptography cryptography = CryptographyHolder.get();
+        final List<CesEvent> events = new ArrayList<>();
+        try (final EventStreamSingleFileIterator iterator =
+                new EventStreamSingleFileIterator(file.path(), file.toleratePartialFile())) {
+            while (iterator.hasNext()) {
+                final CesEvent event = iterator.next();
+                // The running hash must be calculated in order, but event hashes can be calculated in parallel
+                cryptography.digestSync(event);
+                events.add(event);
+            }
+            return new EventStreamFileContents(
+                    file.path(),
+                    iterator.getStartHash(),
+                    iterator.getEndHash(),
+                    events,
+                    iterator.getBytesRead(),
+                    iterator.isDamaged());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -97,6 +219,9 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         if (eventIterator != null) {
             eventIterator.close();
         }
+        if (readAheadFiles != null) {
+            readAheadFiles.close();
+        }
     }
 
     /**
@@ -104,6 +229,9 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
      */
     @Override
     public boolean hasNext() throws IOException {
+        if (readAheadFiles != null) {
+            return hasNextReadAhead();
+        }
         if (eventIterator == null || !eventIterator.hasNext()) {
             if (!fileIterator.hasNext()) {
                 // No more files to open
@@ -137,6 +265,41 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         return true;
     }
 
+    /**
+     * Same as {@link #hasNext()}, but takes the next file from the read-ahead files when the current one is exhausted.
+     */
+    private boolean hasNextReadAhead() throws IOException {
+        if (currentContents == null || currentIndex >= currentContents.events().size()) {
+            if (!readAheadFiles.hasNext()) {
+                // No more files to open
+                return false;
+            }
+
+            final EventStreamFileContents nextContents = readAheadFiles.next();
+            fileCount++;
+            if (currentContents != null) {
+                byteCount += currentContents.bytesRead();
+                if (currentContents.damaged()) {
+                    damagedFileCount++;
+                }
+            }
+            final Hash previousHash = currentContents == null ? null : currentContents.endHash();
+            currentContents = nextContents;
+            currentIndex = 0;
+            if (startHash == null) {
+                // when opening the first file, save the starting hash
+                startHash = nextContents.startHash();
+            }
+
+            if (previousHash != null && !nextContents.startHash().equals(previousHash)) {
+                throw new IOException(
+                        "missing event stream file prior to `%s` detected".formatted(nextContents.path()));
+            }
+        }
+
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -145,6 +308,9 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
+        if (readAheadFiles != null) {
+            return currentContents.events().get(currentIndex);
+        }
         return eventIterator.peek();
     }
 
@@ -156,6 +322,10 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
+        if (readAheadFiles != null) {
+            // release the reference, so returned events can be garbage collected before the whole file is consumed
+            return currentContents.events().set(currentIndex++, null);
+        }
         return eventIterator.next();
     }
 
@@ -187,6 +357,9 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
      * Get the number of bytes read from all files so far.
      */
     public long getBytesRead() {
+        if (readAheadFiles != null) {
+            return byteCount + (currentContents == null ? 0 : currentContents.bytesRead());
+        }
         return byteCount + eventIterator.getBytesRead();
     }
 
@@ -198,6 +371,9 @@ public class EventStreamMultiFileIterator implements IOIterator<CesEvent> {
         if (eventIterator != null && eventIterator.isDamaged()) {
             damageCount++;
         }
+        if (currentContents != null && currentContents.damaged() && currentIndex >= currentContents.events().size()) {
+            damageCount++;
+        }
 
         return damageCount;
     }
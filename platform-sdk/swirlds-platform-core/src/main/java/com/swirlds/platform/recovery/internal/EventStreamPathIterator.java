@@ -16,15 +16,19 @@
 
 package com.swirlds.platform.recovery.internal;
 
+import static com.swirlds.common.stream.LinkedObjectStreamUtilities.getTimeStampFromFileName;
 import static com.swirlds.platform.recovery.internal.EventStreamLowerBound.UNBOUNDED;
 
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.utility.BinarySearch;
 import com.swirlds.platform.system.events.CesEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -57,12 +61,37 @@ public class EventStreamPathIterator implements Iterator<Path> {
      */
     public EventStreamPathIterator(@NonNull final Path eventStreamDirectory, @NonNull final EventStreamLowerBound bound)
             throws IOException {
+        this(eventStreamDirectory, bound, null);
+    }
+
+    /**
+     * Create an iterator that walks over event stream files within a directory, up to an upper timestamp bound.
+     *
+     * @param eventStreamDirectory
+     * 		a directory containing event stream files
+     * @param bound
+     * 		return files guaranteed to contain all the events starting at the lower bound.
+     * 		May return some files that contain data prior the lower bound. Will walk over
+     * 		all event stream files if the lower bound is unbounded.
+     * @param upperTimestampBound
+     * 		if not null, files that only contain events with a consensus timestamp after this bound are not returned.
+     * 		Such files are recognized by their names, without being read. May return some files that contain data
+     * 		after the upper bound.
+     * @throws IOException
+     * 		if there is a problem reading files
+     */
+    public EventStreamPathIterator(
+            @NonNull final Path eventStreamDirectory,
+            @NonNull final EventStreamLowerBound bound,
+            @Nullable final Instant upperTimestampBound)
+            throws IOException {
         Objects.requireNonNull(eventStreamDirectory, "the event stream directory must not be null");
         Objects.requireNonNull(bound, "the lower bound must not be null");
 
         final List<Path> eventStreamFiles = new ArrayList<>();
         try (final Stream<Path> walk = Files.walk(eventStreamDirectory)) {
             walk.filter(EventStreamPathIterator::isFileAnEventStreamFile)
+                    .filter(path -> upperTimestampBound == null || !isFileAfter(path, upperTimestampBound))
                     .sorted(EventStreamPathIterator::compareEventStreamPaths)
                     .forEachOrdered(eventStreamFiles::add);
         }
@@ -72,8 +101,7 @@ public class EventStreamPathIterator implements Iterator<Path> {
             return;
         }
 
-        final CesEvent firstEvent = getFirstEventInEventStreamFile(eventStreamFiles.get(0));
-        if (bound == UNBOUNDED || bound.compareTo(firstEvent) == 0) {
+        if (bound == UNBOUNDED || compareToFirstEvent(bound, eventStreamFiles.get(0)) == 0) {
             // We are attempting to get events from the beginning of the event stream.
             iterator = eventStreamFiles.iterator();
         } else {
@@ -95,7 +123,7 @@ public class EventStreamPathIterator implements Iterator<Path> {
             final int startingIndex =
                     (int) BinarySearch.throwingSearch(0, eventStreamFiles.size(), (final Long index) -> {
                         final Path eventStreamFile = eventStreamFiles.get(index.intValue());
-                        return usedBound.compareTo(getFirstEventInEventStreamFile(eventStreamFile));
+                        return compareToFirstEvent(usedBound, eventStreamFile);
                     });
 
             iterator = eventStreamFiles
@@ -119,6 +147,49 @@ public class EventStreamPathIterator implements Iterator<Path> {
         return path.toString().endsWith(EVENT_FILE_EXTENSION);
     }
 
+    /**
+     * Get the consensus timestamp of the first event in an event stream file from the name of the file. Event stream
+     * files are named after the consensus timestamp of their first event.
+     *
+     * @param path a path to an event stream file
+     * @return the timestamp of the first event in the file, or null if the file name can't be parsed
+     */
+    @Nullable
+    private static Instant getFirstEventTimestamp(@NonNull final Path path) {
+        try {
+            return getTimeStampFromFileName(path.getFileName().toString());
+        } catch (final DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check, based on its name only, if an event stream file only contains events after a given timestamp.
+     */
+    private static boolean isFileAfter(@NonNull final Path path, @NonNull final Instant timestamp) {
+        final Instant firstEventTimestamp = getFirstEventTimestamp(path);
+        return firstEventTimestamp != null && firstEventTimestamp.isAfter(timestamp);
+    }
+
+    /**
+     * Compare a bound to the first event in an event stream file. For timestamp bounds the file name is used, so the
+     * file doesn't need to be read. Otherwise, the first event is read from the file.
+     *
+     * @param bound the bound
+     * @param path  a path to an event stream file
+     * @return the result of comparing the bound to the first event in the file
+     */
+    private static int compareToFirstEvent(@NonNull final EventStreamLowerBound bound, @NonNull final Path path)
+            throws IOException {
+        if (bound instanceof final EventStreamTimestampLowerBound timestampBound) {
+            final Instant firstEventTimestamp = getFirstEventTimestamp(path);
+            if (firstEventTimestamp != null) {
+                return firstEventTimestamp.compareTo(timestampBound.getTimestamp());
+            }
+        }
+        return bound.compareTo(getFirstEventInEventStreamFile(path));
+    }
+
     /**
      * Look inside an event stream file and return the first event
      *
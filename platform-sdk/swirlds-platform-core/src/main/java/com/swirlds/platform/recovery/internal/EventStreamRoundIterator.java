@@ -20,12 +20,14 @@ import com.hedera.hapi.node.state.roster.Roster;
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.platform.system.events.CesEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Takes an iterator that walks over events and returns an iterator that walks over rounds.
@@ -56,12 +58,49 @@ public class EventStreamRoundIterator implements IOIterator<StreamedRound> {
             final long startingRound,
             boolean allowPartialRound)
             throws IOException {
+        this(consensusRoster, eventStreamDirectory, startingRound, allowPartialRound, null, 0);
+    }
+
+    /**
+     * Create a new iterator that walks over rounds, parsing upcoming event stream files in parallel.
+     *
+     * @param consensusRoster      the consensus roster
+     * @param eventStreamDirectory a directory containing event stream files
+     * @param startingRound        the round to start iterating at, or
+     *                             {@link EventStreamPathIterator#FIRST_ROUND_AVAILABLE} if all available rounds should
+     *                             be returned.
+     * @param allowPartialRound    if true then allow the last round to contain just some of the events from that round.
+     *                             If false then do not return a round that does not have all of its events.
+     * @param readAheadExecutor    the executor used to read files ahead of the current file, or null to read files
+     *                             sequentially. Shut down once all files have been read or the iterator is closed.
+     * @param readAheadFileCount   the maximum number of files to read ahead, must be positive if an executor is
+     *                             provided
+     */
+    public EventStreamRoundIterator(
+            @NonNull final Roster consensusRoster,
+            final Path eventStreamDirectory,
+            final long startingRound,
+            boolean allowPartialRound,
+            @Nullable final ExecutorService readAheadExecutor,
+            final int readAheadFileCount)
+            throws IOException {
         this(
                 consensusRoster,
-                new EventStreamMultiFileIterator(eventStreamDirectory, new EventStreamRoundLowerBound(startingRound)),
+                createEventIterator(eventStreamDirectory, startingRound, readAheadExecutor, readAheadFileCount),
                 allowPartialRound);
     }
 
+    private static EventStreamMultiFileIterator createEventIterator(
+            final Path eventStreamDirectory,
+            final long startingRound,
+            @Nullable final ExecutorService readAheadExecutor,
+            final int readAheadFileCount)
+            throws IOException {
+        final EventStreamLowerBound bound = new EventStreamRoundLowerBound(startingRound);
+        return new EventStreamMultiFileIterator(
+                new EventStreamPathIterator(eventStreamDirectory, bound), bound, readAheadExecutor, readAheadFileCount);
+    }
+
     /**
      * Create a new iterator that walks over rounds.
      *
@@ -38,6 +38,16 @@ public class EventStreamTimestampLowerBound implements EventStreamLowerBound {
         this.timestamp = Objects.requireNonNull(timestamp, "timestamp must not be null");
     }
 
+    /**
+     * Get the timestamp of the bound.
+     *
+     * @return the timestamp
+     */
+    @NonNull
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,677 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.sequence.map;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * A lock free implementation of {@link SequenceMap} that stores its entries in flat arrays instead of in a
+ * {@link java.util.HashMap} plus one key set per sequence number.
+ * </p>
+ *
+ * <p>
+ * Entries live in a pool of parallel arrays (key, value, sequence number, hash code and two links), and are found via
+ * an open addressing hash table with linear probing that holds indices into the pool. All entries with the same
+ * sequence number form a doubly linked list through the pool, and the heads of those lists are stored in a ring
+ * indexed by sequence number. Shifting the window only touches the ring slots of the purged sequence numbers, and
+ * freed pool slots are recycled, so after warm up no allocation happens when entries are added or removed.
+ * </p>
+ *
+ * <p>
+ * Key hash codes are computed once, when an entry is added, and are compared before {@link Object#equals(Object)} is
+ * called. Keys are expected to have well distributed hash codes, e.g. a prefix of a cryptographic hash.
+ * </p>
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ */
+public class PrimitiveSequenceMap<K, V> implements SequenceMap<K, V> {
+
+    /**
+     * The maximum supported size of an array is JVM dependant, but it's usually a little smaller than the maximum
+     * integer size. Various sources suggest this is a generally safe value to use.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Marks an empty hash table slot, an empty ring slot, and the end of a linked list.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * The initial number of entries that can be stored before the pool is resized.
+     */
+    private static final int INITIAL_ENTRY_CAPACITY = 64;
+
+    /**
+     * Used to spread hash codes over the hash table (Fibonacci hashing).
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /**
+     * A method that gets the sequence number associated with a given key.
+     */
+    private final ToLongFunction<K> getSequenceNumberFromKey;
+
+    /**
+     * When this object is cleared, the lowest allowed sequence number is reset to this value.
+     */
+    private final long initialFirstSequenceNumber;
+
+    /**
+     * If true, expand when we get a high sequence number that does not fit. If false, reject the element.
+     */
+    private final boolean allowExpansion;
+
+    /**
+     * The smallest allowed sequence number.
+     */
+    private long firstSequenceNumberInWindow;
+
+    /**
+     * The number of sequence numbers in the window, equal to the length of {@link #sequenceHeads}.
+     */
+    private int sequenceNumberCapacity;
+
+    /**
+     * For each sequence number in the window, the pool index of the first entry with that sequence number, or
+     * {@link #NONE}. The sequence number {@code s} is stored at index {@code floorMod(s, sequenceNumberCapacity)}.
+     */
+    private int[] sequenceHeads;
+
+    /**
+     * Open addressing hash table containing pool indices, or {@link #NONE} for empty slots. Its length is a power of
+     * two, and it is never more than half full.
+     */
+    private int[] table;
+
+    /**
+     * The number of bits to shift a spread hash code to the right to get a slot in {@link #table}.
+     */
+    private int tableShift;
+
+    private Object[] keys;
+    private Object[] values;
+    private long[] sequenceNumbers;
+    private int[] hashes;
+
+    /**
+     * The next entry with the same sequence number, or the next free entry if the entry is not in use.
+     */
+    private int[] next;
+
+    /**
+     * The previous entry with the same sequence number, or {@link #NONE} if the entry is the head of its list.
+     */
+    private int[] previous;
+
+    /**
+     * The first free entry that has been used before, or {@link #NONE}.
+     */
+    private int freeHead;
+
+    /**
+     * All entries at or above this index have never been used.
+     */
+    private int highWaterMark;
+
+    /**
+     * The number of entries in the map.
+     */
+    private int size;
+
+    /**
+     * Construct a {@link SequenceMap} that does not permit expansion.
+     *
+     * @param firstSequenceNumberInWindow the lowest allowed sequence number
+     * @param sequenceNumberCapacity      the number of sequence numbers permitted to exist in this data structure. E.g.
+     *                                    if the lowest allowed sequence number is 100 and the capacity is 10, then
+     *                                    values with a sequence number between 100 and 109 (inclusive) will be allowed,
+     *                                    and any value with a sequence number outside that range will be rejected.
+     * @param getSequenceNumberFromKey    a method that extracts the sequence number from a key
+     */
+    public PrimitiveSequenceMap(
+            final long firstSequenceNumberInWindow,
+            final int sequenceNumberCapacity,
+            @NonNull final ToLongFunction<K> getSequenceNumberFromKey) {
+
+        this(firstSequenceNumberInWindow, sequenceNumberCapacity, false, getSequenceNumberFromKey);
+    }
+
+    /**
+     * Construct a {@link SequenceMap}.
+     *
+     * @param firstSequenceNumberInWindow the lowest allowed sequence number
+     * @param sequenceNumberCapacity      the number of sequence numbers permitted to exist in this data structure. E.g.
+     *                                    if the lowest allowed sequence number is 100 and the capacity is 10, then
+     *                                    values with a sequence number between 100 and 109 (inclusive) will be allowed,
+     *                                    and any value with a sequence number outside that range will be rejected.
+     * @param allowExpansion              if true, then instead of rejecting elements with a sequence number higher than
+     *                                    the allowed by the current capacity, increase capacity and then insert the
+     *                                    element. Does not expand if the sequence number is too low to fit in the
+     *                                    current capacity.
+     * @param getSequenceNumberFromKey    a method that extracts the sequence number from a key
+     */
+    public PrimitiveSequenceMap(
+            final long firstSequenceNumberInWindow,
+            final int sequenceNumberCapacity,
+            final boolean allowExpansion,
+            @NonNull final ToLongFunction<K> getSequenceNumberFromKey) {
+
+        if (sequenceNumberCapacity <= 0) {
+            throw new IllegalArgumentException("sequence number capacity must be positive");
+        }
+
+        this.initialFirstSequenceNumber = firstSequenceNumberInWindow;
+        this.firstSequenceNumberInWindow = firstSequenceNumberInWindow;
+        this.sequenceNumberCapacity = sequenceNumberCapacity;
+        this.allowExpansion = allowExpansion;
+        this.getSequenceNumberFromKey = Objects.requireNonNull(getSequenceNumberFromKey);
+
+        sequenceHeads = new int[sequenceNumberCapacity];
+        Arrays.fill(sequenceHeads, NONE);
+
+        allocateTable(INITIAL_ENTRY_CAPACITY * 2);
+
+        keys = new Object[INITIAL_ENTRY_CAPACITY];
+        values = new Object[INITIAL_ENTRY_CAPACITY];
+        sequenceNumbers = new long[INITIAL_ENTRY_CAPACITY];
+        hashes = new int[INITIAL_ENTRY_CAPACITY];
+        next = new int[INITIAL_ENTRY_CAPACITY];
+        previous = new int[INITIAL_ENTRY_CAPACITY];
+        freeHead = NONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final K key) {
+        final int entry = findEntry(key, key.hashCode());
+        return entry == NONE ? null : (V) values[entry];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(final K key) {
+        return findEntry(key, key.hashCode()) != NONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            final boolean added = putIfAbsent(key, value);
+            if (!added) {
+                value = null;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean putIfAbsent(final K key, final V value) {
+        final long sequenceNumber = getSequenceNumberFromKey.applyAsLong(key);
+        if (!fitsInWindow(sequenceNumber)) {
+            return false;
+        }
+
+        final int hash = key.hashCode();
+        if (findEntry(key, hash) != NONE) {
+            // don't re-insert if the value is already present
+            return false;
+        }
+
+        addEntry(key, value, sequenceNumber, hash);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(final K key, final V value) {
+        final long sequenceNumber = getSequenceNumberFromKey.applyAsLong(key);
+        if (!fitsInWindow(sequenceNumber)) {
+            return null;
+        }
+
+        final int hash = key.hashCode();
+        final int entry = findEntry(key, hash);
+        if (entry != NONE) {
+            final V previousValue = (V) values[entry];
+            values[entry] = value;
+            return previousValue;
+        }
+
+        addEntry(key, value, sequenceNumber, hash);
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final K key) {
+        if (!isInWindow(getSequenceNumberFromKey.applyAsLong(key))) {
+            return null;
+        }
+
+        final int entry = findEntry(key, key.hashCode());
+        if (entry == NONE) {
+            return null;
+        }
+
+        final V value = (V) values[entry];
+        unlinkEntry(entry);
+        removeFromTable(entry);
+        freeEntry(entry);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shiftWindow(final long firstSequenceNumberInWindow, final BiConsumer<K, V> removedValueHandler) {
+        final long previousFirstSequenceNumber = this.firstSequenceNumberInWindow;
+        if (firstSequenceNumberInWindow < previousFirstSequenceNumber) {
+            throw new IllegalStateException(
+                    "Window can only be shifted towards larger value. Current lowest sequence number = "
+                            + previousFirstSequenceNumber + ", requested lowest sequence number = "
+                            + firstSequenceNumberInWindow);
+        }
+        this.firstSequenceNumberInWindow = firstSequenceNumberInWindow;
+
+        // Sequence numbers beyond the previous window can't have any entries
+        final long purgeLimit =
+                Math.min(firstSequenceNumberInWindow, previousFirstSequenceNumber + sequenceNumberCapacity);
+        for (long sequenceNumber = previousFirstSequenceNumber; sequenceNumber < purgeLimit; sequenceNumber++) {
+            removeSequenceList(getSequenceIndex(sequenceNumber), removedValueHandler);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeValuesWithSequenceNumber(final long sequenceNumber, final BiConsumer<K, V> removedValueHandler) {
+        if (isInWindow(sequenceNumber)) {
+            removeSequenceList(getSequenceIndex(sequenceNumber), removedValueHandler);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<K> getKeysWithSequenceNumber(final long sequenceNumber) {
+        final List<K> list = new ArrayList<>();
+        if (isInWindow(sequenceNumber)) {
+            for (int entry = sequenceHeads[getSequenceIndex(sequenceNumber)]; entry != NONE; entry = next[entry]) {
+                list.add((K) keys[entry]);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map.Entry<K, V>> getEntriesWithSequenceNumber(final long sequenceNumber) {
+        final List<Map.Entry<K, V>> list = new ArrayList<>();
+        if (isInWindow(sequenceNumber)) {
+            for (int entry = sequenceHeads[getSequenceIndex(sequenceNumber)]; entry != NONE; entry = next[entry]) {
+                list.add(new AbstractMap.SimpleEntry<>((K) keys[entry], (V) values[entry]));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getFirstSequenceNumberInWindow() {
+        return firstSequenceNumberInWindow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSequenceNumberCapacity() {
+        return sequenceNumberCapacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        firstSequenceNumberInWindow = initialFirstSequenceNumber;
+        Arrays.fill(sequenceHeads, NONE);
+        Arrays.fill(table, NONE);
+        Arrays.fill(keys, 0, highWaterMark, null);
+        Arrays.fill(values, 0, highWaterMark, null);
+        freeHead = NONE;
+        highWaterMark = 0;
+        size = 0;
+    }
+
+    /**
+     * Check if a sequence number is inside the current window.
+     *
+     * @param sequenceNumber the sequence number in question
+     * @return true if the sequence number is inside the window
+     */
+    private boolean isInWindow(final long sequenceNumber) {
+        // the difference is compared as an unsigned value, so that it is correct even if the subtraction overflows
+        return sequenceNumber >= firstSequenceNumberInWindow
+                && Long.compareUnsigned(sequenceNumber - firstSequenceNumberInWindow, sequenceNumberCapacity) < 0;
+    }
+
+    /**
+     * Check if a sequence number is inside the current window, expanding the window if that is permitted and
+     * required.
+     *
+     * @param sequenceNumber the sequence number in question
+     * @return true if the sequence number is inside the window, false if it must be rejected
+     */
+    private boolean fitsInWindow(final long sequenceNumber) {
+        if (isInWindow(sequenceNumber)) {
+            return true;
+        }
+        if (allowExpansion && sequenceNumber > firstSequenceNumberInWindow) {
+            expandCapacity(sequenceNumber);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the ring index for a given sequence number and current capacity.
+     *
+     * @param sequenceNumber the sequence number in question
+     * @return the index of the sequence number in {@link #sequenceHeads}
+     */
+    private int getSequenceIndex(final long sequenceNumber) {
+        return (int) Math.floorMod(sequenceNumber, (long) sequenceNumberCapacity);
+    }
+
+    /**
+     * Get the preferred hash table slot for a hash code.
+     *
+     * @param hash the hash code of a key
+     * @return the first slot to probe
+     */
+    private int getTableIndex(final int hash) {
+        return (hash * HASH_MULTIPLIER) >>> tableShift;
+    }
+
+    /**
+     * Find the pool index of the entry with the given key.
+     *
+     * @param key  the key
+     * @param hash the hash code of the key
+     * @return the pool index, or {@link #NONE} if the key is not in the map
+     */
+    private int findEntry(@NonNull final K key, final int hash) {
+        final int mask = table.length - 1;
+        for (int slot = getTableIndex(hash); ; slot = (slot + 1) & mask) {
+            final int entry = table[slot];
+            if (entry == NONE) {
+                return NONE;
+            }
+            if (hashes[entry] == hash && key.equals(keys[entry])) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * Add a new entry. The caller must ensure that the key is not in the map and that the sequence number is inside
+     * the window.
+     */
+    private void addEntry(@NonNull final K key, final V value, final long sequenceNumber, final int hash) {
+        if ((size + 1) * 2 > table.length) {
+            resizeTable(table.length * 2);
+        }
+
+        final int entry = allocateEntry();
+        keys[entry] = key;
+        values[entry] = value;
+        sequenceNumbers[entry] = sequenceNumber;
+        hashes[entry] = hash;
+
+        final int sequenceIndex = getSequenceIndex(sequenceNumber);
+        final int head = sequenceHeads[sequenceIndex];
+        next[entry] = head;
+        previous[entry] = NONE;
+        if (head != NONE) {
+            previous[head] = entry;
+        }
+        sequenceHeads[sequenceIndex] = entry;
+
+        final int mask = table.length - 1;
+        int slot = getTableIndex(hash);
+        while (table[slot] != NONE) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry;
+        size++;
+    }
+
+    /**
+     * Take an entry from the free list, or from the unused part of the pool, growing the pool if it is full.
+     *
+     * @return the pool index of the entry
+     */
+    private int allocateEntry() {
+        if (freeHead != NONE) {
+            final int entry = freeHead;
+            freeHead = next[entry];
+            return entry;
+        }
+        if (highWaterMark == keys.length) {
+            final int newLength = keys.length * 2;
+            keys = Arrays.copyOf(keys, newLength);
+            values = Arrays.copyOf(values, newLength);
+            sequenceNumbers = Arrays.copyOf(sequenceNumbers, newLength);
+            hashes = Arrays.copyOf(hashes, newLength);
+            next = Arrays.copyOf(next, newLength);
+            previous = Arrays.copyOf(previous, newLength);
+        }
+        return highWaterMark++;
+    }
+
+    /**
+     * Return an entry to the free list. The entry must already be unlinked and removed from the hash table.
+     *
+     * @param entry the pool index of the entry
+     */
+    private void freeEntry(final int entry) {
+        keys[entry] = null;
+        values[entry] = null;
+        next[entry] = freeHead;
+        freeHead = entry;
+        size--;
+    }
+
+    /**
+     * Remove an entry from the list of entries with the same sequence number.
+     *
+     * @param entry the pool index of the entry
+     */
+    private void unlinkEntry(final int entry) {
+        final int nextEntry = next[entry];
+        final int previousEntry = previous[entry];
+        if (previousEntry == NONE) {
+            sequenceHeads[getSequenceIndex(sequenceNumbers[entry])] = nextEntry;
+        } else {
+            next[previousEntry] = nextEntry;
+        }
+        if (nextEntry != NONE) {
+            previous[nextEntry] = previousEntry;
+        }
+    }
+
+    /**
+     * Remove an entry from the hash table. Entries later in the same probe sequence are shifted back, so that lookups
+     * never need to skip over deleted slots.
+     *
+     * @param entry the pool index of the entry
+     */
+    private void removeFromTable(final int entry) {
+        final int mask = table.length - 1;
+        int hole = getTableIndex(hashes[entry]);
+        while (table[hole] != entry) {
+            hole = (hole + 1) & mask;
+        }
+
+        for (int slot = (hole + 1) & mask; table[slot] != NONE; slot = (slot + 1) & mask) {
+            final int candidate = table[slot];
+            final int preferredSlot = getTableIndex(hashes[candidate]);
+            // The candidate may fill the hole if its preferred slot is not between the hole and its current slot
+            if (((slot - preferredSlot) & mask) >= ((slot - hole) & mask)) {
+                table[hole] = candidate;
+                hole = slot;
+            }
+        }
+        table[hole] = NONE;
+    }
+
+    /**
+     * Remove all entries in a ring slot.
+     *
+     * @param sequenceIndex       the index in {@link #sequenceHeads}
+     * @param removedValueHandler passed each key/value pair that is removed, ignored if null
+     */
+    @SuppressWarnings("unchecked")
+    private void removeSequenceList(final int sequenceIndex, final BiConsumer<K, V> removedValueHandler) {
+        int entry = sequenceHeads[sequenceIndex];
+        sequenceHeads[sequenceIndex] = NONE;
+        while (entry != NONE) {
+            final int nextEntry = next[entry];
+            final K key = (K) keys[entry];
+            final V value = (V) values[entry];
+            removeFromTable(entry);
+            freeEntry(entry);
+            if (removedValueHandler != null) {
+                removedValueHandler.accept(key, value);
+            }
+            entry = nextEntry;
+        }
+    }
+
+    /**
+     * Rebuild the hash table with a new length.
+     *
+     * @param newLength the new length, must be a power of two
+     */
+    private void resizeTable(final int newLength) {
+        if (newLength <= 0) {
+            throw new IllegalStateException("Cannot expand hash table beyond " + table.length);
+        }
+        final int[] oldTable = table;
+        allocateTable(newLength);
+        final int mask = newLength - 1;
+        for (final int entry : oldTable) {
+            if (entry != NONE) {
+                int slot = getTableIndex(hashes[entry]);
+                while (table[slot] != NONE) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = entry;
+            }
+        }
+    }
+
+    /**
+     * Replace the hash table with an empty table.
+     *
+     * @param length the length of the new table, must be a power of two
+     */
+    private void allocateTable(final int length) {
+        table = new int[length];
+        Arrays.fill(table, NONE);
+        tableShift = Integer.numberOfLeadingZeros(length) + 1;
+    }
+
+    /**
+     * Expand the capacity so that we fit the required sequence number.
+     *
+     * @param requiredSequenceNumber the sequence number that we need to fit into this structure
+     */
+    private void expandCapacity(final long requiredSequenceNumber) {
+        final int oldCapacity = sequenceNumberCapacity;
+        final long minimumCapacity = requiredSequenceNumber - firstSequenceNumberInWindow;
+        if (minimumCapacity < 0) {
+            // this can only happen if we get integer overflow
+            throw new IllegalStateException("Cannot expand capacity beyond " + MAX_ARRAY_SIZE);
+        } else if (minimumCapacity < MAX_ARRAY_SIZE / 2 - 1) {
+            sequenceNumberCapacity = (int) (minimumCapacity * 2);
+        } else if (minimumCapacity < MAX_ARRAY_SIZE) {
+            sequenceNumberCapacity = MAX_ARRAY_SIZE;
+        } else {
+            throw new IllegalStateException("Cannot expand capacity beyond " + MAX_ARRAY_SIZE);
+        }
+
+        final int[] oldHeads = sequenceHeads;
+        sequenceHeads = new int[sequenceNumberCapacity];
+        Arrays.fill(sequenceHeads, NONE);
+        for (int offset = 0; offset < oldCapacity; offset++) {
+            final long sequenceNumber = firstSequenceNumberInWindow + offset;
+            sequenceHeads[getSequenceIndex(sequenceNumber)] =
+                    oldHeads[(int) Math.floorMod(sequenceNumber, (long) oldCapacity)];
+        }
+    }
+}
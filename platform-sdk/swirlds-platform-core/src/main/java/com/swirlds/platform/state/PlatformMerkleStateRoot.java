@@ -25,6 +25,7 @@ import com.hedera.hapi.node.base.SemanticVersion;
 import com.hedera.hapi.platform.state.PlatformState;
 import com.swirlds.common.constructable.ConstructableIgnored;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.platform.config.StateConfig;
 import com.swirlds.platform.state.service.PlatformStateService;
 import com.swirlds.platform.state.service.ReadablePlatformStateStore;
 import com.swirlds.platform.state.service.SnapshotPlatformStateAccessor;
@@ -109,7 +110,11 @@ public class PlatformMerkleStateRoot extends MerkleStateRoot<PlatformMerkleState
             @NonNull final InitTrigger trigger,
             @Nullable final SoftwareVersion deserializedVersion) {
         final PlatformContext platformContext = platform.getContext();
-        super.init(platformContext.getTime(), platformContext.getMetrics(), platformContext.getMerkleCryptography());
+        super.init(
+                platformContext.getTime(),
+                platformContext.getMetrics(),
+                platformContext.getMerkleCryptography(),
+                platformContext.getConfiguration().getConfigData(StateConfig.class).onDiskValueCacheMaxBytes());
 
         // If we are initialized for event stream recovery, we have to register an
         // extra listener to make sure we call all the required Hedera lifecycles
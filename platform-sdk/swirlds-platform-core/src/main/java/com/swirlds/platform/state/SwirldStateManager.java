@@ -20,6 +20,7 @@ import static com.swirlds.platform.state.SwirldStateManagerUtils.fastCopy;
 
 import com.hedera.hapi.node.state.roster.Roster;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.jfr.RoundHandleJfrEvent;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.platform.FreezePeriodChecker;
 import com.swirlds.platform.internal.ConsensusRound;
@@ -125,8 +126,11 @@ public class SwirldStateManager implements FreezePeriodChecker {
     public void handleConsensusRound(final ConsensusRound round) {
         final MerkleRoot state = stateRef.get();
 
+        final RoundHandleJfrEvent jfrEvent = new RoundHandleJfrEvent();
+        jfrEvent.begin();
         uptimeTracker.handleRound(round);
         transactionHandler.handleRound(round, state);
+        jfrEvent.commit(round.getRoundNum(), round.getEventCount(), round.getNumAppTransactions());
     }
 
     /**
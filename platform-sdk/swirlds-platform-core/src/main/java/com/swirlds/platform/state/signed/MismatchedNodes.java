@@ -25,6 +25,9 @@ import com.swirlds.common.formatting.TextTable;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.route.MerkleRoute;
 import com.swirlds.common.merkle.route.MerkleRouteUtils;
+import com.swirlds.virtualmap.internal.merkle.VirtualLeafNode;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * A pair of mismatched nodes. Nodes may be null.
@@ -33,8 +36,32 @@ import com.swirlds.common.merkle.route.MerkleRouteUtils;
  * 		the node from tree A
  * @param nodeB
  * 		the node from tree B
+ * @param label
+ * 		the label of the virtual map that contains the nodes, or null if unknown or not inside a virtual map
  */
-public record MismatchedNodes(MerkleNode nodeA, MerkleNode nodeB) {
+public record MismatchedNodes(MerkleNode nodeA, MerkleNode nodeB, @Nullable String label) {
+
+    /**
+     * Create a pair of mismatched nodes that are not known to be inside a virtual map.
+     *
+     * @param nodeA
+     * 		the node from tree A
+     * @param nodeB
+     * 		the node from tree B
+     */
+    public MismatchedNodes(final MerkleNode nodeA, final MerkleNode nodeB) {
+        this(nodeA, nodeB, null);
+    }
+
+    /**
+     * Get the route of the mismatched nodes.
+     *
+     * @return the route of whichever node is not null
+     */
+    @NonNull
+    public MerkleRoute route() {
+        return nodeA == null ? nodeB.getRoute() : nodeA.getRoute();
+    }
 
     /**
      * Append information describing the differences in the nodes to a string builder.
@@ -43,7 +70,7 @@ public record MismatchedNodes(MerkleNode nodeA, MerkleNode nodeB) {
      * 		the table where we are adding data
      */
     public void appendNodeDescriptions(final TextTable table) {
-        final MerkleRoute route = nodeA == null ? nodeB.getRoute() : nodeA.getRoute();
+        final MerkleRoute route = route();
 
         final String stepString;
         if (route.isEmpty()) {
@@ -90,4 +117,35 @@ public record MismatchedNodes(MerkleNode nodeA, MerkleNode nodeB) {
 
         table.addRow(firstColumn, formattedRouteString, formattedNodeAString, formattedNodeBString);
     }
+
+    /**
+     * Append a row describing the contents of the mismatched nodes to a table. Virtual leaves are described by their
+     * key and value, which for service state are the decoded business objects.
+     *
+     * @param table
+     * 		the table where we are adding data
+     */
+    public void appendLeafValues(final TextTable table) {
+        final String routeString = MerkleRouteUtils.merkleRouteToPathFormat(route());
+        table.addRow(
+                BRIGHT_CYAN.apply(label == null ? "" : label),
+                BRIGHT_RED.apply(routeString),
+                GRAY.apply(describeContents(nodeA)),
+                GRAY.apply(describeContents(nodeB)));
+    }
+
+    /**
+     * Describe the contents of a node.
+     */
+    private static String describeContents(final MerkleNode node) {
+        if (node == null) {
+            return "null";
+        } else if (node instanceof final VirtualLeafNode<?, ?> leaf) {
+            return leaf.getKey() + " -> " + leaf.getValue();
+        } else if (node.isLeaf()) {
+            return node.toString();
+        } else {
+            return node.getClass().getSimpleName();
+        }
+    }
 }
@@ -0,0 +1,415 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.state.signed;
+
+import static com.swirlds.logging.legacy.LogMarker.CLI;
+
+import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.route.MerkleRoute;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * Finds the differences between two hashed merkle trees on multiple threads. Both trees are descended at the same
+ * time, node by node, and any pair of subtrees with matching hashes is skipped without being visited.
+ * </p>
+ *
+ * <p>
+ * Virtual maps are compared path by path, using the hashes stored in their node caches and data sources. No merkle
+ * nodes are created for the parts of a virtual map that are visited, and leaves are only loaded if they differ. Only
+ * differing leaves (and places where the shapes of the two virtual trees differ) are reported from inside virtual maps.
+ * Outside of virtual maps, every node with a different hash is reported, like
+ * {@link SignedStateComparison#mismatchedNodeIterator(MerkleNode, MerkleNode, boolean)} does.
+ * </p>
+ *
+ * <p>
+ * Progress is logged periodically while the comparison runs, and the number of nodes compared, subtrees skipped, and
+ * differences found are available when it finishes.
+ * </p>
+ */
+public final class ParallelStateComparison {
+
+    private static final Logger logger = LogManager.getLogger(ParallelStateComparison.class);
+
+    /**
+     * Virtual subtrees rooted at or above this path are compared as separate tasks. Deeper subtrees are compared on
+     * the thread that reached them, there are enough tasks by then to keep all threads busy.
+     */
+    private static final long VIRTUAL_FORK_PATH_LIMIT = 1L << 16;
+
+    /**
+     * Check whether progress should be logged every time this many more nodes have been compared.
+     */
+    private static final long PROGRESS_CHECK_MASK = (1L << 14) - 1;
+
+    /**
+     * Orders mismatches the same way a pre-ordered depth first traversal would visit them.
+     */
+    private static final Comparator<MismatchedNodes> PRE_ORDER = (a, b) -> {
+        final MerkleRoute routeA = a.route();
+        final MerkleRoute routeB = b.route();
+        final int comparison = routeA.compareTo(routeB);
+        return comparison != 0 ? comparison : Integer.compare(routeA.size(), routeB.size());
+    };
+
+    private final int parallelism;
+    private final boolean deep;
+    private final Duration progressInterval;
+
+    private final AtomicLong nodesCompared = new AtomicLong();
+    private final AtomicLong subtreesSkipped = new AtomicLong();
+    private final AtomicLong mismatchesFound = new AtomicLong();
+    private final AtomicLong nextProgressReport = new AtomicLong();
+    private long startTime;
+    private Duration elapsedTime = Duration.ZERO;
+
+    /**
+     * Constructor.
+     *
+     * @param parallelism      the number of threads to compare on
+     * @param deep             if true then descend into subtrees even if their hashes match. This is only needed if
+     *                         there are internal node hashes that are incorrect, and takes significantly longer.
+     * @param progressInterval how often to log progress
+     */
+    public ParallelStateComparison(
+            final int parallelism, final boolean deep, @NonNull final Duration progressInterval) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.deep = deep;
+        this.progressInterval = Objects.requireNonNull(progressInterval);
+    }
+
+    /**
+     * Compare two trees and collect all differences.
+     *
+     * @param rootA the root of tree A, must be hashed
+     * @param rootB the root of tree B, must be hashed
+     * @return the differences, in pre-ordered depth first order
+     */
+    @NonNull
+    public List<MismatchedNodes> compare(@Nullable final MerkleNode rootA, @Nullable final MerkleNode rootB) {
+        final ConcurrentLinkedQueue<MismatchedNodes> mismatches = new ConcurrentLinkedQueue<>();
+        compare(rootA, rootB, mismatches::add);
+        final List<MismatchedNodes> sorted = new ArrayList<>(mismatches);
+        sorted.sort(PRE_ORDER);
+        return sorted;
+    }
+
+    /**
+     * Compare two trees and pass each difference to a consumer as soon as it is found. Differences are found in no
+     * particular order.
+     *
+     * @param rootA    the root of tree A, must be hashed
+     * @param rootB    the root of tree B, must be hashed
+     * @param consumer receives differences, called on multiple threads concurrently
+     */
+    public void compare(
+            @Nullable final MerkleNode rootA,
+            @Nullable final MerkleNode rootB,
+            @NonNull final Consumer<MismatchedNodes> consumer) {
+        Objects.requireNonNull(consumer);
+        nodesCompared.set(0);
+        subtreesSkipped.set(0);
+        mismatchesFound.set(0);
+        startTime = System.nanoTime();
+        nextProgressReport.set(startTime + progressInterval.toNanos());
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new NodeComparison(rootA, rootB, null, consumer));
+        } finally {
+            pool.shutdown();
+            elapsedTime = Duration.ofNanos(System.nanoTime() - startTime);
+        }
+
+        logger.info(
+                CLI.getMarker(),
+                "Compared {} nodes in {} ms ({} nodes/s), skipped {} matching subtrees, found {} differences",
+                nodesCompared.get(),
+                elapsedTime.toMillis(),
+                nodesPerSecond(nodesCompared.get(), elapsedTime),
+                subtreesSkipped.get(),
+                mismatchesFound.get());
+    }
+
+    /**
+     * Get the number of node pairs compared by the last comparison.
+     *
+     * @return the number of nodes compared
+     */
+    public long getNodesCompared() {
+        return nodesCompared.get();
+    }
+
+    /**
+     * Get the number of subtrees that were skipped by the last comparison because their hashes matched.
+     *
+     * @return the number of skipped subtrees
+     */
+    public long getSubtreesSkipped() {
+        return subtreesSkipped.get();
+    }
+
+    /**
+     * Get the number of differences found by the last comparison.
+     *
+     * @return the number of differences
+     */
+    public long getMismatchesFound() {
+        return mismatchesFound.get();
+    }
+
+    /**
+     * Get how long the last comparison took.
+     *
+     * @return the duration of the last comparison
+     */
+    @NonNull
+    public Duration getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Compare two nodes that are at the same position in both trees, and all of their descendants.
+     */
+    private void compareNodes(
+            @Nullable final MerkleNode nodeA,
+            @Nullable final MerkleNode nodeB,
+            @Nullable final String label,
+            @NonNull final Consumer<MismatchedNodes> consumer) {
+        if (nodeA == null && nodeB == null) {
+            return;
+        }
+        recordComparison();
+
+        final boolean hashesMatch = getNodeHash(nodeA).equals(getNodeHash(nodeB));
+        if (nodeA == null
+                || nodeB == null
+                || nodeA.isLeaf()
+                || nodeB.isLeaf()
+                || nodeA.getClassId() != nodeB.getClassId()) {
+            // There is no point in descending if the nodes are incapable of having matching descendants
+            if (!hashesMatch) {
+                report(nodeA, nodeB, label, consumer);
+            }
+            return;
+        }
+
+        if (hashesMatch && !deep) {
+            subtreesSkipped.incrementAndGet();
+            return;
+        }
+        if (!hashesMatch) {
+            report(nodeA, nodeB, label, consumer);
+        }
+
+        if (nodeA instanceof final VirtualRootNode<?, ?> virtualA) {
+            final VirtualRootNode<?, ?> virtualB = nodeB.cast();
+            ForkJoinTask.invokeAll(
+                    new VirtualComparison(virtualA, virtualB, 1, label, consumer),
+                    new VirtualComparison(virtualA, virtualB, 2, label, consumer));
+            return;
+        }
+
+        final String childLabel = nodeA instanceof final VirtualMap<?, ?> map ? map.getLabel() : label;
+        final MerkleInternal internalA = nodeA.asInternal();
+        final MerkleInternal internalB = nodeB.asInternal();
+        final int childCountA = internalA.getNumberOfChildren();
+        final int childCountB = internalB.getNumberOfChildren();
+        final List<NodeComparison> children = new ArrayList<>(Math.max(childCountA, childCountB));
+        for (int index = 0; index < Math.max(childCountA, childCountB); index++) {
+            final MerkleNode childA = index < childCountA ? internalA.getChild(index) : null;
+            final MerkleNode childB = index < childCountB ? internalB.getChild(index) : null;
+            children.add(new NodeComparison(childA, childB, childLabel, consumer));
+        }
+        ForkJoinTask.invokeAll(children);
+    }
+
+    /**
+     * Compare the nodes at a given path in two virtual trees, and all of their descendants.
+     */
+    private void compareVirtualPath(
+            @NonNull final VirtualRootNode<?, ?> rootA,
+            @NonNull final VirtualRootNode<?, ?> rootB,
+            final long path,
+            @Nullable final String label,
+            @NonNull final Consumer<MismatchedNodes> consumer) {
+
+        final boolean internalA = path < rootA.getFirstLeafPath();
+        final boolean internalB = path < rootB.getFirstLeafPath();
+        final boolean presentA = internalA || path <= rootA.getLastLeafPath();
+        final boolean presentB = internalB || path <= rootB.getLastLeafPath();
+        if (!presentA && !presentB) {
+            return;
+        }
+        recordComparison();
+
+        final Hash hashA = presentA ? rootA.loadHash(path) : null;
+        final Hash hashB = presentB ? rootB.loadHash(path) : null;
+        final boolean hashesMatch = Objects.equals(hashA, hashB);
+
+        if (internalA && internalB) {
+            if (hashesMatch && !deep) {
+                subtreesSkipped.incrementAndGet();
+                return;
+            }
+            final long leftPath = 2 * path + 1;
+            final long rightPath = leftPath + 1;
+            if (path < VIRTUAL_FORK_PATH_LIMIT) {
+                ForkJoinTask.invokeAll(
+                        new VirtualComparison(rootA, rootB, leftPath, label, consumer),
+                        new VirtualComparison(rootA, rootB, rightPath, label, consumer));
+            } else {
+                compareVirtualPath(rootA, rootB, leftPath, label, consumer);
+                compareVirtualPath(rootA, rootB, rightPath, label, consumer);
+            }
+        } else if (!hashesMatch || internalA != internalB) {
+            report(rootA.loadNode(path), rootB.loadNode(path), label, consumer);
+        }
+    }
+
+    /**
+     * Report a difference.
+     */
+    private void report(
+            @Nullable final MerkleNode nodeA,
+            @Nullable final MerkleNode nodeB,
+            @Nullable final String label,
+            @NonNull final Consumer<MismatchedNodes> consumer) {
+        mismatchesFound.incrementAndGet();
+        consumer.accept(new MismatchedNodes(nodeA, nodeB, label));
+    }
+
+    /**
+     * Count a comparison, and log progress if it is time to do so.
+     */
+    private void recordComparison() {
+        final long count = nodesCompared.incrementAndGet();
+        if ((count & PROGRESS_CHECK_MASK) != 0) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final long next = nextProgressReport.get();
+        if (now >= next && nextProgressReport.compareAndSet(next, now + progressInterval.toNanos())) {
+            final Duration elapsed = Duration.ofNanos(now - startTime);
+            logger.info(
+                    CLI.getMarker(),
+                    "Compared {} nodes so far ({} nodes/s), skipped {} matching subtrees, found {} differences",
+                    count,
+                    nodesPerSecond(count, elapsed),
+                    subtreesSkipped.get(),
+                    mismatchesFound.get());
+        }
+    }
+
+    /**
+     * Get the hash of a node. If the node is null then return the hash of null.
+     */
+    @NonNull
+    private static Hash getNodeHash(@Nullable final MerkleNode node) {
+        if (node == null) {
+            return CryptographyHolder.get().getNullHash();
+        }
+        final Hash hash = node.getHash();
+        if (hash == null) {
+            throw new IllegalStateException(
+                    "Node " + node.getClass().getName() + " at position " + node.getRoute() + " is unhashed");
+        }
+        return hash;
+    }
+
+    private static long nodesPerSecond(final long nodes, @NonNull final Duration elapsed) {
+        final long nanos = Math.max(1, elapsed.toNanos());
+        return (long) (nodes * 1_000_000_000.0 / nanos);
+    }
+
+    /**
+     * Compares a pair of nodes from the two trees.
+     */
+    private final class NodeComparison extends RecursiveAction {
+        private final MerkleNode nodeA;
+        private final MerkleNode nodeB;
+        private final String label;
+        private final Consumer<MismatchedNodes> consumer;
+
+        NodeComparison(
+                @Nullable final MerkleNode nodeA,
+                @Nullable final MerkleNode nodeB,
+                @Nullable final String label,
+                @NonNull final Consumer<MismatchedNodes> consumer) {
+            this.nodeA = nodeA;
+            this.nodeB = nodeB;
+            this.label = label;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            compareNodes(nodeA, nodeB, label, consumer);
+        }
+    }
+
+    /**
+     * Compares the nodes at a path in a pair of virtual trees.
+     */
+    private final class VirtualComparison extends RecursiveAction {
+        private final VirtualRootNode<?, ?> rootA;
+        private final VirtualRootNode<?, ?> rootB;
+        private final long path;
+        private final String label;
+        private final Consumer<MismatchedNodes> consumer;
+
+        VirtualComparison(
+                @NonNull final VirtualRootNode<?, ?> rootA,
+                @NonNull final VirtualRootNode<?, ?> rootB,
+                final long path,
+                @Nullable final String label,
+                @NonNull final Consumer<MismatchedNodes> consumer) {
+            this.rootA = rootA;
+            this.rootB = rootB;
+            this.path = path;
+            this.label = label;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            compareVirtualPath(rootA, rootB, path, label, consumer);
+        }
+    }
+}
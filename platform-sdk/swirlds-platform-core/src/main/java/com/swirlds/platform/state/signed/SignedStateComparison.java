@@ -187,4 +187,34 @@ public final class SignedStateComparison {
                     + ".");
         }
     }
+
+    /**
+     * Print to standard out the contents of mismatched nodes, e.g. the keys and values of differing virtual map leaves.
+     *
+     * @param mismatches
+     * 		the mismatched nodes
+     * @param limit
+     * 		the maximum number of nodes to print
+     */
+    public static void printMismatchedValues(final List<MismatchedNodes> mismatches, final int limit) {
+        final TextTable table =
+                new TextTable().setBordersEnabled(false).setExtraPadding(3).addRow("", "", "State A", "State B");
+
+        int count = 0;
+        for (final MismatchedNodes mismatch : mismatches) {
+            final boolean internalA = mismatch.nodeA() != null && !mismatch.nodeA().isLeaf();
+            final boolean internalB = mismatch.nodeB() != null && !mismatch.nodeB().isLeaf();
+            if (internalA || internalB) {
+                continue;
+            }
+            if (++count > limit) {
+                break;
+            }
+            mismatch.appendLeafValues(table);
+        }
+
+        if (count > 0) {
+            System.out.println(table.render());
+        }
+    }
 }
@@ -19,6 +19,7 @@ package com.swirlds.platform.state.signer;
 import com.hedera.hapi.platform.event.StateSignatureTransaction;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.jfr.StateSigningJfrEvent;
 import com.swirlds.platform.crypto.PlatformSigner;
 import com.swirlds.platform.state.signed.ReservedSignedState;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -60,10 +61,13 @@ public class DefaultStateSigner implements StateSigner {
                 return null;
             }
 
+            final StateSigningJfrEvent jfrEvent = new StateSigningJfrEvent();
+            jfrEvent.begin();
             final Hash stateHash =
                     Objects.requireNonNull(reservedSignedState.get().getState().getHash());
             final Bytes signature = signer.signImmutable(stateHash);
             Objects.requireNonNull(signature);
+            jfrEvent.commit(reservedSignedState.get().getRound());
 
             return StateSignatureTransaction.newBuilder()
                     .round(reservedSignedState.get().getRound())
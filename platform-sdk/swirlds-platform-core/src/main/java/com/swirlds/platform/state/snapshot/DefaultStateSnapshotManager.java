@@ -24,6 +24,7 @@ import static com.swirlds.platform.state.snapshot.StateToDiskReason.UNKNOWN;
 import com.swirlds.base.time.Time;
 import com.swirlds.common.config.StateCommonConfig;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.jfr.StateSnapshotJfrEvent;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.common.utility.Threshold;
 import com.swirlds.config.api.Configuration;
@@ -174,10 +175,14 @@ public class DefaultStateSnapshotManager implements StateSnapshotManager {
     }
 
     private boolean saveStateTask(@NonNull final SignedState state, @NonNull final Path directory) {
+        final StateSnapshotJfrEvent jfrEvent = new StateSnapshotJfrEvent();
+        jfrEvent.begin();
         try {
             SignedStateFileWriter.writeSignedStateToDisk(platformContext, selfId, directory, state, getReason(state));
+            jfrEvent.commit(state.getRound(), getReason(state).name(), true);
             return true;
         } catch (final Throwable e) {
+            jfrEvent.commit(state.getRound(), getReason(state).name(), false);
             logger.error(
                     EXCEPTION.getMarker(),
                     "Unable to write signed state to disk for round {} to {}.",
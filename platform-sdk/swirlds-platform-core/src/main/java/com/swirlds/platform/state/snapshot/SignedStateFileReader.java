@@ -17,6 +17,7 @@
 package com.swirlds.platform.state.snapshot;
 
 import static com.swirlds.common.io.streams.StreamDebugUtils.deserializeAndDebugOnFailure;
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
 import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.SIGNATURE_SET_FILE_NAME;
 import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.SUPPORTED_SIGSET_VERSIONS;
 import static java.nio.file.Files.exists;
@@ -26,7 +27,9 @@ import com.swirlds.common.config.singleton.ConfigurationHolder;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.config.api.Configuration;
+import com.swirlds.platform.config.StateConfig;
 import com.swirlds.platform.crypto.CryptoStatic;
 import com.swirlds.platform.state.MerkleRoot;
 import com.swirlds.platform.state.signed.SignedState;
@@ -41,6 +44,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Utility methods for reading a signed state from disk.
@@ -84,7 +89,7 @@ public final class SignedStateFileReader {
         checkSignedStatePath(stateFile);
 
         final DeserializedSignedState returnState;
-        final MerkleTreeSnapshotReader.StateFileData data = MerkleTreeSnapshotReader.readStateFileData(stateFile);
+        final MerkleTreeSnapshotReader.StateFileData data = readStateFileData(configuration, stateFile);
 
         final MerkleTreeSnapshotReader.StateFileData normalizedData;
         if (data.sigSet() == null) {
@@ -118,6 +123,33 @@ public final class SignedStateFileReader {
         return returnState;
     }
 
+    /**
+     * Read the merkle tree from a state file, loading virtual maps in parallel if configured to do so.
+     *
+     * @param configuration the configuration for this node
+     * @param stateFile     the file to read from
+     * @return the data read from the state file
+     * @throws IOException if there is any problems with reading from a file
+     */
+    @NonNull
+    private static MerkleTreeSnapshotReader.StateFileData readStateFileData(
+            @NonNull final Configuration configuration, @NonNull final Path stateFile) throws IOException {
+        final int configuredThreads = configuration.getConfigData(StateConfig.class).loadThreadCount();
+        final int threadCount = configuredThreads > 0 ? configuredThreads : Runtime.getRuntime().availableProcessors();
+        if (threadCount == 1) {
+            return MerkleTreeSnapshotReader.readStateFileData(stateFile);
+        }
+        try (final ExecutorService loadExecutor = Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("state-loader")
+                        .setThreadName("load-virtual-map")
+                        .setDaemon(true)
+                        .buildFactory())) {
+            return MerkleTreeSnapshotReader.readStateFileData(stateFile, loadExecutor);
+        }
+    }
+
     /**
      * Check the path of a signed state file
      *
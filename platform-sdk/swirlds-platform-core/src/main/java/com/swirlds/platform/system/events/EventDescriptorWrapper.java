@@ -78,6 +78,15 @@ public record EventDescriptorWrapper(
         };
     }
 
+    /**
+     * The hash uniquely identifies the event, so it is sufficient for the hash code. This avoids hashing the other
+     * fields, which are expensive to hash and add nothing to the distribution.
+     */
+    @Override
+    public int hashCode() {
+        return hash.hashCode();
+    }
+
     /**
      * Get the version of the class.
      * @return the version of the class
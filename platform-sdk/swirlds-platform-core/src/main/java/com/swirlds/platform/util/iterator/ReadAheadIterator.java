@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.util.iterator;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.swirlds.base.function.CheckedFunction;
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Applies a reader function to a sequence of inputs (typically files) in parallel, and returns the results in input
+ * order.
+ * <p>
+ * Up to {@code readAheadCount} inputs are read concurrently on the provided executor. The next input is only
+ * submitted once a result has been taken, so at most {@code readAheadCount} results are held in memory at any time.
+ * Inputs are pulled from the input iterator on the thread that consumes this iterator.
+ * <p>
+ * This iterator shuts the executor down once all inputs have been read, or when it is closed.
+ *
+ * @param <T> the type of the inputs
+ * @param <R> the type of the results
+ */
+public class ReadAheadIterator<T, R> implements IOIterator<R> {
+
+    private final Iterator<T> inputs;
+    private final CheckedFunction<T, R, IOException> reader;
+    private final ExecutorService executor;
+    private final int readAheadCount;
+
+    /**
+     * Inputs that are being read, in input order.
+     */
+    private final Deque<Future<R>> pending = new ArrayDeque<>();
+
+    /**
+     * Create a new iterator and start reading the first inputs.
+     *
+     * @param inputs         the inputs to read, in order
+     * @param reader         reads a single input, called on the executor threads
+     * @param executor       the executor to read inputs on
+     * @param readAheadCount the maximum number of inputs read concurrently, must be positive
+     */
+    public ReadAheadIterator(
+            @NonNull final Iterator<T> inputs,
+            @NonNull final CheckedFunction<T, R, IOException> reader,
+            @NonNull final ExecutorService executor,
+            final int readAheadCount) {
+        this.inputs = Objects.requireNonNull(inputs);
+        this.reader = Objects.requireNonNull(reader);
+        this.executor = Objects.requireNonNull(executor);
+        if (readAheadCount <= 0) {
+            throw new IllegalArgumentException("readAheadCount must be positive, got " + readAheadCount);
+        }
+        this.readAheadCount = readAheadCount;
+        submitInputs();
+    }
+
+    /**
+     * Create an executor with daemon threads to be used for reading ahead by command line tools, where there is no
+     * platform executor factory available.
+     *
+     * @param component   the name of the component reading the files
+     * @param threadCount the number of threads, must be positive
+     * @return the executor
+     */
+    @NonNull
+    public static ExecutorService createExecutor(@NonNull final String component, final int threadCount) {
+        return Executors.newFixedThreadPool(
+                threadCount,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent(component)
+                        .setThreadName("read-ahead")
+                        .setDaemon(true)
+                        .buildFactory());
+    }
+
+    /**
+     * Submit inputs to the executor until the read-ahead limit is reached or there are no more inputs.
+     */
+    private void submitInputs() {
+        while (pending.size() < readAheadCount && inputs.hasNext()) {
+            final T input = inputs.next();
+            pending.addLast(executor.submit(() -> reader.apply(input)));
+        }
+        if (pending.isEmpty()) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public R next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final R result = await(pending.removeFirst());
+        submitInputs();
+        return result;
+    }
+
+    /**
+     * Wait for an input to be read.
+     *
+     * @param future the future for the input
+     * @return the result of reading the input
+     */
+    private R await(@NonNull final Future<R> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new InterruptedIOException("interrupted while waiting for a file to be read");
+        } catch (final ExecutionException e) {
+            close();
+            if (e.getCause() instanceof final IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof final UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throw new IOException("unable to read file", e.getCause());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        pending.forEach(future -> future.cancel(true));
+        pending.clear();
+        executor.shutdownNow();
+    }
+}
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.mock;
@@ -52,7 +53,7 @@ class CommonPcesWriterTest {
         final PcesFile pcesFile = mock(PcesFile.class);
         when(fileManager.getNextFileDescriptor(anyLong(), anyLong())).thenReturn(pcesFile);
         pcesMutableFile = mock(PcesMutableFile.class);
-        when(pcesFile.getMutableFile(anyBoolean(), anyBoolean())).thenReturn(pcesMutableFile);
+        when(pcesFile.getMutableFile(anyBoolean(), anyBoolean(), anyInt())).thenReturn(pcesMutableFile);
 
         // Initialize CommonPcesWriter with mocks
         commonPcesWriter = new CommonPcesWriter(platformContext, fileManager, true);
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MpscRingBuffer Tests")
+class MpscRingBufferTests {
+
+    @Test
+    @DisplayName("Capacity Test")
+    void capacityTest() {
+        assertEquals(1, new MpscRingBuffer<>(1).capacity());
+        assertEquals(8, new MpscRingBuffer<>(5).capacity());
+        assertEquals(8, new MpscRingBuffer<>(8).capacity());
+        assertEquals(16, new MpscRingBuffer<>(9).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(0));
+    }
+
+    @Test
+    @DisplayName("FIFO And Bound Test")
+    void fifoAndBoundTest() {
+        final MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        assertNull(buffer.peek());
+        assertNull(buffer.poll());
+
+        // go around the ring several times
+        int next = 0;
+        int expected = 0;
+        for (int lap = 0; lap < 5; lap++) {
+            while (buffer.offer(next, next * 10L)) {
+                next++;
+            }
+            assertEquals(4, buffer.size());
+            assertFalse(buffer.offer(-1, 0));
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(expected, buffer.peek());
+                assertEquals(expected * 10L, buffer.peekTimestamp());
+                assertEquals(expected, buffer.poll());
+                expected++;
+            }
+            assertEquals(1, buffer.size());
+        }
+
+        while (buffer.poll() != null) {
+            expected++;
+        }
+        assertEquals(next, expected);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Multiple Producers Test")
+    void multipleProducersTest() throws InterruptedException {
+        final int producerCount = 4;
+        final int elementsPerProducer = 50_000;
+        final MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            final int producerId = producer;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    final long[] element = {producerId, i};
+                    while (!buffer.offer(element, i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+        start.countDown();
+
+        // elements of each producer must arrive complete and in the order in which they were offered
+        final int[] nextPerProducer = new int[producerCount];
+        int received = 0;
+        while (received < producerCount * elementsPerProducer) {
+            final long[] element = buffer.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            final int producerId = (int) element[0];
+            assertEquals(nextPerProducer[producerId], element[1]);
+            nextPerProducer[producerId]++;
+            received++;
+        }
+
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        assertNull(buffer.poll());
+        for (final int next : nextPerProducer) {
+            assertEquals(elementsPerProducer, next);
+        }
+        assertTrue(buffer.offer(new long[0], 0));
+    }
+}
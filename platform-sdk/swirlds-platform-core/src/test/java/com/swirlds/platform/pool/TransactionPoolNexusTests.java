@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.pool;
+
+import static com.hedera.hapi.platform.event.EventTransaction.TransactionOneOfType.STATE_SIGNATURE_TRANSACTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.hapi.platform.event.EventTransaction;
+import com.hedera.hapi.platform.event.StateSignatureTransaction;
+import com.hedera.pbj.runtime.OneOf;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.system.status.PlatformStatus;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TransactionPoolNexus Tests")
+class TransactionPoolNexusTests {
+
+    /** Each app transaction of {@link #appTransaction(int)} takes 4 bytes for the length and 16 bytes of content. */
+    private static final int APP_TRANSACTION_SIZE = 20;
+
+    private TransactionPoolNexus nexus;
+
+    @BeforeEach
+    void beforeEach() {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue("transaction.maxTransactionBytesPerEvent", 3 * APP_TRANSACTION_SIZE)
+                        .withValue("transaction.throttleTransactionQueueSize", 5)
+                        .getOrCreateConfig())
+                .build();
+        nexus = new TransactionPoolNexus(platformContext);
+        nexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+    }
+
+    private static Bytes appTransaction(final int id) {
+        final byte[] bytes = new byte[APP_TRANSACTION_SIZE - Integer.BYTES];
+        bytes[0] = (byte) id;
+        return Bytes.wrap(bytes);
+    }
+
+    private static EventTransaction signatureTransaction(final long round) {
+        return new EventTransaction(new OneOf<>(
+                STATE_SIGNATURE_TRANSACTION,
+                StateSignatureTransaction.newBuilder()
+                        .round(round)
+                        .signature(Bytes.EMPTY)
+                        .hash(Bytes.EMPTY)
+                        .build()));
+    }
+
+    @Test
+    @DisplayName("Transactions Are Packed By Size Test")
+    void packedBySizeTest() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(nexus.submitApplicationTransaction(appTransaction(i)));
+        }
+
+        final List<EventTransaction> first = nexus.getTransactions();
+        assertEquals(3, first.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(appTransaction(i), first.get(i).transaction().as());
+        }
+
+        final List<EventTransaction> second = nexus.getTransactions();
+        assertEquals(2, second.size());
+        assertEquals(appTransaction(3), second.get(0).transaction().as());
+        assertEquals(appTransaction(4), second.get(1).transaction().as());
+
+        assertTrue(nexus.getTransactions().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Priority Transactions First Test")
+    void priorityTransactionsFirstTest() {
+        assertTrue(nexus.submitApplicationTransaction(appTransaction(0)));
+        assertTrue(nexus.submitTransaction(signatureTransaction(1), true));
+        assertTrue(nexus.hasBufferedSignatureTransactions());
+
+        final List<EventTransaction> transactions = nexus.getTransactions();
+        assertEquals(2, transactions.size());
+        assertEquals(STATE_SIGNATURE_TRANSACTION, transactions.get(0).transaction().kind());
+        assertEquals(appTransaction(0), transactions.get(1).transaction().as());
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+    }
+
+    @Test
+    @DisplayName("App Transactions Are Throttled Test")
+    void appTransactionsAreThrottledTest() {
+        // the queue may grow to one more than the configured size before transactions are rejected
+        for (int i = 0; i < 6; i++) {
+            assertTrue(nexus.submitApplicationTransaction(appTransaction(i)));
+        }
+        assertFalse(nexus.submitApplicationTransaction(appTransaction(6)));
+
+        // system transactions are never rejected
+        assertTrue(nexus.submitTransaction(signatureTransaction(1), false));
+        assertTrue(nexus.submitTransaction(signatureTransaction(2), true));
+
+        nexus.clear();
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+        assertTrue(nexus.getTransactions().isEmpty());
+        assertTrue(nexus.submitApplicationTransaction(appTransaction(7)));
+
+        // the signature transaction count stays consistent across a clear
+        assertTrue(nexus.submitTransaction(signatureTransaction(3), false));
+        assertTrue(nexus.hasBufferedSignatureTransactions());
+        assertEquals(2, nexus.getTransactions().size());
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+    }
+
+    @Test
+    @DisplayName("Inactive Platform Rejects App Transactions Test")
+    void inactivePlatformRejectsAppTransactionsTest() {
+        nexus.updatePlatformStatus(PlatformStatus.CHECKING);
+        assertFalse(nexus.submitApplicationTransaction(appTransaction(0)));
+        assertTrue(nexus.getTransactions().isEmpty());
+    }
+}
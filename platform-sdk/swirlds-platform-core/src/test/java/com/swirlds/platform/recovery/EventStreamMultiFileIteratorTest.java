@@ -25,6 +25,7 @@ import static com.swirlds.platform.recovery.RecoveryTestUtils.writeRandomEventSt
 import static com.swirlds.platform.recovery.internal.EventStreamLowerBound.UNBOUNDED;
 import static com.swirlds.platform.test.fixtures.config.ConfigUtils.CONFIGURATION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -35,6 +36,7 @@ import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
 import com.swirlds.platform.recovery.internal.EventStreamLowerBound;
 import com.swirlds.platform.recovery.internal.EventStreamMultiFileIterator;
+import com.swirlds.platform.recovery.internal.EventStreamPathIterator;
 import com.swirlds.platform.recovery.internal.EventStreamRoundLowerBound;
 import com.swirlds.platform.recovery.internal.EventStreamTimestampLowerBound;
 import com.swirlds.platform.system.BasicSoftwareVersion;
@@ -53,6 +55,8 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -112,6 +116,42 @@ class EventStreamMultiFileIteratorTest {
         }
     }
 
+    @Test
+    @DisplayName("Read All Events With Read Ahead Test")
+    void readAllEventsWithReadAheadTest() throws IOException, NoSuchAlgorithmException {
+        final Random random = getRandomPrintSeed();
+        final Path directory = LegacyTemporaryFileBuilder.buildTemporaryDirectory(CONFIGURATION);
+
+        final List<CesEvent> events = generateRandomEvents(random, 1L, Duration.ofSeconds(100), 1, 20);
+        writeRandomEventStream(random, directory, 2, events);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try (final EventStreamMultiFileIterator sequentialIterator =
+                        new EventStreamMultiFileIterator(directory, UNBOUNDED);
+                final EventStreamMultiFileIterator readAheadIterator = new EventStreamMultiFileIterator(
+                        new EventStreamPathIterator(directory, UNBOUNDED), UNBOUNDED, executor, 3)) {
+
+            final List<CesEvent> deserializedEvents = new ArrayList<>();
+            readAheadIterator.forEachRemaining(deserializedEvents::add);
+            sequentialIterator.forEachRemaining(event -> {});
+
+            assertEquals(events.size(), deserializedEvents.size(), "unexpected number of events read");
+            for (int eventIndex = 0; eventIndex < events.size(); eventIndex++) {
+                assertEventsAreEqual(deserializedEvents.get(eventIndex), events.get(eventIndex));
+                assertNotNull(deserializedEvents.get(eventIndex).getHash(), "event hash should be precomputed");
+            }
+
+            assertEquals(sequentialIterator.getStartHash(), readAheadIterator.getStartHash());
+            assertEquals(sequentialIterator.getFileCount(), readAheadIterator.getFileCount());
+            assertEquals(sequentialIterator.getBytesRead(), readAheadIterator.getBytesRead());
+            assertEquals(0, readAheadIterator.getDamagedFileCount());
+            assertTrue(executor.isShutdown(), "executor should be shut down once all files are read");
+        } finally {
+            executor.shutdownNow();
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
     @Test
     @DisplayName("Read Events Starting At Round Test")
     void readEventsStartingAtRoundTest() throws NoSuchAlgorithmException, IOException {
@@ -22,6 +22,8 @@ import static com.swirlds.platform.recovery.RecoveryTestUtils.generateRandomEven
 import static com.swirlds.platform.recovery.RecoveryTestUtils.writeRandomEventStream;
 import static com.swirlds.platform.recovery.internal.EventStreamLowerBound.UNBOUNDED;
 import static com.swirlds.platform.test.fixtures.config.ConfigUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -152,6 +154,35 @@ class EventStreamPathIteratorTest {
         FileUtils.deleteDirectory(directory);
     }
 
+    @Test
+    @DisplayName("Upper Timestamp Bound Test")
+    void upperTimestampBoundTest() throws IOException, NoSuchAlgorithmException {
+        final Random random = getRandomPrintSeed();
+        final Path directory = LegacyTemporaryFileBuilder.buildTemporaryDirectory(CONFIGURATION);
+
+        final int durationInSeconds = 100;
+        final int secondsPerFile = 2;
+
+        final List<CesEvent> events = generateRandomEvents(random, 1L, Duration.ofSeconds(durationInSeconds), 1, 20);
+
+        writeRandomEventStream(random, directory, secondsPerFile, events);
+
+        final Instant upperBound = events.get(events.size() / 2).getTimestamp();
+        final Iterator<Path> iterator = new EventStreamPathIterator(directory, UNBOUNDED, upperBound);
+
+        final List<Path> files = new ArrayList<>();
+        iterator.forEachRemaining(files::add);
+
+        final List<Path> allFiles = new ArrayList<>();
+        new EventStreamPathIterator(directory, UNBOUNDED).forEachRemaining(allFiles::add);
+
+        assertFalse(files.isEmpty(), "files before the upper bound should be returned");
+        assertTrue(files.size() < allFiles.size(), "files after the upper bound should not be returned");
+        assertEquals(allFiles.subList(0, files.size()), files, "files should be a prefix of all files");
+
+        FileUtils.deleteDirectory(directory);
+    }
+
     @Test
     @DisplayName("Request Non Existent Rounds Test")
     void requestNonExistentRoundsTest() throws IOException, NoSuchAlgorithmException {
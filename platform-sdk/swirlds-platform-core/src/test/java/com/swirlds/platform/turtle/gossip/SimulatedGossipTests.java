@@ -18,8 +18,10 @@ package com.swirlds.platform.turtle.gossip;
 
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfiguration.DIRECT_THREADSAFE_CONFIGURATION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import com.hedera.hapi.platform.event.GossipEvent;
 import com.swirlds.base.test.fixtures.time.FakeTime;
 import com.swirlds.common.constructable.ConstructableRegistry;
 import com.swirlds.common.constructable.ConstructableRegistryException;
@@ -52,6 +54,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -182,4 +185,79 @@ class SimulatedGossipTests {
             assertEquals(expectedDescriptors, uniqueDescriptors);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void limitedBandwidthDelaysDelivery() {
+        final Randotron randotron = Randotron.create();
+
+        final FakeTime time = new FakeTime();
+        final PlatformContext context =
+                TestPlatformContextBuilder.create().withTime(time).build();
+
+        final AddressBook addressBook =
+                RandomAddressBookBuilder.create(randotron).withSize(2).build();
+        final NodeId sender = addressBook.getNodeId(0);
+        final NodeId receiver = addressBook.getNodeId(1);
+
+        final long bandwidthBytesPerSecond = 1_000;
+        final SimulatedNetwork network =
+                new SimulatedNetwork(randotron, addressBook, Duration.ZERO, Duration.ZERO, bandwidthBytesPerSecond);
+
+        final Map<NodeId, List<PlatformEvent>> receivedEvents = new HashMap<>();
+        final Map<NodeId, Consumer<PlatformEvent>> eventSubmitters = new HashMap<>();
+        for (final NodeId nodeId : addressBook.getNodeIdSet()) {
+            final WiringModel model = WiringModelBuilder.create(context)
+                    .withDeterministicModeEnabled(true)
+                    .build();
+            final TaskScheduler<Void> eventInputShim = model.schedulerBuilder("eventInputShim")
+                    .configure(DIRECT_THREADSAFE_CONFIGURATION)
+                    .build()
+                    .cast();
+            final List<PlatformEvent> receivedEventsForNode = new ArrayList<>();
+            receivedEvents.put(nodeId, receivedEventsForNode);
+            final StandardOutputWire<PlatformEvent> eventOutputWire =
+                    new StandardOutputWire<>((TraceableWiringModel) model, "eventOutputWire");
+            eventOutputWire.solderTo("handleOutputEvent", "event", receivedEventsForNode::add);
+            final BindableInputWire<PlatformEvent, Void> eventInputWire =
+                    eventInputShim.buildInputWire("eventInputWire");
+            eventSubmitters.put(nodeId, eventInputWire::inject);
+            network.getGossipInstance(nodeId)
+                    .bind(
+                            model,
+                            eventInputWire,
+                            mock(BindableInputWire.class),
+                            eventOutputWire,
+                            mock(BindableInputWire.class),
+                            mock(BindableInputWire.class),
+                            mock(BindableInputWire.class),
+                            mock(BindableInputWire.class),
+                            mock(BindableInputWire.class));
+        }
+
+        final int eventCount = 10;
+        long totalBytes = 0;
+        for (int i = 0; i < eventCount; i++) {
+            final PlatformEvent event =
+                    new TestingEventBuilder(randotron).setCreatorId(sender).build();
+            new DefaultEventHasher().hashEvent(event);
+            totalBytes += GossipEvent.PROTOBUF.measureRecord(event.getGossipEvent());
+            eventSubmitters.get(sender).accept(event);
+        }
+        network.tick(time.now());
+        assertEquals(totalBytes, network.getBytesTransmitted());
+
+        // The sender uploads events one at a time, so only some of them can have arrived before the upload completes
+        final Duration uploadTime = Duration.ofNanos(totalBytes * 1_000_000_000L / bandwidthBytesPerSecond);
+        time.tick(uploadTime.minusMillis(1));
+        network.tick(time.now());
+        final int receivedBeforeUploadComplete = receivedEvents.get(receiver).size();
+        assertTrue(receivedBeforeUploadComplete > 0);
+        assertTrue(receivedBeforeUploadComplete < eventCount);
+
+        time.tick(Duration.ofMillis(1));
+        network.tick(time.now());
+        assertEquals(eventCount, receivedEvents.get(receiver).size());
+        assertEquals(0, receivedEvents.get(sender).size());
+    }
 }
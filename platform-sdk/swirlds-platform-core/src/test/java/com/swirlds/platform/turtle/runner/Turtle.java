@@ -34,7 +34,10 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -91,6 +94,10 @@ public class Turtle {
     private Instant previousRealTime;
     private Instant previousSimulatedTime;
 
+    private Instant statisticsStartSimulatedTime;
+    private long statisticsStartRealNanos;
+    private long statisticsStartBytesTransmitted;
+
     /**
      * Constructor.
      *
@@ -120,12 +127,121 @@ public class Turtle {
                 .withRealKeysEnabled(true);
         final AddressBook addressBook = addressBookBuilder.build();
 
-        network = new SimulatedNetwork(randotron, addressBook, Duration.ofMillis(200), Duration.ofMillis(10));
+        network = new SimulatedNetwork(
+                randotron,
+                addressBook,
+                builder.getAverageNetworkDelay(),
+                builder.getStandardDeviationNetworkDelay(),
+                builder.getBandwidthBytesPerSecond());
 
+        final double transactionsPerTick =
+                builder.getTransactionsPerSecond() * simulationGranularity.toNanos() / 1_000_000_000.0;
         for (final NodeId nodeId : addressBook.getNodeIdSet().stream().sorted().toList()) {
             nodes.add(new TurtleNode(
-                    randotron, time, nodeId, addressBook, addressBookBuilder.getPrivateKeys(nodeId), network));
+                    randotron,
+                    time,
+                    nodeId,
+                    addressBook,
+                    addressBookBuilder.getPrivateKeys(nodeId),
+                    network,
+                    transactionsPerTick,
+                    builder.getTransactionSize()));
+        }
+        resetStatistics();
+    }
+
+    /**
+     * Discard all statistics collected so far, e.g. at the end of a warm-up period.
+     */
+    public void resetStatistics() {
+        for (final TurtleNode node : nodes) {
+            node.getStatistics().reset(node.getBusyNanosBySchedulerName());
+        }
+        statisticsStartSimulatedTime = time.now();
+        statisticsStartRealNanos = System.nanoTime();
+        statisticsStartBytesTransmitted = network.getBytesTransmitted();
+    }
+
+    /**
+     * Build a human-readable report of the throughput and latency of the network, and of the busy fraction of each
+     * platform component, since the network was built or statistics were last reset. Busy fractions are the share of
+     * the wall clock time spent ticking nodes that was spent in each component's scheduler.
+     *
+     * @return the report
+     */
+    @NonNull
+    public String getStatisticsReport() {
+        final double simulatedSeconds =
+                Duration.between(statisticsStartSimulatedTime, time.now()).toNanos() / 1_000_000_000.0;
+        final double realSeconds = (System.nanoTime() - statisticsStartRealNanos) / 1_000_000_000.0;
+
+        long consensusRounds = 0;
+        long consensusEvents = 0;
+        long consensusTransactions = 0;
+        long submittedTransactions = 0;
+        long rejectedTransactions = 0;
+        long tickNanos = 0;
+        final List<long[]> latencies = new ArrayList<>();
+        final Map<String, Long> busyNanos = new HashMap<>();
+        for (final TurtleNode node : nodes) {
+            final TurtleNodeStatistics statistics = node.getStatistics();
+            consensusRounds += statistics.getConsensusRounds();
+            consensusEvents += statistics.getConsensusEvents();
+            consensusTransactions += statistics.getConsensusTransactions();
+            submittedTransactions += statistics.getSubmittedTransactions();
+            rejectedTransactions += statistics.getRejectedTransactions();
+            tickNanos += statistics.getTickNanos();
+            latencies.add(statistics.getConsensusLatencyNanos());
+            statistics
+                    .busyNanosSinceReset(node.getBusyNanosBySchedulerName())
+                    .forEach((name, nanos) -> busyNanos.merge(name, nanos, Long::sum));
+        }
+        final long[] sortedLatencies = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+
+        // Every node handles the same rounds, so per-network rates are averaged over the nodes
+        final int nodeCount = nodes.size();
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(
+                "Simulated %.1f s in %.1f s of real time (temporal velocity %.2f) with %d nodes%n",
+                simulatedSeconds, realSeconds, simulatedSeconds / realSeconds, nodeCount));
+        sb.append(String.format(
+                "Consensus: %.1f rounds/s, %.1f events/s, %.1f application transactions/s%n",
+                consensusRounds / (double) nodeCount / simulatedSeconds,
+                consensusEvents / (double) nodeCount / simulatedSeconds,
+                consensusTransactions / (double) nodeCount / simulatedSeconds));
+        sb.append(String.format(
+                "Transactions: %d submitted, %d rejected%n", submittedTransactions, rejectedTransactions));
+        sb.append(String.format(
+                "Network: %.1f KiB/s sent%n",
+                (network.getBytesTransmitted() - statisticsStartBytesTransmitted) / 1024.0 / simulatedSeconds));
+        sb.append(String.format(
+                "Consensus latency (ms): p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n",
+                percentileMillis(sortedLatencies, 0.50),
+                percentileMillis(sortedLatencies, 0.90),
+                percentileMillis(sortedLatencies, 0.99),
+                percentileMillis(sortedLatencies, 1.00)));
+        sb.append(String.format("Busy fraction of node tick time by component:%n"));
+        final long totalTickNanos = Math.max(1, tickNanos);
+        busyNanos.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> sb.append(String.format(
+                        "  %-40s %6.2f%%%n", entry.getKey(), 100.0 * entry.getValue() / totalTickNanos)));
+        return sb.toString();
+    }
+
+    /**
+     * Get a percentile of a sorted array of nanosecond durations, in milliseconds.
+     *
+     * @param sortedNanos the sorted durations
+     * @param percentile  the percentile, between 0 and 1
+     * @return the percentile in milliseconds, or 0 if there are no durations
+     */
+    private static double percentileMillis(@NonNull final long[] sortedNanos, final double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
         }
+        final int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
     }
 
     /**
@@ -42,6 +42,11 @@ public class TurtleBuilder {
     private Duration simulationGranularity = Duration.ofMillis(10);
     private int nodeCount = 4;
     private boolean timeReportingEnabled;
+    private Duration averageNetworkDelay = Duration.ofMillis(200);
+    private Duration standardDeviationNetworkDelay = Duration.ofMillis(10);
+    private long bandwidthBytesPerSecond;
+    private double transactionsPerSecond;
+    private int transactionSize = 100;
 
     /**
      * Create a new TurtleBuilder.
@@ -146,4 +151,114 @@ public class TurtleBuilder {
     boolean isTimeReportingEnabled() {
         return timeReportingEnabled;
     }
+
+    /**
+     * Set the delay for events to travel between nodes.
+     *
+     * @param averageDelay           the average delay
+     * @param standardDeviationDelay the standard deviation of the delay
+     * @return this builder
+     */
+    @NonNull
+    public TurtleBuilder withNetworkDelay(
+            @NonNull final Duration averageDelay, @NonNull final Duration standardDeviationDelay) {
+        this.averageNetworkDelay = Objects.requireNonNull(averageDelay);
+        this.standardDeviationNetworkDelay = Objects.requireNonNull(standardDeviationDelay);
+        if (averageDelay.isNegative() || standardDeviationDelay.isNegative()) {
+            throw new IllegalArgumentException("network delay must not be negative");
+        }
+        return this;
+    }
+
+    /**
+     * Get the average delay for events to travel between nodes.
+     *
+     * @return the average network delay
+     */
+    @NonNull
+    Duration getAverageNetworkDelay() {
+        return averageNetworkDelay;
+    }
+
+    /**
+     * Get the standard deviation of the delay for events to travel between nodes.
+     *
+     * @return the standard deviation of the network delay
+     */
+    @NonNull
+    Duration getStandardDeviationNetworkDelay() {
+        return standardDeviationNetworkDelay;
+    }
+
+    /**
+     * Set the upload bandwidth of each node.
+     *
+     * @param bandwidthBytesPerSecond the upload bandwidth in bytes per second, or 0 for unlimited bandwidth
+     * @return this builder
+     */
+    @NonNull
+    public TurtleBuilder withBandwidth(final long bandwidthBytesPerSecond) {
+        if (bandwidthBytesPerSecond < 0) {
+            throw new IllegalArgumentException("bandwidth must not be negative");
+        }
+        this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+        return this;
+    }
+
+    /**
+     * Get the upload bandwidth of each node.
+     *
+     * @return the upload bandwidth in bytes per second, or 0 for unlimited bandwidth
+     */
+    long getBandwidthBytesPerSecond() {
+        return bandwidthBytesPerSecond;
+    }
+
+    /**
+     * Set the rate at which application transactions are submitted to each node, in simulated time.
+     *
+     * @param transactionsPerSecond the number of transactions submitted to each node per simulated second
+     * @return this builder
+     */
+    @NonNull
+    public TurtleBuilder withTransactionRate(final double transactionsPerSecond) {
+        if (transactionsPerSecond < 0) {
+            throw new IllegalArgumentException("transaction rate must not be negative");
+        }
+        this.transactionsPerSecond = transactionsPerSecond;
+        return this;
+    }
+
+    /**
+     * Get the rate at which application transactions are submitted to each node.
+     *
+     * @return the number of transactions submitted to each node per simulated second
+     */
+    double getTransactionsPerSecond() {
+        return transactionsPerSecond;
+    }
+
+    /**
+     * Set the size of each application transaction.
+     *
+     * @param transactionSize the size of each transaction in bytes
+     * @return this builder
+     */
+    @NonNull
+    public TurtleBuilder withTransactionSize(final int transactionSize) {
+        if (transactionSize < 1) {
+            throw new IllegalArgumentException("transaction size must be at least 1");
+        }
+        this.transactionSize = transactionSize;
+        return this;
+    }
+
+    /**
+     * Get the size of each application transaction.
+     *
+     * @return the size of each transaction in bytes
+     */
+    int getTransactionSize() {
+        return transactionSize;
+    }
 }
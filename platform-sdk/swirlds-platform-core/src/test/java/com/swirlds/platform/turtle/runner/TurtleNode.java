@@ -47,6 +47,7 @@ import com.swirlds.platform.test.fixtures.turtle.gossip.SimulatedNetwork;
 import com.swirlds.platform.util.RandomBuilder;
 import com.swirlds.platform.wiring.PlatformSchedulersConfig_;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
@@ -68,16 +69,32 @@ public class TurtleNode {
 
     private final DeterministicWiringModel model;
     private final Platform platform;
+    private final TurtleNodeStatistics statistics = new TurtleNodeStatistics();
+
+    /**
+     * A source of randomness for transaction contents that is only used by the thread ticking this node.
+     */
+    private final Randotron transactionRandotron;
+
+    private final double transactionsPerTick;
+    private final int transactionSize;
+
+    /**
+     * The fractional number of transactions that are due to be submitted but have not yet been.
+     */
+    private double transactionsDue;
 
     /**
      * Create a new TurtleNode. Simulates a single consensus node in a TURTLE network.
      *
-     * @param randotron   a source of randomness
-     * @param time        the current time
-     * @param nodeId      the ID of this node
-     * @param addressBook the address book for the network
-     * @param privateKeys the private keys for this node
-     * @param network     the simulated network
+     * @param randotron           a source of randomness
+     * @param time                the current time
+     * @param nodeId              the ID of this node
+     * @param addressBook         the address book for the network
+     * @param privateKeys         the private keys for this node
+     * @param network             the simulated network
+     * @param transactionsPerTick the (possibly fractional) number of application transactions to submit per tick
+     * @param transactionSize     the size of each application transaction in bytes
      */
     TurtleNode(
             @NonNull final Randotron randotron,
@@ -85,7 +102,13 @@ public class TurtleNode {
             @NonNull final NodeId nodeId,
             @NonNull final AddressBook addressBook,
             @NonNull final KeysAndCerts privateKeys,
-            @NonNull final SimulatedNetwork network) {
+            @NonNull final SimulatedNetwork network,
+            final double transactionsPerTick,
+            final int transactionSize) {
+
+        this.transactionRandotron = Randotron.create(randotron.nextLong());
+        this.transactionsPerTick = transactionsPerTick;
+        this.transactionSize = transactionSize;
 
         final Configuration configuration = new TestConfigBuilder()
                 .withValue(PlatformSchedulersConfig_.CONSENSUS_EVENT_STREAM, "NO_OP")
@@ -102,7 +125,8 @@ public class TurtleNode {
         model = WiringModelBuilder.create(platformContext)
                 .withDeterministicModeEnabled(true)
                 .build();
-        final Supplier<MerkleRoot> genesisStateSupplier = TurtleTestingToolState::getStateRootNode;
+        final Supplier<MerkleRoot> genesisStateSupplier = () -> TurtleTestingToolState.getStateRootNode(
+                round -> statistics.recordConsensusRound(round, time.now()));
         final var version = new BasicSoftwareVersion(1);
 
         final var metrics = getMetricsProvider().createPlatformMetrics(nodeId);
@@ -150,6 +174,42 @@ public class TurtleNode {
      * Simulate the next time step for this node.
      */
     public void tick() {
+        final long start = System.nanoTime();
+        submitTransactions();
         model.tick();
+        statistics.recordTick(System.nanoTime() - start);
+    }
+
+    /**
+     * Submit the application transactions that are due in this tick.
+     */
+    private void submitTransactions() {
+        transactionsDue += transactionsPerTick;
+        while (transactionsDue >= 1) {
+            transactionsDue--;
+            statistics.recordSubmittedTransaction(
+                    platform.createTransaction(transactionRandotron.nextByteArray(transactionSize)));
+        }
+    }
+
+    /**
+     * Get the statistics collected by this node. Must not be called while the node is being ticked.
+     *
+     * @return the statistics of this node
+     */
+    @NonNull
+    TurtleNodeStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Get the wall clock time each of this node's schedulers has spent handling work. Must not be called while the
+     * node is being ticked.
+     *
+     * @return the busy time of each scheduler in nanoseconds, indexed by scheduler name
+     */
+    @NonNull
+    Map<String, Long> getBusyNanosBySchedulerName() {
+        return model.getBusyNanosBySchedulerName();
     }
 }
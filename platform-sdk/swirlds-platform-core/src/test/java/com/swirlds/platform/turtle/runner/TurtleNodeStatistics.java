@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.turtle.runner;
+
+import com.swirlds.platform.system.Round;
+import com.swirlds.platform.system.events.ConsensusEvent;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Throughput and latency statistics collected by a single {@link TurtleNode}. Only accessed by the thread ticking the
+ * node, or while no node is being ticked.
+ */
+class TurtleNodeStatistics {
+
+    private long consensusRounds;
+    private long consensusEvents;
+    private long consensusTransactions;
+    private long submittedTransactions;
+    private long rejectedTransactions;
+    private long tickNanos;
+    private long[] consensusLatencyNanos = new long[1024];
+    private int consensusLatencyCount;
+    private Map<String, Long> busyNanosBaseline = Map.of();
+
+    /**
+     * Record a round that reached consensus on this node.
+     *
+     * @param round the round
+     * @param now   the (simulated) time at which the node handled the round
+     */
+    void recordConsensusRound(@NonNull final Round round, @NonNull final Instant now) {
+        consensusRounds++;
+        for (final ConsensusEvent event : round) {
+            consensusEvents++;
+            if (consensusLatencyCount == consensusLatencyNanos.length) {
+                consensusLatencyNanos = Arrays.copyOf(consensusLatencyNanos, consensusLatencyCount * 2);
+            }
+            consensusLatencyNanos[consensusLatencyCount++] =
+                    Duration.between(event.getTimeCreated(), now).toNanos();
+        }
+        round.forEachTransaction(transaction -> {
+            if (!transaction.isSystem()) {
+                consensusTransactions++;
+            }
+        });
+    }
+
+    /**
+     * Record an attempt to submit an application transaction to this node.
+     *
+     * @param accepted true if the platform accepted the transaction
+     */
+    void recordSubmittedTransaction(final boolean accepted) {
+        submittedTransactions++;
+        if (!accepted) {
+            rejectedTransactions++;
+        }
+    }
+
+    /**
+     * Record the wall clock time this node spent in a single tick.
+     *
+     * @param nanos the duration of the tick in nanoseconds
+     */
+    void recordTick(final long nanos) {
+        tickNanos += nanos;
+    }
+
+    /**
+     * Discard everything recorded so far.
+     *
+     * @param busyNanosBySchedulerName the current busy time of each of the node's schedulers, which will be subtracted
+     *                                 from the busy times passed to {@link #busyNanosSinceReset(Map)}
+     */
+    void reset(@NonNull final Map<String, Long> busyNanosBySchedulerName) {
+        consensusRounds = 0;
+        consensusEvents = 0;
+        consensusTransactions = 0;
+        submittedTransactions = 0;
+        rejectedTransactions = 0;
+        tickNanos = 0;
+        consensusLatencyCount = 0;
+        busyNanosBaseline = Map.copyOf(busyNanosBySchedulerName);
+    }
+
+    /**
+     * Get the busy time of each scheduler since the last reset.
+     *
+     * @param busyNanosBySchedulerName the current busy time of each of the node's schedulers
+     * @return the busy time of each scheduler since the last reset, in nanoseconds
+     */
+    @NonNull
+    Map<String, Long> busyNanosSinceReset(@NonNull final Map<String, Long> busyNanosBySchedulerName) {
+        final Map<String, Long> busyNanos = new HashMap<>();
+        busyNanosBySchedulerName.forEach(
+                (name, nanos) -> busyNanos.put(name, nanos - busyNanosBaseline.getOrDefault(name, 0L)));
+        return busyNanos;
+    }
+
+    long getConsensusRounds() {
+        return consensusRounds;
+    }
+
+    long getConsensusEvents() {
+        return consensusEvents;
+    }
+
+    long getConsensusTransactions() {
+        return consensusTransactions;
+    }
+
+    long getSubmittedTransactions() {
+        return submittedTransactions;
+    }
+
+    long getRejectedTransactions() {
+        return rejectedTransactions;
+    }
+
+    long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Get the time between the creation of each event and this node handling it at consensus.
+     *
+     * @return the consensus latency of every event, in nanoseconds, in no particular order
+     */
+    @NonNull
+    long[] getConsensusLatencyNanos() {
+        return Arrays.copyOf(consensusLatencyNanos, consensusLatencyCount);
+    }
+}
@@ -23,6 +23,8 @@ import com.swirlds.platform.state.*;
 import com.swirlds.platform.system.BasicSoftwareVersion;
 import com.swirlds.platform.system.Round;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.function.Consumer;
 
 /**
  * A simple testing application intended for use with TURTLE.
@@ -43,8 +45,24 @@ public class TurtleTestingToolState extends PlatformMerkleStateRoot {
 
     private long state;
 
+    /**
+     * If not null, called with every round this state handles.
+     */
+    @Nullable
+    private final Consumer<Round> roundObserver;
+
     public TurtleTestingToolState() {
+        this((Consumer<Round>) null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param roundObserver if not null, called with every round this state (and every copy of it) handles
+     */
+    public TurtleTestingToolState(@Nullable final Consumer<Round> roundObserver) {
         super(FAKE_MERKLE_STATE_LIFECYCLES, version -> new BasicSoftwareVersion(1));
+        this.roundObserver = roundObserver;
     }
 
     /**
@@ -55,6 +73,7 @@ public class TurtleTestingToolState extends PlatformMerkleStateRoot {
     private TurtleTestingToolState(@NonNull final TurtleTestingToolState from) {
         super(from);
         this.state = from.state;
+        this.roundObserver = from.roundObserver;
     }
 
     /**
@@ -83,6 +102,9 @@ public class TurtleTestingToolState extends PlatformMerkleStateRoot {
                 round.getRoundNum(),
                 round.getConsensusTimestamp().getNano(),
                 round.getConsensusTimestamp().getEpochSecond());
+        if (roundObserver != null) {
+            roundObserver.accept(round);
+        }
     }
 
     /**
@@ -102,7 +124,18 @@ public class TurtleTestingToolState extends PlatformMerkleStateRoot {
      */
     @NonNull
     public static MerkleRoot getStateRootNode() {
-        final PlatformMerkleStateRoot state = new TurtleTestingToolState();
+        return getStateRootNode(null);
+    }
+
+    /**
+     * Creates a merkle node to act as a state tree root.
+     *
+     * @param roundObserver if not null, called with every round the state handles
+     * @return merkle tree root
+     */
+    @NonNull
+    public static MerkleRoot getStateRootNode(@Nullable final Consumer<Round> roundObserver) {
+        final PlatformMerkleStateRoot state = new TurtleTestingToolState(roundObserver);
         FAKE_MERKLE_STATE_LIFECYCLES.initPlatformState(state);
         return state;
     }
@@ -51,4 +51,32 @@ class TurtleTests {
         turtle.start();
         turtle.simulateTime(Duration.ofMinutes(5));
     }
+
+    /**
+     * Measure the throughput and consensus latency of a turtle network under a synthetic transaction load, and the
+     * share of each node's time spent in each platform component. Simulated time is deterministic for a given seed,
+     * so runs with the same seed can be compared before and after a scheduler or consensus change.
+     * <p>
+     * Disabled for the same reasons as {@link #turtleTest()}; intended to be run manually.
+     */
+    @Disabled
+    @Test
+    void turtleBenchmark() {
+        final Randotron randotron = Randotron.create(1234);
+
+        final Turtle turtle = TurtleBuilder.create(randotron)
+                .withNodeCount(4)
+                .withSimulationGranularity(Duration.ofMillis(10))
+                .withNetworkDelay(Duration.ofMillis(50), Duration.ofMillis(5))
+                .withBandwidth(10 * 1024 * 1024)
+                .withTransactionRate(1_000)
+                .withTransactionSize(100)
+                .build();
+
+        turtle.start();
+        turtle.simulateTime(Duration.ofSeconds(30));
+        turtle.resetStatistics();
+        turtle.simulateTime(Duration.ofMinutes(2));
+        System.out.println(turtle.getStatisticsReport());
+    }
 }
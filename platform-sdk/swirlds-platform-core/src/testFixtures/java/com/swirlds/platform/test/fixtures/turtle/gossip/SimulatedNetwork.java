@@ -16,6 +16,7 @@
 
 package com.swirlds.platform.test.fixtures.turtle.gossip;
 
+import com.hedera.hapi.platform.event.GossipEvent;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.system.address.AddressBook;
@@ -24,7 +25,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,6 +36,9 @@ import java.util.Random;
  * <p>
  * This gossip simulation is intentionally simplistic. It does not attempt to mimic any real gossip algorithm in any
  * meaningful way and makes no attempt to reduce the rate of duplicate events.
+ * <p>
+ * Each node may optionally be given a limited upload bandwidth. A node sends a copy of each of its events to every
+ * peer, one after the other, and a copy only starts its network delay once the sender has finished uploading it.
  */
 public class SimulatedNetwork {
 
@@ -76,7 +79,22 @@ public class SimulatedNetwork {
     private final long standardDeviationDelayNanos;
 
     /**
-     * Constructor.
+     * The upload bandwidth of each node, in bytes per second, or 0 if bandwidth is unlimited.
+     */
+    private final long bandwidthBytesPerSecond;
+
+    /**
+     * For each node, the time at which it will have finished uploading all events it has sent so far.
+     */
+    private final Map<NodeId, Instant> uploadsCompleteTimes = new HashMap<>();
+
+    /**
+     * The total number of event bytes that have been sent over the network.
+     */
+    private long bytesTransmitted;
+
+    /**
+     * Constructor for a network with unlimited bandwidth.
      *
      * @param random                 the random number generator to use for simulating network delays
      * @param addressBook            the address book of the network
@@ -88,8 +106,30 @@ public class SimulatedNetwork {
             @NonNull final AddressBook addressBook,
             @NonNull final Duration averageDelay,
             @NonNull final Duration standardDeviationDelay) {
+        this(random, addressBook, averageDelay, standardDeviationDelay, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param random                  the random number generator to use for simulating network delays
+     * @param addressBook             the address book of the network
+     * @param averageDelay            the average delay for events to travel between nodes
+     * @param standardDeviationDelay  the standard deviation of the delay for events to travel between nodes
+     * @param bandwidthBytesPerSecond the upload bandwidth of each node in bytes per second, or 0 for unlimited
+     */
+    public SimulatedNetwork(
+            @NonNull final Random random,
+            @NonNull final AddressBook addressBook,
+            @NonNull final Duration averageDelay,
+            @NonNull final Duration standardDeviationDelay,
+            final long bandwidthBytesPerSecond) {
 
+        if (bandwidthBytesPerSecond < 0) {
+            throw new IllegalArgumentException("bandwidth must not be negative");
+        }
         this.random = Objects.requireNonNull(random);
+        this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
 
         for (final NodeId nodeId : addressBook.getNodeIdSet().stream().sorted().toList()) {
             newlySubmittedEvents.put(nodeId, new ArrayList<>());
@@ -113,6 +153,15 @@ public class SimulatedNetwork {
         return gossipInstances.get(nodeId);
     }
 
+    /**
+     * Get the total number of event bytes that have been sent over the network, counting one copy per receiver.
+     *
+     * @return the number of bytes transmitted
+     */
+    public long getBytesTransmitted() {
+        return bytesTransmitted;
+    }
+
     /**
      * Submit an event to be gossiped around the network. Safe to be called by multiple nodes in parallel.
      *
@@ -143,16 +192,9 @@ public class SimulatedNetwork {
             final NodeId nodeId = entry.getKey();
             final PriorityQueue<EventInTransit> events = entry.getValue();
 
-            final Iterator<EventInTransit> iterator = events.iterator();
-            while (iterator.hasNext()) {
-                final EventInTransit event = iterator.next();
-                if (event.arrivalTime().isAfter(now)) {
-                    // no more events to deliver
-                    break;
-                }
-
-                iterator.remove();
-                gossipInstances.get(nodeId).receiveEvent(event.event());
+            // A priority queue's iterator is not ordered, so events must be polled to be delivered in arrival order
+            while (!events.isEmpty() && !events.peek().arrivalTime().isAfter(now)) {
+                gossipInstances.get(nodeId).receiveEvent(events.poll().event());
             }
         }
     }
@@ -169,6 +211,7 @@ public class SimulatedNetwork {
         for (final NodeId sender : sortedNodeIds) {
             final List<PlatformEvent> events = newlySubmittedEvents.get(sender);
             for (final PlatformEvent event : events) {
+                final long eventBytes = GossipEvent.PROTOBUF.measureRecord(event.getGossipEvent());
                 for (final NodeId receiver : sortedNodeIds) {
                     if (sender.equals(receiver)) {
                         // Don't gossip to ourselves
@@ -177,8 +220,10 @@ public class SimulatedNetwork {
 
                     final PriorityQueue<EventInTransit> receiverEvents = eventsInTransit.get(receiver);
 
-                    final Instant deliveryTime = now.plusNanos(
+                    final Instant uploadCompleteTime = uploadCompleteTime(sender, now, eventBytes);
+                    final Instant deliveryTime = uploadCompleteTime.plusNanos(
                             (long) (averageDelayNanos + random.nextGaussian() * standardDeviationDelayNanos));
+                    bytesTransmitted += eventBytes;
 
                     // create a copy so that nodes don't modify each other's events
                     final PlatformEvent eventToDeliver = event.copyGossipedData();
@@ -191,4 +236,25 @@ public class SimulatedNetwork {
             events.clear();
         }
     }
+
+    /**
+     * Account for the sender uploading one copy of an event, and get the time at which that upload completes.
+     *
+     * @param sender     the node sending the event
+     * @param now        the current time
+     * @param eventBytes the size of the event in bytes
+     * @return the time at which the sender will have finished uploading the event
+     */
+    @NonNull
+    private Instant uploadCompleteTime(
+            @NonNull final NodeId sender, @NonNull final Instant now, final long eventBytes) {
+        if (bandwidthBytesPerSecond == 0) {
+            return now;
+        }
+        final Instant previousUploadsComplete = uploadsCompleteTimes.getOrDefault(sender, now);
+        final Instant uploadStart = previousUploadsComplete.isAfter(now) ? previousUploadsComplete : now;
+        final Instant uploadComplete = uploadStart.plusNanos(eventBytes * 1_000_000_000L / bandwidthBytesPerSecond);
+        uploadsCompleteTimes.put(sender, uploadComplete);
+        return uploadComplete;
+    }
 }
@@ -148,6 +148,38 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
         modifications.put(key, null);
     }
 
+    /**
+     * Returns whether there is a buffered modification (either a "put" or a "remove") for the given key. Together with
+     * {@link #get(Object)} this captures everything {@link #restoreModification(Object, boolean, Object)} needs to undo
+     * a later modification of the key.
+     *
+     * @param key The key
+     * @return true if the key has a buffered modification
+     */
+    public final boolean hasModification(@NonNull final K key) {
+        return modifications.containsKey(key);
+    }
+
+    /**
+     * Restores the buffered modification of the given key to an earlier snapshot. If the key was not modified at the
+     * time of the snapshot, its modification is dropped; otherwise it is reset to the given value, where a null value
+     * means the key was removed. Keys restored this way keep their original position in the iteration order of
+     * {@link #modifiedKeys()}.
+     *
+     * @param key The key
+     * @param wasModified whether the key had a buffered modification at the time of the snapshot
+     * @param previousValue the buffered value at the time of the snapshot, or null if it was removed
+     */
+    public final void restoreModification(
+            @NonNull final K key, final boolean wasModified, @Nullable final V previousValue) {
+        Objects.requireNonNull(key);
+        if (wasModified) {
+            modifications.put(key, previousValue);
+        } else {
+            modifications.remove(key);
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -53,6 +53,8 @@ public abstract class WritableQueueStateBase<E> implements WritableQueueState<E>
     private Iterator<E> dsIterator = null;
     /** The cached most recent peeked element */
     private E peekedElement = null;
+    /** The number of elements taken from {@link #dsIterator} so far */
+    private int numReadFromDataSource = 0;
 
     /** Create a new instance */
     protected WritableQueueStateBase(@NonNull final String stateKey) {
@@ -114,6 +116,46 @@ public abstract class WritableQueueStateBase<E> implements WritableQueueState<E>
         addedElements.clear();
         peekedElement = null;
         dsIterator = null;
+        numReadFromDataSource = 0;
+    }
+
+    /**
+     * Returns an opaque checkpoint of the buffered reads and additions of this queue, which can later be passed to
+     * {@link #rollbackTo(Object)} to undo every {@link #add(Object)} and {@link #removeIf(Predicate)} made in between.
+     * The checkpoint is only valid until the next {@link #commit()} or {@link #reset()}.
+     *
+     * @return the checkpoint
+     */
+    @NonNull
+    public Object checkpoint() {
+        return new Checkpoint<>(
+                readElements.size(),
+                addedElements.size(),
+                currentAddedElementIndex,
+                peekedElement,
+                numReadFromDataSource);
+    }
+
+    /**
+     * Rolls back the buffered reads and additions of this queue to a checkpoint taken with {@link #checkpoint()}.
+     *
+     * @param checkpoint the checkpoint to roll back to
+     */
+    @SuppressWarnings("unchecked")
+    public void rollbackTo(@NonNull final Object checkpoint) {
+        final var target = (Checkpoint<E>) requireNonNull(checkpoint);
+        readElements.subList(target.numRead(), readElements.size()).clear();
+        addedElements.subList(target.numAdded(), addedElements.size()).clear();
+        currentAddedElementIndex = target.addedElementIndex();
+        peekedElement = target.peekedElement();
+        if (numReadFromDataSource != target.numReadFromDataSource()) {
+            // Data source iterators cannot move backwards, so start over and skip what had been read at the checkpoint
+            dsIterator = iterateOnDataSource();
+            for (int i = 0; i < target.numReadFromDataSource(); i++) {
+                dsIterator.next();
+            }
+            numReadFromDataSource = target.numReadFromDataSource();
+        }
     }
 
     @NonNull
@@ -124,16 +166,17 @@ public abstract class WritableQueueStateBase<E> implements WritableQueueState<E>
 
     @Nullable
     @Override
-    // Suppressing the warning about the nested ternary operations
-    @SuppressWarnings("java:S3358")
     public E peek() {
         if (peekedElement != null) return peekedElement;
         if (dsIterator == null) dsIterator = iterateOnDataSource();
-        peekedElement = dsIterator.hasNext()
-                ? dsIterator.next()
-                : currentAddedElementIndex < addedElements.size()
-                        ? addedElements.get(currentAddedElementIndex++)
-                        : null;
+        if (dsIterator.hasNext()) {
+            peekedElement = dsIterator.next();
+            numReadFromDataSource++;
+        } else {
+            peekedElement = currentAddedElementIndex < addedElements.size()
+                    ? addedElements.get(currentAddedElementIndex++)
+                    : null;
+        }
         return peekedElement;
     }
 
@@ -199,4 +242,10 @@ public abstract class WritableQueueStateBase<E> implements WritableQueueState<E>
      */
     @NonNull
     protected abstract Iterator<E> iterateOnDataSource();
+
+    /**
+     * The buffered position of a queue at the time of a {@link #checkpoint()}.
+     */
+    private record Checkpoint<E>(
+            int numRead, int numAdded, int addedElementIndex, @Nullable E peekedElement, int numReadFromDataSource) {}
 }
@@ -19,6 +19,7 @@ package com.swirlds.state.spi;
 import static java.util.Objects.requireNonNull;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -95,6 +96,26 @@ public class WritableSingletonStateBase<T> extends ReadableSingletonStateBase<T>
         return value != null;
     }
 
+    /**
+     * Returns an opaque snapshot of the buffered modification of this singleton, which can later be passed to
+     * {@link #restoreModification(Object)} to undo any {@link #put(Object)} made in between.
+     *
+     * @return the snapshot, null if the singleton is not modified
+     */
+    @Nullable
+    public Object modificationSnapshot() {
+        return value;
+    }
+
+    /**
+     * Restores the buffered modification of this singleton to a snapshot taken with {@link #modificationSnapshot()}.
+     *
+     * @param snapshot the snapshot to restore
+     */
+    public void restoreModification(@Nullable final Object snapshot) {
+        this.value = snapshot;
+    }
+
     /**
      * Flushes all changes into the underlying data store. This method should <strong>ONLY</strong>
      * be called by the code that created the {@link WritableSingletonStateBase} instance or owns
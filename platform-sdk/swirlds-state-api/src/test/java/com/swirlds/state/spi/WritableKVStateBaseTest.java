@@ -423,6 +423,40 @@ public class WritableKVStateBaseTest extends ReadableKVStateBaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("restoreModification")
+    final class RestoreModificationTest {
+        @Test
+        @DisplayName("Restoring an unmodified key drops its modification")
+        void restoreUnmodified() {
+            assertThat(state.hasModification(A_KEY)).isFalse();
+            state.put(A_KEY, ACAI);
+            assertThat(state.hasModification(A_KEY)).isTrue();
+
+            state.restoreModification(A_KEY, false, null);
+            assertThat(state.hasModification(A_KEY)).isFalse();
+            assertThat(state.modifiedKeys()).isEmpty();
+            assertThat(state.get(A_KEY)).isEqualTo(APPLE);
+        }
+
+        @Test
+        @DisplayName("Restoring a modified key keeps its position in the modified keys")
+        void restoreModified() {
+            state.put(A_KEY, ACAI);
+            state.remove(B_KEY);
+            state.put(C_KEY, CHERRY);
+
+            state.put(A_KEY, APPLE);
+            state.put(B_KEY, BANANA);
+            state.restoreModification(A_KEY, true, ACAI);
+            state.restoreModification(B_KEY, true, null);
+
+            assertThat(state.modifiedKeys()).containsExactly(A_KEY, B_KEY, C_KEY);
+            assertThat(state.get(A_KEY)).isEqualTo(ACAI);
+            assertThat(state.get(B_KEY)).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("put")
     final class PutTest {
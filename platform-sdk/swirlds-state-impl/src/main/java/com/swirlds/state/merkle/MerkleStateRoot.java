@@ -38,6 +38,8 @@ import com.swirlds.metrics.api.Metrics;
 import com.swirlds.state.State;
 import com.swirlds.state.StateChangeListener;
 import com.swirlds.state.merkle.disk.OnDiskReadableKVState;
+import com.swirlds.state.merkle.disk.OnDiskValueCache;
+import com.swirlds.state.merkle.disk.OnDiskValueCacheMetrics;
 import com.swirlds.state.merkle.disk.OnDiskWritableKVState;
 import com.swirlds.state.merkle.memory.InMemoryReadableKVState;
 import com.swirlds.state.merkle.memory.InMemoryWritableKVState;
@@ -64,6 +66,7 @@ import com.swirlds.state.spi.WritableSingletonStateBase;
 import com.swirlds.state.spi.WritableStates;
 import com.swirlds.virtualmap.VirtualMap;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -129,6 +132,23 @@ public abstract class MerkleStateRoot<T extends MerkleStateRoot<T>> extends Part
      */
     private MerkleRootSnapshotMetrics snapshotMetrics = new MerkleRootSnapshotMetrics();
 
+    /**
+     * Metrics for the caches of decoded on-disk values, shared by all copies of this state
+     */
+    private OnDiskValueCacheMetrics valueCacheMetrics = OnDiskValueCacheMetrics.NO_OP;
+
+    /**
+     * The bound on the estimated size of the values in each cache of decoded on-disk values, or 0 if on-disk values
+     * are not cached
+     */
+    private long valueCacheMaxBytes = 0;
+
+    /**
+     * The caches of decoded values of the on-disk k/v states in this copy of the state, by state label. Each copy
+     * starts with empty caches, and the caches of a copy are only invalidated by writes to that copy.
+     */
+    private final Map<String, OnDiskValueCache<?, ?>> valueCaches = new ConcurrentHashMap<>();
+
     /**
      * Maintains information about each service, and each state of each service, known by this
      * instance. The key is the "service-name.state-key".
@@ -163,10 +183,25 @@ public abstract class MerkleStateRoot<T extends MerkleStateRoot<T>> extends Part
     }
 
     public void init(Time time, Metrics metrics, MerkleCryptography merkleCryptography) {
+        init(time, metrics, merkleCryptography, 0);
+    }
+
+    /**
+     * Initializes this state, caching decoded on-disk values up to the given bound.
+     *
+     * @param time the time source
+     * @param metrics the metrics to register with
+     * @param merkleCryptography the cryptography used to hash the state
+     * @param valueCacheMaxBytes the bound on the estimated size of the decoded values cached for each on-disk state
+     *     of each copy, or 0 to not cache on-disk values
+     */
+    public void init(Time time, Metrics metrics, MerkleCryptography merkleCryptography, long valueCacheMaxBytes) {
         this.time = time;
         this.metrics = metrics;
         this.merkleCryptography = merkleCryptography;
+        this.valueCacheMaxBytes = valueCacheMaxBytes;
         snapshotMetrics = new MerkleRootSnapshotMetrics(metrics);
+        valueCacheMetrics = new OnDiskValueCacheMetrics(metrics);
     }
 
     /**
@@ -179,6 +214,8 @@ public abstract class MerkleStateRoot<T extends MerkleStateRoot<T>> extends Part
         super(from);
         this.registryRecord = RuntimeObjectRegistry.createRecord(getClass());
         this.listeners.addAll(from.listeners);
+        this.valueCacheMetrics = from.valueCacheMetrics;
+        this.valueCacheMaxBytes = from.valueCacheMaxBytes;
 
         // Copy over the metadata
         for (final var entry : from.services.entrySet()) {
@@ -241,6 +278,7 @@ public abstract class MerkleStateRoot<T extends MerkleStateRoot<T>> extends Part
     @Override
     public void destroyNode() {
         registryRecord.release();
+        valueCaches.clear();
     }
 
     /**
@@ -353,6 +391,8 @@ public abstract class MerkleStateRoot<T extends MerkleStateRoot<T>> extends Part
         // it isn't stale or incomplete (e.g. in a genesis case)
         readableStatesMap.put(serviceName, new MerkleReadableStates(stateMetadata));
         writableStatesMap.put(serviceName, new MerkleWritableStates(serviceName, stateMetadata));
+        // The state definition may have changed the value codec, so drop any values decoded with the previous one
+        valueCaches.remove(computeLabel(serviceName, def.stateKey()));
 
         logger.info(STARTUP.getMarker(), "Put states! Service name: {} ", md.serviceName());
 
@@ -422,7 +462,8 @@ public abstract class MerkleStateRoot<T extends MerkleStateRoot<T>> extends Part
             stateMetadata.remove(stateKey);
         }
 
-        // Eventually remove the cached WritableState
+        // Eventually remove the cached WritableState and decoded values
+        valueCaches.remove(computeLabel(serviceName, stateKey));
         final var writableStates = writableStatesMap.get(serviceName);
         if (writableStates != null) {
             writableStates.remove(stateKey);
@@ -461,6 +502,24 @@ public abstract class MerkleStateRoot<T extends MerkleStateRoot<T>> extends Part
         return -1;
     }
 
+    /**
+     * Gets the cache of decoded values for the given on-disk state in this copy of the state.
+     *
+     * @param md the metadata of the state
+     * @return the cache, or null if on-disk values are not cached
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Nullable
+    private OnDiskValueCache valueCacheFor(@NonNull final StateMetadata<?, ?> md) {
+        if (valueCacheMaxBytes <= 0) {
+            return null;
+        }
+        return valueCaches.computeIfAbsent(
+                computeLabel(md.serviceName(), extractStateKey(md)),
+                ignore -> new OnDiskValueCache<>(
+                        md.stateDefinition().valueCodec(), valueCacheMaxBytes, valueCacheMetrics));
+    }
+
     private boolean checkNodeIndex(final int index, @NonNull final String label) {
         final var node = getChild(index);
         return node instanceof Labeled labeled && Objects.equals(label, labeled.getLabel());
@@ -636,7 +695,8 @@ public abstract class MerkleStateRoot<T extends MerkleStateRoot<T>> extends Part
                     extractStateKey(md),
                     md.onDiskKeyClassId(),
                     md.stateDefinition().keyCodec(),
-                    v);
+                    v,
+                    valueCacheFor(md));
         }
 
         @Override
@@ -724,7 +784,8 @@ public abstract class MerkleStateRoot<T extends MerkleStateRoot<T>> extends Part
                     md.stateDefinition().keyCodec(),
                     md.onDiskValueClassId(),
                     md.stateDefinition().valueCodec(),
-                    v);
+                    v,
+                    valueCacheFor(md));
             listeners.forEach(listener -> {
                 if (listener.stateTypes().contains(MAP)) {
                     registerKVListener(serviceName, state, listener);
@@ -17,6 +17,7 @@
 package com.swirlds.state.merkle;
 
 import static com.swirlds.common.io.streams.StreamDebugUtils.deserializeAndDebugOnFailure;
+import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
@@ -27,13 +28,20 @@ import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * Utility class for reading a snapshot of a {@link MerkleStateRoot} from disk.
  */
 public class MerkleTreeSnapshotReader {
 
+    private static final Logger logger = LogManager.getLogger(MerkleTreeSnapshotReader.class);
+
     /**
      * The previous version of the signed state file
      */
@@ -77,22 +85,56 @@ public class MerkleTreeSnapshotReader {
      */
     @NonNull
     public static StateFileData readStateFileData(@NonNull final Path stateFile) throws IOException {
+        return readStateFileData(stateFile, null);
+    }
+
+    /**
+     * Reads a state file from disk. If an executor is provided, subtrees that are stored in their own files (virtual
+     * maps) are loaded on it in parallel with each other and with the rest of the tree.
+     *
+     * @param stateFile the file to read from
+     * @param loadExecutor the executor to load external subtrees on, or null to read everything on the calling thread
+     * @return a signed state with it's associated hash (as computed when the state was serialized)
+     * @throws IOException if there is any problems with reading from a file
+     */
+    @NonNull
+    public static StateFileData readStateFileData(@NonNull final Path stateFile, @Nullable final Executor loadExecutor)
+            throws IOException {
+        final long start = System.nanoTime();
         return deserializeAndDebugOnFailure(
                 () -> new BufferedInputStream(new FileInputStream(stateFile.toFile())),
                 (final MerkleDataInputStream in) -> {
+                    in.setExternalLoadExecutor(loadExecutor);
                     final int fileVersion = readAndCheckStateFileVersion(in);
 
                     final Path directory = stateFile.getParent();
+                    final StateFileData data;
                     if (fileVersion == INIT_STATE_FILE_VERSION) {
-                        return readStateFileDataV1(stateFile, in, directory);
+                        data = readStateFileDataV1(stateFile, in, directory);
                     } else if (fileVersion == SIG_SET_SEPARATE_STATE_FILE_VERSION) {
-                        return readStateFileDataV2(stateFile, in, directory);
+                        data = readStateFileDataV2(stateFile, in, directory);
                     } else {
                         throw new IOException("Unsupported state file version: " + fileVersion);
                     }
+                    logLoadTimes(stateFile, Duration.ofNanos(System.nanoTime() - start), in.getExternalLoadTimes());
+                    return data;
                 });
     }
 
+    /**
+     * Log how long it took to load the state, and how long each of its virtual maps took to load.
+     */
+    private static void logLoadTimes(
+            @NonNull final Path stateFile,
+            @NonNull final Duration totalTime,
+            @NonNull final Map<String, Duration> externalLoadTimes) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Loaded state file ").append(stateFile).append(" in ").append(totalTime.toMillis()).append(" ms");
+        externalLoadTimes.forEach((name, time) ->
+                sb.append("\n  - ").append(name).append(": ").append(time.toMillis()).append(" ms"));
+        logger.info(STARTUP.getMarker(), sb.toString());
+    }
+
     /**
      * This method reads the state file data from a version 1 state file. This version of the state file contains
      * signature set data.
@@ -44,6 +44,10 @@ public final class OnDiskReadableKVState<K, V> extends ReadableKVStateBase<K, V>
     private final long keyClassId;
     private final Codec<K> keyCodec;
 
+    /** The cache of decoded values shared by all states of the same copy, or null if there is none */
+    @Nullable
+    private final OnDiskValueCache<K, V> valueCache;
+
     /**
      * Create a new instance
      *
@@ -57,18 +61,37 @@ public final class OnDiskReadableKVState<K, V> extends ReadableKVStateBase<K, V>
             final long keyClassId,
             @Nullable final Codec<K> keyCodec,
             @NonNull final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> virtualMap) {
+        this(stateKey, keyClassId, keyCodec, virtualMap, null);
+    }
+
+    /**
+     * Create a new instance that reads through a cache of decoded values
+     *
+     * @param stateKey   the state key
+     * @param keyClassId the class ID for the key
+     * @param keyCodec   the codec for the key
+     * @param virtualMap the backing merkle structure to use
+     * @param valueCache the cache of decoded values for this copy of the state, or null to always read from the map
+     */
+    public OnDiskReadableKVState(
+            String stateKey,
+            final long keyClassId,
+            @Nullable final Codec<K> keyCodec,
+            @NonNull final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> virtualMap,
+            @Nullable final OnDiskValueCache<K, V> valueCache) {
         super(stateKey);
         this.keyClassId = keyClassId;
         this.keyCodec = keyCodec;
         this.virtualMap = requireNonNull(virtualMap);
+        this.valueCache = valueCache;
     }
 
     /** {@inheritDoc} */
     @Override
     protected V readFromDataSource(@NonNull K key) {
-        final var k = new OnDiskKey<>(keyClassId, keyCodec, key);
-        final var v = virtualMap.get(k);
-        final var value = v == null ? null : v.getValue();
+        final var value = valueCache == null
+                ? readFromVirtualMap(virtualMap, keyClassId, keyCodec, key)
+                : readThroughCache(valueCache, virtualMap, keyClassId, keyCodec, key);
         // Log to transaction state log, what was read
         logMapGet(getStateKey(), key, value);
         return value;
@@ -94,7 +117,42 @@ public final class OnDiskReadableKVState<K, V> extends ReadableKVStateBase<K, V>
 
     @Override
     public void warm(@NonNull final K key) {
+        if (valueCache != null && valueCache.contains(key)) {
+            return;
+        }
         final var k = new OnDiskKey<>(keyClassId, keyCodec, key);
         virtualMap.warm(k);
     }
+
+    /**
+     * Reads a value through the given cache, caching it if it had to be read from the virtual map.
+     */
+    @Nullable
+    static <K, V> V readThroughCache(
+            @NonNull final OnDiskValueCache<K, V> valueCache,
+            @NonNull final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> virtualMap,
+            final long keyClassId,
+            @Nullable final Codec<K> keyCodec,
+            @NonNull final K key) {
+        final var cached = valueCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final var stamp = valueCache.stamp();
+        final var value = readFromVirtualMap(virtualMap, keyClassId, keyCodec, key);
+        if (value != null) {
+            valueCache.put(key, value, stamp);
+        }
+        return value;
+    }
+
+    @Nullable
+    static <K, V> V readFromVirtualMap(
+            @NonNull final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> virtualMap,
+            final long keyClassId,
+            @Nullable final Codec<K> keyCodec,
+            @NonNull final K key) {
+        final var v = virtualMap.get(new OnDiskKey<>(keyClassId, keyCodec, key));
+        return v == null ? null : v.getValue();
+    }
 }
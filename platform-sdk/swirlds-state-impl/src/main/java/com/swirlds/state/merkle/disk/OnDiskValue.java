@@ -141,4 +141,9 @@ public class OnDiskValue<V> implements VirtualValue {
         throwIfImmutable();
         this.value = requireNonNull(value);
     }
+
+    @Override
+    public String toString() {
+        return "OnDiskValue{" + "value=" + value + '}';
+    }
 }
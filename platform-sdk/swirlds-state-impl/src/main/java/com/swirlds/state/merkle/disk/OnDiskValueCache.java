@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.state.merkle.disk;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.pbj.runtime.Codec;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of decoded values read from the {@link com.swirlds.virtualmap.VirtualMap} behind an on-disk k/v state,
+ * shared by all the {@link OnDiskReadableKVState} and {@link OnDiskWritableKVState} instances created for a single
+ * copy of the state.
+ *
+ * <p>Each transaction works with freshly reset states, so a value that many transactions in a round read but do not
+ * change would otherwise be loaded and parsed from its serialized form again for every transaction. Values are
+ * immutable PBJ records, so a single decoded instance can safely be handed out to all readers.
+ *
+ * <p>Every write through an {@link OnDiskWritableKVState} invalidates the key it writes, after the write is applied
+ * to the map. A value is only admitted if no key was invalidated between taking the stamp before reading it and
+ * admitting it, so a value read before a write was applied is either rejected or removed by the write's
+ * invalidation.
+ *
+ * <p>The total estimated size of the cached values is bounded; once the bound is reached, no further values are
+ * admitted until entries are invalidated. Since each state copy gets a new cache, the bound is on the memory retained
+ * per state per copy.
+ *
+ * @param <K> The type of key for the state
+ * @param <V> The type of value for the state
+ */
+public final class OnDiskValueCache<K, V> {
+    /**
+     * A rough estimate of the memory used by a cache entry in addition to the serialized size of its value.
+     */
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+
+    private final Codec<V> valueCodec;
+    private final long maxEstimatedBytes;
+    private final OnDiskValueCacheMetrics metrics;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    /**
+     * Incremented on every invalidation, so that a value read from the data source before a write was applied is
+     * not admitted once the write has invalidated its key.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private record Entry<V>(@NonNull V value, long estimatedBytes) {}
+
+    /**
+     * Create a new cache.
+     *
+     * @param valueCodec        the codec of the values, used to estimate their size
+     * @param maxEstimatedBytes the bound on the total estimated size of the cached values
+     * @param metrics           the metrics to report cache hits and misses to
+     */
+    public OnDiskValueCache(
+            @NonNull final Codec<V> valueCodec,
+            final long maxEstimatedBytes,
+            @NonNull final OnDiskValueCacheMetrics metrics) {
+        this.valueCodec = requireNonNull(valueCodec);
+        this.maxEstimatedBytes = maxEstimatedBytes;
+        this.metrics = requireNonNull(metrics);
+    }
+
+    /**
+     * Gets the cached value for the given key, if any.
+     *
+     * @param key the key
+     * @return the cached value, or null if the key is not cached
+     */
+    @Nullable
+    public V get(@NonNull final K key) {
+        final var entry = entries.get(key);
+        if (entry == null) {
+            metrics.recordMiss();
+            return null;
+        }
+        metrics.recordHit();
+        return entry.value();
+    }
+
+    /**
+     * Returns whether the given key is cached, without counting a hit or miss.
+     *
+     * @param key the key
+     * @return whether the key is cached
+     */
+    public boolean contains(@NonNull final K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Returns a stamp to pass to {@link #put(Object, Object, long)} for a value about to be read from the data
+     * source.
+     *
+     * @return the current stamp
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Caches a value read from the data source, unless a key was invalidated since the given stamp was taken or the
+     * cache is full.
+     *
+     * @param key   the key
+     * @param value the value read for the key
+     * @param stamp the result of {@link #stamp()} before the value was read
+     */
+    public void put(@NonNull final K key, @NonNull final V value, final long stamp) {
+        final var size = valueCodec.measureRecord(value) + ENTRY_OVERHEAD_BYTES;
+        if (estimatedBytes.addAndGet(size) > maxEstimatedBytes) {
+            estimatedBytes.addAndGet(-size);
+            return;
+        }
+        final var entry = new Entry<>(value, size);
+        if (entries.putIfAbsent(key, entry) != null) {
+            estimatedBytes.addAndGet(-size);
+        } else if (invalidations.get() != stamp && entries.remove(key, entry)) {
+            estimatedBytes.addAndGet(-size);
+        }
+    }
+
+    /**
+     * Removes the given key from the cache, since its value was changed. Must be called after the change is applied
+     * to the data source.
+     *
+     * @param key the key
+     */
+    public void invalidate(@NonNull final K key) {
+        invalidations.incrementAndGet();
+        final var removed = entries.remove(key);
+        if (removed != null) {
+            estimatedBytes.addAndGet(-removed.estimatedBytes());
+        }
+    }
+
+    /**
+     * Removes all values from the cache.
+     */
+    public void clear() {
+        invalidations.incrementAndGet();
+        entries.clear();
+        estimatedBytes.set(0);
+    }
+
+    /**
+     * Gets the total estimated size of the cached values.
+     *
+     * @return the estimated size in bytes
+     */
+    public long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.state.merkle.disk;
+
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * This class encapsulates metrics for the {@link OnDiskValueCache} instances of a state.
+ */
+public class OnDiskValueCacheMetrics {
+    private static final String CATEGORY = "state";
+
+    private static final Counter.Config PARSES_AVOIDED_CONFIG = new Counter.Config(CATEGORY, "onDiskValueCacheHits")
+            .withDescription("number of on-disk state reads served by an already decoded value");
+
+    private static final Counter.Config MISSES_CONFIG = new Counter.Config(CATEGORY, "onDiskValueCacheMisses")
+            .withDescription("number of on-disk state reads that had to load the value from the virtual map");
+
+    /**
+     * Metrics that are not reported anywhere.
+     */
+    public static final OnDiskValueCacheMetrics NO_OP = new OnDiskValueCacheMetrics();
+
+    private final Counter parsesAvoided;
+    private final Counter misses;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics object
+     */
+    public OnDiskValueCacheMetrics(@NonNull final Metrics metrics) {
+        parsesAvoided = metrics.getOrCreate(PARSES_AVOIDED_CONFIG);
+        misses = metrics.getOrCreate(MISSES_CONFIG);
+    }
+
+    /**
+     * No-arg constructor constructs an object that does not track metrics.
+     */
+    public OnDiskValueCacheMetrics() {
+        parsesAvoided = null;
+        misses = null;
+    }
+
+    /**
+     * Records a read served from the cache, which avoided loading and parsing the value.
+     */
+    public void recordHit() {
+        if (parsesAvoided != null) {
+            parsesAvoided.increment();
+        }
+    }
+
+    /**
+     * Records a read that was not served from the cache.
+     */
+    public void recordMiss() {
+        if (misses != null) {
+            misses.increment();
+        }
+    }
+}
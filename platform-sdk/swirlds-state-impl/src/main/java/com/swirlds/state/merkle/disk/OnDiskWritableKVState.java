@@ -49,6 +49,10 @@ public final class OnDiskWritableKVState<K, V> extends WritableKVStateBase<K, V>
     private final Codec<V> valueCodec;
     private final long valueClassId;
 
+    /** The cache of decoded values shared by all states of the same copy, or null if there is none */
+    @Nullable
+    private final OnDiskValueCache<K, V> valueCache;
+
     private StoreMetrics storeMetrics;
 
     /**
@@ -68,20 +72,43 @@ public final class OnDiskWritableKVState<K, V> extends WritableKVStateBase<K, V>
             final long valueClassId,
             @NonNull final Codec<V> valueCodec,
             @NonNull final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> virtualMap) {
+        this(stateKey, keyClassId, keyCodec, valueClassId, valueCodec, virtualMap, null);
+    }
+
+    /**
+     * Create a new instance that reads through, and invalidates on writes, a cache of decoded values
+     *
+     * @param stateKey     the state key
+     * @param keyClassId   the class ID for the key
+     * @param keyCodec     the codec for the key
+     * @param valueClassId the class ID for the value
+     * @param valueCodec   the codec for the value
+     * @param virtualMap   the backing merkle data structure to use
+     * @param valueCache   the cache of decoded values for this copy of the state, or null if there is none
+     */
+    public OnDiskWritableKVState(
+            String stateKey,
+            final long keyClassId,
+            @Nullable final Codec<K> keyCodec,
+            final long valueClassId,
+            @NonNull final Codec<V> valueCodec,
+            @NonNull final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> virtualMap,
+            @Nullable final OnDiskValueCache<K, V> valueCache) {
         super(stateKey);
         this.keyClassId = keyClassId;
         this.keyCodec = keyCodec;
         this.valueClassId = valueClassId;
         this.valueCodec = valueCodec;
         this.virtualMap = requireNonNull(virtualMap);
+        this.valueCache = valueCache;
     }
 
     /** {@inheritDoc} */
     @Override
     protected V readFromDataSource(@NonNull K key) {
-        final var k = new OnDiskKey<>(keyClassId, keyCodec, key);
-        final var v = virtualMap.get(k);
-        final var value = v == null ? null : v.getValue();
+        final var value = valueCache == null
+                ? OnDiskReadableKVState.readFromVirtualMap(virtualMap, keyClassId, keyCodec, key)
+                : OnDiskReadableKVState.readThroughCache(valueCache, virtualMap, keyClassId, keyCodec, key);
         // Log to transaction state log, what was read
         logMapGet(getStateKey(), key, value);
         return value;
@@ -117,6 +144,10 @@ public final class OnDiskWritableKVState<K, V> extends WritableKVStateBase<K, V>
         } else {
             virtualMap.put(k, new OnDiskValue<>(valueClassId, valueCodec, value));
         }
+        // Invalidate only once the map is changed, so a concurrent read of the old value is never admitted
+        if (valueCache != null) {
+            valueCache.invalidate(key);
+        }
         // Log to transaction state log, what was put
         logMapPut(getStateKey(), key, value);
     }
@@ -126,6 +157,9 @@ public final class OnDiskWritableKVState<K, V> extends WritableKVStateBase<K, V>
     protected void removeFromDataSource(@NonNull K key) {
         final var k = new OnDiskKey<>(keyClassId, keyCodec, key);
         final var removed = virtualMap.remove(k);
+        if (valueCache != null) {
+            valueCache.invalidate(key);
+        }
         // Log to transaction state log, what was removed
         logMapRemove(getStateKey(), key, removed);
     }
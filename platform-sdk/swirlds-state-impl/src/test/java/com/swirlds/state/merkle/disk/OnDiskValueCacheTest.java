@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.state.merkle.disk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.swirlds.state.test.fixtures.merkle.MerkleTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OnDiskValueCacheTest extends MerkleTestBase {
+    private OnDiskValueCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        setupFruitVirtualMap();
+        cache = new OnDiskValueCache<>(STRING_CODEC, 1024, OnDiskValueCacheMetrics.NO_OP);
+        add(A_KEY, APPLE);
+        add(B_KEY, BANANA);
+    }
+
+    @Test
+    @DisplayName("Values put in the cache are returned until invalidated")
+    void putGetAndInvalidate() {
+        cache.put(A_KEY, APPLE, cache.stamp());
+        assertThat(cache.get(A_KEY)).isEqualTo(APPLE);
+        assertThat(cache.estimatedBytes()).isPositive();
+
+        cache.invalidate(A_KEY);
+        assertThat(cache.get(A_KEY)).isNull();
+        assertThat(cache.estimatedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("A value read before a concurrent invalidation is not admitted")
+    void staleValueIsNotAdmitted() {
+        final var stamp = cache.stamp();
+        cache.invalidate(A_KEY);
+        cache.put(A_KEY, APPLE, stamp);
+        assertThat(cache.contains(A_KEY)).isFalse();
+        assertThat(cache.estimatedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("A value read after an earlier invalidation but before a write is applied is not admitted")
+    void valueReadBeforeWriteIsAppliedIsNotAdmitted() {
+        final var writableState = newWritableState();
+        // An earlier invalidation of the key, followed by a reader taking its stamp and reading the old value
+        cache.invalidate(A_KEY);
+        final var stamp = cache.stamp();
+        final var oldValue = OnDiskReadableKVState.readFromVirtualMap(
+                fruitVirtualMap, onDiskKeyClassId(FRUIT_STATE_KEY), STRING_CODEC, A_KEY);
+        assertThat(oldValue).isEqualTo(APPLE);
+
+        // The write is applied before the reader admits the value it read
+        writableState.put(A_KEY, ACAI);
+        writableState.commit();
+        cache.put(A_KEY, oldValue, stamp);
+
+        assertThat(cache.contains(A_KEY)).isFalse();
+        assertThat(newReadableState().get(A_KEY)).isEqualTo(ACAI);
+    }
+
+    @Test
+    @DisplayName("A value admitted before a write is applied is removed by the write")
+    void valueAdmittedBeforeWriteIsAppliedIsRemoved() {
+        final var writableState = newWritableState();
+        cache.put(A_KEY, APPLE, cache.stamp());
+
+        writableState.put(A_KEY, ACAI);
+        writableState.commit();
+
+        assertThat(cache.contains(A_KEY)).isFalse();
+        assertThat(newReadableState().get(A_KEY)).isEqualTo(ACAI);
+    }
+
+    @Test
+    @DisplayName("Values are not admitted beyond the estimated size bound")
+    void boundedByEstimatedSize() {
+        final var smallCache = new OnDiskValueCache<String, String>(STRING_CODEC, 100, OnDiskValueCacheMetrics.NO_OP);
+        smallCache.put(A_KEY, APPLE, smallCache.stamp());
+        smallCache.put(B_KEY, "B".repeat(100), smallCache.stamp());
+        assertThat(smallCache.contains(A_KEY)).isTrue();
+        assertThat(smallCache.contains(B_KEY)).isFalse();
+        assertThat(smallCache.estimatedBytes()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Readable states share decoded values through the cache")
+    void readableStatesShareDecodedValues() {
+        assertThat(newReadableState().get(A_KEY)).isEqualTo(APPLE);
+
+        // Remove the value behind the cache's back, the next state must still be served from the cache
+        fruitVirtualMap.remove(new OnDiskKey<>(onDiskKeyClassId(FRUIT_STATE_KEY), STRING_CODEC, A_KEY));
+        assertThat(newReadableState().get(A_KEY)).isEqualTo(APPLE);
+    }
+
+    @Test
+    @DisplayName("Committed writes invalidate cached values")
+    void writesInvalidateCachedValues() {
+        assertThat(newReadableState().get(A_KEY)).isEqualTo(APPLE);
+        assertThat(newReadableState().get(B_KEY)).isEqualTo(BANANA);
+
+        final var writableState = newWritableState();
+        writableState.put(A_KEY, ACAI);
+        writableState.remove(B_KEY);
+        writableState.commit();
+
+        final var readableState = newReadableState();
+        assertThat(readableState.get(A_KEY)).isEqualTo(ACAI);
+        assertThat(readableState.get(B_KEY)).isNull();
+    }
+
+    private OnDiskReadableKVState<String, String> newReadableState() {
+        return new OnDiskReadableKVState<>(
+                FRUIT_STATE_KEY, onDiskKeyClassId(FRUIT_STATE_KEY), STRING_CODEC, fruitVirtualMap, cache);
+    }
+
+    private OnDiskWritableKVState<String, String> newWritableState() {
+        return new OnDiskWritableKVState<>(
+                FRUIT_STATE_KEY,
+                onDiskKeyClassId(FRUIT_STATE_KEY),
+                STRING_CODEC,
+                onDiskValueClassId(FRUIT_STATE_KEY),
+                STRING_CODEC,
+                fruitVirtualMap,
+                cache);
+    }
+
+    private void add(String key, String value) {
+        add(
+                fruitVirtualMap,
+                onDiskKeyClassId(FRUIT_STATE_KEY),
+                STRING_CODEC,
+                onDiskValueClassId(FRUIT_STATE_KEY),
+                STRING_CODEC,
+                key,
+                value);
+    }
+}
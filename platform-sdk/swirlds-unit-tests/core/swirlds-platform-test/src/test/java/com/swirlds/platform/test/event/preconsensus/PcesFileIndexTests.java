@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.event.preconsensus;
+
+import static com.swirlds.common.test.fixtures.io.FileManipulation.truncateFile;
+import static com.swirlds.platform.event.AncientMode.BIRTH_ROUND_THRESHOLD;
+import static com.swirlds.platform.event.AncientMode.GENERATION_THRESHOLD;
+import static com.swirlds.platform.test.consensus.ConsensusTestArgs.BIRTH_ROUND_PLATFORM_CONTEXT;
+import static com.swirlds.platform.test.consensus.ConsensusTestArgs.DEFAULT_PLATFORM_CONTEXT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.common.test.fixtures.RandomUtils;
+import com.swirlds.platform.event.AncientMode;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.preconsensus.PcesFile;
+import com.swirlds.platform.event.preconsensus.PcesFileIndex;
+import com.swirlds.platform.event.preconsensus.PcesMultiFileIterator;
+import com.swirlds.platform.event.preconsensus.PcesMutableFile;
+import com.swirlds.platform.system.BasicSoftwareVersion;
+import com.swirlds.platform.system.StaticSoftwareVersion;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.StandardEventSource;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("PCES File Index Tests")
+class PcesFileIndexTests {
+
+    private static final int INDEX_INTERVAL = 10;
+
+    /**
+     * Temporary directory provided by JUnit
+     */
+    @TempDir
+    Path testDirectory;
+
+    @BeforeAll
+    static void beforeAll() throws ConstructableRegistryException {
+        ConstructableRegistry.getInstance().registerConstructables("");
+        StaticSoftwareVersion.setSoftwareVersion(new BasicSoftwareVersion(1));
+    }
+
+    @AfterAll
+    static void afterAll() {
+        StaticSoftwareVersion.reset();
+    }
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        FileUtils.deleteDirectory(testDirectory);
+        Files.createDirectories(testDirectory);
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        FileUtils.deleteDirectory(testDirectory);
+    }
+
+    protected static Stream<Arguments> ancientAndWriterTypeArguments() {
+        return Stream.of(
+                Arguments.of(GENERATION_THRESHOLD, false),
+                Arguments.of(BIRTH_ROUND_THRESHOLD, false),
+                Arguments.of(GENERATION_THRESHOLD, true),
+                Arguments.of(BIRTH_ROUND_THRESHOLD, true));
+    }
+
+    /**
+     * Generate a list of events.
+     */
+    @NonNull
+    private static List<PlatformEvent> generateEvents(
+            @NonNull final Random random, @NonNull final AncientMode ancientMode, final int count) {
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                ancientMode == GENERATION_THRESHOLD ? DEFAULT_PLATFORM_CONTEXT : BIRTH_ROUND_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(generator.generateEvent().getBaseEvent());
+        }
+        return events;
+    }
+
+    /**
+     * Write events to a new file with an index.
+     */
+    @NonNull
+    private PcesFile writeFile(
+            @NonNull final Random random,
+            @NonNull final AncientMode ancientMode,
+            @NonNull final List<PlatformEvent> events,
+            final long sequenceNumber,
+            final boolean useFileChannelWriter)
+            throws IOException {
+
+        long upperBound = 0;
+        for (final PlatformEvent event : events) {
+            upperBound = Math.max(upperBound, event.getAncientIndicator(ancientMode));
+        }
+
+        final PcesFile file = PcesFile.of(
+                ancientMode, RandomUtils.randomInstant(random), sequenceNumber, 0, upperBound, 0, testDirectory);
+
+        final PcesMutableFile mutableFile = file.getMutableFile(useFileChannelWriter, false, INDEX_INTERVAL);
+        for (final PlatformEvent event : events) {
+            mutableFile.writeEvent(event);
+        }
+        mutableFile.close();
+
+        return file;
+    }
+
+    @ParameterizedTest
+    @MethodSource("ancientAndWriterTypeArguments")
+    @DisplayName("Indexed Read Test")
+    void indexedReadTest(@NonNull final AncientMode ancientMode, final boolean useFileChannelWriter)
+            throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = generateEvents(random, ancientMode, 200);
+        final PcesFile file = writeFile(random, ancientMode, events, 0, useFileChannelWriter);
+
+        assertTrue(Files.exists(file.getIndexPath()));
+        final PcesFileIndex index = PcesFileIndex.read(file);
+        assertNotNull(index);
+        assertEquals(INDEX_INTERVAL, index.getInterval());
+        assertEquals(events.size() / INDEX_INTERVAL - 1, index.size());
+
+        final long maxAncientIndicator = file.getUpperBound();
+        for (long lowerBound = 0; lowerBound <= maxAncientIndicator + 1; lowerBound++) {
+            final List<PlatformEvent> expectedEvents = new ArrayList<>();
+            for (final PlatformEvent event : events) {
+                if (event.getAncientIndicator(ancientMode) >= lowerBound) {
+                    expectedEvents.add(event);
+                }
+            }
+
+            final List<PlatformEvent> deserializedEvents = new ArrayList<>();
+            file.iterator(lowerBound).forEachRemaining(deserializedEvents::add);
+            assertEquals(expectedEvents, deserializedEvents, "mismatch for lower bound " + lowerBound);
+        }
+    }
+
+    @Test
+    @DisplayName("Seek Offset Test")
+    void seekOffsetTest() {
+        final PcesFileIndex index = new PcesFileIndex(INDEX_INTERVAL);
+        assertEquals(-1, index.getSeekOffset(100));
+
+        index.addEntry(100, 5);
+        index.addEntry(200, 5);
+        index.addEntry(300, 8);
+        index.addEntry(400, 12);
+
+        assertEquals(-1, index.getSeekOffset(5));
+        assertEquals(200, index.getSeekOffset(6));
+        assertEquals(200, index.getSeekOffset(8));
+        assertEquals(300, index.getSeekOffset(9));
+        assertEquals(300, index.getSeekOffset(12));
+        assertEquals(400, index.getSeekOffset(13));
+    }
+
+    @Test
+    @DisplayName("Stale Index Is Ignored Test")
+    void staleIndexIsIgnoredTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = generateEvents(random, BIRTH_ROUND_THRESHOLD, 100);
+        final PcesFile file = writeFile(random, BIRTH_ROUND_THRESHOLD, events, 0, false);
+
+        assertNotNull(PcesFileIndex.read(file));
+        truncateFile(file.getPath(), (int) (Files.size(file.getPath()) / 2));
+        assertNull(PcesFileIndex.read(file));
+
+        // The truncated file can still be read from the beginning
+        final IOIterator<PlatformEvent> iterator = file.iterator(file.getUpperBound());
+        while (iterator.hasNext()) {
+            assertTrue(iterator.next().getAncientIndicator(BIRTH_ROUND_THRESHOLD) >= file.getUpperBound());
+        }
+    }
+
+    @Test
+    @DisplayName("Index Deleted With File Test")
+    void indexDeletedWithFileTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = generateEvents(random, BIRTH_ROUND_THRESHOLD, 100);
+        final PcesFile file = writeFile(random, BIRTH_ROUND_THRESHOLD, events, 0, false);
+
+        assertTrue(Files.exists(file.getIndexPath()));
+        file.deleteFile(testDirectory);
+        assertFalse(Files.exists(file.getPath()));
+        assertFalse(Files.exists(file.getIndexPath()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ancientAndWriterTypeArguments")
+    @DisplayName("Read Ahead Multi File Iterator Test")
+    void readAheadMultiFileIteratorTest(@NonNull final AncientMode ancientMode, final boolean useFileChannelWriter)
+            throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final List<PlatformEvent> events = generateEvents(random, ancientMode, 500);
+
+        final List<PcesFile> files = new ArrayList<>();
+        final int eventsPerFile = 50;
+        for (int i = 0; i < events.size(); i += eventsPerFile) {
+            files.add(writeFile(
+                    random,
+                    ancientMode,
+                    events.subList(i, i + eventsPerFile),
+                    i / eventsPerFile,
+                    useFileChannelWriter));
+        }
+
+        final long lowerBound = events.get(events.size() / 3).getAncientIndicator(ancientMode);
+
+        final List<PlatformEvent> sequentialEvents = new ArrayList<>();
+        new PcesMultiFileIterator(lowerBound, files.iterator(), ancientMode)
+                .forEachRemaining(sequentialEvents::add);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        final List<PlatformEvent> readAheadEvents = new ArrayList<>();
+        final PcesMultiFileIterator readAheadIterator =
+                new PcesMultiFileIterator(lowerBound, files.iterator(), ancientMode, executor, 3);
+        readAheadIterator.forEachRemaining(readAheadEvents::add);
+
+        assertFalse(sequentialEvents.isEmpty());
+        assertEquals(sequentialEvents, readAheadEvents);
+        assertEquals(0, readAheadIterator.getTruncatedFileCount());
+        assertTrue(executor.isShutdown());
+    }
+}
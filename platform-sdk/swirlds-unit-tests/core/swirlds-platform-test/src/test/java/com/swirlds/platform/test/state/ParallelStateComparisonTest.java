@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.state;
+
+import static com.swirlds.common.test.fixtures.RandomUtils.randomHash;
+import static com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils.buildLessSimpleTree;
+import static com.swirlds.platform.state.signed.SignedStateComparison.mismatchedNodeIterator;
+import static com.swirlds.platform.state.signed.SignedStateComparison.printMismatchedValues;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.common.merkle.utility.MerkleLong;
+import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
+import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleLeaf;
+import com.swirlds.platform.state.signed.MismatchedNodes;
+import com.swirlds.platform.state.signed.ParallelStateComparison;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("Parallel State Comparison Test")
+class ParallelStateComparisonTest {
+
+    /**
+     * Modifications applied to tree B before comparing it to an unmodified tree A.
+     */
+    static Stream<Arguments> modifications() {
+        final List<Arguments> arguments = new ArrayList<>();
+        final List<Consumer<MerkleNode>> changes = List.of(
+                tree -> {},
+                tree -> ((DummyMerkleLeaf) tree.getNodeAtRoute(1, 0)).setValue("X"),
+                tree -> ((DummyMerkleInternal) tree.getNodeAtRoute(1)).setChild(0, new MerkleLong(1234)),
+                tree -> tree.asInternal().setChild(1, null),
+                tree -> {
+                    ((DummyMerkleLeaf) tree.getNodeAtRoute(1, 0)).setValue("X");
+                    ((DummyMerkleLeaf) tree.getNodeAtRoute(2, 0)).setValue("Y");
+                });
+        for (int i = 0; i < changes.size(); i++) {
+            for (final int parallelism : List.of(1, 4)) {
+                for (final boolean deep : List.of(true, false)) {
+                    arguments.add(Arguments.of(i, changes.get(i), parallelism, deep));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest(name = "modification {0}, {2} threads, deep = {3}")
+    @MethodSource("modifications")
+    @DisplayName("Same Differences As Sequential Comparison")
+    void sameDifferencesAsSequentialComparison(
+            final int index, final Consumer<MerkleNode> modification, final int parallelism, final boolean deep) {
+        final MerkleNode stateA = buildLessSimpleTree();
+        MerkleCryptoFactory.getInstance().digestTreeSync(stateA);
+        final MerkleNode stateB = buildLessSimpleTree();
+        modification.accept(stateB);
+        MerkleCryptoFactory.getInstance().digestTreeSync(stateB);
+
+        final List<MismatchedNodes> expected = new ArrayList<>();
+        mismatchedNodeIterator(stateA, stateB, deep).forEachRemaining(expected::add);
+
+        final ParallelStateComparison comparison =
+                new ParallelStateComparison(parallelism, deep, Duration.ofSeconds(1));
+        final List<MismatchedNodes> actual = comparison.compare(stateA, stateB);
+
+        assertEquals(expected.size(), actual.size(), "the same number of differences should be found");
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).nodeA(), actual.get(i).nodeA(), "nodes should match");
+            assertSame(expected.get(i).nodeB(), actual.get(i).nodeB(), "nodes should match");
+        }
+        assertEquals(actual.size(), comparison.getMismatchesFound());
+        assertTrue(comparison.getNodesCompared() > 0, "nodes should have been compared");
+
+        // There should be no exceptions thrown by printing.
+        printMismatchedValues(actual, 1000);
+    }
+
+    @Test
+    @DisplayName("Matching Subtrees Are Skipped")
+    void matchingSubtreesAreSkipped() {
+        final MerkleNode stateA = buildLessSimpleTree();
+        MerkleCryptoFactory.getInstance().digestTreeSync(stateA);
+        final MerkleNode stateB = buildLessSimpleTree();
+        MerkleCryptoFactory.getInstance().digestTreeSync(stateB);
+
+        final ParallelStateComparison shallow = new ParallelStateComparison(2, false, Duration.ofSeconds(1));
+        assertTrue(shallow.compare(stateA, stateB).isEmpty(), "no differences should be found");
+        assertEquals(1, shallow.getNodesCompared(), "only the roots should be compared");
+        assertEquals(1, shallow.getSubtreesSkipped(), "the whole tree should be skipped");
+
+        // Change a leaf without rehashing the tree, only a deep comparison can find it
+        ((DummyMerkleLeaf) stateB.getNodeAtRoute(1, 1)).enableDuplicateHashing().setHash(randomHash());
+        assertTrue(shallow.compare(stateA, stateB).isEmpty(), "no differences should be found");
+
+        final ParallelStateComparison deep = new ParallelStateComparison(2, true, Duration.ofSeconds(1));
+        final List<MismatchedNodes> differences = deep.compare(stateA, stateB);
+        assertEquals(1, differences.size(), "the modified leaf should be found");
+        assertSame(stateB.getNodeAtRoute(1, 1), differences.getFirst().nodeB(), "the modified leaf should be found");
+    }
+}
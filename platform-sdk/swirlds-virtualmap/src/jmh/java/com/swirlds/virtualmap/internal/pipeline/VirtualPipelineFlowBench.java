@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.pipeline; // NOSONAR: Needed to benchmark internal classes
+
+import com.swirlds.common.constructable.ConstructableIgnored;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.impl.PartialMerkleLeaf;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays a bursty workload against a {@link VirtualPipeline} with simulated copies, and measures how long it takes
+ * to create a copy, including family size backpressure. Most copies are small, but every {@link #burstInterval}
+ * copies there is a burst of large copies. Flushes and merges take time proportional to copy sizes.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 20)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VirtualPipelineFlowBench {
+
+    private static final long MB = 1024 * 1024;
+
+    @Param({"false", "true"})
+    public boolean adaptive;
+
+    /**
+     * Simulated disk bandwidth, MB/s. Flushing a copy takes its size divided by this value.
+     */
+    @Param({"200"})
+    public long diskBandwidth;
+
+    /**
+     * Simulated merge bandwidth, MB/s. Merging a copy takes its size divided by this value.
+     */
+    @Param({"2000"})
+    public long mergeBandwidth;
+
+    /**
+     * Size of a copy out of bursts, bytes.
+     */
+    @Param({"1048576"})
+    public long quietCopySize;
+
+    /**
+     * Size of a copy during bursts, bytes.
+     */
+    @Param({"33554432"})
+    public long burstCopySize;
+
+    /**
+     * Number of copies between bursts starts.
+     */
+    @Param({"64"})
+    public int burstInterval;
+
+    /**
+     * Number of copies in a burst.
+     */
+    @Param({"16"})
+    public int burstLength;
+
+    private VirtualMapConfig config;
+
+    private VirtualPipeline pipeline;
+
+    private SimulatedRoot current;
+
+    private long copyIndex;
+
+    @Setup(Level.Trial)
+    public void setupConfig() {
+        final Configuration configuration = new TestConfigBuilder()
+                .withSource(new SimpleConfigSource()
+                        .withValue(VirtualMapConfig_.COPY_FLUSH_THRESHOLD, 256 * MB + "")
+                        .withValue(VirtualMapConfig_.FAMILY_THROTTLE_THRESHOLD, 512 * MB + "")
+                        .withValue(VirtualMapConfig_.MAXIMUM_FLUSH_THROTTLE_PERIOD, "1s")
+                        .withValue(VirtualMapConfig_.ADAPTIVE_FLUSH_CONTROL, adaptive + ""))
+                .withConfigDataType(VirtualMapConfig.class)
+                .getOrCreateConfig();
+        config = configuration.getConfigData(VirtualMapConfig.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupPipeline() {
+        pipeline = new VirtualPipeline(config, "flowBench");
+        copyIndex = 0;
+        current = new SimulatedRoot(this, copyIndex, nextCopySize());
+        pipeline.registerCopy(current);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownPipeline() throws InterruptedException {
+        current.release();
+        pipeline.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Make a copy and release the previous one, as a round is handled.
+     */
+    @Benchmark
+    public void copy() {
+        final SimulatedRoot previous = current;
+        current = previous.copy();
+        previous.release();
+    }
+
+    private long nextCopySize() {
+        return (copyIndex % burstInterval) < burstLength ? burstCopySize : quietCopySize;
+    }
+
+    private static void work(final long bytes, final long mbPerSecond) {
+        LockSupport.parkNanos(bytes * TimeUnit.SECONDS.toNanos(1) / (mbPerSecond * MB));
+    }
+
+    /**
+     * A virtual root that doesn't store anything, but takes time to flush and merge.
+     */
+    @ConstructableIgnored
+    private static final class SimulatedRoot extends PartialMerkleLeaf implements VirtualRoot, MerkleLeaf {
+
+        private final VirtualPipelineFlowBench bench;
+        private final long fastCopyVersion;
+        private final long size;
+        private final long flushThreshold;
+
+        private volatile boolean shouldBeFlushed;
+        private volatile boolean flushed;
+        private volatile boolean merged;
+        private volatile boolean hashed;
+
+        SimulatedRoot(final VirtualPipelineFlowBench bench, final long fastCopyVersion, final long size) {
+            this.bench = bench;
+            this.fastCopyVersion = fastCopyVersion;
+            this.size = size;
+            this.flushThreshold = bench.config.copyFlushThreshold();
+        }
+
+        @Override
+        public SimulatedRoot copy() {
+            setImmutable(true);
+            bench.copyIndex++;
+            final SimulatedRoot copy = new SimulatedRoot(bench, bench.copyIndex, bench.nextCopySize());
+            bench.pipeline.registerCopy(copy);
+            return copy;
+        }
+
+        @Override
+        public long getClassId() {
+            return 0;
+        }
+
+        @Override
+        public int getVersion() {
+            return 0;
+        }
+
+        @Override
+        public void serialize(final SerializableDataOutputStream out) {}
+
+        @Override
+        public void deserialize(final SerializableDataInputStream in, final int version) {}
+
+        @Override
+        public boolean shouldBeFlushed() {
+            return shouldBeFlushed || (flushThreshold > 0 && size >= flushThreshold);
+        }
+
+        @Override
+        public void enableFlush() {
+            shouldBeFlushed = true;
+        }
+
+        @Override
+        public boolean flush() {
+            work(size, bench.diskBandwidth);
+            flushed = true;
+            return true;
+        }
+
+        @Override
+        public boolean isFlushed() {
+            return flushed;
+        }
+
+        @Override
+        public void waitUntilFlushed() {}
+
+        @Override
+        public long estimatedSize() {
+            return size;
+        }
+
+        @Override
+        public void merge() {
+            work(size, bench.mergeBandwidth);
+            merged = true;
+        }
+
+        @Override
+        public boolean isMerged() {
+            return merged;
+        }
+
+        @Override
+        public boolean isHashed() {
+            return hashed;
+        }
+
+        @Override
+        public void computeHash() {
+            hashed = true;
+        }
+
+        @Override
+        public <T> T detach(final Path destination) {
+            return null;
+        }
+
+        @Override
+        public boolean isDetached() {
+            return false;
+        }
+
+        @Override
+        public boolean isRegisteredToPipeline(final VirtualPipeline pipeline) {
+            return pipeline == bench.pipeline;
+        }
+
+        @Override
+        public void onShutdown(final boolean immediately) {}
+
+        @Override
+        public long getFastCopyVersion() {
+            return fastCopyVersion;
+        }
+
+        @Override
+        protected void destroyNode() {
+            bench.pipeline.destroyCopy(this);
+        }
+    }
+}
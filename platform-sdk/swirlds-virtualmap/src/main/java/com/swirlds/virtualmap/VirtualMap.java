@@ -367,9 +367,23 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
         final int fileNameLengthInBytes = in.readInt();
         final String inputFileName = in.readNormalisedString(fileNameLengthInBytes);
         final Path inputFile = inputDirectory.resolve(inputFileName);
-        loadFromFile(inputFile);
-        if (version < ClassVersion.REHASH_LEAVES) {
-            root.fullLeafRehashIfNecessary();
+        if (in instanceof MerkleDataInputStream merkleIn) {
+            // Each map lives in its own file, so it may be restored in parallel with the rest of the tree
+            merkleIn.deferExternalLoad(inputFileName, () -> {
+                loadFromFile(inputFile);
+                if (version < ClassVersion.REHASH_LEAVES) {
+                    root.fullLeafRehashIfNecessary();
+                }
+                if (merkleIn.isExternalLoadDeferred()) {
+                    // A loaded state is always hashed before it is used, hash the virtual part while still in parallel
+                    root.getHash();
+                }
+            });
+        } else {
+            loadFromFile(inputFile);
+            if (version < ClassVersion.REHASH_LEAVES) {
+                root.fullLeafRehashIfNecessary();
+            }
         }
     }
 
@@ -87,6 +87,17 @@ import java.time.Duration;
  * 		increase the amount of time required to make a fast copy by this amount of time.
  * @param maximumFlushThrottlePeriod
  * 		The maximum amount of time that any virtual map fast copy will be delayed due to a flush backlog.
+ * @param fullRehashPrefetchThreads
+ *      The number of threads to load leaves from disk with, when all leaves of a virtual map are rehashed
+ *      on startup.
+ * @param fullRehashPrefetchChunkSize
+ *      The number of leaves, in path order, loaded by a single prefetch task during a full leaf rehash. Up to
+ *      two chunks per prefetch thread are kept in memory.
+ * @param adaptiveFlushControl
+ *      If true, the virtual pipeline measures flush and merge throughput and adapts to it. Copies are flushed
+ *      below {@link #copyFlushThreshold} when the family size approaches {@link #familyThrottleThreshold}, and
+ *      the family size backpressure pause is the time needed to flush the excess at the measured rate, capped
+ *      by {@link #maximumFlushThrottlePeriod}. If false, the static thresholds are used.
  */
 @ConfigData("virtualMap")
 public record VirtualMapConfig(
@@ -109,7 +120,10 @@ public record VirtualMapConfig(
         @ConfigProperty(defaultValue = "2000000000") long familyThrottleThreshold,
         @ConfigProperty(defaultValue = "10000") int preferredFlushQueueSize,
         @ConfigProperty(defaultValue = "200ms") Duration flushThrottleStepSize,
-        @ConfigProperty(defaultValue = "5s") Duration maximumFlushThrottlePeriod) {
+        @ConfigProperty(defaultValue = "5s") Duration maximumFlushThrottlePeriod,
+        @Min(1) @ConfigProperty(defaultValue = "4") int fullRehashPrefetchThreads,
+        @Min(1) @ConfigProperty(defaultValue = "100000") int fullRehashPrefetchChunkSize,
+        @ConfigProperty(defaultValue = "false") boolean adaptiveFlushControl) {
 
     private static final double UNIT_FRACTION_PERCENT = 100.0;
 
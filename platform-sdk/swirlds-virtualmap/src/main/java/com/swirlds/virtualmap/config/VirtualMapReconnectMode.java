@@ -39,5 +39,15 @@ public final class VirtualMapReconnectMode {
      */
     public static final String PULL_TWO_PHASE_PESSIMISTIC = "pullTwoPhasePessimistic";
 
+    /**
+     * "Pull / multi teacher" reconnect mode, when learner sends requests to several teachers holding
+     * the same state in parallel, fetching different parts of the virtual tree from different teachers.
+     * With a single teacher, it works similar to "pull / bottom to top" mode. Additional teachers must be
+     * passed to the {@link com.swirlds.common.merkle.synchronization.LearningSynchronizer}; platform reconnect
+     * currently connects to a single teacher only, so in this mode it falls back to a single teacher and logs
+     * a warning
+     */
+    public static final String PULL_MULTI_TEACHER = "pullMultiTeacher";
+
     private VirtualMapReconnectMode() {}
 }
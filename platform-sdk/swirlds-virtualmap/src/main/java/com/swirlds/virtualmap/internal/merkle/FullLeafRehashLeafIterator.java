@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.merkle;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.serialize.KeySerializer;
+import com.swirlds.virtualmap.serialize.ValueSerializer;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An iterator over all leaves in a leaf path range of a {@link VirtualDataSource}, in ascending path order, used
+ * by {@link VirtualRootNode#fullLeafRehashIfNecessary()} to feed the hasher.
+ * <p>
+ * The path range is split into contiguous chunks. Chunks are loaded from the data source concurrently by a
+ * small pool of prefetch threads, while the iterator hands out leaves chunk by chunk in path order. At most
+ * {@code maxChunksInFlight} chunks are loaded or waiting to be consumed at any time, which bounds the memory
+ * used by the prefetched leaves. Leaf records are looked up by path rather than streamed from data files,
+ * since after compaction data files are not sorted by path.
+ * <p>
+ * This iterator is not thread safe. It must be consumed by a single thread, although {@link #close()} may be
+ * called from any thread.
+ *
+ * @param <K>
+ * 		The key
+ * @param <V>
+ * 		The value
+ */
+public class FullLeafRehashLeafIterator<K extends VirtualKey, V extends VirtualValue>
+        implements Iterator<VirtualLeafRecord<K, V>>, AutoCloseable {
+
+    private final VirtualDataSource dataSource;
+    private final KeySerializer<K> keySerializer;
+    private final ValueSerializer<V> valueSerializer;
+    private final long lastLeafPath;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final ExecutorService prefetchExecutor;
+
+    /** Chunks being loaded or waiting to be consumed, in path order */
+    private final ArrayDeque<Future<List<VirtualLeafRecord<K, V>>>> chunks = new ArrayDeque<>();
+
+    /** The first path of the next chunk to schedule for loading */
+    private long nextChunkFirstPath;
+
+    /** The chunk being consumed */
+    private List<VirtualLeafRecord<K, V>> current = List.of();
+
+    /** The index of the next leaf to return from {@link #current} */
+    private int currentIndex = 0;
+
+    /** Indicates that this iterator is closed, and prefetch threads should stop loading leaves */
+    private volatile boolean closed = false;
+
+    /** The number of leaves returned by this iterator so far */
+    private final AtomicLong leavesSupplied = new AtomicLong(0);
+
+    /**
+     * Create a new {@link FullLeafRehashLeafIterator} and start prefetching leaves.
+     *
+     * @param firstLeafPath
+     * 		The first leaf path. Must be a valid path.
+     * @param lastLeafPath
+     * 		The last leaf path. Must be a valid path.
+     * @param dataSource
+     * 		The data source to load leaves from. Cannot be null.
+     * @param prefetchThreads
+     *      The number of threads to load leaves with. Must be positive.
+     * @param chunkSize
+     *      The number of leaves in a single chunk. Must be positive.
+     */
+    public FullLeafRehashLeafIterator(
+            final long firstLeafPath,
+            final long lastLeafPath,
+            @NonNull final KeySerializer<K> keySerializer,
+            @NonNull final ValueSerializer<V> valueSerializer,
+            @NonNull final VirtualDataSource dataSource,
+            final int prefetchThreads,
+            final int chunkSize) {
+        if (firstLeafPath < 1 || lastLeafPath < firstLeafPath) {
+            throw new IllegalArgumentException("Invalid leaf path range: " + firstLeafPath + " - " + lastLeafPath);
+        }
+        if (prefetchThreads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Prefetch threads and chunk size must be positive");
+        }
+        this.keySerializer = requireNonNull(keySerializer);
+        this.valueSerializer = requireNonNull(valueSerializer);
+        this.dataSource = requireNonNull(dataSource);
+        this.lastLeafPath = lastLeafPath;
+        this.chunkSize = chunkSize;
+        // Two chunks per thread, so every thread has the next chunk to load while the previous one is consumed
+        this.maxChunksInFlight = prefetchThreads * 2;
+        this.nextChunkFirstPath = firstLeafPath;
+        this.prefetchExecutor = Executors.newFixedThreadPool(
+                prefetchThreads,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("virtualmap")
+                        .setThreadName("leafPrefetcher")
+                        .buildFactory());
+        scheduleChunks();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        while (currentIndex >= current.size()) {
+            final Future<List<VirtualLeafRecord<K, V>>> next = chunks.poll();
+            if (next == null) {
+                if (nextChunkFirstPath <= lastLeafPath) {
+                    // Closed before all chunks were scheduled
+                    throw new MerkleSynchronizationException("Leaf prefetching is stopped");
+                }
+                return false;
+            }
+            current = awaitChunk(next);
+            currentIndex = 0;
+            scheduleChunks();
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualLeafRecord<K, V> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        // Release the reference, so consumed leaves can be garbage collected before the whole chunk is consumed
+        final VirtualLeafRecord<K, V> leaf = current.set(currentIndex++, null);
+        leavesSupplied.incrementAndGet();
+        return leaf;
+    }
+
+    /**
+     * Gets the number of leaves returned by this iterator so far. May be called from any thread.
+     *
+     * @return the number of leaves supplied to the consumer
+     */
+    public long getLeavesSupplied() {
+        return leavesSupplied.get();
+    }
+
+    /**
+     * Stops prefetching. Leaves that are not loaded yet will not be available, and a consumer waiting for them
+     * gets a {@link MerkleSynchronizationException}.
+     */
+    @Override
+    public void close() {
+        // Prefetch threads aren't interrupted, as interrupts would close data source file channels
+        closed = true;
+        prefetchExecutor.shutdown();
+    }
+
+    private void scheduleChunks() {
+        while (!closed && chunks.size() < maxChunksInFlight && nextChunkFirstPath <= lastLeafPath) {
+            final long from = nextChunkFirstPath;
+            final long to = Math.min(lastLeafPath, from + chunkSize - 1);
+            chunks.add(prefetchExecutor.submit(() -> loadChunk(from, to)));
+            nextChunkFirstPath = to + 1;
+        }
+        if (nextChunkFirstPath > lastLeafPath) {
+            // All chunks are scheduled, let the prefetch threads exit once they are done
+            prefetchExecutor.shutdown();
+        }
+    }
+
+    private List<VirtualLeafRecord<K, V>> loadChunk(final long from, final long to) throws IOException {
+        final List<VirtualLeafRecord<K, V>> leaves = new ArrayList<>((int) (to - from + 1));
+        for (long path = from; path <= to; path++) {
+            if (closed) {
+                throw new IOException("Leaf prefetching is stopped");
+            }
+            final VirtualLeafBytes leafBytes = dataSource.loadLeafRecord(path);
+            if (leafBytes == null) {
+                throw new IOException("Leaf record not found, path=" + path);
+            }
+            leaves.add(leafBytes.toRecord(keySerializer, valueSerializer));
+        }
+        return leaves;
+    }
+
+    private List<VirtualLeafRecord<K, V>> awaitChunk(final Future<List<VirtualLeafRecord<K, V>>> chunk) {
+        try {
+            return chunk.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MerkleSynchronizationException("Interrupted while waiting for leaves to be loaded", e);
+        } catch (final ExecutionException e) {
+            throw new MerkleSynchronizationException("Failed to load leaves during full rehashing", e.getCause());
+        }
+    }
+}
@@ -69,6 +69,24 @@ public class VirtualMapStatistics {
     private Counter flushCount;
     /** The average time to hash virtual map copy, ms */
     private LongAccumulator hashDurationMs;
+    /** Full leaf rehash rate, leaves / s */
+    private LongGauge fullRehashRate;
+    /** Full leaf rehash estimated time to completion, s */
+    private LongGauge fullRehashEta;
+    /** Measured copy flush throughput, bytes / s */
+    private LongGauge flushThroughput;
+    /** Measured copy merge throughput, bytes / s */
+    private LongGauge mergeThroughput;
+    /** Current adaptive copy flush threshold, bytes */
+    private LongGauge adaptiveFlushThreshold;
+
+    /**
+     * Full leaf rehash runs on startup, before metrics are registered. The last reported values are kept
+     * here, so they are available once metrics are registered.
+     */
+    private volatile long lastFullRehashRate = 0;
+
+    private volatile long lastFullRehashEta = 0;
 
     private static LongAccumulator buildLongAccumulator(
             final Metrics metrics, final String name, final String description) {
@@ -161,6 +179,23 @@ public class VirtualMapStatistics {
                 metrics,
                 VMAP_PREFIX + LIFECYCLE_PREFIX + "hashDurationMs_" + label,
                 "Virtual root copy hash duration, " + label + ", ms");
+        fullRehashRate = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "fullRehashRate_" + label)
+                        .withDescription("Full leaf rehash rate, " + label + ", leaves per second"));
+        fullRehashRate.set(lastFullRehashRate);
+        fullRehashEta = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "fullRehashEta_" + label)
+                        .withDescription("Full leaf rehash estimated time to completion, " + label + ", s"));
+        fullRehashEta.set(lastFullRehashEta);
+        flushThroughput = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "flushThroughput_" + label)
+                        .withDescription("Virtual root copy flush throughput, " + label + ", bytes per second"));
+        mergeThroughput = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "mergeThroughput_" + label)
+                        .withDescription("Virtual root copy merge throughput, " + label + ", bytes per second"));
+        adaptiveFlushThreshold = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "flushThreshold_" + label)
+                        .withDescription("Adaptive virtual root copy flush threshold, " + label + ", bytes"));
     }
 
     /**
@@ -289,4 +324,41 @@ public class VirtualMapStatistics {
             this.hashDurationMs.update(hashDurationMs);
         }
     }
+
+    /**
+     * Record full leaf rehash progress.
+     *
+     * @param leavesPerSecond the rate at which leaves are rehashed
+     * @param etaSeconds estimated number of seconds till full rehash is complete
+     */
+    public void recordFullRehashProgress(final long leavesPerSecond, final long etaSeconds) {
+        lastFullRehashRate = leavesPerSecond;
+        lastFullRehashEta = etaSeconds;
+        if (fullRehashRate != null) {
+            fullRehashRate.set(leavesPerSecond);
+        }
+        if (fullRehashEta != null) {
+            fullRehashEta.set(etaSeconds);
+        }
+    }
+
+    /**
+     * Record the state of adaptive flush control.
+     *
+     * @param flushBytesPerSecond the measured flush throughput
+     * @param mergeBytesPerSecond the measured merge throughput
+     * @param flushThreshold      the current flush threshold, in bytes
+     */
+    public void recordFlowControl(
+            final long flushBytesPerSecond, final long mergeBytesPerSecond, final long flushThreshold) {
+        if (flushThroughput != null) {
+            flushThroughput.set(flushBytesPerSecond);
+        }
+        if (mergeThroughput != null) {
+            mergeThroughput.set(mergeBytesPerSecond);
+        }
+        if (adaptiveFlushThreshold != null) {
+            adaptiveFlushThreshold.set(flushThreshold);
+        }
+    }
 }
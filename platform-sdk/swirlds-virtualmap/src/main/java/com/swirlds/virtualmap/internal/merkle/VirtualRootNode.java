@@ -31,6 +31,7 @@ import static com.swirlds.virtualmap.internal.Path.getParentPath;
 import static com.swirlds.virtualmap.internal.Path.getPathForRankAndIndex;
 import static com.swirlds.virtualmap.internal.Path.getRank;
 import static com.swirlds.virtualmap.internal.Path.getRightChildPath;
+import static com.swirlds.virtualmap.internal.Path.getRouteStepsFromRoot;
 import static com.swirlds.virtualmap.internal.Path.getSiblingPath;
 import static com.swirlds.virtualmap.internal.Path.isFarRight;
 import static com.swirlds.virtualmap.internal.Path.isLeft;
@@ -38,6 +39,7 @@ import static com.swirlds.virtualmap.internal.merkle.VirtualMapState.CLASS_ID;
 import static com.swirlds.virtualmap.internal.merkle.VirtualMapState.MAX_LABEL_LENGTH;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 import com.swirlds.common.constructable.ConstructableClass;
@@ -82,6 +84,7 @@ import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
 import com.swirlds.virtualmap.internal.reconnect.ConcurrentBlockingIterator;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPullVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPushVirtualTreeView;
+import com.swirlds.virtualmap.internal.reconnect.MultiTeacherTraversalOrder;
 import com.swirlds.virtualmap.internal.reconnect.NodeTraversalOrder;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashListener;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectNodeRemover;
@@ -169,11 +172,6 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      * of leaves vs. the speed of hashing.
      */
     private static final int MAX_RECONNECT_HASHING_BUFFER_SIZE = 10_000_000;
-    /**
-     * The number of elements to have in the buffer used during rehashing on start.
-     */
-    private static final int MAX_REHASHING_BUFFER_SIZE = 10_000_000;
-
     /**
      * The number of seconds to wait for the hashing buffer during learner-reconnect before we
      * cancel the reconnect with an exception. If we cannot make space after this many seconds,
@@ -187,6 +185,11 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      */
     private static final int MAX_FULL_REHASHING_TIMEOUT = 3600; // 1 hour
 
+    /**
+     * The number of seconds between full leaf rehash progress reports.
+     */
+    private static final int FULL_REHASHING_PROGRESS_INTERVAL = 10;
+
     /** Virtual Map platform configuration */
     @NonNull
     private final VirtualMapConfig virtualMapConfig;
@@ -472,10 +475,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
     public void fullLeafRehashIfNecessary() {
         requireNonNull(records, "Records must be initialized before rehashing");
 
-        final ConcurrentBlockingIterator<VirtualLeafRecord<K, V>> rehashIterator =
-                new ConcurrentBlockingIterator<>(MAX_REHASHING_BUFFER_SIZE);
         final CompletableFuture<Hash> fullRehashFuture = new CompletableFuture<>();
-        final CompletableFuture<Void> leafFeedFuture = new CompletableFuture<>();
         // getting a range that is relevant for the data source
         final long firstLeafPath = dataSource.getFirstLeafPath();
         final long lastLeafPath = dataSource.getLastLeafPath();
@@ -516,6 +516,15 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 dataSource,
                 virtualMapConfig.flushInterval(),
                 statistics);
+        // Leaves are loaded from disk by multiple prefetch threads, in path order
+        final FullLeafRehashLeafIterator<K, V> leafIterator = new FullLeafRehashLeafIterator<>(
+                firstLeafPath,
+                lastLeafPath,
+                keySerializer,
+                valueSerializer,
+                dataSource,
+                virtualMapConfig.fullRehashPrefetchThreads(),
+                virtualMapConfig.fullRehashPrefetchChunkSize());
 
         // This background thread will be responsible for hashing the tree and sending the
         // data to the hash listener to flush.
@@ -523,15 +532,10 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 .setComponent("virtualmap")
                 .setThreadName("leafRehasher")
                 .setRunnable(() -> fullRehashFuture.complete(hasher.hash(
-                        records::findHash,
-                        rehashIterator,
-                        firstLeafPath,
-                        lastLeafPath,
-                        hashListener,
-                        virtualMapConfig)))
+                        records::findHash, leafIterator, firstLeafPath, lastLeafPath, hashListener, virtualMapConfig)))
                 .setExceptionHandler((thread, exception) -> {
                     // Shut down the iterator.
-                    rehashIterator.close();
+                    leafIterator.close();
                     final var message = "VirtualMap@" + getRoute() + " failed to do full rehash";
                     logger.error(EXCEPTION.getMarker(), message, exception);
                     fullRehashFuture.completeExceptionally(new MerkleSynchronizationException(message, exception));
@@ -539,69 +543,30 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 .build()
                 .start();
 
-        // This background thread will be responsible for feeding the iterator with data.
-        new ThreadConfiguration(getStaticThreadManager())
-                .setComponent("virtualmap")
-                .setThreadName("leafFeeder")
-                .setRunnable(() -> {
-                    final long onePercent = (lastLeafPath - firstLeafPath) / 100 + 1;
-                    try {
-                        for (long i = firstLeafPath; i <= lastLeafPath; i++) {
-                            try {
-                                final VirtualLeafBytes leafBytes = dataSource.loadLeafRecord(i);
-                                assert leafBytes != null : "Leaf record should not be null";
-                                final VirtualLeafRecord<K, V> leafRecord =
-                                        leafBytes.toRecord(keySerializer, valueSerializer);
-                                try {
-                                    rehashIterator.supply(leafRecord);
-                                } catch (final MerkleSynchronizationException e) {
-                                    throw e;
-                                } catch (final InterruptedException e) {
-                                    Thread.currentThread().interrupt();
-                                    throw new MerkleSynchronizationException(
-                                            "Interrupted while waiting to supply a new leaf to the hashing iterator buffer",
-                                            e);
-                                } catch (final Exception e) {
-                                    throw new MerkleSynchronizationException(
-                                            "Failed to handle a leaf during full rehashing", e);
-                                }
-                            } catch (IOException e) {
-                                throw new UncheckedIOException(e);
-                            }
-                            // we don't care about tracking progress on small maps.
-                            if (onePercent > 10 && i % onePercent == 0) {
-                                logger.info(
-                                        STARTUP.getMarker(),
-                                        "Full rehash progress for the VirtualMap at {}: {}%",
-                                        getRoute(),
-                                        (i - firstLeafPath) / onePercent + 1);
-                            }
-                        }
-                    } finally {
-                        rehashIterator.close();
-                    }
-                    leafFeedFuture.complete(null);
-                })
-                .setExceptionHandler((thread, exception) -> {
-                    // Shut down the iterator.
-                    rehashIterator.close();
-                    final var message = "VirtualMap@" + getRoute() + " failed to feed all leaves the hasher";
-                    logger.error(EXCEPTION.getMarker(), message, exception);
-                    leafFeedFuture.completeExceptionally(new MerkleSynchronizationException(message, exception));
-                })
-                .build()
-                .start();
-
+        final long totalLeaves = lastLeafPath - firstLeafPath + 1;
+        final long start = System.nanoTime();
+        final long deadline = start + SECONDS.toNanos(MAX_FULL_REHASHING_TIMEOUT);
         try {
-            final long start = System.currentTimeMillis();
-            leafFeedFuture.get(MAX_FULL_REHASHING_TIMEOUT, SECONDS);
-            final long secondsSpent = (System.currentTimeMillis() - start) / 1000;
+            Hash hash;
+            while (true) {
+                try {
+                    hash = fullRehashFuture.get(FULL_REHASHING_PROGRESS_INTERVAL, SECONDS);
+                    break;
+                } catch (final TimeoutException e) {
+                    if (System.nanoTime() - deadline > 0) {
+                        throw e;
+                    }
+                    // we don't care about tracking progress on small maps, they are rehashed before the first report
+                    reportFullRehashProgress(leafIterator.getLeavesSupplied(), totalLeaves, System.nanoTime() - start);
+                }
+            }
+            reportFullRehashProgress(totalLeaves, totalLeaves, System.nanoTime() - start);
             logger.info(
                     STARTUP.getMarker(),
-                    "It took {} seconds to feed all leaves to the hasher for the VirtualMap at {}",
-                    secondsSpent,
+                    "It took {} seconds to rehash all leaves for the VirtualMap at {}",
+                    NANOSECONDS.toSeconds(System.nanoTime() - start),
                     getRoute());
-            setHashPrivate(fullRehashFuture.get(MAX_FULL_REHASHING_TIMEOUT - secondsSpent, SECONDS));
+            setHashPrivate(hash);
         } catch (ExecutionException e) {
             final var message = "VirtualMap@" + getRoute() + " failed to get hash during full rehashing";
             throw new MerkleSynchronizationException(message, e);
@@ -612,9 +577,32 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         } catch (TimeoutException e) {
             final var message = "VirtualMap@" + getRoute() + "wasn't able to finish full rehashing in time";
             throw new MerkleSynchronizationException(message, e);
+        } finally {
+            leafIterator.close();
         }
     }
 
+    /**
+     * Logs full leaf rehash progress, along with the current rehash rate and estimated time to completion, and
+     * updates the corresponding stats.
+     *
+     * @param leavesDone the number of leaves supplied to the hasher so far
+     * @param totalLeaves the total number of leaves to rehash
+     * @param elapsedNanos time spent on rehashing so far, ns
+     */
+    private void reportFullRehashProgress(final long leavesDone, final long totalLeaves, final long elapsedNanos) {
+        final long leavesPerSecond = leavesDone * SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+        final long etaSeconds = leavesPerSecond == 0 ? -1 : (totalLeaves - leavesDone) / leavesPerSecond;
+        statistics.recordFullRehashProgress(leavesPerSecond, etaSeconds);
+        logger.info(
+                STARTUP.getMarker(),
+                "Full rehash progress for the VirtualMap at {}: {}%, {} leaves/s, ETA {} seconds",
+                getRoute(),
+                leavesDone * 100 / totalLeaves,
+                leavesPerSecond,
+                etaSeconds);
+    }
+
     /**
      * Gets the {@link VirtualStateAccessor} containing state for this copy of {@link VirtualRootNode}.
      *
@@ -728,6 +716,66 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         return node;
     }
 
+    /**
+     * Get the path of the first leaf in this copy of the tree.
+     *
+     * @return the first leaf path, or {@code INVALID_PATH} if the tree is empty
+     */
+    public long getFirstLeafPath() {
+        return state.getFirstLeafPath();
+    }
+
+    /**
+     * Get the path of the last leaf in this copy of the tree.
+     *
+     * @return the last leaf path, or {@code INVALID_PATH} if the tree is empty
+     */
+    public long getLastLeafPath() {
+        return state.getLastLeafPath();
+    }
+
+    /**
+     * Load the hash of the node at a given path, from the node cache if it's there, or straight from the data
+     * source otherwise. Unlike walking the tree with {@link #getChild(int)}, no merkle nodes or leaf records are
+     * created, which makes this suitable for visiting large parts of the tree, e.g. to compare two trees hash by hash.
+     *
+     * @param path the path of the node
+     * @return the hash of the node, or null if there is no node at this path
+     */
+    @Nullable
+    public Hash loadHash(final long path) {
+        final Hash hash = records.findHash(path);
+        return hash != VirtualNodeCache.DELETED_HASH ? hash : null;
+    }
+
+    /**
+     * Get the node at a given path in this tree, with its route set. Internal nodes are backed by their hash only,
+     * leaves are loaded with their keys and values.
+     *
+     * @param path the path of the node, must be greater than {@code ROOT_PATH}
+     * @return the node, or null if there is no node at this path
+     */
+    @Nullable
+    public <T extends MerkleNode> T loadNode(final long path) {
+        if (path <= ROOT_PATH || path > state.getLastLeafPath()) {
+            return null;
+        }
+        final T node;
+        if (path < state.getFirstLeafPath()) {
+            //noinspection unchecked
+            node = (T) (new VirtualInternalNode<>(this, new VirtualHashRecord(path, loadHash(path))));
+        } else {
+            final VirtualLeafRecord<K, V> leafRecord = records.findLeafRecord(path, false);
+            if (leafRecord == null) {
+                return null;
+            }
+            //noinspection unchecked
+            node = (T) (new VirtualLeafNode<>(leafRecord, loadHash(path)));
+        }
+        node.setRoute(getRoute().extendRoute(getRouteStepsFromRoot(path)));
+        return node;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1114,6 +1162,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
     /**
      * If called, this copy of the map will eventually be flushed.
      */
+    @Override
     public void enableFlush() {
         this.shouldBeFlushed.set(true);
     }
@@ -1478,6 +1527,8 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                     getStaticThreadManager(), reconnectConfig, this, state, pipeline);
             case VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC -> new TeacherPullVirtualTreeView<>(
                     getStaticThreadManager(), reconnectConfig, this, state, pipeline);
+            case VirtualMapReconnectMode.PULL_MULTI_TEACHER -> new TeacherPullVirtualTreeView<>(
+                    getStaticThreadManager(), reconnectConfig, this, state, pipeline);
             default -> throw new UnsupportedOperationException(
                     "Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
         };
@@ -1579,6 +1630,18 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                         twoPhasePessimistic,
                         mapStats);
             }
+            case VirtualMapReconnectMode.PULL_MULTI_TEACHER -> {
+                final NodeTraversalOrder multiTeacher = new MultiTeacherTraversalOrder();
+                yield new LearnerPullVirtualTreeView<>(
+                        reconnectConfig,
+                        this,
+                        originalMap.records,
+                        originalState,
+                        reconnectState,
+                        nodeRemover,
+                        multiTeacher,
+                        mapStats);
+            }
             default -> throw new UnsupportedOperationException(
                     "Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
         };
@@ -21,6 +21,7 @@ import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static com.swirlds.logging.legacy.LogMarker.VIRTUAL_MERKLE_STATS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import com.swirlds.common.jfr.VirtualPipelineJfrEvent;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.virtualmap.config.VirtualMapConfig;
@@ -162,11 +163,23 @@ public class VirtualPipeline {
 
     private final VirtualMapStatistics statistics;
 
+    /**
+     * Adjusts flush threshold and backpressure to the measured flush and merge rates. Null if
+     * {@link VirtualMapConfig#adaptiveFlushControl()} is disabled.
+     */
+    private final VirtualPipelineFlowController flowController;
+
+    /**
+     * The label of the virtual map, used in JFR events.
+     */
+    private final String label;
+
     /**
      * Create a new pipeline for a family of fast copies on a virtual root.
      */
     public VirtualPipeline(@NonNull final VirtualMapConfig config, @NonNull final String label) {
         this.config = Objects.requireNonNull(config);
+        this.label = Objects.requireNonNull(label);
         copies = new PipelineList<>();
         unhashedCopies = new ConcurrentLinkedDeque<>();
 
@@ -178,6 +191,7 @@ public class VirtualPipeline {
                 .buildFactory());
 
         statistics = new VirtualMapStatistics(label);
+        flowController = config.adaptiveFlushControl() ? new VirtualPipelineFlowController(config, statistics) : null;
     }
 
     /**
@@ -247,7 +261,8 @@ public class VirtualPipeline {
         if (over100percentExcess <= 0) {
             return 0;
         }
-        return (long) over100percentExcess * over100percentExcess;
+        final long pause = (long) over100percentExcess * over100percentExcess;
+        return flowController != null ? flowController.calculatePause(totalSize, pause) : pause;
     }
 
     /**
@@ -431,6 +446,17 @@ public class VirtualPipeline {
                 && (copy.isDestroyed() || copy.isDetached()); // destroyed or detached
     }
 
+    /**
+     * Check if this copy isn't designated for flushing, but is large enough to be flushed with
+     * the current adaptive flush threshold.
+     */
+    private boolean shouldBeFlushedEarly(final VirtualRoot copy) {
+        return flowController != null
+                && !copy.shouldBeFlushed()
+                && (copy.isDestroyed() || copy.isDetached())
+                && flowController.shouldFlush(copy.estimatedSize());
+    }
+
     /**
      * Total estimated size of all copies currently registered in this pipeline.
      *
@@ -463,7 +489,19 @@ public class VirtualPipeline {
         if (!copy.isHashed()) {
             hashCopy(copy);
         }
-        return copy.flush();
+        // the size is captured up front, since a copy's cache is released when it is flushed or merged
+        final VirtualPipelineJfrEvent jfrEvent = new VirtualPipelineJfrEvent();
+        final long estimatedSize = (jfrEvent.isEnabled() || flowController != null) ? copy.estimatedSize() : 0;
+        jfrEvent.begin();
+        final long start = System.nanoTime();
+        final boolean flushed = copy.flush();
+        if (flushed) {
+            jfrEvent.commit(label, VirtualPipelineJfrEvent.FLUSH, copy.getFastCopyVersion(), estimatedSize);
+            if (flowController != null) {
+                flowController.recordFlush(estimatedSize, System.nanoTime() - start);
+            }
+        }
+        return flushed;
     }
 
     /**
@@ -502,7 +540,15 @@ public class VirtualPipeline {
             hashCopy(next);
         }
 
+        final VirtualPipelineJfrEvent jfrEvent = new VirtualPipelineJfrEvent();
+        final long estimatedSize = (jfrEvent.isEnabled() || flowController != null) ? copy.estimatedSize() : 0;
+        jfrEvent.begin();
+        final long start = System.nanoTime();
         copy.merge();
+        jfrEvent.commit(label, VirtualPipelineJfrEvent.MERGE, copy.getFastCopyVersion(), estimatedSize);
+        if (flowController != null) {
+            flowController.recordMerge(estimatedSize, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -518,6 +564,14 @@ public class VirtualPipeline {
                 break;
             }
             boolean flushed = false;
+            if ((next == copies.getFirst()) && shouldBeFlushedEarly(copy)) {
+                logger.debug(
+                        VIRTUAL_MERKLE_STATS.getMarker(),
+                        "Enable flush for {}, adaptive flush threshold {}",
+                        copy.getFastCopyVersion(),
+                        flowController.getFlushThreshold());
+                copy.enableFlush();
+            }
             if ((next == copies.getFirst()) && shouldBeFlushed(copy)) {
                 logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Try to flush {}", copy.getFastCopyVersion());
                 flushed = tryFlush(copy);
@@ -538,6 +592,9 @@ public class VirtualPipeline {
             statistics.setNodeCacheSize(totalSize);
             next = next.getNext();
         }
+        if (flowController != null) {
+            flowController.updateFlushThreshold(currentTotalSize());
+        }
     }
 
     private void doWork() {
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.pipeline;
+
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.internal.merkle.VirtualMapStatistics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Feedback controller for a {@link VirtualPipeline}. It measures how fast the lifecycle thread flushes and merges
+ * copies, and uses the measurements to decide when copies are flushed and how long new copies are delayed.
+ * </p>
+ *
+ * <p>
+ * <strong>Flush threshold.</strong> Copies at least as large as the flush threshold are flushed, even if they are
+ * smaller than their own flush threshold. The threshold starts at {@link VirtualMapConfig#copyFlushThreshold()}.
+ * Whenever the family size after a pipeline pass is above half of {@link VirtualMapConfig#familyThrottleThreshold()},
+ * the threshold is halved, so memory is released sooner. Whenever it's below a quarter, the threshold is increased by
+ * an eighth of the configured value, so fewer and larger flushes are made. The threshold never exceeds the configured
+ * value, and never goes below a sixteenth of it.
+ * </p>
+ *
+ * <p>
+ * <strong>Backpressure.</strong> When the family size exceeds {@link VirtualMapConfig#familyThrottleThreshold()}, new
+ * copies are delayed by the time the lifecycle thread needs to flush the excess, based on the measured drain rate
+ * (bytes flushed divided by the time spent flushing and merging). The pause is capped by
+ * {@link VirtualMapConfig#maximumFlushThrottlePeriod()}. Until the first flush is measured, the static pause
+ * computed by the pipeline is used.
+ * </p>
+ *
+ * <p>
+ * Measurements and flush threshold updates are made on the lifecycle thread. Pauses may be calculated on any thread.
+ * </p>
+ */
+final class VirtualPipelineFlowController {
+
+    /**
+     * Weight of the latest measurement in exponentially weighted moving averages.
+     */
+    private static final double SMOOTHING = 0.3;
+
+    /**
+     * The minimum flush threshold is the configured threshold divided by this value.
+     */
+    private static final long MIN_FLUSH_THRESHOLD_DIVISOR = 16;
+
+    /**
+     * The flush threshold is increased by the configured threshold divided by this value.
+     */
+    private static final long FLUSH_THRESHOLD_INCREASE_DIVISOR = 8;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long configuredFlushThreshold;
+
+    private final long familyThrottleThreshold;
+
+    private final long maximumPauseMillis;
+
+    private final VirtualMapStatistics statistics;
+
+    /**
+     * The current flush threshold, in bytes. Zero if size based flushes are disabled.
+     */
+    private volatile long flushThreshold;
+
+    /**
+     * Moving average of bytes flushed per millisecond of lifecycle thread work, or zero if not measured yet.
+     */
+    private volatile double drainBytesPerMilli;
+
+    /**
+     * Moving average of flush throughput, bytes per second.
+     */
+    private double flushBytesPerSecond;
+
+    /**
+     * Moving average of merge throughput, bytes per second.
+     */
+    private double mergeBytesPerSecond;
+
+    /**
+     * Time spent merging since the last flush, in nanoseconds.
+     */
+    private long mergeNanosSinceLastFlush;
+
+    /**
+     * Create a new controller.
+     *
+     * @param config     virtual map configuration
+     * @param statistics the statistics to publish decisions to
+     */
+    VirtualPipelineFlowController(
+            @NonNull final VirtualMapConfig config, @NonNull final VirtualMapStatistics statistics) {
+        Objects.requireNonNull(config);
+        this.statistics = Objects.requireNonNull(statistics);
+        configuredFlushThreshold = Math.max(0, config.copyFlushThreshold());
+        familyThrottleThreshold = config.familyThrottleThreshold();
+        maximumPauseMillis = config.maximumFlushThrottlePeriod().toMillis();
+        flushThreshold = configuredFlushThreshold;
+    }
+
+    /**
+     * Record a completed flush.
+     *
+     * @param bytes         the estimated size of the flushed copy
+     * @param durationNanos the time the flush took
+     */
+    void recordFlush(final long bytes, final long durationNanos) {
+        if (bytes <= 0 || durationNanos <= 0) {
+            mergeNanosSinceLastFlush = 0;
+            return;
+        }
+        flushBytesPerSecond = average(flushBytesPerSecond, bytes * NANOS_PER_SECOND / durationNanos);
+        final double drainRate = bytes * NANOS_PER_MILLI / (durationNanos + mergeNanosSinceLastFlush);
+        drainBytesPerMilli = average(drainBytesPerMilli, drainRate);
+        mergeNanosSinceLastFlush = 0;
+        publish();
+    }
+
+    /**
+     * Record a completed merge.
+     *
+     * @param bytes         the estimated size of the merged copy
+     * @param durationNanos the time the merge took
+     */
+    void recordMerge(final long bytes, final long durationNanos) {
+        if (durationNanos <= 0) {
+            return;
+        }
+        mergeNanosSinceLastFlush += durationNanos;
+        if (bytes > 0) {
+            mergeBytesPerSecond = average(mergeBytesPerSecond, bytes * NANOS_PER_SECOND / durationNanos);
+        }
+    }
+
+    /**
+     * Adjust the flush threshold after a pipeline pass.
+     *
+     * @param familySize the estimated size of all immutable copies in the pipeline
+     */
+    void updateFlushThreshold(final long familySize) {
+        if (configuredFlushThreshold <= 0 || familyThrottleThreshold <= 0) {
+            return;
+        }
+        final long threshold = flushThreshold;
+        final long newThreshold;
+        if (familySize > familyThrottleThreshold / 2) {
+            newThreshold = Math.max(configuredFlushThreshold / MIN_FLUSH_THRESHOLD_DIVISOR, threshold / 2);
+        } else if (familySize < familyThrottleThreshold / 4) {
+            newThreshold = Math.min(
+                    configuredFlushThreshold, threshold + configuredFlushThreshold / FLUSH_THRESHOLD_INCREASE_DIVISOR);
+        } else {
+            return;
+        }
+        if (newThreshold != threshold) {
+            flushThreshold = newThreshold;
+            publish();
+        }
+    }
+
+    /**
+     * Check if a copy is large enough to be flushed.
+     *
+     * @param copySize the estimated size of the copy
+     * @return true if the copy should be flushed
+     */
+    boolean shouldFlush(final long copySize) {
+        final long threshold = flushThreshold;
+        return threshold > 0 && copySize >= threshold;
+    }
+
+    /**
+     * Get the current flush threshold.
+     *
+     * @return the flush threshold, in bytes, or zero if size based flushes are disabled
+     */
+    long getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    /**
+     * Calculate how long a new copy should be delayed.
+     *
+     * @param familySize    the estimated size of all immutable copies in the pipeline
+     * @param fallbackPause the pause to use if the drain rate hasn't been measured yet, in milliseconds
+     * @return the pause, in milliseconds
+     */
+    long calculatePause(final long familySize, final long fallbackPause) {
+        if (familyThrottleThreshold <= 0) {
+            return 0;
+        }
+        final long excess = familySize - familyThrottleThreshold;
+        if (excess <= 0) {
+            return 0;
+        }
+        final double drainRate = drainBytesPerMilli;
+        final long pause = drainRate > 0 ? (long) Math.ceil(excess / drainRate) : fallbackPause;
+        return maximumPauseMillis > 0 ? Math.min(pause, maximumPauseMillis) : pause;
+    }
+
+    /**
+     * Publish the current state as metrics.
+     */
+    private void publish() {
+        statistics.recordFlowControl((long) flushBytesPerSecond, (long) mergeBytesPerSecond, flushThreshold);
+    }
+
+    /**
+     * Update an exponentially weighted moving average.
+     */
+    private static double average(final double average, final double value) {
+        return average <= 0 ? value : average + SMOOTHING * (value - average);
+    }
+}
@@ -36,6 +36,11 @@ public interface VirtualRoot extends MerkleNode {
      */
     boolean shouldBeFlushed();
 
+    /**
+     * Designate this copy for flushing. After this call, {@link #shouldBeFlushed()} returns true.
+     */
+    void enableFlush();
+
     /**
      * Flush the contents of this data structure to disk. Will be called at most once.
      *
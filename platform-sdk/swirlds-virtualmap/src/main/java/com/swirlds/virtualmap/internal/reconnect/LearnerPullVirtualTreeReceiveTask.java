@@ -46,6 +46,9 @@ public class LearnerPullVirtualTreeReceiveTask {
     private final SerializableDataInputStream in;
     private final LearnerPullVirtualTreeView view;
 
+    // The traversal order used with the teacher, notified about every response
+    private final NodeTraversalOrder traversalOrder;
+
     // Indicates if the learner sender task is done sending all requests to the teacher
     private final AtomicBoolean senderIsFinished;
 
@@ -65,6 +68,8 @@ public class LearnerPullVirtualTreeReceiveTask {
      * 		the input stream, this object is responsible for closing this when finished
      * @param view
      * 		the view to be used when touching the merkle tree
+     * @param traversalOrder
+     * 		the traversal order used with the teacher
      * @param senderIsFinished
      * 		becomes true once the sending thread has finished
      */
@@ -72,12 +77,14 @@ public class LearnerPullVirtualTreeReceiveTask {
             final StandardWorkGroup workGroup,
             final SerializableDataInputStream in,
             final LearnerPullVirtualTreeView view,
+            final NodeTraversalOrder traversalOrder,
             final AtomicBoolean senderIsFinished,
             final AtomicLong expectedResponses,
             final CountDownLatch rootResponseReceived) {
         this.workGroup = workGroup;
         this.in = in;
         this.view = view;
+        this.traversalOrder = traversalOrder;
         this.senderIsFinished = senderIsFinished;
         this.expectedResponses = expectedResponses;
         this.rootResponseReceived = rootResponseReceived;
@@ -94,7 +101,7 @@ public class LearnerPullVirtualTreeReceiveTask {
 
             while (!finished || responseExpected) {
                 if (responseExpected) {
-                    final PullVirtualTreeResponse response = new PullVirtualTreeResponse(view);
+                    final PullVirtualTreeResponse response = new PullVirtualTreeResponse(view, traversalOrder);
                     // the learner tree is notified about the new response in deserialize() method below
                     response.deserialize(in, 0);
                     view.getMapStats().incrementTransfersFromTeacher();
@@ -37,7 +37,8 @@ import org.apache.logging.log4j.Logger;
  *
  * <p>The very first request to send is for path 0 (virtual root node). A response to this request
  * is waited for before any other requests are sent, because root node response contains virtual
- * tree path range on the teacher side.
+ * tree path range on the teacher side. When the tree is received from several teachers, only one
+ * of them is asked for the root node, and tasks for other teachers just wait for the response.
  *
  * <p>After the root response has been received, this task keeps sending requests according to
  * the provided {@link NodeTraversalOrder}. After the next path to request is {@link
@@ -55,6 +56,9 @@ public class LearnerPullVirtualTreeSendTask {
     private final LearnerPullVirtualTreeView view;
     private final NodeTraversalOrder traversalOrder;
 
+    // Indicates if a request for path 0 (virtual root) should be sent to the teacher
+    private final boolean requestRoot;
+
     // Indicates if the learner sender task is done sending all requests to the teacher
     private final AtomicBoolean senderIsFinished;
 
@@ -79,6 +83,11 @@ public class LearnerPullVirtualTreeSendTask {
      * 		the output stream, this object is responsible for closing this when finished
      * @param view
      * 		the view to be used when touching the merkle tree
+     * @param traversalOrder
+     * 		the order to send requests in
+     * @param requestRoot
+     * 		if true, the root node is requested from the teacher. Otherwise, a response for the root
+     * 		node from another teacher is waited for
      * @param senderIsFinished
      * 		becomes true once the sending thread has finished
      * @param responsesExpected
@@ -91,6 +100,7 @@ public class LearnerPullVirtualTreeSendTask {
             final AsyncOutputStream<PullVirtualTreeRequest> out,
             final LearnerPullVirtualTreeView view,
             final NodeTraversalOrder traversalOrder,
+            final boolean requestRoot,
             final AtomicBoolean senderIsFinished,
             final CountDownLatch rootResponseReceived,
             final AtomicLong responsesExpected) {
@@ -98,6 +108,7 @@ public class LearnerPullVirtualTreeSendTask {
         this.out = out;
         this.view = view;
         this.traversalOrder = traversalOrder;
+        this.requestRoot = requestRoot;
         this.senderIsFinished = senderIsFinished;
         this.rootResponseReceived = rootResponseReceived;
         this.responsesExpected = responsesExpected;
@@ -111,10 +122,12 @@ public class LearnerPullVirtualTreeSendTask {
 
     private void run() {
         try (out) {
-            // Send a request for the root node first. The response will contain virtual tree path range
-            out.sendAsync(new PullVirtualTreeRequest(Path.ROOT_PATH, new Hash()));
-            view.getMapStats().incrementTransfersFromLearner();
-            responsesExpected.incrementAndGet();
+            if (requestRoot) {
+                // Send a request for the root node first. The response will contain virtual tree path range
+                out.sendAsync(new PullVirtualTreeRequest(Path.ROOT_PATH, new Hash()));
+                view.getMapStats().incrementTransfersFromLearner();
+                responsesExpected.incrementAndGet();
+            }
             if (!rootResponseReceived.await(rootResponseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
                 throw new MerkleSynchronizationException("Timed out waiting for root node response from the teacher");
             }
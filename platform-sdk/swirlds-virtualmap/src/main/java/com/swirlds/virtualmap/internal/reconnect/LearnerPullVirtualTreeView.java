@@ -16,6 +16,7 @@
 
 package com.swirlds.virtualmap.internal.reconnect;
 
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
 import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
 
 import com.swirlds.common.crypto.CryptographyHolder;
@@ -29,6 +30,7 @@ import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.TeacherStreams;
 import com.swirlds.common.merkle.synchronization.task.ExpectedLesson;
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
@@ -43,12 +45,18 @@ import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * An implementation of {@link LearnerTreeView} for the virtual merkle. The learner during reconnect
@@ -67,6 +75,8 @@ import java.util.concurrent.atomic.AtomicReference;
 public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends VirtualValue>
         extends VirtualTreeViewBase<K, V> implements LearnerTreeView<Long> {
 
+    private static final Logger logger = LogManager.getLogger(LearnerPullVirtualTreeView.class);
+
     /**
      * A stashed null hash, which is used for any leaves which are null that we need to send
      * (specifically, leaf 2 for a tree with only a single leaf).
@@ -98,6 +108,18 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     private final NodeTraversalOrder traversalOrder;
 
+    /**
+     * Leaves received from several teachers in parallel, which can't be passed to the hasher yet, since
+     * not all leaves with smaller paths are received. Only used with {@link MultiTeacherTraversalOrder}.
+     */
+    private final ConcurrentSkipListMap<Long, VirtualLeafRecord<K, V>> pendingLeaves;
+
+    /**
+     * Number of receiving tasks, which are still running. This view is closed, when the last of them
+     * is finished.
+     */
+    private final AtomicInteger runningReceivers = new AtomicInteger(1);
+
     private final ReconnectMapStats mapStats;
 
     /**
@@ -139,6 +161,12 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
         this.nodeRemover = nodeRemover;
         this.traversalOrder = traversalOrder;
         this.mapStats = mapStats;
+        if (traversalOrder instanceof MultiTeacherTraversalOrder multiTeacherOrder) {
+            pendingLeaves = new ConcurrentSkipListMap<>();
+            multiTeacherOrder.setLeavesReleasedListener(this::releasePendingLeaves);
+        } else {
+            pendingLeaves = null;
+        }
     }
 
     @Override
@@ -150,30 +178,93 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
             final Queue<MerkleNode> rootsToReceive,
             final AtomicReference<Long> reconstructedRoot) {
         this.nodeCount = learningSynchronizer;
+        reconstructedRoot.set(0L);
+        assert traversalOrder != null;
+
+        final List<TeacherStreams> additionalTeachers = (traversalOrder instanceof MultiTeacherTraversalOrder)
+                ? learningSynchronizer.getAdditionalTeachers()
+                : List.of();
+        if (additionalTeachers.isEmpty()) {
+            if (traversalOrder instanceof MultiTeacherTraversalOrder) {
+                logger.warn(
+                        RECONNECT.getMarker(),
+                        "Multi-teacher reconnect mode is configured, but no additional teachers are available, "
+                                + "reconnecting from a single teacher");
+            }
+            startTeacherTasks(learningSynchronizer, workGroup, inputStream, outputStream, traversalOrder, true, null);
+            return;
+        }
+
+        final MultiTeacherTraversalOrder multiTeacherOrder = (MultiTeacherTraversalOrder) traversalOrder;
+        multiTeacherOrder.setTeacherCount(additionalTeachers.size() + 1);
+        runningReceivers.set(additionalTeachers.size() + 1);
+        try {
+            learningSynchronizer.requestSubtreeFromAdditionalTeachers(root.getRoute());
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to request subtree from additional teachers", e);
+        }
+        // Only the primary teacher is asked for the root node, other teachers wait for its response
+        final CountDownLatch rootResponseReceived = startTeacherTasks(
+                learningSynchronizer,
+                workGroup,
+                inputStream,
+                outputStream,
+                multiTeacherOrder.getTeacherOrder(0),
+                true,
+                null);
+        for (int i = 0; i < additionalTeachers.size(); i++) {
+            final TeacherStreams teacher = additionalTeachers.get(i);
+            startTeacherTasks(
+                    learningSynchronizer,
+                    workGroup,
+                    teacher.in(),
+                    teacher.out(),
+                    multiTeacherOrder.getTeacherOrder(i + 1),
+                    false,
+                    rootResponseReceived);
+        }
+    }
 
+    /**
+     * Start the sending and receiving tasks for a single teacher.
+     *
+     * @param teacherTraversalOrder the traversal order to use with this teacher
+     * @param requestRoot whether to request the root node from this teacher
+     * @param rootResponseReceived the latch to wait for the root node response, or null to create a new one
+     * @return the latch to wait for the root node response
+     */
+    private CountDownLatch startTeacherTasks(
+            final LearningSynchronizer learningSynchronizer,
+            final StandardWorkGroup workGroup,
+            final MerkleDataInputStream inputStream,
+            final MerkleDataOutputStream outputStream,
+            final NodeTraversalOrder teacherTraversalOrder,
+            final boolean requestRoot,
+            final CountDownLatch rootResponseReceived) {
         final AsyncOutputStream<PullVirtualTreeRequest> out =
                 learningSynchronizer.buildOutputStream(workGroup, outputStream);
         out.start();
 
         final AtomicBoolean senderIsFinished = new AtomicBoolean();
-        final CountDownLatch rootResponseReceived = new CountDownLatch(1);
+        final CountDownLatch rootReceived =
+                (rootResponseReceived != null) ? rootResponseReceived : new CountDownLatch(1);
         final AtomicLong expectedResponses = new AtomicLong(0);
 
         final LearnerPullVirtualTreeReceiveTask learnerReceiveTask = new LearnerPullVirtualTreeReceiveTask(
-                workGroup, inputStream, this, senderIsFinished, expectedResponses, rootResponseReceived);
+                workGroup, inputStream, this, teacherTraversalOrder, senderIsFinished, expectedResponses, rootReceived);
         learnerReceiveTask.exec();
-        reconstructedRoot.set(0L);
-        assert traversalOrder != null;
         final LearnerPullVirtualTreeSendTask learnerSendTask = new LearnerPullVirtualTreeSendTask(
                 reconnectConfig,
                 workGroup,
                 out,
                 this,
-                traversalOrder,
+                teacherTraversalOrder,
+                requestRoot,
                 senderIsFinished,
-                rootResponseReceived,
+                rootReceived,
                 expectedResponses);
         learnerSendTask.exec();
+        return rootReceived;
     }
 
     /**
@@ -199,9 +290,14 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      * @param in the input stream to read from
      * @param path the virtual path
      * @param isClean indicates that the node with the given path is the same on the learner and teacher
+     * @param teacherTraversalOrder the traversal order used with the teacher, which sent the node
      * @throws IOException if an I/O error occurs
      */
-    public void readNode(final SerializableDataInputStream in, final long path, final boolean isClean)
+    public void readNode(
+            final SerializableDataInputStream in,
+            final long path,
+            final boolean isClean,
+            final NodeTraversalOrder teacherTraversalOrder)
             throws IOException {
         if (path == Path.ROOT_PATH) {
             final long firstLeafPath = in.readLong();
@@ -220,7 +316,6 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
         }
         assert !firstNodeResponse : "Root node must be the first node received from the teacher";
         final boolean isLeaf = isLeaf(path);
-        traversalOrder.nodeReceived(path, isClean);
 
         if (isLeaf) {
             if (!isClean) {
@@ -228,9 +323,31 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
                 mapStats.incrementLeafData(1, 0);
                 assert path == leaf.getPath();
                 nodeRemover.newLeafNode(path, leaf.getKey());
-                root.handleReconnectLeaf(leaf); // may block if hashing is slower than ingest
+                if (pendingLeaves != null) {
+                    // Passed to the hasher in releasePendingLeaves(), when all leaves before it are received
+                    pendingLeaves.put(path, leaf);
+                } else {
+                    root.handleReconnectLeaf(leaf); // may block if hashing is slower than ingest
+                }
             }
         }
+        // Must be called after the leaf is stashed, as it may release it to the hasher
+        teacherTraversalOrder.nodeReceived(path, isClean);
+    }
+
+    /**
+     * Pass all pending leaves up to the given path (inclusive) to the hasher, in ascending path order.
+     * Called by {@link MultiTeacherTraversalOrder} when all leaves up to the path are received.
+     *
+     * @param lastPath the last leaf path to release
+     */
+    private synchronized void releasePendingLeaves(final long lastPath) {
+        Map.Entry<Long, VirtualLeafRecord<K, V>> entry = pendingLeaves.firstEntry();
+        while ((entry != null) && (entry.getKey() <= lastPath)) {
+            pendingLeaves.pollFirstEntry();
+            root.handleReconnectLeaf(entry.getValue()); // may block if hashing is slower than ingest
+            entry = pendingLeaves.firstEntry();
+        }
     }
 
     /**
@@ -335,6 +452,13 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     @Override
     public void close() {
+        // With several teachers, every receiving task closes the view, only the last one does the work
+        if (runningReceivers.decrementAndGet() > 0) {
+            return;
+        }
+        if (traversalOrder instanceof MultiTeacherTraversalOrder multiTeacherOrder) {
+            multiTeacherOrder.logTeacherStatistics();
+        }
         nodeRemover.allNodesReceived();
         root.endLearnerReconnect();
     }
@@ -0,0 +1,544 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
+
+import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
+import com.swirlds.virtualmap.internal.Path;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Virtual node traversal policy to fetch the virtual tree from several teachers in parallel. All
+ * teachers must hold the same virtual tree. Every teacher connection has its own sending and
+ * receiving tasks, which use a per-teacher traversal order provided by {@link #getTeacherOrder(int)}.
+ * When used as a {@link NodeTraversalOrder} itself, this class behaves as the order for the
+ * first (primary) teacher.
+ *
+ * <p>Traversal contains two phases, similar to {@link TwoPhasePessimisticTraversalOrder}. In the
+ * first phase, internal nodes are checked. The tree is split into subtrees (chunks) at a split rank
+ * above the leaves, and every chunk is traversed top to bottom, like in {@link
+ * TopToBottomTraversalOrder}: children of dirty nodes are requested, subtrees of clean nodes are
+ * skipped. Teachers take chunks from a shared counter, and when there are no chunks left, idle
+ * teachers steal pending paths from other teachers. This way faster teachers check more nodes.
+ *
+ * <p>In the second phase, leaves are requested. Leaves must be passed to the hasher in ascending
+ * path order, so leaf paths are split into consecutive ranges, which are handed out to teachers in
+ * order. Leaves from different ranges are received in parallel, and a range is released to the
+ * hasher (see {@link #setLeavesReleasedListener(LongConsumer)}) as soon as all responses for it and
+ * all preceding ranges are received. The number of ranges handed out but not yet released is
+ * limited, which limits the number of leaves buffered on the learner. The size of every range
+ * is adapted to the teacher's measured response rate relative to other teachers, so slow teachers
+ * get smaller ranges and don't hold back leaves received from faster teachers for too long.
+ */
+public class MultiTeacherTraversalOrder implements NodeTraversalOrder {
+
+    private static final Logger logger = LogManager.getLogger(MultiTeacherTraversalOrder.class);
+
+    /**
+     * Returned by {@link #getNextPathToSend()}, when there is nothing to send right now, but there
+     * may be more paths to send later. The sending task keeps polling in this case.
+     */
+    private static final long WAIT_PATH = Path.INVALID_PATH - 1;
+
+    /**
+     * How long to pause before returning {@link #WAIT_PATH}, so idle sending tasks don't keep CPU busy.
+     */
+    private static final long WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * If the leaf parent rank is less than this value, internal nodes aren't checked at all.
+     */
+    private static final int MIN_LEAF_PARENT_RANK = 4;
+
+    /**
+     * Desired number of internal node chunks per teacher.
+     */
+    private static final int CHUNKS_PER_TEACHER = 16;
+
+    /**
+     * Leaf range size for teachers with an average response rate.
+     */
+    private static final long DEFAULT_LEAF_RANGE_SIZE = 2048;
+
+    private static final long MIN_LEAF_RANGE_SIZE = 128;
+
+    private static final long MAX_LEAF_RANGE_SIZE = 16 * 1024;
+
+    /**
+     * The number of leaf ranges handed out, but not yet released to the hasher, per teacher.
+     */
+    private static final int LEAF_RANGES_PER_TEACHER = 4;
+
+    /**
+     * Minimum time between teacher response rate measurements.
+     */
+    private static final long RATE_MEASUREMENT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Weight of the latest response rate measurement in the teacher's response rate.
+     */
+    private static final double RATE_SMOOTHING = 0.3;
+
+    private ReconnectNodeCount nodeCount;
+
+    private long reconnectFirstLeafPath;
+    private long reconnectLastLeafPath;
+
+    private TeacherOrder[] teachers = {new TeacherOrder(0)};
+
+    // Clean internal node paths, as received from the teachers
+    private final Set<Long> cleanNodes = ConcurrentHashMap.newKeySet();
+
+    // Set when the root node is clean, i.e. there is nothing to request
+    private volatile boolean rootClean = false;
+
+    // Phase 1. Paths of top-most nodes of all chunks are at this rank
+    private long firstChunkPath;
+    private long chunkCount;
+    private final AtomicLong nextChunk = new AtomicLong(0);
+
+    // Number of internal paths to check: taken chunks, paths in teachers' queues, and sent requests
+    // without responses. Phase 1 is over, when there are no more chunks, and this number is zero
+    private final AtomicLong internalPathsPending = new AtomicLong(0);
+
+    private volatile boolean internalNodesDone = false;
+
+    // Phase 2. Leaf ranges handed out to teachers, but not yet released, in ascending path order.
+    // Guarded by itself
+    private final Deque<LeafRange> leafRanges = new ArrayDeque<>();
+
+    // The same ranges as above, to look up a range by leaf path on the receiving threads
+    private final ConcurrentSkipListMap<Long, LeafRange> leafRangesByFirstPath = new ConcurrentSkipListMap<>();
+
+    // The first path of the next leaf range to hand out. Guarded by leafRanges
+    private long nextLeafRangePath;
+
+    private volatile LongConsumer leavesReleasedListener = path -> {};
+
+    public MultiTeacherTraversalOrder() {}
+
+    /**
+     * Set the number of teachers. Must be called before the traversal is started.
+     *
+     * @param teacherCount the number of teachers, including the primary teacher
+     */
+    public void setTeacherCount(final int teacherCount) {
+        if (teacherCount < 1) {
+            throw new IllegalArgumentException("At least one teacher is required");
+        }
+        final TeacherOrder[] orders = new TeacherOrder[teacherCount];
+        for (int i = 0; i < teacherCount; i++) {
+            orders[i] = new TeacherOrder(i);
+        }
+        teachers = orders;
+    }
+
+    /**
+     * Get the traversal order to use with the given teacher.
+     *
+     * @param teacherIndex the teacher index, the primary teacher has index 0
+     * @return the traversal order for the teacher
+     */
+    @NonNull
+    public NodeTraversalOrder getTeacherOrder(final int teacherIndex) {
+        return teachers[teacherIndex];
+    }
+
+    /**
+     * Set a listener to be notified when all leaves up to a path (inclusive) are received, and there
+     * will be no more leaves with smaller paths. Must be called before the traversal is started.
+     *
+     * @param listener the listener, which receives the last released leaf path
+     */
+    public void setLeavesReleasedListener(@NonNull final LongConsumer listener) {
+        this.leavesReleasedListener = Objects.requireNonNull(listener);
+    }
+
+    @Override
+    public void start(final long firstLeafPath, final long lastLeafPath, final ReconnectNodeCount nodeCount) {
+        this.reconnectFirstLeafPath = firstLeafPath;
+        this.reconnectLastLeafPath = lastLeafPath;
+        this.nodeCount = nodeCount;
+        this.nextLeafRangePath = firstLeafPath;
+
+        final int leafParentRank = Path.getRank(firstLeafPath) - 1;
+        if ((lastLeafPath <= 0) || (leafParentRank < MIN_LEAF_PARENT_RANK)) {
+            chunkCount = 0;
+            internalNodesDone = true;
+            return; // no phase 1, just iterate over all leaves
+        }
+        // At least CHUNKS_PER_TEACHER chunks per teacher, but chunks can't start below leaf parent rank
+        final int desiredChunks = teachers.length * CHUNKS_PER_TEACHER;
+        final int splitRank = Math.min(leafParentRank, 32 - Integer.numberOfLeadingZeros(desiredChunks - 1));
+        firstChunkPath = Path.getLeftGrandChildPath(ROOT_PATH, splitRank);
+        chunkCount = 1L << splitRank;
+    }
+
+    @Override
+    public long getNextPathToSend() throws InterruptedException {
+        return teachers[0].getNextPathToSend();
+    }
+
+    @Override
+    public void nodeReceived(final long path, final boolean isClean) {
+        teachers[0].nodeReceived(path, isClean);
+    }
+
+    /**
+     * Log response statistics for every teacher.
+     */
+    public void logTeacherStatistics() {
+        for (final TeacherOrder teacher : teachers) {
+            logger.info(
+                    RECONNECT.getMarker(),
+                    "Teacher {}: {} responses, {} leaf ranges, last response rate {}/s",
+                    teacher.index,
+                    teacher.responses.get(),
+                    teacher.leafRangeCount,
+                    (long) teacher.responseRate);
+        }
+    }
+
+    private void internalNodeReceived(final TeacherOrder teacher, final long path, final boolean isClean) {
+        if (path == ROOT_PATH) {
+            rootClean = isClean;
+        } else if (isClean) {
+            cleanNodes.add(path);
+            internalPathsPending.decrementAndGet();
+        } else {
+            final long leftChild = Path.getLeftChildPath(path);
+            for (long child = leftChild; child <= leftChild + 1; child++) {
+                if (child < reconnectFirstLeafPath) {
+                    internalPathsPending.incrementAndGet();
+                    teacher.internalPaths.addLast(child);
+                }
+            }
+            internalPathsPending.decrementAndGet();
+        }
+        synchronized (nodeCount) {
+            nodeCount.incrementInternalCount();
+            if (isClean) {
+                nodeCount.incrementRedundantInternalCount();
+            }
+        }
+    }
+
+    private void leafReceived(final long path, final boolean isClean) {
+        final Map.Entry<Long, LeafRange> entry = leafRangesByFirstPath.floorEntry(path);
+        assert (entry != null) && (path <= entry.getValue().lastPath) : "No leaf range for path " + path;
+        final LeafRange range = entry.getValue();
+        range.received.incrementAndGet();
+        if (range.dispatched) {
+            releaseLeafRanges();
+        }
+        synchronized (nodeCount) {
+            nodeCount.incrementLeafCount();
+            if (isClean) {
+                nodeCount.incrementRedundantLeafCount();
+            }
+        }
+    }
+
+    /**
+     * Get the next internal path to check for the given teacher: from the teacher's own queue, from a
+     * new chunk, or from another teacher's queue.
+     *
+     * @return the next internal path, or {@link Path#INVALID_PATH} if nothing is available right now
+     */
+    private long nextInternalPath(final TeacherOrder teacher) {
+        Long path = pollInternalPath(teacher.internalPaths, true);
+        if (path != null) {
+            return path;
+        }
+        internalPathsPending.incrementAndGet();
+        final long chunk = nextChunk.getAndIncrement();
+        if (chunk < chunkCount) {
+            return firstChunkPath + chunk;
+        }
+        internalPathsPending.decrementAndGet();
+        for (int i = 1; i < teachers.length; i++) {
+            final TeacherOrder other = teachers[(teacher.index + i) % teachers.length];
+            path = pollInternalPath(other.internalPaths, false);
+            if (path != null) {
+                return path;
+            }
+        }
+        return Path.INVALID_PATH;
+    }
+
+    private Long pollInternalPath(final Deque<Long> paths, final boolean first) {
+        Long path = first ? paths.pollFirst() : paths.pollLast();
+        while ((path != null) && (skipCleanSubtree(path) != path)) {
+            internalPathsPending.decrementAndGet();
+            path = first ? paths.pollFirst() : paths.pollLast();
+        }
+        return path;
+    }
+
+    /**
+     * Hand out the next leaf range to the given teacher.
+     *
+     * @return the range, or null if the limit of ranges in progress is reached, or all leaf ranges are
+     * 		handed out. In the latter case, {@link #nextLeafRangePath} is greater than the last leaf path
+     */
+    private LeafRange nextLeafRange(final TeacherOrder teacher) {
+        final long rangeSize = teacher.leafRangeSize();
+        synchronized (leafRanges) {
+            if (nextLeafRangePath > reconnectLastLeafPath) {
+                return null;
+            }
+            if (leafRanges.size() >= teachers.length * LEAF_RANGES_PER_TEACHER) {
+                return null;
+            }
+            final long lastPath = Math.min(reconnectLastLeafPath, nextLeafRangePath + rangeSize - 1);
+            final LeafRange range = new LeafRange(nextLeafRangePath, lastPath);
+            leafRanges.addLast(range);
+            leafRangesByFirstPath.put(range.firstPath, range);
+            nextLeafRangePath = lastPath + 1;
+            teacher.leafRangeCount++;
+            return range;
+        }
+    }
+
+    private boolean allLeafRangesHandedOut() {
+        synchronized (leafRanges) {
+            return nextLeafRangePath > reconnectLastLeafPath;
+        }
+    }
+
+    /**
+     * Release all leading leaf ranges, for which all requests are sent and all responses are received.
+     * The listener is notified outside the lock, as it may block until the hasher catches up. Listener
+     * calls from different threads may arrive out of order, so the listener must ignore a path lower than
+     * one it has already been notified about.
+     */
+    private void releaseLeafRanges() {
+        long lastReleasedPath = Path.INVALID_PATH;
+        synchronized (leafRanges) {
+            while (!leafRanges.isEmpty()) {
+                final LeafRange range = leafRanges.peekFirst();
+                if (!range.dispatched || (range.received.get() != range.requested.get())) {
+                    break;
+                }
+                leafRanges.removeFirst();
+                leafRangesByFirstPath.remove(range.firstPath);
+                lastReleasedPath = range.lastPath;
+            }
+        }
+        if (lastReleasedPath != Path.INVALID_PATH) {
+            leavesReleasedListener.accept(lastReleasedPath);
+        }
+    }
+
+    private double averageResponseRate() {
+        double sum = 0;
+        int count = 0;
+        for (final TeacherOrder teacher : teachers) {
+            if (teacher.responseRate > 0) {
+                sum += teacher.responseRate;
+                count++;
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Skip all clean paths starting from the given path, up to the limit (inclusive).
+     *
+     * @return the first path, which doesn't have clean parents, or {@link Path#INVALID_PATH} if all paths
+     * 		up to the limit have clean parents
+     */
+    private long skipCleanPaths(long path, final long limit) {
+        while (path <= limit) {
+            final long next = skipCleanSubtree(path);
+            if (next == path) {
+                return path;
+            }
+            path = next;
+        }
+        return Path.INVALID_PATH;
+    }
+
+    /**
+     * For the given path, find its highest clean parent. If found, return the first path after the
+     * parent's subtree at the given path's rank. Otherwise, return the given path.
+     */
+    private long skipCleanSubtree(final long path) {
+        long parent = Path.getParentPath(path);
+        long cleanParent = Path.INVALID_PATH;
+        int parentRanksAbove = 1;
+        int cleanParentRanksAbove = 1;
+        while (parent > ROOT_PATH) {
+            if (cleanNodes.contains(parent)) {
+                cleanParent = parent;
+                cleanParentRanksAbove = parentRanksAbove;
+            }
+            parentRanksAbove++;
+            parent = Path.getParentPath(parent);
+        }
+        if (cleanParent == Path.INVALID_PATH) {
+            return path;
+        }
+        return Path.getRightGrandChildPath(cleanParent, cleanParentRanksAbove) + 1;
+    }
+
+    /**
+     * A range of leaf paths handed out to a teacher.
+     */
+    private static final class LeafRange {
+
+        private final long firstPath;
+        private final long lastPath;
+
+        // Number of requests sent for leaves in this range
+        private final AtomicLong requested = new AtomicLong(0);
+
+        // Number of responses received for leaves in this range
+        private final AtomicLong received = new AtomicLong(0);
+
+        // Set when requests for all leaves in this range have been sent
+        private volatile boolean dispatched = false;
+
+        private LeafRange(final long firstPath, final long lastPath) {
+            this.firstPath = firstPath;
+            this.lastPath = lastPath;
+        }
+    }
+
+    /**
+     * Traversal order for a single teacher. {@link #getNextPathToSend()} is called on the teacher's
+     * sending thread, {@link #nodeReceived(long, boolean)} is called on the teacher's receiving thread.
+     */
+    private final class TeacherOrder implements NodeTraversalOrder {
+
+        private final int index;
+
+        // Internal paths to check with this teacher. Other teachers may steal paths from here
+        private final Deque<Long> internalPaths = new ConcurrentLinkedDeque<>();
+
+        // Leaf range in progress, and the next leaf path in it to check. Only used on the sending thread
+        private LeafRange leafRange;
+        private long nextLeafPath;
+        private int leafRangeCount;
+
+        // Number of responses received from the teacher
+        private final AtomicLong responses = new AtomicLong(0);
+
+        // Response rate, measured on the sending thread every time a new leaf range is requested
+        private volatile double responseRate = 0;
+        private long lastMeasurementResponses = 0;
+        private long lastMeasurementTime = System.nanoTime();
+
+        private TeacherOrder(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void start(final long firstLeafPath, final long lastLeafPath, final ReconnectNodeCount nodeCount) {
+            MultiTeacherTraversalOrder.this.start(firstLeafPath, lastLeafPath, nodeCount);
+        }
+
+        @Override
+        public long getNextPathToSend() throws InterruptedException {
+            if ((reconnectLastLeafPath <= 0) || rootClean) {
+                return Path.INVALID_PATH;
+            }
+            if (!internalNodesDone) {
+                final long path = nextInternalPath(this);
+                if (path != Path.INVALID_PATH) {
+                    return path;
+                }
+                if ((nextChunk.get() < chunkCount) || (internalPathsPending.get() > 0)) {
+                    // Some responses are still expected, they may result in more internal paths to check
+                    return pause();
+                }
+                internalNodesDone = true;
+            }
+            while (true) {
+                if (leafRange != null) {
+                    final long path = skipCleanPaths(nextLeafPath, leafRange.lastPath);
+                    if (path != Path.INVALID_PATH) {
+                        nextLeafPath = path + 1;
+                        leafRange.requested.incrementAndGet();
+                        return path;
+                    }
+                    leafRange.dispatched = true;
+                    leafRange = null;
+                    releaseLeafRanges();
+                }
+                final LeafRange range = nextLeafRange(this);
+                if (range == null) {
+                    return allLeafRangesHandedOut() ? Path.INVALID_PATH : pause();
+                }
+                leafRange = range;
+                nextLeafPath = range.firstPath;
+            }
+        }
+
+        @Override
+        public void nodeReceived(final long path, final boolean isClean) {
+            responses.incrementAndGet();
+            if (path >= reconnectFirstLeafPath) {
+                leafReceived(path, isClean);
+            } else {
+                internalNodeReceived(this, path, isClean);
+            }
+        }
+
+        private long pause() throws InterruptedException {
+            TimeUnit.NANOSECONDS.sleep(WAIT_NANOS);
+            return WAIT_PATH;
+        }
+
+        /**
+         * Get the size of the next leaf range for this teacher, based on the teacher's response rate
+         * relative to the average response rate of all teachers.
+         */
+        private long leafRangeSize() {
+            final long now = System.nanoTime();
+            final long elapsed = now - lastMeasurementTime;
+            if (elapsed >= RATE_MEASUREMENT_NANOS) {
+                final long responseCount = responses.get();
+                final double rate = (responseCount - lastMeasurementResponses) * 1e9 / elapsed;
+                responseRate = (responseRate == 0) ? rate : responseRate + RATE_SMOOTHING * (rate - responseRate);
+                lastMeasurementResponses = responseCount;
+                lastMeasurementTime = now;
+            }
+            final double averageRate = averageResponseRate();
+            if ((responseRate == 0) || (averageRate == 0)) {
+                return DEFAULT_LEAF_RANGE_SIZE;
+            }
+            final long size = (long) (DEFAULT_LEAF_RANGE_SIZE * responseRate / averageRate);
+            return Math.max(MIN_LEAF_RANGE_SIZE, Math.min(MAX_LEAF_RANGE_SIZE, size));
+        }
+    }
+}
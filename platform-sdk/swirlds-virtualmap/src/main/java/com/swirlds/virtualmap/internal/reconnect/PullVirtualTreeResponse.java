@@ -47,6 +47,9 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     // Only used on the learner side
     private final LearnerPullVirtualTreeView learnerView;
 
+    // Only used on the learner side
+    private final NodeTraversalOrder learnerTraversalOrder;
+
     // Virtual node path
     private long path;
 
@@ -62,6 +65,7 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     public PullVirtualTreeResponse() {
         teacherView = null;
         learnerView = null;
+        learnerTraversalOrder = null;
     }
 
     /**
@@ -74,6 +78,7 @@ public class PullVirtualTreeResponse implements SelfSerializable {
             final Hash teacherHash) {
         this.teacherView = teacherView;
         this.learnerView = null;
+        this.learnerTraversalOrder = null;
         this.path = path;
         this.learnerHash = learnerHash;
         assert learnerHash != null;
@@ -86,10 +91,14 @@ public class PullVirtualTreeResponse implements SelfSerializable {
      *
      * @param learnerTreeView
      * 		the learner's view
+     * @param learnerTraversalOrder
+     * 		the traversal order used with the teacher, which sent the response
      */
-    public PullVirtualTreeResponse(final LearnerPullVirtualTreeView learnerTreeView) {
+    public PullVirtualTreeResponse(
+            final LearnerPullVirtualTreeView learnerTreeView, final NodeTraversalOrder learnerTraversalOrder) {
         this.teacherView = null;
         this.learnerView = learnerTreeView;
+        this.learnerTraversalOrder = learnerTraversalOrder;
     }
 
     /**
@@ -112,7 +121,7 @@ public class PullVirtualTreeResponse implements SelfSerializable {
         assert learnerView != null;
         path = in.readLong();
         final boolean isClean = in.read() == 0;
-        learnerView.readNode(in, path, isClean);
+        learnerView.readNode(in, path, isClean, learnerTraversalOrder);
         if (learnerView.isLeaf(path)) {
             learnerView.getMapStats().incrementLeafHashes(1, isClean ? 1 : 0);
         } else {
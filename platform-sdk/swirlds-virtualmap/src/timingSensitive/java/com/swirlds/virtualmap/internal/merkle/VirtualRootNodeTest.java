@@ -726,13 +726,35 @@ class VirtualRootNodeTest extends VirtualTestBase {
         assertThrows(UncheckedIOException.class, () -> root.fullLeafRehashIfNecessary());
     }
 
+    @Test
+    @DisplayName("Full leaves rehash with leaves prefetched in small chunks produces the same root hash")
+    void testFullRehashWithPrefetchChunks() {
+        final VirtualRootNode<TestKey, TestValue> root = prepareRootForFullRehash(CONFIGURATION, 0);
+        root.fullLeafRehashIfNecessary();
+
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(VirtualMapConfig_.FULL_REHASH_PREFETCH_THREADS, 3)
+                .withValue(VirtualMapConfig_.FULL_REHASH_PREFETCH_CHUNK_SIZE, 7)
+                .getOrCreateConfig();
+        final VirtualRootNode<TestKey, TestValue> prefetchRoot = prepareRootForFullRehash(configuration, 0);
+        prefetchRoot.fullLeafRehashIfNecessary();
+
+        assertTrue(prefetchRoot.isHashed());
+        assertEquals(root.getHash(), prefetchRoot.getHash());
+    }
+
     private static VirtualRootNode<TestKey, TestValue> prepareRootForFullRehash() {
-        final VirtualRootNode<TestKey, TestValue> root = createRoot();
+        return prepareRootForFullRehash(CONFIGURATION, nextInt());
+    }
+
+    private static VirtualRootNode<TestKey, TestValue> prepareRootForFullRehash(
+            final Configuration configuration, final int valueSeed) {
+        final VirtualRootNode<TestKey, TestValue> root = createRoot(configuration);
         root.enableFlush();
 
         // add 100 elements
         IntStream.range(1, 101).forEach(index -> {
-            root.put(new TestKey(index), new TestValue(nextInt()));
+            root.put(new TestKey(index), new TestValue(valueSeed + index));
         });
 
         // make sure that the elements have no hashes
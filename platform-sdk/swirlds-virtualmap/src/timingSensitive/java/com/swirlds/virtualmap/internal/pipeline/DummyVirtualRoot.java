@@ -197,6 +197,14 @@ class DummyVirtualRoot extends PartialMerkleLeaf implements VirtualRoot, MerkleL
         return (flushThreshold > 0) && (estimatedSize() >= flushThreshold);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void enableFlush() {
+        shouldBeFlushed = true;
+    }
+
     /**
      * Specify the immutability status of the node.  Since AbstractMerkleNode.setImmutable is a final method,
      * we must give this method a different name.
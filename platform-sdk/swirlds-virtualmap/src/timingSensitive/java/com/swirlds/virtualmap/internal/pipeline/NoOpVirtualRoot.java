@@ -63,6 +63,9 @@ public final class NoOpVirtualRoot extends PartialMerkleLeaf implements VirtualR
         return false;
     }
 
+    @Override
+    public void enableFlush() {}
+
     @Override
     public boolean flush() {
         return true;
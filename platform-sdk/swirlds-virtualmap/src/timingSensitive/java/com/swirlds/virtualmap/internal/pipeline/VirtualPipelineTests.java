@@ -865,6 +865,55 @@ class VirtualPipelineTests {
         }
     }
 
+    @Test
+    @DisplayName("Test Adaptive Flush Control")
+    void testAdaptiveFlushControl() throws InterruptedException {
+
+        final int familyThrottleThreshold = 10000;
+        final int copyFlushThreshold = 16000;
+        final int estimatedSize = 1000;
+        final int copyCount = 20;
+
+        final Configuration config = new TestConfigBuilder()
+                .withSource(new SimpleConfigSource()
+                        .withValue(VirtualMapConfig_.FAMILY_THROTTLE_THRESHOLD, familyThrottleThreshold + "")
+                        .withValue(VirtualMapConfig_.COPY_FLUSH_THRESHOLD, copyFlushThreshold + "")
+                        .withValue(VirtualMapConfig_.MAXIMUM_FLUSH_THROTTLE_PERIOD, "50ms")
+                        .withValue(VirtualMapConfig_.ADAPTIVE_FLUSH_CONTROL, "true"))
+                .withConfigDataType(VirtualMapConfig.class)
+                .getOrCreateConfig();
+
+        final Deque<DummyVirtualRoot> copies = new LinkedList<>();
+
+        final DummyVirtualRoot originalCopy =
+                new DummyVirtualRoot("adaptiveFlush", config.getConfigData(VirtualMapConfig.class));
+        originalCopy.setEstimatedSize(estimatedSize);
+        copies.add(originalCopy);
+
+        for (int i = 0; i < copyCount; i++) {
+            copies.add(copies.getLast().copy());
+        }
+
+        // No flush has been measured yet, the static pause is used, but it's capped
+        assertEquals(50, copies.getLast().getPipeline().calculateFamilySizeBackpressurePause());
+
+        // None of the copies reaches the configured flush threshold. While the family is large, the
+        // adaptive threshold is lowered, and some copies should be flushed instead of merged
+        final List<DummyVirtualRoot> released = new ArrayList<>();
+        for (int i = 0; i < copyCount / 2; i++) {
+            final DummyVirtualRoot copy = copies.removeFirst();
+            copy.release();
+            released.add(copy);
+            MILLISECONDS.sleep(20);
+        }
+        assertTrue(released.stream().anyMatch(DummyVirtualRoot::isFlushed), "some copies should be flushed");
+
+        // Release remaining copies so that the background thread dies.
+        while (!copies.isEmpty()) {
+            copies.removeFirst().release();
+        }
+    }
+
     @Test
     @DisplayName("Get same copy hash in multiple threads")
     void concurrentHashing() throws InterruptedException {
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.virtualmap.test.fixtures.VirtualMapTestUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
+import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestKeySerializer;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import com.swirlds.virtualmap.test.fixtures.TestValueSerializer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Virtual Map Multi Teacher Reconnect Test")
+class VirtualMapMultiTeacherReconnectTest extends VirtualMapReconnectTestBase {
+
+    private static final Configuration MULTI_TEACHER_CONFIGURATION = new TestConfigBuilder()
+            .withValue(VirtualMapConfig_.RECONNECT_MODE, VirtualMapReconnectMode.PULL_MULTI_TEACHER)
+            .withConfigDataType(VirtualMapConfig.class)
+            .getOrCreateConfig();
+
+    /**
+     * Maps of the additional teachers, which are expected to hold the same state as the primary teacher.
+     */
+    private final List<VirtualMap<TestKey, TestValue>> helperMaps = new ArrayList<>();
+
+    @BeforeAll
+    static void registerMultiTeacherConstructables() throws ConstructableRegistryException {
+        // The learner creates its virtual root node through the registry, it must use the multi-teacher mode, too
+        ConstructableRegistry.getInstance().reset();
+        registerConstructables(MULTI_TEACHER_CONFIGURATION);
+    }
+
+    @AfterAll
+    static void restoreConstructables() throws ConstructableRegistryException {
+        ConstructableRegistry.getInstance().reset();
+        registerConstructables(CONFIGURATION);
+    }
+
+    @Override
+    protected VirtualDataSourceBuilder createBuilder() {
+        return new InMemoryBuilder();
+    }
+
+    @Override
+    protected Configuration getConfiguration() {
+        return MULTI_TEACHER_CONFIGURATION;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3})
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Learner receives the state from several teachers")
+    void reconnectFromSeveralTeachers(final int teacherCount) throws Exception {
+        // Large enough for every teacher to get several leaf ranges
+        final int teacherSize = 20_000;
+        putEntries(teacherMap, teacherSize, -1);
+        for (int i = 0; i < teacherCount - 1; i++) {
+            putEntries(createHelperMap(), teacherSize, -1);
+        }
+        for (int i = teacherSize / 2; i < teacherSize * 3 / 2; i++) {
+            learnerMap.put(new TestKey(i), new TestValue(i + 1));
+        }
+
+        reconnectFromTeachers();
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Learner receives a small state from several teachers")
+    void reconnectSmallStateFromSeveralTeachers() throws Exception {
+        // Fewer leaves than in a single leaf range
+        putEntries(teacherMap, 7, -1);
+        putEntries(createHelperMap(), 7, -1);
+        putEntries(createHelperMap(), 7, -1);
+        learnerMap.put(A_KEY, APPLE);
+        learnerMap.put(B_KEY, BANANA);
+
+        reconnectFromTeachers();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3})
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Reconnect fails if an additional teacher holds a different state")
+    void mismatchedTeacherFails(final int teacherCount) {
+        final int teacherSize = 5_000;
+        putEntries(teacherMap, teacherSize, -1);
+        for (int i = 0; i < teacherCount - 2; i++) {
+            putEntries(createHelperMap(), teacherSize, -1);
+        }
+        // The last teacher has a single value that differs from the others
+        putEntries(createHelperMap(), teacherSize, teacherSize / 3);
+        for (int i = 0; i < teacherSize / 2; i++) {
+            learnerMap.put(new TestKey(i), new TestValue(i + 1));
+        }
+
+        assertThrows(
+                MerkleSynchronizationException.class,
+                this::reconnectFromTeachers,
+                "Reconnect from teachers with different states should fail");
+    }
+
+    private VirtualMap<TestKey, TestValue> createHelperMap() {
+        final VirtualMap<TestKey, TestValue> map = new VirtualMap<>(
+                "Teacher",
+                TestKeySerializer.INSTANCE,
+                TestValueSerializer.INSTANCE,
+                new InMemoryBuilder(),
+                MULTI_TEACHER_CONFIGURATION);
+        helperMaps.add(map);
+        return map;
+    }
+
+    /**
+     * Put entries 0 to size - 1 to the map.
+     *
+     * @param map         the map
+     * @param size        the number of entries
+     * @param modifiedKey the key to put a different value for, or -1 to put the same values for all keys
+     */
+    private static void putEntries(final VirtualMap<TestKey, TestValue> map, final int size, final int modifiedKey) {
+        for (int i = 0; i < size; i++) {
+            map.put(new TestKey(i), new TestValue(i == modifiedKey ? -i : i));
+        }
+    }
+
+    private void reconnectFromTeachers() throws Exception {
+        final List<MerkleNode> teacherTrees = new ArrayList<>();
+        final List<VirtualMap<TestKey, TestValue>> copies = new ArrayList<>();
+        teacherTrees.add(createTreeForMap(teacherMap));
+        copies.add(teacherMap.copy());
+        for (final VirtualMap<TestKey, TestValue> helperMap : helperMaps) {
+            teacherTrees.add(createTreeForMap(helperMap));
+            copies.add(helperMap.copy());
+        }
+        final MerkleInternal learnerTree = createTreeForMap(learnerMap);
+        try {
+            final MerkleNode node =
+                    MerkleTestUtils.hashAndTestMultiTeacherSynchronization(learnerTree, teacherTrees, reconnectConfig);
+            try {
+                assertEquals(teacherTrees.get(0).getHash(), node.getHash(), "Learner must get the teacher state");
+                final VirtualRoot root = learnerMap.getRight();
+                assertTrue(root.isHashed(), "Learner root node must be hashed");
+            } finally {
+                node.release();
+            }
+        } finally {
+            teacherTrees.forEach(MerkleNode::release);
+            learnerTree.release();
+            copies.forEach(VirtualMap::release);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import com.swirlds.common.merkle.synchronization.task.QueryResponse;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleLeaf;
 import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.virtualmap.VirtualMap;
@@ -103,20 +104,41 @@ public abstract class VirtualMapReconnectTestBase {
 
     protected abstract VirtualDataSourceBuilder createBuilder();
 
+    /**
+     * Get the configuration of the teacher and learner maps.
+     *
+     * @return the virtual map configuration
+     */
+    protected Configuration getConfiguration() {
+        return CONFIGURATION;
+    }
+
     @BeforeEach
     void setupEach() {
         final VirtualDataSourceBuilder dataSourceBuilder = createBuilder();
         teacherBuilder = new BrokenBuilder(dataSourceBuilder);
         learnerBuilder = new BrokenBuilder(dataSourceBuilder);
+        final Configuration configuration = getConfiguration();
         teacherMap = new VirtualMap<>(
-                "Teacher", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, teacherBuilder, CONFIGURATION);
+                "Teacher", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, teacherBuilder, configuration);
         learnerMap = new VirtualMap<>(
-                "Learner", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, learnerBuilder, CONFIGURATION);
+                "Learner", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, learnerBuilder, configuration);
     }
 
     @BeforeAll
     public static void startup() throws ConstructableRegistryException, FileNotFoundException {
         loadLog4jContext();
+        registerConstructables(CONFIGURATION);
+    }
+
+    /**
+     * Register all classes used in reconnect tests. Virtual maps and virtual root nodes created by the registry,
+     * for example on the learner side of a reconnect, use the given configuration.
+     *
+     * @param configuration the virtual map configuration
+     */
+    protected static void registerConstructables(final Configuration configuration)
+            throws ConstructableRegistryException {
         final ConstructableRegistry registry = ConstructableRegistry.getInstance();
         registry.registerConstructables("com.swirlds.common");
         registry.registerConstructable(new ClassConstructorPair(QueryResponse.class, QueryResponse::new));
@@ -126,9 +148,9 @@ public abstract class VirtualMapReconnectTestBase {
         registry.registerConstructable(new ClassConstructorPair(TestValue.class, TestValue::new));
         registry.registerConstructable(new ClassConstructorPair(BrokenBuilder.class, BrokenBuilder::new));
         registry.registerConstructable(new ClassConstructorPair(VirtualMapState.class, VirtualMapState::new));
-        registry.registerConstructable(new ClassConstructorPair(VirtualMap.class, () -> new VirtualMap(CONFIGURATION)));
+        registry.registerConstructable(new ClassConstructorPair(VirtualMap.class, () -> new VirtualMap(configuration)));
         registry.registerConstructable(new ClassConstructorPair(
-                VirtualRootNode.class, () -> new VirtualRootNode(CONFIGURATION.getConfigData(VirtualMapConfig.class))));
+                VirtualRootNode.class, () -> new VirtualRootNode(configuration.getConfigData(VirtualMapConfig.class))));
     }
 
     protected MerkleInternal createTreeForMap(VirtualMap<TestKey, TestValue> map) {